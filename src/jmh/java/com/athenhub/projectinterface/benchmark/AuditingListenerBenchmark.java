@@ -0,0 +1,108 @@
+package com.athenhub.projectinterface.benchmark;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * {@code AuditingEntityListener}가 persist/merge에 더하는 비용을 측정하는 벤치마크.
+ *
+ * <p>감사 리스너가 적용된 {@link BenchmarkAuditEntity}와 같은 컬럼을 직접 채우는 {@link BenchmarkPlainEntity}를 H2에 저장하여
+ * 두 결과의 차이로 리스너 비용을 확인합니다.
+ *
+ * @author 김형섭
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AuditingListenerBenchmark {
+  private ConfigurableApplicationContext context;
+  private EntityManager entityManager;
+  private TransactionTemplate transactionTemplate;
+  private BenchmarkAuditEntity auditEntity;
+  private BenchmarkPlainEntity plainEntity;
+
+  /** 애플리케이션 컨텍스트를 기동하고 merge 대상 엔티티를 저장한다. */
+  @Setup(Level.Trial)
+  public void setUp() {
+    context = BenchmarkApplication.start();
+    entityManager =
+        SharedEntityManagerCreator.createSharedEntityManager(
+            context.getBean(EntityManagerFactory.class));
+    transactionTemplate =
+        new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+
+    auditEntity = new BenchmarkAuditEntity("merge");
+    plainEntity = new BenchmarkPlainEntity("merge");
+    transactionTemplate.executeWithoutResult(
+        status -> {
+          entityManager.persist(auditEntity);
+          entityManager.persist(plainEntity);
+        });
+  }
+
+  /** 애플리케이션 컨텍스트를 종료한다. */
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    context.close();
+  }
+
+  /** 감사 리스너가 적용된 엔티티를 저장한다. */
+  @Benchmark
+  public void persistAuditEntity() {
+    persist(new BenchmarkAuditEntity("persist"));
+  }
+
+  /** 감사 리스너가 적용되지 않은 엔티티를 저장한다. */
+  @Benchmark
+  public void persistPlainEntity() {
+    persist(new BenchmarkPlainEntity("persist"));
+  }
+
+  /** 감사 리스너가 적용된 준영속 엔티티를 병합한다. */
+  @Benchmark
+  public void mergeAuditEntity() {
+    auditEntity.rename(Long.toString(System.nanoTime()));
+    auditEntity = merge(auditEntity);
+  }
+
+  /** 감사 리스너가 적용되지 않은 준영속 엔티티를 병합한다. */
+  @Benchmark
+  public void mergePlainEntity() {
+    plainEntity.rename(Long.toString(System.nanoTime()));
+    plainEntity = merge(plainEntity);
+  }
+
+  private void persist(Object entity) {
+    transactionTemplate.executeWithoutResult(
+        status -> {
+          entityManager.persist(entity);
+          entityManager.flush();
+          entityManager.clear();
+        });
+  }
+
+  private <T> T merge(T entity) {
+    return transactionTemplate.execute(
+        status -> {
+          T merged = entityManager.merge(entity);
+          entityManager.flush();
+          entityManager.clear();
+          return merged;
+        });
+  }
+}
@@ -0,0 +1,66 @@
+package com.athenhub.projectinterface.benchmark;
+
+import com.athenhub.projectinterface.global.infrastructure.audit.AuditorAwareImpl;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+/**
+ * {@link AuditorAwareImpl#getCurrentAuditor()} 호출 비용을 측정하는 벤치마크.
+ *
+ * @author 김형섭
+ * @since 1.0.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AuditorAwareBenchmark {
+  private final AuditorAwareImpl auditorAware = new AuditorAwareImpl();
+
+  /** 인증 상태. 인증 정보가 없거나({@code anonymous}) UserDetails로 인증된 상태({@code authenticated})를 측정한다. */
+  @Param({"anonymous", "authenticated"})
+  public String authentication;
+
+  /** 측정 스레드의 SecurityContext를 구성한다. */
+  @Setup(Level.Trial)
+  public void setUp() {
+    SecurityContextHolder.clearContext();
+    if ("authenticated".equals(authentication)) {
+      UserDetails user = User.withUsername("benchmark").password("").roles("USER").build();
+      SecurityContext context = SecurityContextHolder.createEmptyContext();
+      context.setAuthentication(
+          new UsernamePasswordAuthenticationToken(user, "", user.getAuthorities()));
+      SecurityContextHolder.setContext(context);
+    }
+  }
+
+  /** 측정 스레드의 SecurityContext를 정리한다. */
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    SecurityContextHolder.clearContext();
+  }
+
+  /**
+   * 현재 감사자를 조회한다.
+   *
+   * @return 감사자명
+   */
+  @Benchmark
+  public Optional<String> getCurrentAuditor() {
+    return auditorAware.getCurrentAuditor();
+  }
+}
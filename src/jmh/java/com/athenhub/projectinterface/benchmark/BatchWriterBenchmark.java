@@ -0,0 +1,134 @@
+package com.athenhub.projectinterface.benchmark;
+
+import com.athenhub.projectinterface.global.infrastructure.persistence.batch.BatchWriter;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.jpa.repository.support.SimpleJpaRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * {@link BatchWriter}와 {@code saveAll}의 일괄 저장 속도를 비교하는 벤치마크.
+ *
+ * <p>같은 수의 {@link BenchmarkAuditEntity}를 한 트랜잭션에서 저장하며, {@code saveAll}은 영속성 컨텍스트를 비우지 않고 엔티티마다 감사
+ * 정보를 조회한다. 결과의 초당 실행 수에 {@code rows}를 곱하면 초당 저장 건수가 된다.
+ *
+ * <p>{@code BatchWriteConfig}는 애플리케이션 전체에 JDBC 배치를 켜므로, 기준인 {@link #saveAll()}은 JDBC 배치를 끈
+ * 별도 컨텍스트(별도 인메모리 데이터베이스)에서 실행한다. {@link #saveAllBatched()}는 JDBC 배치만 켠 {@code saveAll}로, 두 결과의
+ * 차이가 JDBC 배치의 효과이고 {@link #batchWriter()}와의 차이가 영속성 컨텍스트 정리와 감사 정보 캐시의 효과이다.
+ *
+ * @author 김형섭
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class BatchWriterBenchmark {
+  @Param({"10000"})
+  private int rows;
+
+  private ConfigurableApplicationContext context;
+  private ConfigurableApplicationContext unbatchedContext;
+  private SaveAllRunner batched;
+  private SaveAllRunner unbatched;
+  private BatchWriter batchWriter;
+  private List<BenchmarkAuditEntity> entities;
+
+  /** JDBC 배치를 켠 컨텍스트와 끈 컨텍스트를 기동한다. */
+  @Setup(Level.Trial)
+  public void setUp() {
+    context = BenchmarkApplication.start();
+    unbatchedContext =
+        BenchmarkApplication.start(
+            Map.of(
+                "spring.datasource.url", "jdbc:h2:mem:benchmark-unbatched;DB_CLOSE_DELAY=-1",
+                "spring.jpa.properties.hibernate.jdbc.batch_size", "1",
+                "spring.jpa.properties.hibernate.order_inserts", "false",
+                "spring.jpa.properties.hibernate.order_updates", "false"));
+    batched = new SaveAllRunner(context);
+    unbatched = new SaveAllRunner(unbatchedContext);
+    batchWriter = context.getBean(BatchWriter.class);
+  }
+
+  /** 매 실행마다 저장할 새 엔티티를 만든다. */
+  @Setup(Level.Invocation)
+  public void prepareEntities() {
+    entities =
+        IntStream.range(0, rows).mapToObj(i -> new BenchmarkAuditEntity("row-" + i)).toList();
+  }
+
+  /** 저장된 행을 지워 테이블 크기를 일정하게 유지한다. */
+  @TearDown(Level.Invocation)
+  public void truncate() {
+    batched.truncate();
+    unbatched.truncate();
+  }
+
+  /** 애플리케이션 컨텍스트를 종료한다. */
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    context.close();
+    unbatchedContext.close();
+  }
+
+  /** JDBC 배치 없이 {@code saveAll}로 저장한다. */
+  @Benchmark
+  public void saveAll() {
+    unbatched.saveAll(entities);
+  }
+
+  /** JDBC 배치를 켜고 {@code saveAll}로 저장한다. */
+  @Benchmark
+  public void saveAllBatched() {
+    batched.saveAll(entities);
+  }
+
+  /** {@link BatchWriter}로 저장한다. */
+  @Benchmark
+  public void batchWriter() {
+    batchWriter.write("benchmark", entities.stream());
+  }
+
+  /** 컨텍스트 하나의 {@code saveAll} 저장소. */
+  private static final class SaveAllRunner {
+    private final TransactionTemplate transactionTemplate;
+    private final SimpleJpaRepository<BenchmarkAuditEntity, Long> repository;
+    private final JdbcTemplate jdbcTemplate;
+
+    SaveAllRunner(ConfigurableApplicationContext context) {
+      EntityManager entityManager =
+          SharedEntityManagerCreator.createSharedEntityManager(
+              context.getBean(EntityManagerFactory.class));
+      this.transactionTemplate =
+          new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+      this.repository = new SimpleJpaRepository<>(BenchmarkAuditEntity.class, entityManager);
+      this.jdbcTemplate = context.getBean(JdbcTemplate.class);
+    }
+
+    void saveAll(List<BenchmarkAuditEntity> entities) {
+      transactionTemplate.executeWithoutResult(status -> repository.saveAll(entities));
+    }
+
+    void truncate() {
+      jdbcTemplate.execute("TRUNCATE TABLE benchmark_audit_entity");
+      jdbcTemplate.execute("TRUNCATE TABLE audit_outbox");
+    }
+  }
+}
@@ -0,0 +1,58 @@
+package com.athenhub.projectinterface.benchmark;
+
+import com.athenhub.projectinterface.ProjectInterfaceApplication;
+import java.util.HashMap;
+import java.util.Map;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * 벤치마크용 애플리케이션 컨텍스트를 기동하는 유틸리티 클래스.
+ *
+ * <p>Config Server, Eureka 등 외부 의존성을 비활성화하고 H2 인메모리 데이터베이스로 {@link ProjectInterfaceApplication}을
+ * 기동합니다.
+ *
+ * @author 김형섭
+ * @since 1.0.0
+ */
+public final class BenchmarkApplication {
+  /** 외부 의존성 없이 로컬에서 애플리케이션을 기동하기 위한 설정. */
+  public static final Map<String, Object> STANDALONE_PROPERTIES =
+      Map.of(
+          "spring.cloud.config.enabled", "false",
+          "spring.cloud.discovery.enabled", "false",
+          "eureka.client.enabled", "false",
+          "spring.docker.compose.enabled", "false",
+          "spring.datasource.url", "jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1",
+          "spring.datasource.username", "sa",
+          "spring.jpa.hibernate.ddl-auto", "create-drop",
+          "athenhub.persistence.index.auto-create", "false",
+          "logging.level.root", "warn");
+
+  private BenchmarkApplication() {}
+
+  /**
+   * 웹 서버 없이 애플리케이션 컨텍스트를 기동한다.
+   *
+   * @return 기동된 애플리케이션 컨텍스트
+   */
+  public static ConfigurableApplicationContext start() {
+    return start(Map.of());
+  }
+
+  /**
+   * 일부 설정을 바꿔 웹 서버 없이 애플리케이션 컨텍스트를 기동한다. 한 벤치마크에서 여러 컨텍스트를 비교할 때는 데이터베이스 URL도 서로 다르게 지정한다.
+   *
+   * @param overrides {@link #STANDALONE_PROPERTIES} 대신 사용할 설정
+   * @return 기동된 애플리케이션 컨텍스트
+   */
+  public static ConfigurableApplicationContext start(Map<String, Object> overrides) {
+    Map<String, Object> properties = new HashMap<>(STANDALONE_PROPERTIES);
+    properties.putAll(overrides);
+    return new SpringApplicationBuilder(ProjectInterfaceApplication.class)
+        .web(WebApplicationType.NONE)
+        .properties(properties)
+        .run();
+  }
+}
@@ -0,0 +1,42 @@
+package com.athenhub.projectinterface.benchmark;
+
+import com.athenhub.projectinterface.global.domain.AbstractAuditEntity;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 감사 리스너가 적용되는 벤치마크용 엔티티.
+ *
+ * @author 김형섭
+ * @since 1.0.0
+ */
+@Getter
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class BenchmarkAuditEntity extends AbstractAuditEntity {
+  @Id @GeneratedValue private Long id;
+
+  private String name;
+
+  /**
+   * 벤치마크용 엔티티를 생성한다.
+   *
+   * @param name 이름
+   */
+  public BenchmarkAuditEntity(String name) {
+    this.name = name;
+  }
+
+  /**
+   * 이름을 변경한다.
+   *
+   * @param name 변경할 이름
+   */
+  public void rename(String name) {
+    this.name = name;
+  }
+}
@@ -0,0 +1,66 @@
+package com.athenhub.projectinterface.benchmark;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * {@link BenchmarkAuditEntity}와 같은 컬럼을 가지지만 감사 리스너가 적용되지 않는 비교용 엔티티.
+ *
+ * @author 김형섭
+ * @since 1.0.0
+ */
+@Getter
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class BenchmarkPlainEntity {
+  @Id @GeneratedValue private Long id;
+
+  private String name;
+
+  @Column(name = "created_at", nullable = false, updatable = false)
+  private LocalDateTime createdAt;
+
+  @Column(name = "updated_at", nullable = false)
+  private LocalDateTime updatedAt;
+
+  @Column(name = "created_by", nullable = false)
+  private String createdBy;
+
+  @Column(name = "updated_by", nullable = false)
+  private String updatedBy;
+
+  @Column(name = "deleted_by")
+  private String deletedBy;
+
+  @Column(name = "deleted_at")
+  private LocalDateTime deletedAt;
+
+  /**
+   * 감사 필드를 직접 채운 비교용 엔티티를 생성한다.
+   *
+   * @param name 이름
+   */
+  public BenchmarkPlainEntity(String name) {
+    LocalDateTime now = LocalDateTime.now();
+    this.name = name;
+    this.createdAt = now;
+    this.updatedAt = now;
+    this.createdBy = "SYSTEM";
+    this.updatedBy = "SYSTEM";
+  }
+
+  /**
+   * 이름을 변경한다.
+   *
+   * @param name 변경할 이름
+   */
+  public void rename(String name) {
+    this.name = name;
+  }
+}
@@ -0,0 +1,83 @@
+package com.athenhub.projectinterface.benchmark;
+
+import com.athenhub.projectinterface.global.domain.AbstractAuditEntity;
+import com.athenhub.projectinterface.global.domain.AbstractIdentifiableEntity;
+import com.athenhub.projectinterface.global.domain.UuidV7Generator;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 기본 엔티티의 {@code equals}/{@code hashCode} 비용을 측정하는 벤치마크.
+ *
+ * @author 김형섭
+ * @since 1.0.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EntityEqualityBenchmark {
+  private final AbstractAuditEntity auditEntity = new AuditEntity();
+  private final AbstractAuditEntity otherAuditEntity = new AuditEntity();
+  private final AbstractIdentifiableEntity identifiableEntity = new IdentifiableEntity();
+  private final AbstractIdentifiableEntity otherIdentifiableEntity = new IdentifiableEntity();
+
+  /**
+   * 감사 필드 기반 hashCode를 계산한다.
+   *
+   * @return 해시 값
+   */
+  @Benchmark
+  public int auditEntityHashCode() {
+    return auditEntity.hashCode();
+  }
+
+  /**
+   * 감사 필드 기반 equals를 비교한다.
+   *
+   * @return 비교 결과
+   */
+  @Benchmark
+  public boolean auditEntityEquals() {
+    return auditEntity.equals(otherAuditEntity);
+  }
+
+  /**
+   * 식별자 기반 hashCode를 계산한다.
+   *
+   * @return 해시 값
+   */
+  @Benchmark
+  public int identifiableEntityHashCode() {
+    return identifiableEntity.hashCode();
+  }
+
+  /**
+   * 식별자 기반 equals를 비교한다.
+   *
+   * @return 비교 결과
+   */
+  @Benchmark
+  public boolean identifiableEntityEquals() {
+    return identifiableEntity.equals(otherIdentifiableEntity);
+  }
+
+  private static class AuditEntity extends AbstractAuditEntity {
+    AuditEntity() {
+      createBy("benchmark");
+      updateBy("benchmark");
+    }
+  }
+
+  private static class IdentifiableEntity extends AbstractIdentifiableEntity {
+    IdentifiableEntity() {
+      super(UuidV7Generator.generate());
+      createBy("benchmark");
+      updateBy("benchmark");
+    }
+  }
+}
@@ -0,0 +1,135 @@
+package com.athenhub.projectinterface.benchmark;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.joran.JoranConfigurator;
+import ch.qos.logback.core.joran.spi.JoranException;
+import com.athenhub.projectinterface.global.infrastructure.logging.BoundedAsyncAppender;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.slf4j.MDC;
+
+/**
+ * Loki 어펜더를 직접 호출할 때와 {@link BoundedAsyncAppender}를 거칠 때의 요청 스레드 로그 호출 지연 시간을 비교하는 벤치마크.
+ *
+ * <p>응답을 {@code lokiDelayMillis}만큼 늦게 돌려주는 로컬 Loki 스텁을 띄우고, 여러 요청 스레드가 traceId가 담긴 MDC와 함께 로그를
+ * 남긴다. {@code direct}는 요청 스레드에서 JSON 인코딩과 배치 구성을 수행하며, {@code async}는 큐에 넣기만 한다. 결과의 백분위
+ * 지연 시간(p99 등)이 로그 때문에 요청 지연 시간에 더해지는 값이다. {@code async}에서 큐가 넘쳐 버린 이벤트 수는 종료 시 출력한다.
+ *
+ * @author 김형섭
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(8)
+public class LokiPipelineBenchmark {
+  /** 로그 전송 방식. */
+  @Param({"direct", "async"})
+  public String pipeline;
+
+  /** Loki 스텁의 응답 지연 시간(ms). */
+  @Param({"0", "200"})
+  public int lokiDelayMillis;
+
+  private HttpServer loki;
+  private ExecutorService lokiExecutor;
+  private LoggerContext loggerContext;
+  private Logger logger;
+
+  /**
+   * Loki 스텁을 띄우고 logback 컨텍스트를 구성한다.
+   *
+   * @throws IOException 스텁을 띄우지 못한 경우
+   * @throws JoranException 로그 설정을 읽지 못한 경우
+   */
+  @Setup(Level.Trial)
+  public void setUp() throws IOException, JoranException {
+    loki = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+    lokiExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    loki.setExecutor(lokiExecutor);
+    loki.createContext(
+        "/loki/api/v1/push",
+        exchange -> {
+          exchange.getRequestBody().transferTo(OutputStream.nullOutputStream());
+          try {
+            Thread.sleep(lokiDelayMillis);
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+          exchange.sendResponseHeaders(204, -1);
+          exchange.close();
+        });
+    loki.start();
+
+    loggerContext = new LoggerContext();
+    loggerContext.setMDCAdapter(MDC.getMDCAdapter());
+    loggerContext.putProperty(
+        "LOKI_URL", "http://localhost:" + loki.getAddress().getPort() + "/loki/api/v1/push");
+    JoranConfigurator configurator = new JoranConfigurator();
+    configurator.setContext(loggerContext);
+    try (InputStream config =
+        getClass().getResourceAsStream("/benchmark/logback-loki-" + pipeline + ".xml")) {
+      configurator.doConfigure(config);
+    }
+    logger = loggerContext.getLogger("com.athenhub.projectinterface.benchmark.Request");
+  }
+
+  /** logback 컨텍스트와 Loki 스텁을 종료한다. */
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    if (loggerContext.getLogger(Logger.ROOT_LOGGER_NAME).getAppender("ASYNC_LOKI")
+        instanceof BoundedAsyncAppender appender) {
+      System.out.printf(
+          "%nqueued=%d evicted=%d rejected=%d%n",
+          appender.getEnqueuedCount(), appender.getEvictedCount(), appender.getRejectedCount());
+    }
+    loggerContext.stop();
+    loki.stop(0);
+    lokiExecutor.shutdownNow();
+  }
+
+  /** 측정 스레드마다 트레이싱 브리지가 넣는 것과 같은 MDC를 둔다. */
+  @State(Scope.Thread)
+  public static class Trace {
+    /** 측정 스레드의 MDC를 구성한다. */
+    @Setup(Level.Trial)
+    public void setUp() {
+      MDC.put("traceId", "4bf92f3577b34da6a3ce929d0e0e4736");
+      MDC.put("spanId", "00f067aa0ba902b7");
+    }
+
+    /** 측정 스레드의 MDC를 정리한다. */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+      MDC.clear();
+    }
+  }
+
+  /**
+   * 요청 처리 중 남기는 로그 한 건을 기록한다.
+   *
+   * @param trace 측정 스레드의 MDC
+   */
+  @Benchmark
+  public void log(Trace trace) {
+    logger.info("request handled: method={} path={} status={}", "GET", "/api/members/42", 200);
+  }
+}
@@ -0,0 +1,195 @@
+package com.athenhub.projectinterface.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 애플리케이션의 기동 시간과 메모리 사용량을 측정하는 벤치마크.
+ *
+ * <p>{@code ./gradlew startupBenchmark}로 실행하며, 추출된 애플리케이션 jar를 기본 설정과 최적화 설정(CDS 아카이브, {@code
+ * -Paot} 지정 시 Spring AOT)으로 각각 여러 번 기동한다. 매 기동마다 {@code Started ... (process running for N)} 로그가
+ * 출력된 시점의 JVM 가동 시간을 time-to-ready로, 그 시점의 프로세스 RSS를 메모리 사용량으로 기록한 뒤 프로세스를 종료한다.
+ *
+ * <p>측정 대상과 옵션은 Gradle 태스크가 시스템 프로퍼티로 전달하며, 프로그램 인자는 그대로 애플리케이션 인자로 전달된다.
+ *
+ * @author 김형섭
+ * @since 1.0.0
+ */
+public final class StartupBenchmark {
+  private static final Pattern STARTED =
+      Pattern.compile("Started \\S+ in [\\d.]+ seconds \\(process running for ([\\d.]+)\\)");
+  private static final long READY_TIMEOUT_SECONDS = 120;
+
+  private StartupBenchmark() {}
+
+  /**
+   * 기동 시간 측정을 실행한다.
+   *
+   * @param args 측정 대상 애플리케이션에 전달할 인자
+   * @throws Exception 측정 대상 프로세스를 실행하지 못한 경우
+   */
+  public static void main(String[] args) throws Exception {
+    String java = System.getProperty("startup.java");
+    String jar = System.getProperty("startup.jar");
+    List<String> optimizedJvmArgs =
+        Arrays.stream(System.getProperty("startup.optimizedJvmArgs", "").split(" "))
+            .filter(arg -> !arg.isBlank())
+            .toList();
+    int iterations = Integer.parseInt(System.getProperty("startup.iterations", "5"));
+
+    List<Result> measured = new ArrayList<>();
+    measured.add(measure("default", java, List.of(), jar, List.of(args), iterations));
+    measured.add(measure("optimized", java, optimizedJvmArgs, jar, List.of(args), iterations));
+
+    System.out.printf("%-10s %8s %16s %14s%n", "Mode", "Cnt", "Ready(ms, p50)", "RSS(MB, p50)");
+    for (Result result : measured) {
+      System.out.printf(
+          "%-10s %8d %16d %14d%n",
+          result.mode(),
+          result.readyMillis().size(),
+          median(result.readyMillis()),
+          median(result.rssKilobytes()) / 1024);
+    }
+
+    Path results = Path.of(System.getProperty("startup.results"));
+    Files.createDirectories(results.getParent());
+    new ObjectMapper().writerWithDefaultPrettyPrinter().writeValue(results.toFile(), measured);
+    System.out.println("Startup benchmark result is saved to " + results);
+  }
+
+  private static Result measure(
+      String mode,
+      String java,
+      List<String> jvmArgs,
+      String jar,
+      List<String> applicationArgs,
+      int iterations)
+      throws IOException, InterruptedException {
+    List<String> command = new ArrayList<>();
+    command.add(java);
+    command.addAll(jvmArgs);
+    command.add("-jar");
+    command.add(jar);
+    command.addAll(applicationArgs);
+
+    // 첫 기동은 파일 시스템 캐시 영향을 받으므로 측정에서 제외한다.
+    launch(command);
+
+    List<Long> readyMillis = new ArrayList<>();
+    List<Long> rssKilobytes = new ArrayList<>();
+    for (int i = 0; i < iterations; i++) {
+      Sample sample = launch(command);
+      readyMillis.add(sample.readyMillis());
+      rssKilobytes.add(sample.rssKilobytes());
+    }
+    return new Result(mode, jvmArgs, readyMillis, rssKilobytes);
+  }
+
+  private static Sample launch(List<String> command) throws IOException, InterruptedException {
+    Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+    // readLine()은 제한 없이 대기하므로 출력은 별도 스레드에서 읽고, 준비 시간 제한은 그 결과를 기다리는 쪽에서 적용한다.
+    FutureTask<Long> ready = new FutureTask<>(() -> readyMillis(process));
+    Thread.ofPlatform().daemon().name("startup-output-" + process.pid()).start(ready);
+    try {
+      long readyMillis = ready.get(READY_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+      return new Sample(readyMillis, rss(process.pid()));
+    } catch (TimeoutException e) {
+      throw new IllegalStateException(
+          "애플리케이션이 " + READY_TIMEOUT_SECONDS + "초 안에 준비 상태에 도달하지 못했습니다.", e);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof IOException cause) {
+        throw cause;
+      }
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw new IllegalStateException(e.getCause());
+    } finally {
+      process.destroy();
+      if (!process.waitFor(READY_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+        process.destroyForcibly();
+      }
+    }
+  }
+
+  private static long readyMillis(Process process) throws IOException, InterruptedException {
+    try (BufferedReader reader =
+        new BufferedReader(
+            new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+      String line;
+      while ((line = reader.readLine()) != null) {
+        Matcher matcher = STARTED.matcher(line);
+        if (matcher.find()) {
+          return Math.round(Double.parseDouble(matcher.group(1)) * 1000);
+        }
+      }
+    }
+    throw new IllegalStateException(
+        "애플리케이션이 준비 상태에 도달하지 못했습니다. (exit=" + process.waitFor() + ")");
+  }
+
+  private static long rss(long pid) throws IOException, InterruptedException {
+    Path status = Path.of("/proc", Long.toString(pid), "status");
+    if (Files.exists(status)) {
+      for (String line : Files.readAllLines(status)) {
+        if (line.startsWith("VmRSS:")) {
+          return Long.parseLong(line.replaceAll("\\D", ""));
+        }
+      }
+    }
+
+    Process ps = new ProcessBuilder("ps", "-o", "rss=", "-p", Long.toString(pid)).start();
+    String output = new String(ps.getInputStream().readAllBytes(), StandardCharsets.UTF_8).trim();
+    ps.waitFor();
+    return output.isEmpty() ? -1 : Long.parseLong(output);
+  }
+
+  private static long median(List<Long> values) {
+    List<Long> sorted = values.stream().sorted().toList();
+    return sorted.get(sorted.size() / 2);
+  }
+
+  /**
+   * 단일 기동 측정값.
+   *
+   * @param readyMillis JVM 시작부터 애플리케이션 준비 완료까지 걸린 시간(ms)
+   * @param rssKilobytes 준비 완료 시점의 RSS(KB)
+   */
+  record Sample(long readyMillis, long rssKilobytes) {}
+
+  /**
+   * 기동 모드별 측정 결과.
+   *
+   * @param mode 기동 모드
+   * @param jvmArgs 기동 모드에 사용한 JVM 옵션
+   * @param readyMillis 반복별 time-to-ready(ms)
+   * @param rssKilobytes 반복별 RSS(KB)
+   */
+  record Result(
+      String mode, List<String> jvmArgs, List<Long> readyMillis, List<Long> rssKilobytes) {
+
+    /**
+     * 요약 통계를 반환한다.
+     *
+     * @return time-to-ready, RSS 중앙값
+     */
+    public Map<String, Long> getMedian() {
+      return Map.of("readyMillis", median(readyMillis), "rssKilobytes", median(rssKilobytes));
+    }
+  }
+}
@@ -0,0 +1,40 @@
+package com.athenhub.projectinterface.global.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 낙관적 잠금 충돌로 실패한 메서드를 새 트랜잭션으로 다시 실행하도록 지정하는 애노테이션.
+ *
+ * <p>{@code @Transactional}보다 바깥에서 동작하므로, 충돌로 롤백된 트랜잭션을 버리고 시도마다 새 트랜잭션에서 엔티티를 다시 읽는다. 재시도 사이에는 지터를
+ * 적용한 지수 백오프만큼 대기하여 같은 행을 두고 경쟁하는 요청이 동시에 다시 충돌하지 않도록 한다. 호출 시점에 이미 진행 중인 트랜잭션이 있으면 재시도해도 같은 트랜잭션을
+ * 다시 사용하게 되므로 재시도하지 않는다. 버전 필드가 있는 엔티티({@code AbstractVersionedEntity} 등)에만 충돌이 발생한다.
+ *
+ * <p>사용 예:
+ *
+ * <pre>{@code
+ * @OptimisticRetry(maxAttempts = 5)
+ * @Transactional
+ * public void decreaseStock(UUID productId, int quantity) { ... }
+ * }</pre>
+ *
+ * <p>클래스에 붙이면 모든 public 메서드에 적용된다.
+ *
+ * @author 김형섭
+ * @since 1.0.0
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface OptimisticRetry {
+
+  /** 첫 시도를 포함한 최대 시도 횟수. */
+  int maxAttempts() default 3;
+
+  /** 첫 재시도 전 최대 대기 시간(ms). 재시도마다 두 배씩 늘어난다. */
+  long backoffMillis() default 20;
+
+  /** 재시도 전 대기 시간의 상한(ms). */
+  long maxBackoffMillis() default 500;
+}
@@ -0,0 +1,50 @@
+package com.athenhub.projectinterface.global.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 클래스 단위로 성능 규칙({@code PerformanceRulesTest}) 검사를 제외하는 애노테이션.
+ *
+ * <p>규칙 위반이 의도된 경우에만 사용하며, 제외 사유를 {@link #reason()}에 남겨 리뷰에서 확인할 수 있도록 합니다.
+ *
+ * <p>사용 예:
+ *
+ * <pre>{@code
+ * @Service
+ * @PerformanceRuleExemption(
+ *     value = PerformanceRuleExemption.Rule.UNBOUNDED_FIND_ALL,
+ *     reason = "코드 테이블은 100건 미만으로 관리된다")
+ * public class CodeQueryService { ... }
+ * }</pre>
+ *
+ * @author 김형섭
+ * @since 1.0.0
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface PerformanceRuleExemption {
+
+  /** 제외할 규칙 목록. */
+  Rule[] value();
+
+  /** 제외 사유. */
+  String reason();
+
+  /** 성능 규칙 종류. */
+  enum Rule {
+    /** {@code AbstractTimeEntity} 하위 엔티티의 EAGER 연관관계 금지. */
+    EAGER_FETCH,
+
+    /** {@code Pageable} 없는 리포지토리 {@code findAll*} 호출 금지. */
+    UNBOUNDED_FIND_ALL,
+
+    /** 애플리케이션 서비스의 조회 메서드에 {@code @Transactional(readOnly = true)} 필수. */
+    READ_ONLY_QUERY,
+
+    /** {@code @Transactional} 메서드 안에서 원격 클라이언트 호출 금지. */
+    REMOTE_CALL_IN_TRANSACTION
+  }
+}
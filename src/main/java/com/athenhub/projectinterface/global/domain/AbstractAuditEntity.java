@@ -3,8 +3,11 @@ package com.athenhub.projectinterface.global.domain;
 import jakarta.persistence.Column;
 import jakarta.persistence.MappedSuperclass;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.Objects;
 import lombok.Getter;
+import org.hibernate.annotations.Filter;
+import org.hibernate.annotations.FilterDef;
 import org.springframework.data.annotation.CreatedBy;
 import org.springframework.data.annotation.LastModifiedBy;
 
@@ -14,12 +17,23 @@ import org.springframework.data.annotation.LastModifiedBy;
  * <p>생성자(createdBy, createdAt), 수정자(updatedBy, updatedAt), 삭제자(deletedBy, deletedAt) 필드를 제공하며,
  * Spring Data JPA의 감사(audit) 기능을 활성화합니다.
  *
+ * <p>모든 하위 엔티티에는 {@value #SOFT_DELETE_FILTER} 필터가 기본으로 활성화되어, JPQL·Criteria 조회 시 논리 삭제된 행({@code
+ * deleted_at IS NOT NULL})이 자동으로 제외됩니다. 삭제된 행까지 조회해야 하는 경우에는 {@code SoftDeleteFilter}를 사용합니다.
+ *
  * @author 김형섭
  * @since 1.0.0
  */
 @Getter
 @MappedSuperclass
+@FilterDef(
+    name = AbstractAuditEntity.SOFT_DELETE_FILTER,
+    defaultCondition = "deleted_at IS NULL",
+    autoEnabled = true)
+@Filter(name = AbstractAuditEntity.SOFT_DELETE_FILTER)
 public abstract class AbstractAuditEntity extends AbstractTimeEntity {
+  /** 논리 삭제된 행을 조회 대상에서 제외하는 Hibernate 필터 이름. */
+  public static final String SOFT_DELETE_FILTER = "softDeleteFilter";
+
   /* 등록자 계정 */
   @Column(name = "created_by", nullable = false)
   @CreatedBy
@@ -73,12 +87,34 @@ public abstract class AbstractAuditEntity extends AbstractTimeEntity {
    *   <li>deletedAt을 현재 시각으로 설정
    *   <li>deleteId를 현재 인증된 회원 이름 또는 "SYSTEM"로 설정
    * </ul>
+   *
+   * <p>삭제 일시는 감사 일시와 같이 마이크로초 단위로 자른다. 감사 일시 제공자와 같은 값을 사용해야 하면 {@link #delete(String,
+   * LocalDateTime)}을 사용한다.
    */
   public void delete(String deleteBy) {
-    this.deletedAt = LocalDateTime.now();
+    delete(deleteBy, LocalDateTime.now().truncatedTo(ChronoUnit.MICROS));
+  }
+
+  /**
+   * 주어진 일시로 논리 삭제를 수행합니다.
+   *
+   * @param deleteBy 삭제자 계정. null이면 "SYSTEM"
+   * @param deletedAt 삭제 일시
+   */
+  public void delete(String deleteBy, LocalDateTime deletedAt) {
+    this.deletedAt = deletedAt;
     deleteBy(Objects.isNull(deleteBy) ? "SYSTEM" : deleteBy);
   }
 
+  /**
+   * 논리 삭제 여부를 반환합니다.
+   *
+   * @return deletedAt이 설정되어 있으면 true
+   */
+  public boolean isDeleted() {
+    return deletedAt != null;
+  }
+
   @Override
   public boolean equals(Object o) {
     if (!(o instanceof AbstractAuditEntity entity)) {
@@ -0,0 +1,98 @@
+package com.athenhub.projectinterface.global.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Id;
+import jakarta.persistence.MappedSuperclass;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Transient;
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.Getter;
+import org.hibernate.Hibernate;
+import org.springframework.data.domain.Persistable;
+
+/**
+ * 변하지 않는 식별자를 기준으로 동등성을 판단하는 추상 엔티티 클래스.
+ *
+ * <p>{@link AbstractAuditEntity}의 감사 필드를 그대로 제공하며, 식별자는 도메인 생성자에서 {@link UuidV7Generator}로 만든 값을
+ * {@link #AbstractIdentifiableEntity(UUID)}에 넘겨 할당합니다. 인자 없는 생성자는 JPA가 조회한 엔티티를 만들 때만 사용하므로 식별자를
+ * 생성하지 않으며, 식별자는 Hibernate가 조회 결과로 채웁니다. 식별자가 저장 전부터 확정되어 바뀌지 않으므로 {@code equals}/{@code hashCode}가
+ * 엔티티 생명주기 동안 일정하게 유지되어 {@code HashSet}, {@code HashMap}에 안전하게 담을 수 있습니다.
+ *
+ * <p>식별자를 직접 할당하기 때문에 {@link Persistable}을 구현하여 저장 여부를 판단하며, 신규 엔티티의 {@code save()} 호출 시 불필요한
+ * {@code SELECT}가 발생하지 않습니다.
+ *
+ * <pre>{@code
+ * @Entity
+ * public class Member extends AbstractIdentifiableEntity {
+ *   protected Member() {}
+ *
+ *   public Member(String name) {
+ *     super(UuidV7Generator.generate());
+ *     this.name = name;
+ *   }
+ * }
+ * }</pre>
+ *
+ * @author 김형섭
+ * @since 1.0.0
+ */
+@Getter
+@MappedSuperclass
+public abstract class AbstractIdentifiableEntity extends AbstractAuditEntity
+    implements Persistable<UUID> {
+  /* 식별자(UUID v7) */
+  @Id
+  @Column(name = "id", nullable = false, updatable = false)
+  private UUID id;
+
+  /* 신규 엔티티 여부 */
+  @Transient
+  @Getter(AccessLevel.NONE)
+  private boolean newEntity = true;
+
+  /** JPA가 조회한 엔티티를 생성할 때 사용하는 생성자. 식별자는 Hibernate가 할당한다. */
+  protected AbstractIdentifiableEntity() {}
+
+  /**
+   * 새 엔티티를 생성한다.
+   *
+   * @param id 식별자. 보통 {@link UuidV7Generator#generate()}로 생성한다.
+   */
+  protected AbstractIdentifiableEntity(UUID id) {
+    if (id == null) {
+      throw new IllegalArgumentException("식별자는 null일 수 없습니다.");
+    }
+    this.id = id;
+  }
+
+  @Override
+  public boolean isNew() {
+    return newEntity;
+  }
+
+  /* 저장되거나 조회된 엔티티는 더 이상 신규 엔티티가 아니다. */
+  @PostLoad
+  @PostPersist
+  void markNotNew() {
+    this.newEntity = false;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof AbstractIdentifiableEntity entity)) {
+      return false;
+    }
+
+    return Hibernate.getClass(this) == Hibernate.getClass(entity) && getId().equals(entity.getId());
+  }
+
+  @Override
+  public int hashCode() {
+    return getId().hashCode();
+  }
+}
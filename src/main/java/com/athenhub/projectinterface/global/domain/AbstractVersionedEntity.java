@@ -0,0 +1,34 @@
+package com.athenhub.projectinterface.global.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.MappedSuperclass;
+import jakarta.persistence.Version;
+import lombok.Getter;
+
+/**
+ * 낙관적 잠금을 적용하는 감사 엔티티의 추상 클래스.
+ *
+ * <p>{@link AbstractAuditEntity}의 감사 필드에 버전(version) 필드를 더합니다. 엔티티를 수정할 때마다 버전이 1씩 증가하며, 다른
+ * 트랜잭션이 먼저 수정한 행을 덮어쓰려고 하면 {@code ObjectOptimisticLockingFailureException}이 발생합니다. 충돌이 잦은 서비스
+ * 메서드에는 {@code @OptimisticRetry}를 붙여 새 트랜잭션으로 다시 시도할 수 있습니다.
+ *
+ * <p>동시에 수정될 수 있는 엔티티만 선택적으로 상속합니다. 기존 테이블에는 배포 전에 컬럼을 추가해야 합니다.
+ *
+ * <pre>{@code
+ * ALTER TABLE member ADD COLUMN version BIGINT DEFAULT 0 NOT NULL;
+ * }</pre>
+ *
+ * <p>{@link AbstractIdentifiableEntity}처럼 다른 기반 클래스를 상속하는 엔티티는 {@code @Version} 필드를 직접 선언해도 공통
+ * 리포지토리가 같은 방식으로 버전을 다룹니다.
+ *
+ * @author 김형섭
+ * @since 1.0.0
+ */
+@Getter
+@MappedSuperclass
+public abstract class AbstractVersionedEntity extends AbstractAuditEntity {
+  /* 낙관적 잠금 버전 */
+  @Column(name = "version", nullable = false)
+  @Version
+  private Long version;
+}
@@ -0,0 +1,54 @@
+package com.athenhub.projectinterface.global.domain;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 엔티티 테이블을 {@code created_at} 기준 PostgreSQL 범위 파티션 테이블로 관리하도록 선언하는 애노테이션.
+ *
+ * <p>{@link AbstractTimeEntity}를 상속한 엔티티에 선언하면 {@code PartitionMaintainer}가 기동 시와 주기적으로 현재 구간부터
+ * {@link #premake()}개 이후 구간까지 파티션을 미리 만들고, {@link #retention()}보다 오래된 파티션을 부모 테이블에서 분리한다. 한
+ * 달에 수천만 행이 쌓이는 이벤트성 엔티티에 사용하며, {@code created_at} 범위 조건이 있는 조회는 해당 구간의 파티션만
+ * 읽는다(partition pruning).
+ *
+ * <p>파티션 테이블의 기본 키와 유니크 인덱스에는 파티션 키가 포함되어야 하므로 기본 키는 {@code (id, created_at)}으로 생성되며, 다른 테이블이
+ * 외래 키로 참조할 수 없다. 파티션 범위를 벗어나는 {@code created_at} 값은 저장할 수 없다.
+ *
+ * <p>사용 예:
+ *
+ * <pre>{@code
+ * @Entity
+ * @RangePartitioned(retention = 12, archiveSchema = "archive")
+ * public class LoginEvent extends AbstractAuditEntity { ... }
+ * }</pre>
+ *
+ * @author 김형섭
+ * @since 1.0.0
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RangePartitioned {
+
+  /** 파티션 하나가 담는 구간. */
+  Interval interval() default Interval.MONTH;
+
+  /** 현재 구간 이후로 미리 만들어 둘 파티션 수. */
+  int premake() default 3;
+
+  /** 현재 구간 이전으로 부모 테이블에 남겨 둘 파티션 수. 0이면 오래된 파티션을 분리하지 않는다. */
+  int retention() default 0;
+
+  /** 분리한 파티션을 옮길 스키마. 비어 있으면 분리한 테이블을 같은 스키마에 그대로 둔다. */
+  String archiveSchema() default "";
+
+  /** 파티션 구간. */
+  enum Interval {
+    /** 하루 단위 파티션({@code <table>_pyyyyMMdd}). */
+    DAY,
+
+    /** 한 달 단위 파티션({@code <table>_pyyyyMM}). */
+    MONTH
+  }
+}
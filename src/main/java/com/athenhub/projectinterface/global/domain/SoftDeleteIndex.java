@@ -0,0 +1,49 @@
+package com.athenhub.projectinterface.global.domain;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Repeatable;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 논리 삭제되지 않은 행만 포함하는 부분 인덱스(partial index)를 선언하는 애노테이션.
+ *
+ * <p>{@link AbstractAuditEntity}를 상속한 엔티티에 선언하면 애플리케이션 기동 시 {@code WHERE deleted_at IS NULL} 조건을 가진
+ * 인덱스가 생성됩니다. 조회 쿼리는 기본적으로 삭제되지 않은 행만 대상으로 하므로, 부분 인덱스를 사용하면 논리 삭제된 행을 인덱스에서 제외하여 인덱스 크기와 탐색 비용을 줄일
+ * 수 있습니다.
+ *
+ * <p>사용 예:
+ *
+ * <pre>{@code
+ * @Entity
+ * @SoftDeleteIndex(name = "ux_member_email", columnList = "email", unique = true)
+ * public class Member extends AbstractAuditEntity { ... }
+ * }</pre>
+ *
+ * @author 김형섭
+ * @since 1.0.0
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Repeatable(SoftDeleteIndex.List.class)
+public @interface SoftDeleteIndex {
+
+  /** 인덱스 이름. */
+  String name();
+
+  /** 인덱스 컬럼 목록. {@code jakarta.persistence.Index#columnList}와 같은 형식을 사용한다. */
+  String columnList();
+
+  /** 유니크 인덱스 여부. 삭제되지 않은 행 사이에서만 유일성을 보장한다. */
+  boolean unique() default false;
+
+  /** {@link SoftDeleteIndex}를 여러 개 선언하기 위한 컨테이너 애노테이션. */
+  @Target(ElementType.TYPE)
+  @Retention(RetentionPolicy.RUNTIME)
+  @interface List {
+
+    /** 선언된 부분 인덱스 목록. */
+    SoftDeleteIndex[] value();
+  }
+}
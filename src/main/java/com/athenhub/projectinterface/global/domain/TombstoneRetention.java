@@ -0,0 +1,47 @@
+package com.athenhub.projectinterface.global.domain;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 논리 삭제된 행을 보존 기간이 지나면 보관한 뒤 물리 삭제하도록 선언하는 애노테이션.
+ *
+ * <p>{@link AbstractAuditEntity}를 상속한 엔티티에 선언하면 {@code TombstonePurger}가 주기적으로 {@code deleted_at}이
+ * {@link #days()}일보다 오래된 행을 {@code (deleted_at, id)} 순서의 작은 배치로 {@link #archive()}에 옮기고 원본 테이블에서
+ * 삭제한다. {@link AbstractAuditEntity#delete(String)}로 삭제된 행이 테이블과 인덱스에 계속 쌓이는 것을 막기 위해 사용한다.
+ *
+ * <p>사용 예:
+ *
+ * <pre>{@code
+ * @Entity
+ * @TombstoneRetention(days = 90, archive = TombstoneRetention.Archive.TABLE)
+ * public class Member extends AbstractAuditEntity { ... }
+ * }</pre>
+ *
+ * @author 김형섭
+ * @since 1.0.0
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface TombstoneRetention {
+
+  /** 논리 삭제 후 원본 테이블에 남겨 둘 일수. */
+  int days();
+
+  /** 물리 삭제 전에 행을 옮길 보관 위치. */
+  Archive archive() default Archive.TABLE;
+
+  /** 보관 위치. */
+  enum Archive {
+    /** 같은 컬럼을 가진 {@code <table>_archive} 테이블. */
+    TABLE,
+
+    /** 보관 디렉터리의 {@code <table>.jsonl} 파일. 한 행이 JSON 객체 한 줄로 기록된다. */
+    FILE,
+
+    /** 보관하지 않고 삭제한다. */
+    NONE
+  }
+}
@@ -0,0 +1,72 @@
+package com.athenhub.projectinterface.global.infrastructure.audit;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * 현재 스레드에서 사용할 감사자와 감사 일시를 고정하는 컨텍스트.
+ *
+ * <p>고정된 동안 {@link AuditorAwareImpl}과 {@link JpaAuditingConfig#auditingDateTimeProvider()}는 인증 정보나
+ * 현재 시각을 다시 조회하지 않고 고정된 값을 반환한다. 많은 엔티티를 한 번에 저장할 때 감사 정보를 한 번만 결정하기 위해 사용한다.
+ *
+ * <pre>{@code
+ * try (AuditingContext.Scope ignored = AuditingContext.pin("importer", now)) {
+ *   entities.forEach(entityManager::persist);
+ *   entityManager.flush();
+ * }
+ * }</pre>
+ *
+ * @author 김형섭
+ * @since 1.0.0
+ */
+public final class AuditingContext {
+  private static final ThreadLocal<Stamp> PINNED = new ThreadLocal<>();
+
+  private AuditingContext() {}
+
+  /**
+   * 감사자와 감사 일시를 고정한다. 반환된 범위를 닫으면 이전 상태로 돌아간다.
+   *
+   * @param auditor 감사자
+   * @param now 감사 일시
+   * @return 고정 범위
+   */
+  public static Scope pin(String auditor, LocalDateTime now) {
+    Stamp previous = PINNED.get();
+    PINNED.set(new Stamp(auditor, now));
+    return () -> {
+      if (previous == null) {
+        PINNED.remove();
+      } else {
+        PINNED.set(previous);
+      }
+    };
+  }
+
+  /**
+   * 고정된 감사자를 반환한다.
+   *
+   * @return 고정된 감사자. 고정되지 않았으면 빈 값
+   */
+  public static Optional<String> pinnedAuditor() {
+    return Optional.ofNullable(PINNED.get()).map(Stamp::auditor);
+  }
+
+  /**
+   * 고정된 감사 일시를 반환한다.
+   *
+   * @return 고정된 감사 일시. 고정되지 않았으면 빈 값
+   */
+  public static Optional<LocalDateTime> pinnedTime() {
+    return Optional.ofNullable(PINNED.get()).map(Stamp::now);
+  }
+
+  /** 감사 정보 고정 범위. */
+  @FunctionalInterface
+  public interface Scope extends AutoCloseable {
+    @Override
+    void close();
+  }
+
+  private record Stamp(String auditor, LocalDateTime now) {}
+}
@@ -31,17 +31,26 @@ public class AuditorAwareImpl implements AuditorAware<String> {
    * 현재 인증된 사용자명을 반환한다.
    *
    * <p>SecurityContext에 저장된 인증 정보에서 JWT를 추출하여 {@code preferred_username} 클레임을 조회한다. 인증 정보가 없을 경우
-   * 기본값으로 {@code "SYSTEM"}을 사용한다.
+   * 기본값으로 {@code "SYSTEM"}을 사용한다. 익명 인증처럼 주체가 {@link UserDetails}가 아닌 경우에도 {@code "SYSTEM"}을 사용한다.
+   *
+   * <p>{@link AuditingContext}로 감사자가 고정되어 있으면 인증 정보를 조회하지 않고 고정된 값을 반환한다.
+   *
+   * <p>인증 정보는 현재 스레드의 {@link SecurityContextHolder}에서 조회하므로, 다른 실행기로 작업을 넘길 때는 {@code AsyncConfig}가
+   * 등록하는 컨텍스트 전파 데코레이터가 적용된 실행기를 사용해야 한다.
    *
    * @return 현재 감사자명(Optional)
    */
   @Override
   public Optional<String> getCurrentAuditor() {
+    Optional<String> pinned = AuditingContext.pinnedAuditor();
+    if (pinned.isPresent()) {
+      return pinned;
+    }
+
     String username = "SYSTEM";
     Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
 
-    if (authentication != null && authentication.getPrincipal() != null) {
-      UserDetails details = (UserDetails) authentication.getPrincipal();
+    if (authentication != null && authentication.getPrincipal() instanceof UserDetails details) {
       username = details.getUsername();
     }
 
@@ -1,6 +1,11 @@
 package com.athenhub.projectinterface.global.infrastructure.audit;
 
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Optional;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.auditing.DateTimeProvider;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 
 /**
@@ -15,6 +20,27 @@ import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
  * @author 김형섭
  * @since 1.0.0
  */
-@EnableJpaAuditing(auditorAwareRef = "auditorAwareImpl")
+@EnableJpaAuditing(
+    auditorAwareRef = "auditorAwareImpl",
+    dateTimeProviderRef = "auditingDateTimeProvider")
 @Configuration
-public class JpaAuditingConfig {}
+public class JpaAuditingConfig {
+
+  /**
+   * 감사 일시를 제공하는 {@link DateTimeProvider}를 등록한다.
+   *
+   * <p>데이터베이스 {@code timestamp} 컬럼의 정밀도에 맞춰 마이크로초 단위로 자른 현재 시각을 사용한다. 저장 직후 영속성 컨텍스트에 남아 있는 엔티티의
+   * 일시가 데이터베이스에 기록된 값과 같아지므로, 키셋 커서처럼 일시 값을 다시 조회 조건으로 사용해도 결과가 어긋나지 않는다.
+   *
+   * <p>{@link AuditingContext}로 감사 일시가 고정되어 있으면 고정된 값을 사용한다.
+   *
+   * @return 감사 일시 제공자
+   */
+  @Bean
+  public DateTimeProvider auditingDateTimeProvider() {
+    return () ->
+        Optional.of(
+            AuditingContext.pinnedTime()
+                .orElseGet(() -> LocalDateTime.now().truncatedTo(ChronoUnit.MICROS)));
+  }
+}
@@ -0,0 +1,21 @@
+package com.athenhub.projectinterface.global.infrastructure.audit.history;
+
+/**
+ * 변경 이력의 변경 종류.
+ *
+ * @author 김형섭
+ * @since 1.0.0
+ */
+public enum AuditAction {
+  /** 엔티티 생성. */
+  INSERT,
+
+  /** 엔티티 수정. */
+  UPDATE,
+
+  /** 엔티티 삭제. 논리 삭제({@code deleted_at} 기록)도 삭제로 기록한다. */
+  DELETE,
+
+  /** 보존 기간이 지난 논리 삭제 행의 물리 삭제. */
+  PURGE
+}
@@ -0,0 +1,88 @@
+package com.athenhub.projectinterface.global.infrastructure.audit.history;
+
+import com.athenhub.projectinterface.global.infrastructure.persistence.BulkChange;
+import com.athenhub.projectinterface.global.infrastructure.persistence.BulkChangeListener;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 엔티티 리스너를 거치지 않는 벌크 변경을 아웃박스에 기록하는 리스너.
+ *
+ * <p>변경된 행마다 아웃박스 행 하나를 변경을 실행한 트랜잭션의 커넥션으로 배치 INSERT 한다. 논리 삭제는 {@link AuditAction#DELETE}로
+ * {@code deletedAt}, {@code deletedBy}의 변경 내용과 함께, 수정 일시 갱신은 빈 변경 내용의 {@link
+ * AuditAction#UPDATE}로, 보존 기간이 지난 행의 물리 삭제는 {@link AuditAction#PURGE}로 기록한다.
+ *
+ * @author 김형섭
+ * @since 1.0.0
+ */
+public class AuditBulkChangeListener implements BulkChangeListener {
+  private static final String DEFAULT_AUDITOR = "SYSTEM";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final ObjectMapper objectMapper;
+
+  /**
+   * 리스너를 생성한다.
+   *
+   * @param jdbcTemplate JDBC 템플릿
+   * @param objectMapper 변경 내용을 JSON으로 직렬화할 매퍼
+   */
+  public AuditBulkChangeListener(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.objectMapper = objectMapper;
+  }
+
+  @Override
+  public void onBulkChange(BulkChange change) {
+    if (change.ids().isEmpty()) {
+      return;
+    }
+    String changedBy = change.changedBy() != null ? change.changedBy() : DEFAULT_AUDITOR;
+    LocalDateTime changedAt =
+        change.changedAt() != null ? change.changedAt() : LocalDateTime.now();
+    AuditAction action =
+        switch (change.type()) {
+          case SOFT_DELETE -> AuditAction.DELETE;
+          case MARK_UPDATED -> AuditAction.UPDATE;
+          case PURGE -> AuditAction.PURGE;
+        };
+    String changes = json(change.type(), changedBy, changedAt);
+
+    jdbcTemplate.batchUpdate(
+        AuditOutboxEntry.INSERT_SQL,
+        change.ids(),
+        change.ids().size(),
+        (ps, id) -> {
+          ps.setString(1, change.entityType());
+          ps.setString(2, String.valueOf(id));
+          ps.setString(3, action.name());
+          ps.setString(4, changes);
+          ps.setString(5, changedBy);
+          ps.setObject(6, changedAt);
+        });
+  }
+
+  private String json(BulkChange.Type type, String changedBy, LocalDateTime changedAt) {
+    Map<String, Object> changes = new LinkedHashMap<>();
+    if (type == BulkChange.Type.SOFT_DELETE) {
+      changes.put("deletedAt", change(changedAt));
+      changes.put("deletedBy", change(changedBy));
+    }
+    try {
+      return objectMapper.writeValueAsString(changes);
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("변경 내용을 JSON으로 직렬화할 수 없습니다.", e);
+    }
+  }
+
+  private static Map<String, Object> change(Object after) {
+    Map<String, Object> change = new LinkedHashMap<>();
+    change.put("before", null);
+    change.put("after", after);
+    return change;
+  }
+}
@@ -0,0 +1,246 @@
+package com.athenhub.projectinterface.global.infrastructure.audit.history;
+
+import com.athenhub.projectinterface.global.domain.AbstractAuditEntity;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.sql.PreparedStatement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.hibernate.HibernateException;
+import org.hibernate.action.spi.AfterTransactionCompletionProcess;
+import org.hibernate.action.spi.BeforeTransactionCompletionProcess;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.type.EntityType;
+import org.hibernate.type.Type;
+
+/**
+ * {@link AbstractAuditEntity} 하위 엔티티의 필드 단위 변경 내용을 아웃박스에 기록하는 Hibernate 리스너.
+ *
+ * <p>플러시 중 발생하는 INSERT, UPDATE, DELETE 이벤트에서 변경 전후 값을 모아 두었다가, 트랜잭션 커밋 직전에 세션의 커넥션으로 {@code
+ * audit_outbox}에 배치로 기록한다(변경이 많으면 500건마다 미리 기록한다). 변경 내용은 업무 데이터와 같은 트랜잭션으로 커밋되거나 롤백되며, 이력 테이블로 옮기는
+ * 작업은 {@link AuditHistoryRelay}가 요청과 무관하게 수행한다.
+ *
+ * <p>감사 필드({@code createdAt}, {@code createdBy}, {@code updatedAt}, {@code updatedBy})는 변경자와 변경 일시로
+ * 따로 기록하므로 변경 내용에서 제외하며(낙관적 잠금 버전도 제외한다), 연관 엔티티는 식별자로 기록하고 컬렉션은 기록하지 않는다. 공통 리포지토리의 벌크 감사 연산과 논리
+ * 삭제 행 정리는 {@link AuditBulkChangeListener}가 기록하며, 그 밖에 직접 실행한 JPQL 벌크 UPDATE처럼 영속성 컨텍스트를 거치지 않는
+ * 변경은 기록되지 않는다.
+ *
+ * @author 김형섭
+ * @since 1.0.0
+ */
+public class AuditChangeListener
+    implements PostInsertEventListener, PostUpdateEventListener, PostDeleteEventListener {
+  private static final Set<String> AUDIT_PROPERTIES =
+      Set.of("createdAt", "createdBy", "updatedAt", "updatedBy", "version");
+  private static final String DELETED_AT = "deletedAt";
+  private static final int MAX_BUFFERED_CHANGES = 500;
+
+  private final ObjectMapper objectMapper;
+  private final Map<SharedSessionContractImplementor, PendingChanges> pending =
+      new ConcurrentHashMap<>();
+
+  /**
+   * 리스너를 생성한다.
+   *
+   * @param objectMapper 변경 내용을 JSON으로 직렬화할 매퍼
+   */
+  public AuditChangeListener(ObjectMapper objectMapper) {
+    this.objectMapper = objectMapper;
+  }
+
+  @Override
+  public void onPostInsert(PostInsertEvent event) {
+    if (!(event.getEntity() instanceof AbstractAuditEntity entity)) {
+      return;
+    }
+    Map<String, Object> changes =
+        diff(event.getPersister(), null, event.getState(), event.getSession());
+    record(
+        event.getSession(),
+        new Change(
+            event.getPersister().getEntityName(),
+            String.valueOf(event.getId()),
+            AuditAction.INSERT,
+            json(changes),
+            entity.getCreatedBy(),
+            entity.getCreatedAt()));
+  }
+
+  @Override
+  public void onPostUpdate(PostUpdateEvent event) {
+    if (!(event.getEntity() instanceof AbstractAuditEntity entity)) {
+      return;
+    }
+    Map<String, Object> changes =
+        diff(event.getPersister(), event.getOldState(), event.getState(), event.getSession());
+    if (changes.isEmpty()) {
+      return;
+    }
+    boolean deleted = changes.containsKey(DELETED_AT) && entity.isDeleted();
+    record(
+        event.getSession(),
+        new Change(
+            event.getPersister().getEntityName(),
+            String.valueOf(event.getId()),
+            deleted ? AuditAction.DELETE : AuditAction.UPDATE,
+            json(changes),
+            deleted ? entity.getDeletedBy() : entity.getUpdatedBy(),
+            deleted ? entity.getDeletedAt() : entity.getUpdatedAt()));
+  }
+
+  @Override
+  public void onPostDelete(PostDeleteEvent event) {
+    if (!(event.getEntity() instanceof AbstractAuditEntity entity)) {
+      return;
+    }
+    Map<String, Object> changes =
+        diff(event.getPersister(), event.getDeletedState(), null, event.getSession());
+    record(
+        event.getSession(),
+        new Change(
+            event.getPersister().getEntityName(),
+            String.valueOf(event.getId()),
+            AuditAction.DELETE,
+            json(changes),
+            entity.isDeleted() ? entity.getDeletedBy() : entity.getUpdatedBy(),
+            LocalDateTime.now()));
+  }
+
+  @Override
+  public boolean requiresPostCommitHandling(EntityPersister persister) {
+    return false;
+  }
+
+  private static Map<String, Object> diff(
+      EntityPersister persister,
+      Object[] before,
+      Object[] after,
+      SharedSessionContractImplementor session) {
+    String[] names = persister.getPropertyNames();
+    Type[] types = persister.getPropertyTypes();
+    Map<String, Object> changes = new LinkedHashMap<>();
+    for (int i = 0; i < names.length; i++) {
+      Type type = types[i];
+      Object oldValue = before == null ? null : before[i];
+      Object newValue = after == null ? null : after[i];
+      if (AUDIT_PROPERTIES.contains(names[i])
+          || type.isCollectionType()
+          || type.isEqual(oldValue, newValue)) {
+        continue;
+      }
+      Map<String, Object> change = new LinkedHashMap<>();
+      change.put("before", value(type, oldValue, session));
+      change.put("after", value(type, newValue, session));
+      changes.put(names[i], change);
+    }
+    return changes;
+  }
+
+  private static Object value(Type type, Object value, SharedSessionContractImplementor session) {
+    if (value == null || !(type instanceof EntityType entityType)) {
+      return value;
+    }
+    return session
+        .getFactory()
+        .getMappingMetamodel()
+        .getEntityDescriptor(entityType.getAssociatedEntityName())
+        .getIdentifier(value, session);
+  }
+
+  private String json(Map<String, Object> changes) {
+    try {
+      return objectMapper.writeValueAsString(changes);
+    } catch (JsonProcessingException e) {
+      throw new HibernateException("변경 내용을 JSON으로 직렬화할 수 없습니다.", e);
+    }
+  }
+
+  private void record(EventSource session, Change change) {
+    PendingChanges changes = pending.computeIfAbsent(session, key -> register(session));
+    changes.add(change);
+    if (changes.size() >= MAX_BUFFERED_CHANGES) {
+      changes.write(session);
+    }
+  }
+
+  private PendingChanges register(EventSource session) {
+    PendingChanges changes = new PendingChanges();
+    session.getActionQueue().registerProcess((BeforeTransactionCompletionProcess) changes);
+    session.getActionQueue().registerProcess((AfterTransactionCompletionProcess) changes);
+    return changes;
+  }
+
+  /** 아웃박스에 기록할 변경 한 건. */
+  private record Change(
+      String entityType,
+      String entityId,
+      AuditAction action,
+      String changes,
+      String changedBy,
+      LocalDateTime changedAt) {}
+
+  /**
+   * 트랜잭션 하나에서 발생한 변경 목록. 커밋 직전에 기록하고, 트랜잭션이 끝나면 버린다. 일괄 저장처럼 변경이 많으면 메모리에 쌓아 두지 않고 일정 건수마다 미리 기록한다.
+   */
+  private final class PendingChanges
+      implements BeforeTransactionCompletionProcess, AfterTransactionCompletionProcess {
+    private final List<Change> changes = new ArrayList<>();
+
+    void add(Change change) {
+      changes.add(change);
+    }
+
+    int size() {
+      return changes.size();
+    }
+
+    @Override
+    public void doBeforeTransactionCompletion(SessionImplementor session) {
+      write(session);
+    }
+
+    void write(SessionImplementor session) {
+      if (changes.isEmpty()) {
+        return;
+      }
+      session.doWork(
+          connection -> {
+            try (PreparedStatement statement =
+                connection.prepareStatement(AuditOutboxEntry.INSERT_SQL)) {
+              for (Change change : changes) {
+                statement.setString(1, change.entityType());
+                statement.setString(2, change.entityId());
+                statement.setString(3, change.action().name());
+                statement.setString(4, change.changes());
+                statement.setString(5, change.changedBy() != null ? change.changedBy() : "SYSTEM");
+                statement.setObject(
+                    6, change.changedAt() != null ? change.changedAt() : LocalDateTime.now());
+                statement.addBatch();
+              }
+              statement.executeBatch();
+            }
+          });
+      changes.clear();
+    }
+
+    @Override
+    public void doAfterTransactionCompletion(
+        boolean success, SharedSessionContractImplementor session) {
+      pending.remove(session);
+    }
+  }
+}
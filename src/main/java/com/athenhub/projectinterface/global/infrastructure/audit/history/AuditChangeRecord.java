@@ -0,0 +1,59 @@
+package com.athenhub.projectinterface.global.infrastructure.audit.history;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.MappedSuperclass;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 엔티티 한 건의 필드 단위 변경 내용.
+ *
+ * <p>{@code changes}는 변경된 속성별 이전 값과 이후 값을 담은 JSON 객체이다.
+ *
+ * <pre>{@code
+ * {"name": {"before": "old", "after": "new"}}
+ * }</pre>
+ *
+ * @author 김형섭
+ * @since 1.0.0
+ */
+@Getter
+@MappedSuperclass
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public abstract class AuditChangeRecord {
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  /* 엔티티 이름 */
+  @Column(name = "entity_type", nullable = false)
+  private String entityType;
+
+  /* 엔티티 식별자 */
+  @Column(name = "entity_id", nullable = false, length = 64)
+  private String entityId;
+
+  /* 변경 종류 */
+  @Enumerated(EnumType.STRING)
+  @Column(name = "action", nullable = false, length = 16)
+  private AuditAction action;
+
+  /* 속성별 변경 내용(JSON) */
+  @Column(name = "changes", nullable = false, columnDefinition = "text")
+  private String changes;
+
+  /* 변경자 계정 */
+  @Column(name = "changed_by", nullable = false)
+  private String changedBy;
+
+  /* 변경 일시 */
+  @Column(name = "changed_at", nullable = false)
+  private LocalDateTime changedAt;
+}
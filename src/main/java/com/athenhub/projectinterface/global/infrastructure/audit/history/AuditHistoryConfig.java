@@ -0,0 +1,120 @@
+package com.athenhub.projectinterface.global.infrastructure.audit.history;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * 엔티티 변경 이력 설정 클래스.
+ *
+ * <p>{@link AuditChangeListener}가 업무 트랜잭션 안에서 변경 내용을 아웃박스에 배치로 기록하고, {@link AuditHistoryRelay}가
+ * {@link AuditHistoryProperties#relayInterval()} 주기로 이를 이력 테이블로 옮긴다. 요청 경로에서는 커밋 직전 INSERT 배치 한 번만
+ * 추가된다. 공통 리포지토리의 벌크 감사 연산과 논리 삭제 행 정리는 {@link AuditBulkChangeListener}가 같은 아웃박스에 기록한다.
+ *
+ * <p>변경마다 아웃박스 행이 추가되고 릴레이가 주기적으로 테이블을 조회하므로, {@code athenhub.audit.history.enabled=true}로
+ * 설정한 경우에만 동작한다.
+ *
+ * @author 김형섭
+ * @since 1.0.0
+ */
+@Configuration
+@EnableConfigurationProperties(AuditHistoryProperties.class)
+@ConditionalOnProperty(
+    prefix = "athenhub.audit.history",
+    name = "enabled",
+    havingValue = "true")
+public class AuditHistoryConfig {
+
+  /**
+   * 변경 내용을 아웃박스에 기록하는 리스너를 등록한다.
+   *
+   * @param entityManagerFactory 엔티티 매니저 팩토리
+   * @param objectMapper JSON 매퍼 (없으면 기본 매퍼를 사용한다)
+   * @return 등록된 리스너
+   */
+  @Bean
+  public AuditChangeListener auditChangeListener(
+      EntityManagerFactory entityManagerFactory, ObjectProvider<ObjectMapper> objectMapper) {
+    AuditChangeListener listener = new AuditChangeListener(objectMapper(objectMapper));
+    EventListenerRegistry registry =
+        entityManagerFactory
+            .unwrap(SessionFactoryImplementor.class)
+            .getServiceRegistry()
+            .requireService(EventListenerRegistry.class);
+    registry.appendListeners(EventType.POST_INSERT, listener);
+    registry.appendListeners(EventType.POST_UPDATE, listener);
+    registry.appendListeners(EventType.POST_DELETE, listener);
+    return listener;
+  }
+
+  /**
+   * 벌크 변경을 아웃박스에 기록하는 리스너를 등록한다.
+   *
+   * @param jdbcTemplate JDBC 템플릿
+   * @param objectMapper JSON 매퍼 (없으면 기본 매퍼를 사용한다)
+   * @return 벌크 변경 리스너
+   */
+  @Bean
+  public AuditBulkChangeListener auditBulkChangeListener(
+      JdbcTemplate jdbcTemplate, ObjectProvider<ObjectMapper> objectMapper) {
+    return new AuditBulkChangeListener(jdbcTemplate, objectMapper(objectMapper));
+  }
+
+  /**
+   * 아웃박스를 이력 테이블로 옮기는 릴레이를 등록한다.
+   *
+   * @param jdbcTemplate JDBC 템플릿
+   * @param transactionManager 트랜잭션 매니저
+   * @param properties 변경 이력 설정
+   * @param meterRegistry 메트릭 레지스트리
+   * @return 릴레이
+   */
+  @Bean
+  public AuditHistoryRelay auditHistoryRelay(
+      JdbcTemplate jdbcTemplate,
+      PlatformTransactionManager transactionManager,
+      AuditHistoryProperties properties,
+      ObjectProvider<MeterRegistry> meterRegistry) {
+    return new AuditHistoryRelay(
+        jdbcTemplate,
+        transactionManager,
+        properties,
+        meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
+  }
+
+  /**
+   * 릴레이를 주기적으로 실행하도록 등록한다.
+   *
+   * @param relay 릴레이
+   * @param properties 변경 이력 설정
+   * @return 스케줄링 설정
+   */
+  @Bean
+  public SchedulingConfigurer auditHistoryRelayScheduling(
+      AuditHistoryRelay relay, AuditHistoryProperties properties) {
+    return registrar -> registrar.addFixedDelayTask(relay::relay, properties.relayInterval());
+  }
+
+  private static ObjectMapper objectMapper(ObjectProvider<ObjectMapper> objectMapper) {
+    return objectMapper.getIfAvailable(
+        () ->
+            JsonMapper.builder()
+                .findAndAddModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build());
+  }
+}
@@ -0,0 +1,32 @@
+package com.athenhub.projectinterface.global.infrastructure.audit.history;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+/**
+ * 추가만 가능한 엔티티 변경 이력.
+ *
+ * @author 김형섭
+ * @since 1.0.0
+ */
+@Getter
+@Entity
+@Immutable
+@Table(
+    name = AuditHistoryEntry.TABLE,
+    indexes = @Index(name = "idx_audit_history_entity", columnList = "entity_type, entity_id"))
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class AuditHistoryEntry extends AuditChangeRecord {
+  static final String TABLE = "audit_history";
+
+  /* 이력 테이블 기록 일시 */
+  @Column(name = "recorded_at", nullable = false)
+  private LocalDateTime recordedAt;
+}
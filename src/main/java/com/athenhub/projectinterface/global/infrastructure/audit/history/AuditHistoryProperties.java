@@ -0,0 +1,29 @@
+package com.athenhub.projectinterface.global.infrastructure.audit.history;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 엔티티 변경 이력 설정.
+ *
+ * <pre>
+ * athenhub:
+ *   audit:
+ *     history:
+ *       enabled: true
+ *       batch-size: 500
+ *       relay-interval: 1s
+ * </pre>
+ *
+ * @param enabled 변경 이력 기록 여부. 기본값은 false이다.
+ * @param batchSize 아웃박스에서 이력 테이블로 한 번에 옮길 최대 행 수
+ * @param relayInterval 아웃박스를 확인하는 주기. 직전 실행이 끝난 시점부터 계산한다.
+ * @author 김형섭
+ * @since 1.0.0
+ */
+@ConfigurationProperties(prefix = "athenhub.audit.history")
+public record AuditHistoryProperties(
+    @DefaultValue("false") boolean enabled,
+    @DefaultValue("500") int batchSize,
+    @DefaultValue("1s") Duration relayInterval) {}
@@ -0,0 +1,147 @@
+package com.athenhub.projectinterface.global.infrastructure.audit.history;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 아웃박스의 변경 내용을 이력 테이블로 옮기는 릴레이.
+ *
+ * <p>{@code audit_outbox}에서 오래된 순으로 최대 {@link AuditHistoryProperties#batchSize()}건을 {@code FOR
+ * UPDATE SKIP LOCKED}로 잠가 읽고, {@code audit_history}에 배치로 추가한 뒤 아웃박스에서 삭제한다. 세 작업은 한 트랜잭션으로 수행되므로
+ * 이력이 중복되거나 유실되지 않으며, 여러 인스턴스가 동시에 실행해도 같은 행을 옮기지 않는다. 한 번 실행하면 아웃박스가 빌 때까지 반복한다.
+ *
+ * <p>다음 메트릭을 노출한다.
+ *
+ * <ul>
+ *   <li>{@code athenhub.audit.history.batch.size}: 한 번에 옮긴 행 수
+ *   <li>{@code athenhub.audit.history.lag}: 변경 일시부터 이력 테이블에 기록될 때까지 걸린 시간
+ * </ul>
+ *
+ * @author 김형섭
+ * @since 1.0.0
+ */
+@Slf4j
+public class AuditHistoryRelay {
+  private static final String SELECT_SQL =
+      "SELECT id, entity_type, entity_id, action, changes, changed_by, changed_at FROM "
+          + AuditOutboxEntry.TABLE
+          + " ORDER BY id FETCH FIRST ? ROWS ONLY FOR UPDATE SKIP LOCKED";
+  private static final String INSERT_SQL =
+      "INSERT INTO "
+          + AuditHistoryEntry.TABLE
+          + " (entity_type, entity_id, action, changes, changed_by, changed_at, recorded_at)"
+          + " VALUES (?, ?, ?, ?, ?, ?, ?)";
+  private static final String DELETE_SQL =
+      "DELETE FROM " + AuditOutboxEntry.TABLE + " WHERE id = ?";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final TransactionTemplate transactionTemplate;
+  private final int batchSize;
+  private final DistributionSummary batchSizes;
+  private final Timer lag;
+
+  /**
+   * 릴레이를 생성한다.
+   *
+   * @param jdbcTemplate JDBC 템플릿
+   * @param transactionManager 트랜잭션 매니저
+   * @param properties 변경 이력 설정
+   * @param meterRegistry 메트릭 레지스트리
+   */
+  public AuditHistoryRelay(
+      JdbcTemplate jdbcTemplate,
+      PlatformTransactionManager transactionManager,
+      AuditHistoryProperties properties,
+      MeterRegistry meterRegistry) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.batchSize = properties.batchSize();
+    this.batchSizes =
+        DistributionSummary.builder("athenhub.audit.history.batch.size")
+            .description("아웃박스에서 이력 테이블로 한 번에 옮긴 행 수")
+            .register(meterRegistry);
+    this.lag =
+        Timer.builder("athenhub.audit.history.lag")
+            .description("엔티티 변경부터 이력 테이블 기록까지 걸린 시간")
+            .register(meterRegistry);
+  }
+
+  /**
+   * 아웃박스가 빌 때까지 변경 내용을 이력 테이블로 옮긴다.
+   *
+   * @return 옮긴 행 수
+   */
+  public int relay() {
+    int total = 0;
+    int relayed;
+    do {
+      relayed = transactionTemplate.execute(status -> relayBatch());
+      total += relayed;
+    } while (relayed == batchSize);
+    if (total > 0) {
+      log.debug("변경 이력 {}건을 기록했습니다.", total);
+    }
+    return total;
+  }
+
+  private int relayBatch() {
+    List<OutboxRow> rows =
+        jdbcTemplate.query(
+            SELECT_SQL,
+            (rs, rowNum) ->
+                new OutboxRow(
+                    rs.getLong("id"),
+                    rs.getString("entity_type"),
+                    rs.getString("entity_id"),
+                    rs.getString("action"),
+                    rs.getString("changes"),
+                    rs.getString("changed_by"),
+                    rs.getTimestamp("changed_at")),
+            batchSize);
+    if (rows.isEmpty()) {
+      return 0;
+    }
+
+    LocalDateTime recordedAt = LocalDateTime.now();
+    Timestamp recordedAtTimestamp = Timestamp.valueOf(recordedAt);
+    jdbcTemplate.batchUpdate(
+        INSERT_SQL,
+        rows,
+        rows.size(),
+        (ps, row) -> {
+          ps.setString(1, row.entityType());
+          ps.setString(2, row.entityId());
+          ps.setString(3, row.action());
+          ps.setString(4, row.changes());
+          ps.setString(5, row.changedBy());
+          ps.setTimestamp(6, row.changedAt());
+          ps.setTimestamp(7, recordedAtTimestamp);
+        });
+    jdbcTemplate.batchUpdate(DELETE_SQL, rows, rows.size(), (ps, row) -> ps.setLong(1, row.id()));
+
+    batchSizes.record(rows.size());
+    for (OutboxRow row : rows) {
+      lag.record(Duration.between(row.changedAt().toLocalDateTime(), recordedAt));
+    }
+    return rows.size();
+  }
+
+  /** 아웃박스 행 하나. */
+  private record OutboxRow(
+      long id,
+      String entityType,
+      String entityId,
+      String action,
+      String changes,
+      String changedBy,
+      Timestamp changedAt) {}
+}
@@ -0,0 +1,27 @@
+package com.athenhub.projectinterface.global.infrastructure.audit.history;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * 아직 이력 테이블로 옮겨지지 않은 변경 내용.
+ *
+ * <p>업무 트랜잭션 안에서 {@link AuditChangeListener}가 기록하고, {@link AuditHistoryRelay}가 읽어 {@link
+ * AuditHistoryEntry}로 옮긴 뒤 삭제한다. 벌크 변경은 {@link AuditBulkChangeListener}가 기록한다.
+ *
+ * @author 김형섭
+ * @since 1.0.0
+ */
+@Entity
+@Table(name = AuditOutboxEntry.TABLE)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class AuditOutboxEntry extends AuditChangeRecord {
+  static final String TABLE = "audit_outbox";
+  static final String INSERT_SQL =
+      "INSERT INTO "
+          + TABLE
+          + " (entity_type, entity_id, action, changes, changed_by, changed_at)"
+          + " VALUES (?, ?, ?, ?, ?, ?)";
+}
@@ -0,0 +1,100 @@
+package com.athenhub.projectinterface.global.infrastructure.concurrency;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceUnwrapper;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.core.task.support.ContextPropagatingTaskDecorator;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+/**
+ * 비동기 실행과 가상 스레드 실행 모드 설정 클래스.
+ *
+ * <p>{@link ContextPropagatingTaskDecorator}를 등록하여 {@code @Async} 및 자동 구성된 {@code
+ * applicationTaskExecutor}로 작업이 넘어가더라도 호출 스레드의 {@code SecurityContext}와 트레이싱 컨텍스트가 함께 전파되도록 한다. 따라서
+ * 다른 실행기에서 엔티티를 저장하더라도 감사자가 {@code "SYSTEM"}으로 기록되지 않는다.
+ *
+ * <p>{@code spring.threads.virtual.enabled=true}일 때는 데이터소스를 {@link ConnectionLimitingDataSource}로
+ * 감싸 가상 스레드가 커넥션 풀을 고갈시키지 않도록 한다. 가상 스레드 고정(pinning) 메트릭은 {@code micrometer-java21}의 {@code
+ * VirtualThreadMetrics}가 {@code jvm.threads.virtual.pinned} 이름으로 제공한다.
+ *
+ * @author 김형섭
+ * @since 1.0.0
+ */
+@EnableAsync
+@Configuration
+@EnableConfigurationProperties(ConcurrencyProperties.class)
+public class AsyncConfig {
+
+  /**
+   * 실행기 간 컨텍스트 전파용 {@link TaskDecorator}를 등록한다.
+   *
+   * @return 컨텍스트 전파 데코레이터
+   */
+  @Bean
+  public TaskDecorator contextPropagatingTaskDecorator() {
+    return new ContextPropagatingTaskDecorator();
+  }
+
+  /**
+   * 가상 스레드 모드에서 데이터소스 커넥션 동시 사용을 제한하는 후처리기를 등록한다.
+   *
+   * @param properties 동시성 설정
+   * @return 데이터소스 후처리기
+   */
+  @Bean
+  @ConditionalOnThreading(Threading.VIRTUAL)
+  public static ConnectionLimitingDataSourcePostProcessor connectionLimitingDataSourcePostProcessor(
+      ObjectProvider<ConcurrencyProperties> properties) {
+    return new ConnectionLimitingDataSourcePostProcessor(properties);
+  }
+
+  /**
+   * 커넥션 제한 데이터소스의 점유·대기 작업 수를 메트릭으로 등록한다.
+   *
+   * @param dataSources 컨텍스트의 데이터소스 빈
+   * @return 메트릭 바인더
+   */
+  @Bean
+  @ConditionalOnThreading(Threading.VIRTUAL)
+  public MeterBinder connectionLimitingDataSourceMetrics(Map<String, DataSource> dataSources) {
+    return registry ->
+        dataSources.forEach(
+            (name, dataSource) -> {
+              ConnectionLimitingDataSource limited =
+                  DataSourceUnwrapper.unwrap(dataSource, ConnectionLimitingDataSource.class);
+              if (limited == null) {
+                return;
+              }
+              Gauge.builder(
+                      "athenhub.datasource.limiter.active",
+                      limited,
+                      ConnectionLimitingDataSource::getActiveConnections)
+                  .description("커넥션을 점유 중인 작업 수")
+                  .tag("name", name)
+                  .register(registry);
+              Gauge.builder(
+                      "athenhub.datasource.limiter.pending",
+                      limited,
+                      ConnectionLimitingDataSource::getPendingConnections)
+                  .description("커넥션 사용 허가를 기다리는 작업 수")
+                  .tag("name", name)
+                  .register(registry);
+              Gauge.builder(
+                      "athenhub.datasource.limiter.max",
+                      limited,
+                      ConnectionLimitingDataSource::getMaxConnections)
+                  .description("동시에 점유할 수 있는 최대 커넥션 수")
+                  .tag("name", name)
+                  .register(registry);
+            });
+  }
+}
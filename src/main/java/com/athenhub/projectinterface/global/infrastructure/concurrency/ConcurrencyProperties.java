@@ -0,0 +1,24 @@
+package com.athenhub.projectinterface.global.infrastructure.concurrency;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 가상 스레드 실행 모드의 동시성 제어 설정.
+ *
+ * <pre>
+ * athenhub:
+ *   concurrency:
+ *     max-db-connections: 0
+ *     db-acquire-timeout: 30s
+ * </pre>
+ *
+ * @param maxDbConnections 동시에 커넥션을 점유할 수 있는 최대 작업 수. {@code 0}이면 커넥션 풀의 최대 크기를 사용한다.
+ * @param dbAcquireTimeout 커넥션 사용 허가를 기다리는 최대 시간
+ * @author 김형섭
+ * @since 1.0.0
+ */
+@ConfigurationProperties(prefix = "athenhub.concurrency")
+public record ConcurrencyProperties(
+    @DefaultValue("0") int maxDbConnections, @DefaultValue("30s") Duration dbAcquireTimeout) {}
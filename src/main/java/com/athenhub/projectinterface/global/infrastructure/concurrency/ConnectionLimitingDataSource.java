@@ -0,0 +1,169 @@
+package com.athenhub.projectinterface.global.infrastructure.concurrency;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * 동시에 커넥션을 점유할 수 있는 작업 수를 제한하는 {@link DataSource} 래퍼.
+ *
+ * <p>가상 스레드는 요청마다 생성되므로 플랫폼 스레드 풀이 하던 동시성 상한 역할을 하지 못한다. 수천 개의 가상 스레드가 동시에 커넥션 풀에 접근하면 대기 작업이 한꺼번에
+ * 커넥션 타임아웃에 도달해 풀 전체가 고갈된 것처럼 동작하므로, 커넥션을 요청하기 전에 공정(fair) 세마포어로 허가를 얻도록 하여 대기열을 이 계층에서 흡수한다.
+ *
+ * <p>허가는 {@link Connection#close()} 호출 시 한 번만 반환된다. 빈으로 등록된 원본 데이터소스를 대신하므로, 컨텍스트가 종료될 때 {@link
+ * #close()}로 원본 데이터소스(Hikari 커넥션 풀 등)를 함께 닫는다.
+ *
+ * @author 김형섭
+ * @since 1.0.0
+ */
+public class ConnectionLimitingDataSource extends DelegatingDataSource implements AutoCloseable {
+
+  private final Semaphore permits;
+  private final int maxConnections;
+  private final Duration acquireTimeout;
+
+  /**
+   * 커넥션 제한 데이터소스를 생성한다.
+   *
+   * @param targetDataSource 실제 커넥션을 제공할 데이터소스
+   * @param maxConnections 동시에 점유할 수 있는 최대 커넥션 수
+   * @param acquireTimeout 허가를 기다리는 최대 시간
+   */
+  public ConnectionLimitingDataSource(
+      DataSource targetDataSource, int maxConnections, Duration acquireTimeout) {
+    super(targetDataSource);
+    if (maxConnections < 1) {
+      throw new IllegalArgumentException("maxConnections는 1 이상이어야 합니다: " + maxConnections);
+    }
+    this.permits = new Semaphore(maxConnections, true);
+    this.maxConnections = maxConnections;
+    this.acquireTimeout = acquireTimeout;
+  }
+
+  @Override
+  public Connection getConnection() throws SQLException {
+    acquire();
+    try {
+      return limited(obtainTargetDataSource().getConnection());
+    } catch (SQLException | RuntimeException e) {
+      permits.release();
+      throw e;
+    }
+  }
+
+  @Override
+  public Connection getConnection(String username, String password) throws SQLException {
+    acquire();
+    try {
+      return limited(obtainTargetDataSource().getConnection(username, password));
+    } catch (SQLException | RuntimeException e) {
+      permits.release();
+      throw e;
+    }
+  }
+
+  /**
+   * 원본 데이터소스가 {@link AutoCloseable}이면 닫는다.
+   *
+   * @throws Exception 원본 데이터소스를 닫지 못한 경우
+   */
+  @Override
+  public void close() throws Exception {
+    if (getTargetDataSource() instanceof AutoCloseable closeable) {
+      closeable.close();
+    }
+  }
+
+  /**
+   * 동시에 점유할 수 있는 최대 커넥션 수를 반환한다.
+   *
+   * @return 최대 커넥션 수
+   */
+  public int getMaxConnections() {
+    return maxConnections;
+  }
+
+  /**
+   * 현재 커넥션을 점유 중인 작업 수를 반환한다.
+   *
+   * @return 점유 중인 작업 수
+   */
+  public int getActiveConnections() {
+    return maxConnections - permits.availablePermits();
+  }
+
+  /**
+   * 허가를 기다리고 있는 작업 수의 추정치를 반환한다.
+   *
+   * @return 대기 중인 작업 수
+   */
+  public int getPendingConnections() {
+    return permits.getQueueLength();
+  }
+
+  private void acquire() throws SQLException {
+    try {
+      if (!permits.tryAcquire(acquireTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+        throw new SQLTransientConnectionException(
+            "커넥션 사용 허가를 " + acquireTimeout.toMillis() + "ms 안에 얻지 못했습니다.");
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new SQLTransientConnectionException("커넥션 사용 허가를 기다리는 중 인터럽트되었습니다.", e);
+    }
+  }
+
+  private Connection limited(Connection connection) {
+    return (Connection)
+        Proxy.newProxyInstance(
+            ConnectionLimitingDataSource.class.getClassLoader(),
+            new Class<?>[] {Connection.class},
+            new PermitReleasingHandler(connection));
+  }
+
+  /** {@link Connection#close()} 시점에 허가를 반환하는 프록시 핸들러. */
+  private final class PermitReleasingHandler implements InvocationHandler {
+
+    private final Connection target;
+    private final AtomicBoolean released = new AtomicBoolean();
+
+    private PermitReleasingHandler(Connection target) {
+      this.target = target;
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+      switch (method.getName()) {
+        case "equals":
+          return proxy == args[0];
+        case "hashCode":
+          return System.identityHashCode(proxy);
+        case "close":
+          try {
+            target.close();
+          } finally {
+            if (released.compareAndSet(false, true)) {
+              permits.release();
+            }
+          }
+          return null;
+        default:
+          try {
+            return method.invoke(target, args);
+          } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+          }
+      }
+    }
+  }
+}
@@ -0,0 +1,64 @@
+package com.athenhub.projectinterface.global.infrastructure.concurrency;
+
+import com.zaxxer.hikari.HikariConfigMXBean;
+import com.zaxxer.hikari.HikariDataSource;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.jdbc.DataSourceUnwrapper;
+import org.springframework.core.Ordered;
+
+/**
+ * 컨텍스트의 {@link DataSource} 빈을 {@link ConnectionLimitingDataSource}로 감싸는 후처리기.
+ *
+ * <p>허가 수는 {@link ConcurrencyProperties#maxDbConnections()}를 따르며, 지정하지 않으면 Hikari 커넥션 풀의 최대 크기를
+ * 사용한다. 다른 후처리기(메트릭, 초기화 등)가 원본 데이터소스를 먼저 처리하도록 뒤쪽 순서로 동작하되, 읽기/쓰기 라우팅 후처리기보다는 먼저 동작하여 라우팅 데이터소스
+ * 안쪽에 위치한다.
+ *
+ * @author 김형섭
+ * @since 1.0.0
+ */
+@Slf4j
+public class ConnectionLimitingDataSourcePostProcessor implements BeanPostProcessor, Ordered {
+  static final int DEFAULT_MAX_CONNECTIONS = 10;
+
+  private final ObjectProvider<ConcurrencyProperties> properties;
+
+  /**
+   * 후처리기를 생성한다.
+   *
+   * @param properties 동시성 설정 (후처리기 초기화 시점에는 조회하지 않는다)
+   */
+  public ConnectionLimitingDataSourcePostProcessor(
+      ObjectProvider<ConcurrencyProperties> properties) {
+    this.properties = properties;
+  }
+
+  @Override
+  public Object postProcessAfterInitialization(Object bean, String beanName) {
+    if (!(bean instanceof DataSource dataSource) || bean instanceof ConnectionLimitingDataSource) {
+      return bean;
+    }
+
+    ConcurrencyProperties concurrency = properties.getObject();
+    int maxConnections = maxConnections(dataSource, concurrency);
+    log.info("데이터소스 '{}'의 동시 커넥션 사용을 {}개로 제한합니다.", beanName, maxConnections);
+    return new ConnectionLimitingDataSource(
+        dataSource, maxConnections, concurrency.dbAcquireTimeout());
+  }
+
+  @Override
+  public int getOrder() {
+    return Ordered.LOWEST_PRECEDENCE - 1;
+  }
+
+  private static int maxConnections(DataSource dataSource, ConcurrencyProperties concurrency) {
+    if (concurrency.maxDbConnections() > 0) {
+      return concurrency.maxDbConnections();
+    }
+    HikariConfigMXBean hikari =
+        DataSourceUnwrapper.unwrap(dataSource, HikariConfigMXBean.class, HikariDataSource.class);
+    return hikari != null ? hikari.getMaximumPoolSize() : DEFAULT_MAX_CONNECTIONS;
+  }
+}
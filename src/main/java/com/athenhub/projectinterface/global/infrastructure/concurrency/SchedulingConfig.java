@@ -0,0 +1,17 @@
+package com.athenhub.projectinterface.global.infrastructure.concurrency;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 주기 작업 실행 설정 클래스.
+ *
+ * <p>{@code @Scheduled}와 {@code SchedulingConfigurer}로 등록한 작업은 자동 구성된 {@code taskScheduler}에서 실행되며,
+ * {@code spring.threads.virtual.enabled=true}이면 가상 스레드를 사용한다.
+ *
+ * @author 김형섭
+ * @since 1.0.0
+ */
+@EnableScheduling
+@Configuration
+public class SchedulingConfig {}
@@ -0,0 +1,30 @@
+package com.athenhub.projectinterface.global.infrastructure.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Config Server 설정 스냅샷 설정 클래스.
+ *
+ * <p>기동 시점의 스냅샷 적용은 {@link ConfigSnapshotEnvironmentPostProcessor}가, 기동 이후의 기록과 최신화는 {@link
+ * ConfigSnapshotRefresher}가 담당한다.
+ *
+ * @author 김형섭
+ * @since 1.0.0
+ */
+@Configuration
+@EnableConfigurationProperties(ConfigSnapshotProperties.class)
+public class ConfigSnapshotConfig {
+
+  /**
+   * 설정 스냅샷 저장소를 등록한다.
+   *
+   * @param properties 스냅샷 설정
+   * @return 스냅샷 저장소
+   */
+  @Bean
+  public ConfigSnapshotStore configSnapshotStore(ConfigSnapshotProperties properties) {
+    return new ConfigSnapshotStore(properties.location(), properties.sensitiveKeySuffixes());
+  }
+}
@@ -0,0 +1,103 @@
+package com.athenhub.projectinterface.global.infrastructure.config;
+
+import java.util.Map;
+import org.apache.commons.logging.Log;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.config.ConfigDataEnvironmentPostProcessor;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.env.EnvironmentPostProcessor;
+import org.springframework.boot.logging.DeferredLogFactory;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.MapPropertySource;
+
+/**
+ * 마지막으로 성공한 Config Server 설정 스냅샷으로 기동하도록 환경을 구성하는 후처리기.
+ *
+ * <p>{@code optional:configserver:} import는 Eureka와 Config Server 응답을 기다린 뒤에야 기동을 이어가므로, 두 서버 중
+ * 하나라도 느리면 인스턴스 준비가 수십 초씩 지연된다. 이 후처리기는 Config Data 처리보다 먼저 실행되어 스냅샷 파일이 있으면 다음과 같이 환경을 구성한다.
+ *
+ * <ul>
+ *   <li>스냅샷 프로퍼티를 {@value #PROPERTY_SOURCE_NAME} 프로퍼티 소스로 추가한다. Config Data 처리 후에는 Config Server
+ *       프로퍼티와 마찬가지로 {@code application.yml}보다 높고 환경 변수보다 낮은 우선순위를 갖는다.
+ *   <li>{@code spring.cloud.config.enabled=false}를 {@value #OVERRIDES_PROPERTY_SOURCE_NAME} 프로퍼티
+ *       소스로 지정하여 기동 시 Config Server 조회를 건너뛴다. 이 프로퍼티 소스는 기동 단계에만 사용하며, {@link
+ *       ConfigSnapshotRefresher}가 애플리케이션 준비 완료 시 제거하므로 이후의 {@code /actuator/refresh}는 다시 Config
+ *       Server를 조회한다.
+ * </ul>
+ *
+ * <p>기동 이후의 최신화는 {@link ConfigSnapshotRefresher}가 백그라운드에서 수행한다. 스냅샷이 꺼져 있거나({@code
+ * athenhub.config.snapshot.enabled}의 기본값은 {@code false}) 스냅샷이 없거나 Config Server가 명시적으로 비활성화된 경우에는
+ * 아무것도 하지 않는다.
+ *
+ * @author 김형섭
+ * @since 1.0.0
+ */
+public class ConfigSnapshotEnvironmentPostProcessor implements EnvironmentPostProcessor, Ordered {
+  /** 스냅샷 프로퍼티 소스 이름. */
+  public static final String PROPERTY_SOURCE_NAME = "configSnapshot";
+
+  /** 스냅샷으로 기동할 때 Config Server 조회를 끄는 프로퍼티 소스 이름. */
+  public static final String OVERRIDES_PROPERTY_SOURCE_NAME = "configSnapshotOverrides";
+
+  static final String CONFIG_ENABLED = "spring.cloud.config.enabled";
+  static final String PREFIX = "athenhub.config.snapshot";
+
+  private final Log log;
+
+  /**
+   * 후처리기를 생성한다.
+   *
+   * @param logFactory 로깅 시스템 초기화 전에 사용할 지연 로그 팩토리
+   */
+  public ConfigSnapshotEnvironmentPostProcessor(DeferredLogFactory logFactory) {
+    this.log = logFactory.getLog(ConfigSnapshotEnvironmentPostProcessor.class);
+  }
+
+  @Override
+  public void postProcessEnvironment(
+      ConfigurableEnvironment environment, SpringApplication application) {
+    ConfigSnapshotProperties properties = bind(environment);
+    if (!properties.enabled()
+        || !environment.getProperty(CONFIG_ENABLED, Boolean.class, true)
+        || environment.getPropertySources().contains(PROPERTY_SOURCE_NAME)) {
+      return;
+    }
+
+    ConfigSnapshotStore store = new ConfigSnapshotStore(properties.location());
+    Map<String, Object> snapshot;
+    try {
+      snapshot = store.load().orElse(null);
+    } catch (RuntimeException e) {
+      log.warn("설정 스냅샷을 읽지 못해 Config Server에서 설정을 조회합니다: " + e.getMessage());
+      return;
+    }
+    if (snapshot == null) {
+      return;
+    }
+
+    environment.getPropertySources().addLast(new MapPropertySource(PROPERTY_SOURCE_NAME, snapshot));
+    environment
+        .getPropertySources()
+        .addFirst(
+            new MapPropertySource(OVERRIDES_PROPERTY_SOURCE_NAME, Map.of(CONFIG_ENABLED, false)));
+    log.info("설정 스냅샷으로 기동합니다: " + store.getLocation().toAbsolutePath());
+  }
+
+  @Override
+  public int getOrder() {
+    return ConfigDataEnvironmentPostProcessor.ORDER - 1;
+  }
+
+  /**
+   * 환경에서 스냅샷 설정을 바인딩한다.
+   *
+   * @param environment 바인딩할 환경
+   * @return 스냅샷 설정
+   */
+  static ConfigSnapshotProperties bind(ConfigurableEnvironment environment) {
+    return Binder.get(environment)
+        .bindOrCreate(PREFIX, Bindable.of(ConfigSnapshotProperties.class));
+  }
+}
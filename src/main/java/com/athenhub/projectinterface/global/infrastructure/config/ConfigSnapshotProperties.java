@@ -0,0 +1,41 @@
+package com.athenhub.projectinterface.global.infrastructure.config;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Config Server 설정 스냅샷 설정.
+ *
+ * <p>스냅샷 사용 여부와 위치는 {@code application.yml}을 읽기 전에 결정되므로 환경 변수, 시스템 프로퍼티 또는 커맨드라인 인자로 지정해야 한다.
+ *
+ * <p>스냅샷은 기본적으로 꺼져 있다. 켜면 Config Server가 내려준 프로퍼티가 작업 디렉터리 기준 {@code
+ * .config-snapshot/config.json}(또는 {@code location})에 소유자만 읽을 수 있는 평문 JSON으로 기록된다. 키 이름이 {@code
+ * sensitiveKeySuffixes} 중 하나로 끝나거나 값이 {@code {cipher}}로 시작하는 프로퍼티는 기록하지 않으므로, 스냅샷으로 기동할 때 필요한
+ * 비밀 값은 환경 변수나 시크릿 저장소로 주입해야 한다.
+ *
+ * <pre>
+ * ATHENHUB_CONFIG_SNAPSHOT_ENABLED=true
+ * ATHENHUB_CONFIG_SNAPSHOT_LOCATION=.config-snapshot/config.json
+ * ATHENHUB_CONFIG_SNAPSHOT_REFRESH_MAX_ATTEMPTS=5
+ * ATHENHUB_CONFIG_SNAPSHOT_REFRESH_BACKOFF=2s
+ * </pre>
+ *
+ * @param enabled 스냅샷 사용 여부
+ * @param location 스냅샷 파일 경로
+ * @param refreshMaxAttempts 백그라운드 갱신 최대 시도 횟수
+ * @param refreshBackoff 백그라운드 갱신 재시도 초기 대기 시간 (시도마다 두 배씩 증가)
+ * @param sensitiveKeySuffixes 스냅샷에 기록하지 않을 키 이름 접미사 (대소문자 무시)
+ * @author 김형섭
+ * @since 1.0.0
+ */
+@ConfigurationProperties(prefix = "athenhub.config.snapshot")
+public record ConfigSnapshotProperties(
+    @DefaultValue("false") boolean enabled,
+    @DefaultValue(".config-snapshot/config.json") Path location,
+    @DefaultValue("5") int refreshMaxAttempts,
+    @DefaultValue("2s") Duration refreshBackoff,
+    @DefaultValue({"password", "secret", "key", "token", "credentials"})
+        List<String> sensitiveKeySuffixes) {}
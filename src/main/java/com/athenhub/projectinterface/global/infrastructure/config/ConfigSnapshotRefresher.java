@@ -0,0 +1,249 @@
+package com.athenhub.projectinterface.global.infrastructure.config;
+
+import static com.athenhub.projectinterface.global.infrastructure.config.ConfigSnapshotEnvironmentPostProcessor.OVERRIDES_PROPERTY_SOURCE_NAME;
+import static com.athenhub.projectinterface.global.infrastructure.config.ConfigSnapshotEnvironmentPostProcessor.PROPERTY_SOURCE_NAME;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.discovery.DiscoveryClient;
+import org.springframework.cloud.config.client.ConfigClientProperties;
+import org.springframework.cloud.config.environment.Environment;
+import org.springframework.cloud.context.environment.EnvironmentChangeEvent;
+import org.springframework.cloud.context.scope.refresh.RefreshScope;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.EnumerablePropertySource;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.MutablePropertySources;
+import org.springframework.core.env.PropertySource;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.client.RestClient;
+
+/**
+ * 설정 스냅샷을 기록하고, 스냅샷으로 기동한 경우 Config Server 설정으로 최신화하는 컴포넌트.
+ *
+ * <p>애플리케이션이 준비되면 먼저 기동 단계에서 Config Server 조회를 끄던 {@value
+ * ConfigSnapshotEnvironmentPostProcessor#OVERRIDES_PROPERTY_SOURCE_NAME} 프로퍼티 소스를 제거하여, 이후의 {@code
+ * /actuator/refresh}나 버스 갱신이 Config Server를 조회하도록 한다. 그 다음 백그라운드에서 다음 중 하나를 수행한다.
+ *
+ * <ul>
+ *   <li>Config Server에서 설정을 받아 기동한 경우: {@code configserver:} 프로퍼티 소스를 우선순위대로 평탄화하여 스냅샷으로 기록한다.
+ *   <li>스냅샷으로 기동한 경우: Config Server의 {@code /{application}/{profile}[/{label}]} 엔드포인트를 조회하여 스냅샷
+ *       프로퍼티 소스를 교체하고, 변경된 키로 {@link EnvironmentChangeEvent}를 발행한 뒤 {@link RefreshScope} 빈을 갱신한다.
+ *       조회에 실패하면 지수 백오프로 재시도하며, 끝내 실패해도 스냅샷 설정으로 계속 동작한다.
+ * </ul>
+ *
+ * <p>Config Server 주소는 {@code spring.cloud.config.*} 설정을 그대로 따르며, {@code
+ * spring.cloud.config.discovery.enabled=true}이면 {@link DiscoveryClient}로 조회한 인스턴스를 사용한다.
+ *
+ * @author 김형섭
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ConfigSnapshotRefresher {
+  static final String CONFIG_SERVER_PREFIX = "configserver:";
+
+  private final ConfigurableApplicationContext applicationContext;
+  private final ConfigSnapshotStore store;
+  private final ConfigSnapshotProperties properties;
+  private final RestClient.Builder restClientBuilder;
+  private final ObjectProvider<DiscoveryClient> discoveryClient;
+  private final ObjectProvider<RefreshScope> refreshScope;
+
+  /** 애플리케이션 준비 완료 후 스냅샷을 기록하거나 최신화한다. */
+  @Async
+  @EventListener(ApplicationReadyEvent.class)
+  public void onApplicationReady() {
+    if (environment().getPropertySources().remove(OVERRIDES_PROPERTY_SOURCE_NAME) != null) {
+      log.debug("기동 단계가 끝나 Config Server 조회 비활성화 설정을 제거했습니다.");
+    }
+    if (!properties.enabled()) {
+      return;
+    }
+    if (environment().getPropertySources().contains(PROPERTY_SOURCE_NAME)) {
+      refreshWithRetry();
+    } else {
+      saveConfigServerProperties();
+    }
+  }
+
+  /**
+   * Config Server에서 설정을 조회하여 스냅샷 프로퍼티 소스와 스냅샷 파일을 갱신한다.
+   *
+   * @return 값이 바뀐 프로퍼티 키
+   */
+  public Set<String> refresh() {
+    Map<String, Object> fresh = fetch();
+    MutablePropertySources sources = environment().getPropertySources();
+    PropertySource<?> current = sources.get(PROPERTY_SOURCE_NAME);
+    Map<String, Object> previous =
+        current instanceof MapPropertySource mapSource ? mapSource.getSource() : Map.of();
+
+    Set<String> changed = changedKeys(previous, fresh);
+    if (!changed.isEmpty()) {
+      MapPropertySource replacement = new MapPropertySource(PROPERTY_SOURCE_NAME, fresh);
+      if (current != null) {
+        sources.replace(PROPERTY_SOURCE_NAME, replacement);
+      } else {
+        sources.addLast(replacement);
+      }
+      applicationContext.publishEvent(new EnvironmentChangeEvent(applicationContext, changed));
+      refreshScope.ifAvailable(RefreshScope::refreshAll);
+      log.info("Config Server 설정으로 {}개 프로퍼티를 갱신했습니다: {}", changed.size(), changed);
+    }
+
+    store.save(fresh);
+    return changed;
+  }
+
+  private void refreshWithRetry() {
+    Duration backoff = properties.refreshBackoff();
+    for (int attempt = 1; attempt <= properties.refreshMaxAttempts(); attempt++) {
+      try {
+        refresh();
+        return;
+      } catch (RuntimeException e) {
+        log.warn(
+            "Config Server 설정 조회에 실패했습니다. ({}/{}): {}",
+            attempt,
+            properties.refreshMaxAttempts(),
+            e.getMessage());
+      }
+      if (attempt < properties.refreshMaxAttempts()) {
+        try {
+          Thread.sleep(backoff);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          return;
+        }
+        backoff = backoff.multipliedBy(2);
+      }
+    }
+    log.warn("Config Server 설정을 조회하지 못해 스냅샷 설정으로 계속 동작합니다.");
+  }
+
+  private void saveConfigServerProperties() {
+    Map<String, Object> snapshot = new LinkedHashMap<>();
+    for (PropertySource<?> source : environment().getPropertySources()) {
+      if (source.getName().startsWith(CONFIG_SERVER_PREFIX)
+          && source instanceof EnumerablePropertySource<?> enumerable) {
+        for (String name : enumerable.getPropertyNames()) {
+          snapshot.putIfAbsent(name, enumerable.getProperty(name));
+        }
+      }
+    }
+    if (snapshot.isEmpty()) {
+      return;
+    }
+
+    try {
+      store.save(snapshot);
+      log.debug("설정 스냅샷을 기록했습니다: {}", store.getLocation().toAbsolutePath());
+    } catch (RuntimeException e) {
+      log.warn("설정 스냅샷을 기록하지 못했습니다: {}", e.getMessage());
+    }
+  }
+
+  private Map<String, Object> fetch() {
+    ConfigurableEnvironment environment = environment();
+    ConfigClientProperties client = new ConfigClientProperties(environment);
+    Binder.get(environment).bind(ConfigClientProperties.PREFIX, Bindable.ofInstance(client));
+    if (!StringUtils.hasText(client.getName())) {
+      client.setName(environment.getProperty("spring.application.name", "application"));
+    }
+
+    String path = "/{name}/{profile}";
+    Object[] variables = {client.getName(), client.getProfile()};
+    if (StringUtils.hasText(client.getLabel())) {
+      path += "/{label}";
+      variables =
+          new Object[] {
+            client.getName(), client.getProfile(), Environment.denormalize(client.getLabel())
+          };
+    }
+
+    Environment result =
+        restClientBuilder
+            .clone()
+            .baseUrl(configServerUri(client))
+            .build()
+            .get()
+            .uri(path, variables)
+            .accept(MediaType.APPLICATION_JSON)
+            .headers(
+                headers -> {
+                  if (StringUtils.hasText(client.getUsername())) {
+                    headers.setBasicAuth(client.getUsername(), client.getPassword());
+                  }
+                  client.getHeaders().forEach(headers::add);
+                })
+            .retrieve()
+            .body(Environment.class);
+
+    Map<String, Object> fetched = new LinkedHashMap<>();
+    if (result != null) {
+      for (org.springframework.cloud.config.environment.PropertySource source :
+          result.getPropertySources()) {
+        source.getSource().forEach((key, value) -> fetched.putIfAbsent(key.toString(), value));
+      }
+    }
+    return fetched;
+  }
+
+  private String configServerUri(ConfigClientProperties client) {
+    if (!client.getDiscovery().isEnabled()) {
+      return client.getUri()[0];
+    }
+
+    String serviceId = client.getDiscovery().getServiceId();
+    DiscoveryClient discovery = discoveryClient.getIfAvailable();
+    List<ServiceInstance> instances =
+        discovery != null ? discovery.getInstances(serviceId) : List.of();
+    if (instances.isEmpty()) {
+      throw new IllegalStateException("Config Server 인스턴스를 찾을 수 없습니다: " + serviceId);
+    }
+    ServiceInstance instance = instances.getFirst();
+    return instance.getUri() + instance.getMetadata().getOrDefault("configPath", "");
+  }
+
+  private ConfigurableEnvironment environment() {
+    return applicationContext.getEnvironment();
+  }
+
+  /**
+   * 두 프로퍼티 집합 사이에 추가·삭제·변경된 키를 구한다.
+   *
+   * @param previous 이전 프로퍼티
+   * @param current 현재 프로퍼티
+   * @return 변경된 키
+   */
+  static Set<String> changedKeys(Map<String, Object> previous, Map<String, Object> current) {
+    Set<String> changed = new HashSet<>();
+    previous.forEach(
+        (key, value) -> {
+          if (!current.containsKey(key) || !Objects.equals(value, current.get(key))) {
+            changed.add(key);
+          }
+        });
+    current.keySet().stream().filter(key -> !previous.containsKey(key)).forEach(changed::add);
+    return changed;
+  }
+}
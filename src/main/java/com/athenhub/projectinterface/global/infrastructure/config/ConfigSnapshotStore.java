@@ -0,0 +1,132 @@
+package com.athenhub.projectinterface.global.infrastructure.config;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 설정 스냅샷 파일을 읽고 쓰는 저장소.
+ *
+ * <p>스냅샷은 Config Server가 내려준 프로퍼티를 우선순위대로 평탄화한 JSON 객체이며, 쓰기는 임시 파일에 기록한 뒤 원자적으로 교체하므로 기록 도중 프로세스가
+ * 종료되어도 이전 스냅샷이 손상되지 않는다.
+ *
+ * <p>비밀 값은 기록하지 않는다. 키 이름이 민감한 접미사({@code password}, {@code secret} 등)로 끝나거나, 클라이언트에서 복호화하도록
+ * 암호문({@code {cipher}...})으로 내려온 프로퍼티는 제외하며, POSIX 파일 시스템에서는 소유자만 읽고 쓸 수 있도록 권한을 제한한다.
+ *
+ * @author 김형섭
+ * @since 1.0.0
+ */
+public class ConfigSnapshotStore {
+  private static final TypeReference<LinkedHashMap<String, Object>> PROPERTIES_TYPE =
+      new TypeReference<>() {};
+
+  private static final String CIPHER_PREFIX = "{cipher}";
+  private static final List<String> DEFAULT_SENSITIVE_KEY_SUFFIXES =
+      List.of("password", "secret", "key", "token", "credentials");
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final Path location;
+  private final List<String> sensitiveKeySuffixes;
+
+  /**
+   * 기본 민감 키 접미사를 사용하는 스냅샷 저장소를 생성한다.
+   *
+   * @param location 스냅샷 파일 경로
+   */
+  public ConfigSnapshotStore(Path location) {
+    this(location, DEFAULT_SENSITIVE_KEY_SUFFIXES);
+  }
+
+  /**
+   * 스냅샷 저장소를 생성한다.
+   *
+   * @param location 스냅샷 파일 경로
+   * @param sensitiveKeySuffixes 기록하지 않을 키 이름 접미사 (대소문자 무시)
+   */
+  public ConfigSnapshotStore(Path location, List<String> sensitiveKeySuffixes) {
+    this.location = location;
+    this.sensitiveKeySuffixes =
+        sensitiveKeySuffixes.stream().map(suffix -> suffix.toLowerCase(Locale.ROOT)).toList();
+  }
+
+  /**
+   * 스냅샷 파일 경로를 반환한다.
+   *
+   * @return 스냅샷 파일 경로
+   */
+  public Path getLocation() {
+    return location;
+  }
+
+  /**
+   * 스냅샷을 읽는다.
+   *
+   * @return 스냅샷 프로퍼티. 파일이 없으면 빈 값
+   * @throws UncheckedIOException 스냅샷 파일을 읽을 수 없는 경우
+   */
+  public Optional<Map<String, Object>> load() {
+    if (!Files.isRegularFile(location)) {
+      return Optional.empty();
+    }
+    try {
+      return Optional.of(objectMapper.readValue(location.toFile(), PROPERTIES_TYPE));
+    } catch (IOException e) {
+      throw new UncheckedIOException("설정 스냅샷을 읽을 수 없습니다: " + location, e);
+    }
+  }
+
+  /**
+   * 비밀 값을 제외하고 스냅샷을 기록한다.
+   *
+   * @param properties 기록할 프로퍼티
+   * @throws UncheckedIOException 스냅샷 파일을 기록할 수 없는 경우
+   */
+  public void save(Map<String, Object> properties) {
+    Map<String, Object> snapshot = new LinkedHashMap<>();
+    properties.forEach(
+        (key, value) -> {
+          if (!isSensitive(key, value)) {
+            snapshot.put(key, value);
+          }
+        });
+
+    try {
+      Path directory = location.toAbsolutePath().getParent();
+      Files.createDirectories(directory);
+      Path temp = Files.createTempFile(directory, location.getFileName().toString(), ".tmp");
+      if (Files.getFileStore(temp).supportsFileAttributeView("posix")) {
+        Files.setPosixFilePermissions(temp, PosixFilePermissions.fromString("rw-------"));
+      }
+      objectMapper.writerWithDefaultPrettyPrinter().writeValue(temp.toFile(), snapshot);
+      Files.move(
+          temp, location, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    } catch (IOException e) {
+      throw new UncheckedIOException("설정 스냅샷을 기록할 수 없습니다: " + location, e);
+    }
+  }
+
+  /**
+   * 스냅샷에 기록하지 않을 프로퍼티인지 확인한다.
+   *
+   * @param key 프로퍼티 키
+   * @param value 프로퍼티 값
+   * @return 키가 민감한 접미사로 끝나거나 값이 암호문이면 true
+   */
+  boolean isSensitive(String key, Object value) {
+    if (value instanceof String text && text.startsWith(CIPHER_PREFIX)) {
+      return true;
+    }
+    String name = key.toLowerCase(Locale.ROOT);
+    return sensitiveKeySuffixes.stream().anyMatch(name::endsWith);
+  }
+}
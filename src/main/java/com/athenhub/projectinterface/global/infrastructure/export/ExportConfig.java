@@ -0,0 +1,24 @@
+package com.athenhub.projectinterface.global.infrastructure.export;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * 스트리밍 내보내기 설정 클래스.
+ *
+ * <p>{@link ExportTimeoutInterceptor}를 등록하여 {@link ExportProperties#timeout()}을 내보내기 응답에만 적용한다.
+ *
+ * @author 김형섭
+ * @since 1.0.0
+ */
+@Configuration
+@EnableConfigurationProperties(ExportProperties.class)
+public class ExportConfig implements WebMvcConfigurer {
+
+  @Override
+  public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+    configurer.registerCallableInterceptors(new ExportTimeoutInterceptor());
+  }
+}
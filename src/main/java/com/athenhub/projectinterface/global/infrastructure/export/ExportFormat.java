@@ -0,0 +1,24 @@
+package com.athenhub.projectinterface.global.infrastructure.export;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+
+/**
+ * 스트리밍 내보내기 형식.
+ *
+ * @author 김형섭
+ * @since 1.0.0
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ExportFormat {
+  /** 한 줄에 JSON 객체 하나를 기록하는 JSON Lines 형식. */
+  JSON_LINES(MediaType.APPLICATION_NDJSON, "jsonl"),
+
+  /** 첫 줄에 헤더를 포함하는 CSV 형식. */
+  CSV(new MediaType("text", "csv"), "csv");
+
+  private final MediaType mediaType;
+  private final String extension;
+}
@@ -0,0 +1,22 @@
+package com.athenhub.projectinterface.global.infrastructure.export;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 스트리밍 내보내기 설정.
+ *
+ * <pre>
+ * athenhub:
+ *   export:
+ *     timeout: 30m
+ * </pre>
+ *
+ * @param timeout 내보내기 응답 하나를 작성하는 최대 시간. {@code spring.mvc.async.request-timeout} 대신 내보내기 요청에만
+ *     적용된다.
+ * @author 김형섭
+ * @since 1.0.0
+ */
+@ConfigurationProperties(prefix = "athenhub.export")
+public record ExportProperties(@DefaultValue("30m") Duration timeout) {}
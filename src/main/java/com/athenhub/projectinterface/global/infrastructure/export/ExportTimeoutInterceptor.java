@@ -0,0 +1,29 @@
+package com.athenhub.projectinterface.global.infrastructure.export;
+
+import java.util.concurrent.Callable;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+
+/**
+ * {@link StreamingExporter}가 만든 응답에만 내보내기 제한 시간을 적용하는 인터셉터.
+ *
+ * <p>{@link StreamingExporter#export}가 요청 속성에 남긴 제한 시간을 비동기 처리가 시작되기 전에 요청에 설정한다. 다른 비동기 핸들러는
+ * {@code spring.mvc.async.request-timeout}을 그대로 따른다.
+ *
+ * @author 김형섭
+ * @since 1.0.0
+ */
+public class ExportTimeoutInterceptor implements CallableProcessingInterceptor {
+  static final String TIMEOUT_ATTRIBUTE = ExportTimeoutInterceptor.class.getName() + ".timeout";
+
+  @Override
+  public <T> void beforeConcurrentHandling(NativeWebRequest request, Callable<T> task) {
+    if (request instanceof AsyncWebRequest asyncRequest
+        && request.getAttribute(TIMEOUT_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST)
+            instanceof Long timeout) {
+      asyncRequest.setTimeout(timeout);
+    }
+  }
+}
@@ -0,0 +1,255 @@
+package com.athenhub.projectinterface.global.infrastructure.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.EntityManager;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * 대량의 엔티티를 데이터베이스 커서에서 HTTP 응답으로 바로 흘려보내는 컴포넌트.
+ *
+ * <p>조회 결과를 목록으로 모은 뒤 직렬화하면 내보내는 행 수만큼 힙이 필요하다. 이 컴포넌트는 {@code StreamingRepository}의 커서 스트림에서 한 행씩
+ * 꺼내 응답 행으로 변환하고 기록한 뒤 엔티티를 영속성 컨텍스트에서 분리하므로, 메모리 사용량은 행 수와 관계없이 커서 fetch size 정도로 유지된다. 응답 본문은 MVC
+ * 비동기 스레드에서 읽기 전용 트랜잭션을 열어 작성된다.
+ *
+ * <p>클라이언트가 연결을 끊으면 기록이 실패하는 즉시 커서와 트랜잭션을 닫고 종료한다({@code outcome=aborted}). 직렬화나 조회 중 발생한
+ * 예외는 오류 로그를 남기고 그대로 전파된다({@code outcome=error}). 응답 작성 제한 시간은 {@link ExportProperties#timeout()}이며
+ * 내보내기 요청에만 적용된다. 처리량은 다음 메트릭으로 확인한다.
+ *
+ * <ul>
+ *   <li>{@code athenhub.export.rows} - 내보낸 행 수 ({@code name}, {@code format})
+ *   <li>{@code athenhub.export} - 내보내기 소요 시간 ({@code name}, {@code format}, {@code outcome})
+ * </ul>
+ *
+ * <pre>{@code
+ * @GetMapping("/members/export")
+ * public ResponseEntity<StreamingResponseBody> export(@RequestParam ExportFormat format) {
+ *   return streamingExporter.export(
+ *       "members",
+ *       format,
+ *       MemberRow.class,
+ *       () -> memberRepository.streamAll(null),
+ *       MemberRow::from);
+ * }
+ * }</pre>
+ *
+ * <p>응답 행 변환 함수는 트랜잭션 안에서 호출되므로 지연 로딩 연관관계를 사용할 수 있다. 다만 행마다 추가 쿼리가 발생하므로 필요한 연관관계는 조회 조건에서 함께
+ * 가져온다.
+ *
+ * @author 김형섭
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+public class StreamingExporter {
+  private static final String ROWS_METRIC = "athenhub.export.rows";
+  private static final String DURATION_METRIC = "athenhub.export";
+
+  private final ObjectMapper objectMapper;
+  private final CsvMapper csvMapper;
+  private final TransactionTemplate transactionTemplate;
+  private final EntityManager entityManager;
+  private final MeterRegistry meterRegistry;
+  private final long timeoutMillis;
+
+  /**
+   * 스트리밍 내보내기 컴포넌트를 생성한다.
+   *
+   * @param objectMapper JSON 직렬화에 사용할 ObjectMapper
+   * @param transactionManager 트랜잭션 매니저
+   * @param entityManager 엔티티 매니저
+   * @param meterRegistry 메트릭 레지스트리
+   * @param properties 스트리밍 내보내기 설정
+   */
+  public StreamingExporter(
+      ObjectMapper objectMapper,
+      PlatformTransactionManager transactionManager,
+      EntityManager entityManager,
+      ObjectProvider<MeterRegistry> meterRegistry,
+      ExportProperties properties) {
+    this.objectMapper = objectMapper;
+    this.csvMapper = CsvMapper.builder().findAndAddModules().build();
+    this.csvMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.transactionTemplate.setReadOnly(true);
+    this.entityManager = entityManager;
+    this.meterRegistry = meterRegistry.getIfAvailable(() -> Metrics.globalRegistry);
+    this.timeoutMillis = properties.timeout().toMillis();
+  }
+
+  /**
+   * 엔티티 스트림을 파일 다운로드 응답으로 내보낸다.
+   *
+   * @param name 내보내기 이름. 파일 이름과 메트릭 태그로 사용된다.
+   * @param format 내보내기 형식
+   * @param rowType 응답 행 타입. CSV 헤더는 이 타입의 프로퍼티로 정해진다.
+   * @param source 엔티티 스트림 공급자. 응답을 작성하는 트랜잭션 안에서 호출된다.
+   * @param mapper 엔티티를 응답 행으로 변환하는 함수
+   * @param <T> 엔티티 타입
+   * @param <R> 응답 행 타입
+   * @return 스트리밍 응답
+   */
+  public <T, R> ResponseEntity<StreamingResponseBody> export(
+      String name,
+      ExportFormat format,
+      Class<R> rowType,
+      Supplier<Stream<T>> source,
+      Function<? super T, ? extends R> mapper) {
+    ObjectWriter writer = writer(format, rowType);
+    StreamingResponseBody body = out -> write(name, format, writer, source, mapper, out);
+    RequestAttributes request = RequestContextHolder.getRequestAttributes();
+    if (request != null) {
+      request.setAttribute(
+          ExportTimeoutInterceptor.TIMEOUT_ATTRIBUTE,
+          timeoutMillis,
+          RequestAttributes.SCOPE_REQUEST);
+    }
+
+    return ResponseEntity.ok()
+        .contentType(format.getMediaType())
+        .header(
+            HttpHeaders.CONTENT_DISPOSITION,
+            ContentDisposition.attachment()
+                .filename(name + "." + format.getExtension())
+                .build()
+                .toString())
+        .body(body);
+  }
+
+  private <T, R> void write(
+      String name,
+      ExportFormat format,
+      ObjectWriter writer,
+      Supplier<Stream<T>> source,
+      Function<? super T, ? extends R> mapper,
+      OutputStream out)
+      throws IOException {
+    ClientOutputStream client = new ClientOutputStream(out);
+    Counter rows =
+        Counter.builder(ROWS_METRIC)
+            .description("스트리밍 내보내기로 기록한 행 수")
+            .tags(tags(name, format))
+            .register(meterRegistry);
+    Timer.Sample sample = Timer.start(meterRegistry);
+    String outcome = "success";
+
+    try {
+      transactionTemplate.executeWithoutResult(
+          status -> {
+            try (Stream<T> stream = source.get();
+                SequenceWriter sequenceWriter = writer.writeValues(client)) {
+              Iterator<T> iterator = stream.iterator();
+              while (iterator.hasNext()) {
+                T entity = iterator.next();
+                sequenceWriter.write(mapper.apply(entity));
+                entityManager.detach(entity);
+                rows.increment();
+              }
+            } catch (IOException e) {
+              throw new UncheckedIOException(e);
+            }
+          });
+    } catch (UncheckedIOException e) {
+      if (client.isFailed()) {
+        outcome = "aborted";
+        log.debug("클라이언트 연결이 끊어져 내보내기를 중단합니다: {}", name, e);
+        return;
+      }
+      outcome = "error";
+      log.error("내보내기 행을 기록하지 못했습니다: {}", name, e.getCause());
+      throw e.getCause();
+    } catch (RuntimeException e) {
+      outcome = "error";
+      log.error("내보내기에 실패했습니다: {}", name, e);
+      throw e;
+    } finally {
+      sample.stop(
+          Timer.builder(DURATION_METRIC)
+              .description("스트리밍 내보내기 소요 시간")
+              .tags(tags(name, format).and("outcome", outcome))
+              .register(meterRegistry));
+    }
+  }
+
+  private ObjectWriter writer(ExportFormat format, Class<?> rowType) {
+    ObjectWriter writer =
+        switch (format) {
+          case JSON_LINES -> objectMapper.writerFor(rowType).withRootValueSeparator("\n");
+          case CSV -> csvMapper.writer(csvMapper.schemaFor(rowType).withHeader());
+        };
+    return writer.without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+  }
+
+  private static Tags tags(String name, ExportFormat format) {
+    return Tags.of("name", name, "format", format.getExtension());
+  }
+
+  /** 응답 스트림 기록 실패를 직렬화 실패와 구분하기 위해 응답 스트림에서 발생한 예외를 표시하는 스트림. */
+  private static final class ClientOutputStream extends FilterOutputStream {
+    private boolean failed;
+
+    private ClientOutputStream(OutputStream out) {
+      super(out);
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+      try {
+        out.write(b);
+      } catch (IOException e) {
+        failed = true;
+        throw e;
+      }
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+      try {
+        out.write(b, off, len);
+      } catch (IOException e) {
+        failed = true;
+        throw e;
+      }
+    }
+
+    @Override
+    public void flush() throws IOException {
+      try {
+        out.flush();
+      } catch (IOException e) {
+        failed = true;
+        throw e;
+      }
+    }
+
+    private boolean isFailed() {
+      return failed;
+    }
+  }
+}
@@ -0,0 +1,92 @@
+package com.athenhub.projectinterface.global.infrastructure.loadbalancer;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 서비스 인스턴스 하나의 응답 시간 EWMA, 처리 중 요청 수, 오류 백오프 상태.
+ *
+ * <p>EWMA는 측정 간격에 따라 가중치가 달라지는 시간 감쇠 방식으로 계산하므로, 호출 빈도가 낮은 인스턴스도 오래된 측정값에 오래 묶이지 않는다.
+ *
+ * @author 김형섭
+ * @since 1.0.0
+ */
+final class InstanceStats {
+  private final long decayNanos;
+  private final long defaultLatencyNanos;
+  private final long errorBackoffNanos;
+  private final long maxErrorBackoffNanos;
+  private final AtomicInteger inFlight = new AtomicInteger();
+
+  private double latencyNanos = -1;
+  private long lastSampleNanos;
+  private int consecutiveErrors;
+  private long backoffUntilNanos;
+
+  InstanceStats(LatencyAwareLoadBalancerProperties properties) {
+    this.decayNanos = properties.decayTime().toNanos();
+    this.defaultLatencyNanos = properties.defaultLatency().toNanos();
+    this.errorBackoffNanos = properties.errorBackoff().toNanos();
+    this.maxErrorBackoffNanos = properties.maxErrorBackoff().toNanos();
+  }
+
+  void start() {
+    inFlight.incrementAndGet();
+  }
+
+  /**
+   * 성공한 요청의 응답 시간을 반영한다.
+   *
+   * @param now 현재 시각(ns)
+   * @param elapsedNanos 응답 시간(ns)
+   */
+  synchronized void success(long now, long elapsedNanos) {
+    inFlight.updateAndGet(value -> Math.max(0, value - 1));
+    if (latencyNanos < 0) {
+      latencyNanos = elapsedNanos;
+    } else {
+      double weight = Math.exp(-(double) Math.max(0, now - lastSampleNanos) / decayNanos);
+      latencyNanos = latencyNanos * weight + elapsedNanos * (1 - weight);
+    }
+    lastSampleNanos = now;
+    consecutiveErrors = 0;
+    backoffUntilNanos = 0;
+  }
+
+  /**
+   * 실패한 요청을 반영하여 인스턴스를 일정 시간 후보에서 제외한다.
+   *
+   * @param now 현재 시각(ns)
+   */
+  synchronized void failure(long now) {
+    inFlight.updateAndGet(value -> Math.max(0, value - 1));
+    consecutiveErrors = Math.min(consecutiveErrors + 1, 30);
+    long backoff = Math.min(maxErrorBackoffNanos, errorBackoffNanos << (consecutiveErrors - 1));
+    backoffUntilNanos = now + (backoff < 0 ? maxErrorBackoffNanos : backoff);
+  }
+
+  /** 응답 시간 측정 없이 처리 중 요청 수만 줄인다. */
+  void discard() {
+    inFlight.updateAndGet(value -> Math.max(0, value - 1));
+  }
+
+  synchronized boolean isBackingOff(long now) {
+    return backoffUntilNanos - now > 0;
+  }
+
+  synchronized double latencyNanos() {
+    return latencyNanos < 0 ? defaultLatencyNanos : latencyNanos;
+  }
+
+  int inFlight() {
+    return inFlight.get();
+  }
+
+  /**
+   * 인스턴스 선택에 사용할 점수. 낮을수록 우선 선택된다.
+   *
+   * @return 응답 시간 EWMA(ns) × (처리 중 요청 수 + 1)
+   */
+  double score() {
+    return latencyNanos() * (inFlight() + 1);
+  }
+}
@@ -0,0 +1,258 @@
+package com.athenhub.projectinterface.global.infrastructure.loadbalancer;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.LongSupplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.CompletionContext;
+import org.springframework.cloud.client.loadbalancer.DefaultResponse;
+import org.springframework.cloud.client.loadbalancer.EmptyResponse;
+import org.springframework.cloud.client.loadbalancer.LoadBalancerLifecycle;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.client.loadbalancer.ResponseData;
+import org.springframework.cloud.client.loadbalancer.TimedRequestContext;
+import org.springframework.cloud.loadbalancer.core.NoopServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.core.ReactorServiceInstanceLoadBalancer;
+import org.springframework.cloud.loadbalancer.core.SelectedInstanceCallback;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import reactor.core.publisher.Mono;
+
+/**
+ * 응답 시간과 처리 중 요청 수를 기준으로 인스턴스를 고르는 로드밸런서.
+ *
+ * <p>기본 라운드로빈은 느린 인스턴스에도 같은 비율로 요청을 보내므로 인스턴스 하나가 느려지면 모든 호출자의 p99가 함께 나빠진다. 이 로드밸런서는 후보 중 임의의 두
+ * 인스턴스를 뽑아 점수가 낮은 쪽을 선택하는 Power of Two Choices 방식을 사용한다. 점수는 인스턴스별 응답 시간 EWMA에 처리 중 요청 수 + 1을 곱한
+ * 값이다.
+ *
+ * <p>요청이 실패하거나 5xx 응답을 받은 인스턴스는 지수적으로 늘어나는 백오프 동안 후보에서 제외한다. 모든 인스턴스가 백오프 중이면 전체를 후보로 사용한다.
+ *
+ * <p>응답 시간과 처리 중 요청 수는 {@link LoadBalancerLifecycle} 콜백으로 수집하며, 인스턴스별 점수와 상태는 다음 메트릭으로 노출한다.
+ *
+ * <ul>
+ *   <li>{@code athenhub.loadbalancer.instance.score}
+ *   <li>{@code athenhub.loadbalancer.instance.latency}
+ *   <li>{@code athenhub.loadbalancer.instance.inflight}
+ *   <li>{@code athenhub.loadbalancer.instance.backoff}
+ * </ul>
+ *
+ * @author 김형섭
+ * @since 1.0.0
+ */
+@Slf4j
+public class LatencyAwareLoadBalancer
+    implements ReactorServiceInstanceLoadBalancer,
+        LoadBalancerLifecycle<Object, Object, ServiceInstance> {
+
+  private final ObjectProvider<ServiceInstanceListSupplier> serviceInstanceListSupplierProvider;
+  private final String serviceId;
+  private final LatencyAwareLoadBalancerProperties properties;
+  private final MeterRegistry meterRegistry;
+  private final LongSupplier clock;
+  private final Map<String, InstanceStats> stats = new ConcurrentHashMap<>();
+  private final Map<String, List<Meter>> meters = new ConcurrentHashMap<>();
+
+  /**
+   * 로드밸런서를 생성한다.
+   *
+   * @param serviceInstanceListSupplierProvider 서비스 인스턴스 목록 공급자
+   * @param serviceId 서비스 ID
+   * @param properties 로드밸런서 설정
+   * @param meterRegistry 메트릭 레지스트리 (없으면 {@code null})
+   */
+  public LatencyAwareLoadBalancer(
+      ObjectProvider<ServiceInstanceListSupplier> serviceInstanceListSupplierProvider,
+      String serviceId,
+      LatencyAwareLoadBalancerProperties properties,
+      MeterRegistry meterRegistry) {
+    this(
+        serviceInstanceListSupplierProvider,
+        serviceId,
+        properties,
+        meterRegistry,
+        System::nanoTime);
+  }
+
+  LatencyAwareLoadBalancer(
+      ObjectProvider<ServiceInstanceListSupplier> serviceInstanceListSupplierProvider,
+      String serviceId,
+      LatencyAwareLoadBalancerProperties properties,
+      MeterRegistry meterRegistry,
+      LongSupplier clock) {
+    this.serviceInstanceListSupplierProvider = serviceInstanceListSupplierProvider;
+    this.serviceId = serviceId;
+    this.properties = properties;
+    this.meterRegistry = meterRegistry;
+    this.clock = clock;
+  }
+
+  @Override
+  public Mono<Response<ServiceInstance>> choose(Request request) {
+    ServiceInstanceListSupplier supplier =
+        serviceInstanceListSupplierProvider.getIfAvailable(NoopServiceInstanceListSupplier::new);
+    return supplier
+        .get(request)
+        .next()
+        .map(
+            instances -> {
+              Response<ServiceInstance> response = choose(instances);
+              if (supplier instanceof SelectedInstanceCallback callback && response.hasServer()) {
+                callback.selectedServiceInstance(response.getServer());
+              }
+              return response;
+            });
+  }
+
+  private Response<ServiceInstance> choose(List<ServiceInstance> instances) {
+    if (instances.isEmpty()) {
+      log.warn("사용 가능한 서비스 인스턴스가 없습니다: {}", serviceId);
+      return new EmptyResponse();
+    }
+    evictStale(instances);
+
+    long now = clock.getAsLong();
+    List<ServiceInstance> candidates = new ArrayList<>(instances.size());
+    for (ServiceInstance instance : instances) {
+      if (!stats(instance).isBackingOff(now)) {
+        candidates.add(instance);
+      }
+    }
+    if (candidates.isEmpty()) {
+      candidates = instances;
+    }
+    if (candidates.size() == 1) {
+      return new DefaultResponse(candidates.getFirst());
+    }
+
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    int first = random.nextInt(candidates.size());
+    int second = random.nextInt(candidates.size() - 1);
+    if (second >= first) {
+      second++;
+    }
+    ServiceInstance a = candidates.get(first);
+    ServiceInstance b = candidates.get(second);
+    return new DefaultResponse(stats(a).score() <= stats(b).score() ? a : b);
+  }
+
+  @Override
+  public void onStart(Request<Object> request) {}
+
+  @Override
+  public void onStartRequest(Request<Object> request, Response<ServiceInstance> lbResponse) {
+    if (!lbResponse.hasServer()) {
+      return;
+    }
+    if (request.getContext() instanceof TimedRequestContext timed) {
+      timed.setRequestStartTime(clock.getAsLong());
+    }
+    stats(lbResponse.getServer()).start();
+  }
+
+  @Override
+  public void onComplete(CompletionContext<Object, ServiceInstance, Object> completionContext) {
+    Response<ServiceInstance> lbResponse = completionContext.getLoadBalancerResponse();
+    if (lbResponse == null || !lbResponse.hasServer()) {
+      return;
+    }
+
+    InstanceStats instanceStats = stats.get(key(lbResponse.getServer()));
+    if (instanceStats == null) {
+      return;
+    }
+    long now = clock.getAsLong();
+    if (isFailure(completionContext)) {
+      instanceStats.failure(now);
+    } else if (completionContext.status() == CompletionContext.Status.SUCCESS
+        && completionContext.getLoadBalancerRequest() != null
+        && completionContext.getLoadBalancerRequest().getContext()
+            instanceof TimedRequestContext timed
+        && timed.getRequestStartTime() != 0) {
+      instanceStats.success(now, now - timed.getRequestStartTime());
+    } else {
+      instanceStats.discard();
+    }
+  }
+
+  private static boolean isFailure(CompletionContext<Object, ServiceInstance, Object> context) {
+    if (context.status() == CompletionContext.Status.FAILED) {
+      return true;
+    }
+    return context.getClientResponse() instanceof ResponseData response
+        && response.getHttpStatus() != null
+        && response.getHttpStatus().is5xxServerError();
+  }
+
+  private InstanceStats stats(ServiceInstance instance) {
+    return stats.computeIfAbsent(key(instance), this::register);
+  }
+
+  private InstanceStats register(String instanceId) {
+    InstanceStats instanceStats = new InstanceStats(properties);
+    if (meterRegistry != null) {
+      Tags tags = Tags.of("service", serviceId, "instance", instanceId);
+      meters.put(
+          instanceId,
+          List.of(
+              Gauge.builder("athenhub.loadbalancer.instance.score", instanceStats, s -> s.score())
+                  .description("인스턴스 선택 점수 (응답 시간 EWMA × (처리 중 요청 수 + 1))")
+                  .tags(tags)
+                  .register(meterRegistry),
+              Gauge.builder(
+                      "athenhub.loadbalancer.instance.latency",
+                      instanceStats,
+                      s -> s.latencyNanos() / 1_000_000_000d)
+                  .description("인스턴스 응답 시간 EWMA")
+                  .baseUnit("seconds")
+                  .tags(tags)
+                  .register(meterRegistry),
+              Gauge.builder(
+                      "athenhub.loadbalancer.instance.inflight", instanceStats, s -> s.inFlight())
+                  .description("인스턴스에서 처리 중인 요청 수")
+                  .tags(tags)
+                  .register(meterRegistry),
+              Gauge.builder(
+                      "athenhub.loadbalancer.instance.backoff",
+                      instanceStats,
+                      s -> s.isBackingOff(clock.getAsLong()) ? 1 : 0)
+                  .description("오류로 인해 후보에서 제외되어 있는지 여부")
+                  .tags(tags)
+                  .register(meterRegistry)));
+    }
+    return instanceStats;
+  }
+
+  private void evictStale(List<ServiceInstance> instances) {
+    if (stats.size() <= instances.size()) {
+      return;
+    }
+    Set<String> live = new HashSet<>();
+    instances.forEach(instance -> live.add(key(instance)));
+    for (String instanceId : List.copyOf(stats.keySet())) {
+      if (!live.contains(instanceId)) {
+        stats.remove(instanceId);
+        List<Meter> removed = meters.remove(instanceId);
+        if (removed != null) {
+          removed.forEach(meterRegistry::remove);
+        }
+      }
+    }
+  }
+
+  private static String key(ServiceInstance instance) {
+    return instance.getInstanceId() != null
+        ? instance.getInstanceId()
+        : instance.getHost() + ":" + instance.getPort();
+  }
+}
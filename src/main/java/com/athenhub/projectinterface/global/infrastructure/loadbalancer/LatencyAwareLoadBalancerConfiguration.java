@@ -0,0 +1,45 @@
+package com.athenhub.projectinterface.global.infrastructure.loadbalancer;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.loadbalancer.core.ReactorLoadBalancer;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.support.LoadBalancerClientFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.env.Environment;
+
+/**
+ * 서비스별 로드밸런서 자식 컨텍스트에 {@link LatencyAwareLoadBalancer}를 등록하는 설정.
+ *
+ * <p>{@link LoadBalancerConfig}의 {@code @LoadBalancerClients(defaultConfiguration = ...)}로만 사용되며,
+ * 메인 컨텍스트의 컴포넌트 스캔 대상이 되지 않도록 {@code @Configuration}을 붙이지 않는다.
+ *
+ * @author 김형섭
+ * @since 1.0.0
+ */
+public class LatencyAwareLoadBalancerConfiguration {
+
+  /**
+   * 지연 시간 기반 로드밸런서를 등록한다.
+   *
+   * @param environment 서비스별 자식 컨텍스트 환경
+   * @param loadBalancerClientFactory 로드밸런서 클라이언트 팩토리
+   * @param properties 로드밸런서 설정
+   * @param meterRegistry 메트릭 레지스트리
+   * @return 지연 시간 기반 로드밸런서
+   */
+  @Bean
+  public ReactorLoadBalancer<ServiceInstance> latencyAwareLoadBalancer(
+      Environment environment,
+      LoadBalancerClientFactory loadBalancerClientFactory,
+      LatencyAwareLoadBalancerProperties properties,
+      ObjectProvider<MeterRegistry> meterRegistry) {
+    String serviceId = environment.getProperty(LoadBalancerClientFactory.PROPERTY_NAME);
+    return new LatencyAwareLoadBalancer(
+        loadBalancerClientFactory.getLazyProvider(serviceId, ServiceInstanceListSupplier.class),
+        serviceId,
+        properties,
+        meterRegistry.getIfAvailable());
+  }
+}
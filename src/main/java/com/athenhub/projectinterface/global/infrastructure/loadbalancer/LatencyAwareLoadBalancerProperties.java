@@ -0,0 +1,31 @@
+package com.athenhub.projectinterface.global.infrastructure.loadbalancer;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 지연 시간 기반 로드밸런서 설정.
+ *
+ * <pre>
+ * athenhub:
+ *   loadbalancer:
+ *     decay-time: 10s
+ *     default-latency: 100ms
+ *     error-backoff: 1s
+ *     max-error-backoff: 30s
+ * </pre>
+ *
+ * @param decayTime 응답 시간 EWMA의 감쇠 시간. 이 시간이 지난 측정값의 가중치는 약 37%로 줄어든다.
+ * @param defaultLatency 아직 측정값이 없는 인스턴스에 적용할 응답 시간
+ * @param errorBackoff 첫 오류 이후 인스턴스를 후보에서 제외하는 시간. 연속 오류마다 두 배씩 늘어난다.
+ * @param maxErrorBackoff 오류 제외 시간의 상한
+ * @author 김형섭
+ * @since 1.0.0
+ */
+@ConfigurationProperties(prefix = "athenhub.loadbalancer")
+public record LatencyAwareLoadBalancerProperties(
+    @DefaultValue("10s") Duration decayTime,
+    @DefaultValue("100ms") Duration defaultLatency,
+    @DefaultValue("1s") Duration errorBackoff,
+    @DefaultValue("30s") Duration maxErrorBackoff) {}
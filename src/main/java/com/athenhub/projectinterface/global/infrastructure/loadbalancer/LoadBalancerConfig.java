@@ -0,0 +1,19 @@
+package com.athenhub.projectinterface.global.infrastructure.loadbalancer;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cloud.loadbalancer.annotation.LoadBalancerClients;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 클라이언트 측 로드밸런서 설정 클래스.
+ *
+ * <p>모든 서비스 호출의 기본 로드밸런서를 라운드로빈 대신 {@link LatencyAwareLoadBalancer}로 지정한다. 특정 서비스만 다른 전략을 사용하려면
+ * {@code @LoadBalancerClient(name = "...", configuration = ...)}로 재정의한다.
+ *
+ * @author 김형섭
+ * @since 1.0.0
+ */
+@Configuration
+@EnableConfigurationProperties(LatencyAwareLoadBalancerProperties.class)
+@LoadBalancerClients(defaultConfiguration = LatencyAwareLoadBalancerConfiguration.class)
+public class LoadBalancerConfig {}
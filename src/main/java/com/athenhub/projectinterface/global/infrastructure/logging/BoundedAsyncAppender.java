@@ -0,0 +1,266 @@
+package com.athenhub.projectinterface.global.infrastructure.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.UnsynchronizedAppenderBase;
+import ch.qos.logback.core.spi.AppenderAttachable;
+import ch.qos.logback.core.spi.AppenderAttachableImpl;
+import java.util.Iterator;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 요청 스레드를 막지 않고 로그 이벤트를 하위 어펜더로 넘기는 크기 제한 비동기 어펜더.
+ *
+ * <p>요청 스레드는 이벤트를 큐에 넣기만 하고, 전용 스레드 하나가 큐에서 꺼내 연결된 어펜더(Loki 어펜더 등)로 전달한다. 메시지 인코딩과 배치 구성은
+ * 전용 스레드에서 수행되므로 로그가 몰려도 요청 지연 시간에 반영되지 않으며, 하위 어펜더가 느려져도 큐 크기 이상으로 메모리가 늘지 않는다.
+ *
+ * <p>{@code INFO} 이하 이벤트와 {@code WARN} 이상 이벤트는 각각 {@link #setQueueSize(int)}, {@link
+ * #setWarnQueueSize(int)} 크기의 큐에 따로 보관한다. {@code INFO} 이하 큐가 가득 차면 대기하지 않고 그 큐의 가장 오래된 이벤트를 버린 뒤 새
+ * 이벤트를 넣으며, {@code WARN} 이상 큐가 가득 차면 새 이벤트를 버린다. 어느 경우든 큐의 맨 앞에서 꺼내므로 큐 크기와 관계없이 일정한 시간에
+ * 처리된다. logback 기본 {@code AsyncAppender}와 달리 최근 이벤트를 우선하며 {@code WARN} 이상 이벤트는 밀어내지 않는다. 전용 스레드는 두
+ * 큐의 맨 앞 이벤트 중 먼저 발생한 것부터 전달한다.
+ *
+ * <pre>{@code
+ * <appender name="ASYNC_LOKI" class="...BoundedAsyncAppender">
+ *   <queueSize>8192</queueSize>
+ *   <warnQueueSize>1024</warnQueueSize>
+ *   <appender-ref ref="LOKI"/>
+ * </appender>
+ * }</pre>
+ *
+ * @author 김형섭
+ * @since 1.0.0
+ */
+public class BoundedAsyncAppender extends UnsynchronizedAppenderBase<ILoggingEvent>
+    implements AppenderAttachable<ILoggingEvent> {
+  private final AppenderAttachableImpl<ILoggingEvent> appenders = new AppenderAttachableImpl<>();
+  private final LongAdder enqueued = new LongAdder();
+  private final LongAdder evicted = new LongAdder();
+  private final LongAdder rejected = new LongAdder();
+
+  private int queueSize = 8192;
+  private int warnQueueSize = 1024;
+  private int maxFlushTime = 1000;
+  private BlockingQueue<ILoggingEvent> discardable;
+  private BlockingQueue<ILoggingEvent> important;
+  // 큐에 넣은 이벤트마다 하나씩 늘어난다. 밀어낸 이벤트 때문에 실제 이벤트 수보다 클 수 있다.
+  private Semaphore available;
+  private Thread worker;
+
+  @Override
+  public void start() {
+    if (isStarted()) {
+      return;
+    }
+    if (queueSize <= 0 || warnQueueSize <= 0) {
+      addError("queueSize와 warnQueueSize는 0보다 커야 합니다: " + queueSize + ", " + warnQueueSize);
+      return;
+    }
+    if (!appenders.iteratorForAppenders().hasNext()) {
+      addError("[" + name + "]에 연결된 어펜더가 없습니다.");
+      return;
+    }
+    discardable = new ArrayBlockingQueue<>(queueSize);
+    important = new ArrayBlockingQueue<>(warnQueueSize);
+    available = new Semaphore(0);
+    worker = new Thread(this::dispatch, "logback-async-" + name);
+    worker.setDaemon(true);
+    super.start();
+    worker.start();
+  }
+
+  @Override
+  public void stop() {
+    if (!isStarted()) {
+      return;
+    }
+    super.stop();
+    worker.interrupt();
+    try {
+      worker.join(maxFlushTime);
+      if (worker.isAlive()) {
+        addWarn("큐에 남은 이벤트 " + getQueuedCount() + "건을 전달하지 못하고 종료합니다.");
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  @Override
+  protected void append(ILoggingEvent event) {
+    // 전용 스레드에서 읽을 MDC, 스레드 이름, 메시지를 요청 스레드에서 고정한다.
+    event.prepareForDeferredProcessing();
+    if (!isDiscardable(event)) {
+      if (important.offer(event)) {
+        enqueued.increment();
+        available.release();
+      } else {
+        rejected.increment();
+      }
+      return;
+    }
+    if (discardable.offer(event)) {
+      enqueued.increment();
+      available.release();
+      return;
+    }
+
+    ILoggingEvent oldest = discardable.poll();
+    if (oldest != null) {
+      evicted.increment();
+    }
+    if (discardable.offer(event)) {
+      enqueued.increment();
+      if (oldest == null) {
+        available.release();
+      }
+    } else {
+      rejected.increment();
+    }
+  }
+
+  private static boolean isDiscardable(ILoggingEvent event) {
+    return !event.getLevel().isGreaterOrEqual(Level.WARN);
+  }
+
+  private void dispatch() {
+    try {
+      while (isStarted()) {
+        available.acquire();
+        ILoggingEvent event = next();
+        if (event != null) {
+          appenders.appendLoopOnAppenders(event);
+        }
+      }
+    } catch (InterruptedException e) {
+      // 종료 요청. 남은 이벤트를 전달한다.
+    }
+    for (ILoggingEvent event = next(); event != null; event = next()) {
+      appenders.appendLoopOnAppenders(event);
+    }
+  }
+
+  /** 두 큐의 맨 앞 이벤트 중 먼저 발생한 이벤트를 꺼낸다. 전용 스레드에서만 호출한다. */
+  private ILoggingEvent next() {
+    ILoggingEvent warn = important.peek();
+    ILoggingEvent info = discardable.peek();
+    if (warn != null && (info == null || warn.getTimeStamp() <= info.getTimeStamp())) {
+      return important.poll();
+    }
+    return discardable.poll();
+  }
+
+  /**
+   * {@code INFO} 이하 이벤트의 큐 크기를 설정한다.
+   *
+   * @param queueSize 큐에 보관할 최대 {@code INFO} 이하 이벤트 수
+   */
+  public void setQueueSize(int queueSize) {
+    this.queueSize = queueSize;
+  }
+
+  public int getQueueSize() {
+    return queueSize;
+  }
+
+  /**
+   * {@code WARN} 이상 이벤트의 큐 크기를 설정한다.
+   *
+   * @param warnQueueSize 큐에 보관할 최대 {@code WARN} 이상 이벤트 수
+   */
+  public void setWarnQueueSize(int warnQueueSize) {
+    this.warnQueueSize = warnQueueSize;
+  }
+
+  public int getWarnQueueSize() {
+    return warnQueueSize;
+  }
+
+  /**
+   * 종료 시 큐에 남은 이벤트를 전달하며 기다릴 최대 시간을 설정한다.
+   *
+   * @param maxFlushTime 최대 대기 시간(ms)
+   */
+  public void setMaxFlushTime(int maxFlushTime) {
+    this.maxFlushTime = maxFlushTime;
+  }
+
+  public int getMaxFlushTime() {
+    return maxFlushTime;
+  }
+
+  /**
+   * 큐에 대기 중인 이벤트 수를 반환한다.
+   *
+   * @return 대기 중인 이벤트 수
+   */
+  public int getQueuedCount() {
+    return discardable == null ? 0 : discardable.size() + important.size();
+  }
+
+  /**
+   * 큐에 넣은 이벤트 수를 반환한다.
+   *
+   * @return 누적 이벤트 수
+   */
+  public long getEnqueuedCount() {
+    return enqueued.sum();
+  }
+
+  /**
+   * {@code INFO} 이하 큐가 가득 차 밀려난 이벤트 수를 반환한다.
+   *
+   * @return 누적 이벤트 수
+   */
+  public long getEvictedCount() {
+    return evicted.sum();
+  }
+
+  /**
+   * {@code WARN} 이상 큐가 가득 차 버린 새 이벤트 수를 반환한다.
+   *
+   * @return 누적 이벤트 수
+   */
+  public long getRejectedCount() {
+    return rejected.sum();
+  }
+
+  @Override
+  public void addAppender(Appender<ILoggingEvent> newAppender) {
+    appenders.addAppender(newAppender);
+  }
+
+  @Override
+  public Iterator<Appender<ILoggingEvent>> iteratorForAppenders() {
+    return appenders.iteratorForAppenders();
+  }
+
+  @Override
+  public Appender<ILoggingEvent> getAppender(String name) {
+    return appenders.getAppender(name);
+  }
+
+  @Override
+  public boolean isAttached(Appender<ILoggingEvent> appender) {
+    return appenders.isAttached(appender);
+  }
+
+  @Override
+  public void detachAndStopAllAppenders() {
+    appenders.detachAndStopAllAppenders();
+  }
+
+  @Override
+  public boolean detachAppender(Appender<ILoggingEvent> appender) {
+    return appenders.detachAppender(appender);
+  }
+
+  @Override
+  public boolean detachAppender(String name) {
+    return appenders.detachAppender(name);
+  }
+}
@@ -0,0 +1,101 @@
+package com.athenhub.projectinterface.global.infrastructure.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.filter.Filter;
+import ch.qos.logback.core.spi.FilterReply;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * 로거별로 초당 전달할 로그 이벤트 수를 제한하는 필터.
+ *
+ * <p>로거마다 1초 단위 구간을 두고 구간 안에서 {@link #setEventsPerSecond(int) eventsPerSecond}건까지만 통과시키고 나머지는
+ * 버린다. 반복문 안의 로그처럼 한 로거가 쏟아내는 이벤트가 큐와 Loki 전송량을 독차지하지 않게 한다. {@link #setMaxLevel(String)
+ * maxLevel}보다 높은 수준의 이벤트는 제한하지 않는다.
+ *
+ * <p>어펜더에 연결하면 해당 어펜더로 가는 이벤트에만 적용되므로, 콘솔 로그는 그대로 두고 Loki로 보내는 양만 줄일 수 있다.
+ *
+ * @author 김형섭
+ * @since 1.0.0
+ */
+public class LoggerRateLimitFilter extends Filter<ILoggingEvent> {
+  private static final long WINDOW_NANOS = 1_000_000_000L;
+
+  private final Map<String, Window> windows = new ConcurrentHashMap<>();
+  private final LongAdder denied = new LongAdder();
+  private final LongSupplier nanoTime;
+
+  private int eventsPerSecond = 200;
+  private Level maxLevel = Level.INFO;
+
+  /** 필터를 생성한다. */
+  public LoggerRateLimitFilter() {
+    this(System::nanoTime);
+  }
+
+  LoggerRateLimitFilter(LongSupplier nanoTime) {
+    this.nanoTime = nanoTime;
+  }
+
+  @Override
+  public FilterReply decide(ILoggingEvent event) {
+    if (event.getLevel().toInt() > maxLevel.toInt()) {
+      return FilterReply.NEUTRAL;
+    }
+    Window window = windows.computeIfAbsent(event.getLoggerName(), name -> new Window());
+    if (window.tryAcquire(nanoTime.getAsLong() / WINDOW_NANOS, eventsPerSecond)) {
+      return FilterReply.NEUTRAL;
+    }
+    denied.increment();
+    return FilterReply.DENY;
+  }
+
+  /**
+   * 로거별 초당 최대 이벤트 수를 설정한다.
+   *
+   * @param eventsPerSecond 초당 최대 이벤트 수
+   */
+  public void setEventsPerSecond(int eventsPerSecond) {
+    this.eventsPerSecond = eventsPerSecond;
+  }
+
+  public int getEventsPerSecond() {
+    return eventsPerSecond;
+  }
+
+  /**
+   * 제한할 최고 로그 수준을 설정한다. 이보다 높은 수준의 이벤트는 항상 통과한다.
+   *
+   * @param maxLevel 로그 수준 이름 (기본값 {@code INFO})
+   */
+  public void setMaxLevel(String maxLevel) {
+    this.maxLevel = Level.toLevel(maxLevel, Level.INFO);
+  }
+
+  /**
+   * 제한을 넘어 버린 이벤트 수를 반환한다.
+   *
+   * @return 누적 이벤트 수
+   */
+  public long getDeniedCount() {
+    return denied.sum();
+  }
+
+  /** 로거 하나의 현재 1초 구간과 구간 안에서 통과한 이벤트 수. */
+  private static final class Window {
+    private final AtomicLong second = new AtomicLong(Long.MIN_VALUE);
+    private final AtomicLong count = new AtomicLong();
+
+    boolean tryAcquire(long now, int limit) {
+      long current = second.get();
+      if (current != now && second.compareAndSet(current, now)) {
+        count.set(0);
+      }
+      return count.incrementAndGet() <= limit;
+    }
+  }
+}
@@ -0,0 +1,31 @@
+package com.athenhub.projectinterface.global.infrastructure.logging;
+
+import ch.qos.logback.classic.LoggerContext;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 로그 전송 파이프라인 설정 클래스.
+ *
+ * <p>파이프라인 자체는 {@code logback-spring.xml}의 {@code loki} 프로파일에서 구성하며, 이 설정은 구성된 {@link
+ * BoundedAsyncAppender}의 메트릭을 등록한다. {@code loki} 프로파일이 아니면 등록되는 메트릭이 없다.
+ *
+ * @author 김형섭
+ * @since 1.0.0
+ */
+@Configuration
+@ConditionalOnClass(LoggerContext.class)
+public class LoggingPipelineConfig {
+
+  /**
+   * 로그 전송 파이프라인 메트릭을 등록한다.
+   *
+   * @return 메트릭 바인더
+   */
+  @Bean
+  public LoggingPipelineMetrics loggingPipelineMetrics() {
+    return new LoggingPipelineMetrics((LoggerContext) LoggerFactory.getILoggerFactory());
+  }
+}
@@ -0,0 +1,94 @@
+package com.athenhub.projectinterface.global.infrastructure.logging;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * logback 설정에 등록된 {@link BoundedAsyncAppender}의 큐 상태와 버린 이벤트 수를 메트릭으로 노출한다.
+ *
+ * <ul>
+ *   <li>{@code athenhub.logging.queue.size}: 큐에 대기 중인 이벤트 수
+ *   <li>{@code athenhub.logging.queued}: 큐에 넣은 이벤트 수
+ *   <li>{@code athenhub.logging.dropped}: 버린 이벤트 수({@code reason}: {@code evicted}, {@code
+ *       rejected}, {@code rate_limited})
+ * </ul>
+ *
+ * <p>모든 메트릭에는 어펜더 이름이 {@code appender} 태그로 붙는다. {@code rate_limited}는 어펜더에 연결된 {@link
+ * LoggerRateLimitFilter}가 버린 이벤트 수다.
+ *
+ * @author 김형섭
+ * @since 1.0.0
+ */
+public class LoggingPipelineMetrics implements MeterBinder {
+  private final LoggerContext loggerContext;
+
+  /**
+   * 메트릭 바인더를 생성한다.
+   *
+   * @param loggerContext 어펜더를 찾을 logback 컨텍스트
+   */
+  public LoggingPipelineMetrics(LoggerContext loggerContext) {
+    this.loggerContext = loggerContext;
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    for (BoundedAsyncAppender appender : asyncAppenders()) {
+      String name = appender.getName();
+      Gauge.builder("athenhub.logging.queue.size", appender, BoundedAsyncAppender::getQueuedCount)
+          .description("Loki 전송 큐에 대기 중인 로그 이벤트 수")
+          .tag("appender", name)
+          .register(registry);
+      FunctionCounter.builder(
+              "athenhub.logging.queued", appender, BoundedAsyncAppender::getEnqueuedCount)
+          .description("Loki 전송 큐에 넣은 로그 이벤트 수")
+          .tag("appender", name)
+          .register(registry);
+      dropped(registry, name, "evicted", appender, BoundedAsyncAppender::getEvictedCount);
+      dropped(registry, name, "rejected", appender, BoundedAsyncAppender::getRejectedCount);
+      dropped(registry, name, "rate_limited", appender, LoggingPipelineMetrics::rateLimited);
+    }
+  }
+
+  private static void dropped(
+      MeterRegistry registry,
+      String appender,
+      String reason,
+      BoundedAsyncAppender source,
+      ToDoubleFunction<BoundedAsyncAppender> count) {
+    FunctionCounter.builder("athenhub.logging.dropped", source, count)
+        .description("Loki로 보내지 않고 버린 로그 이벤트 수")
+        .tags("appender", appender, "reason", reason)
+        .register(registry);
+  }
+
+  private static double rateLimited(BoundedAsyncAppender appender) {
+    return appender.getCopyOfAttachedFiltersList().stream()
+        .filter(LoggerRateLimitFilter.class::isInstance)
+        .mapToLong(filter -> ((LoggerRateLimitFilter) filter).getDeniedCount())
+        .sum();
+  }
+
+  private Set<BoundedAsyncAppender> asyncAppenders() {
+    Set<BoundedAsyncAppender> found = Collections.newSetFromMap(new IdentityHashMap<>());
+    for (Logger logger : loggerContext.getLoggerList()) {
+      for (Iterator<Appender<ILoggingEvent>> it = logger.iteratorForAppenders(); it.hasNext(); ) {
+        if (it.next() instanceof BoundedAsyncAppender appender) {
+          found.add(appender);
+        }
+      }
+    }
+    return found;
+  }
+}
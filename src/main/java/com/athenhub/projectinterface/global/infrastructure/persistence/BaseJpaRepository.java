@@ -0,0 +1,477 @@
+package com.athenhub.projectinterface.global.infrastructure.persistence;
+
+import com.athenhub.projectinterface.global.domain.AbstractAuditEntity;
+import com.athenhub.projectinterface.global.domain.AbstractTimeEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityNotFoundException;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.IdentifiableType;
+import jakarta.persistence.metamodel.ManagedType;
+import jakarta.persistence.metamodel.Metamodel;
+import jakarta.persistence.metamodel.SingularAttribute;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+import org.hibernate.CacheMode;
+import org.hibernate.Hibernate;
+import org.hibernate.Session;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.jpa.HibernateHints;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.core.convert.ConversionException;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.data.auditing.DateTimeProvider;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.support.JpaEntityInformation;
+import org.springframework.data.jpa.repository.support.SimpleJpaRepository;
+import org.springframework.data.util.Streamable;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 모든 리포지토리의 기본 구현체.
+ *
+ * <p>{@link SimpleJpaRepository}의 기능에 더해 {@link BulkAuditRepository}, {@link KeysetRepository},
+ * {@link LastModifiedRepository}, {@link StreamingRepository} 등 {@code global.infrastructure}에서
+ * 제공하는 공통 리포지토리 조각을 구현합니다. 리포지토리 인터페이스가 해당 조각을 상속하면 별도 구현 없이 기능을 사용할 수 있습니다.
+ *
+ * <p>Hibernate 필터는 식별자로 엔티티를 읽는 {@code EntityManager#find}에는 적용되지 않으므로, 논리 삭제 필터가 켜진
+ * 상태에서 {@link AbstractAuditEntity} 하위 엔티티의 {@link #findById}, {@link #existsById}, {@link
+ * #getReferenceById}는 기본 동작대로 읽은 엔티티가 삭제되었으면 없는 것으로 처리합니다. 조회는 {@code EntityManager#find}를 그대로
+ * 사용하므로 2차 캐시와 잠금 모드, 쿼리 힌트가 적용됩니다. {@code SoftDeleteFilter}로 필터를 해제하면 기본 동작을 따릅니다.
+ *
+ * @param <T> 엔티티 타입
+ * @param <IdT> 식별자 타입
+ * @author 김형섭
+ * @since 1.0.0
+ */
+public class BaseJpaRepository<T, IdT> extends SimpleJpaRepository<T, IdT>
+    implements BulkAuditRepository<T, IdT>,
+        KeysetRepository<T, IdT>,
+        LastModifiedRepository<T, IdT>,
+        StreamingRepository<T, IdT> {
+  private static final String DEFAULT_AUDITOR = "SYSTEM";
+  private static final String CREATED_AT = "createdAt";
+  private static final String UPDATED_AT = "updatedAt";
+  private static final String DELETED_AT = "deletedAt";
+
+  private final JpaEntityInformation<T, ?> entityInformation;
+  private final EntityManager entityManager;
+  private final AuditorAware<String> auditorAware;
+  private final DateTimeProvider dateTimeProvider;
+  private final BulkChangeListener bulkChangeListener;
+  private final PersistenceProperties properties;
+  private final String versionAttribute;
+
+  /**
+   * 기본 리포지토리를 생성한다.
+   *
+   * @param entityInformation 엔티티 메타 정보
+   * @param entityManager 엔티티 매니저
+   * @param auditorAware 감사자 정보 제공자
+   * @param dateTimeProvider 감사 일시 제공자
+   * @param bulkChangeListener 벌크 변경 리스너 (없으면 null)
+   * @param properties 영속성 설정
+   */
+  public BaseJpaRepository(
+      JpaEntityInformation<T, ?> entityInformation,
+      EntityManager entityManager,
+      AuditorAware<String> auditorAware,
+      DateTimeProvider dateTimeProvider,
+      BulkChangeListener bulkChangeListener,
+      PersistenceProperties properties) {
+    super(entityInformation, entityManager);
+    this.entityInformation = entityInformation;
+    this.entityManager = entityManager;
+    this.auditorAware = auditorAware;
+    this.dateTimeProvider = dateTimeProvider;
+    this.bulkChangeListener = bulkChangeListener;
+    this.properties = properties;
+    this.versionAttribute =
+        versionAttributeName(entityManager.getMetamodel(), entityInformation.getJavaType());
+  }
+
+  @Override
+  public Optional<T> findById(IdT id) {
+    Optional<T> found = super.findById(id);
+    return isSoftDeleteFiltered() ? found.filter(entity -> !isDeleted(entity)) : found;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>논리 삭제 필터가 켜진 상태의 {@link AbstractAuditEntity} 하위 엔티티는 {@link #findById}로 읽으므로, 2차 캐시나
+   * 영속성 컨텍스트에 있으면 쿼리를 실행하지 않는다.
+   */
+  @Override
+  public boolean existsById(IdT id) {
+    if (!isSoftDeleteFiltered()) {
+      return super.existsById(id);
+    }
+    return findById(id).isPresent();
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>논리 삭제 필터가 켜진 상태의 {@link AbstractAuditEntity} 하위 엔티티가 이미 영속성 컨텍스트에 읽혀 있고 삭제되었으면 {@link
+   * EntityNotFoundException}을 던진다. 읽혀 있지 않으면 기본 동작대로 프록시를 반환하며, 삭제 여부는 확인하지 않는다.
+   */
+  @Override
+  public T getReferenceById(IdT id) {
+    T reference = super.getReferenceById(id);
+    if (isSoftDeleteFiltered() && Hibernate.isInitialized(reference) && isDeleted(reference)) {
+      throw new EntityNotFoundException(
+          entityInformation.getEntityName() + " 엔티티를 찾을 수 없습니다: " + id);
+    }
+    return reference;
+  }
+
+  @Override
+  @Transactional
+  public int softDeleteAllById(Iterable<IdT> ids) {
+    return updateAudited(BulkChange.Type.SOFT_DELETE, Streamable.of(ids).toList());
+  }
+
+  @Override
+  @Transactional
+  public int softDeleteAll(Specification<T> spec) {
+    return updateAudited(BulkChange.Type.SOFT_DELETE, findIds(spec));
+  }
+
+  @Override
+  @Transactional
+  public int markUpdatedAllById(Iterable<IdT> ids) {
+    return updateAudited(BulkChange.Type.MARK_UPDATED, Streamable.of(ids).toList());
+  }
+
+  @Override
+  @Transactional
+  public int markUpdatedAll(Specification<T> spec) {
+    return updateAudited(BulkChange.Type.MARK_UPDATED, findIds(spec));
+  }
+
+  @Override
+  public KeysetPage<T> findPage(KeysetPageRequest request) {
+    return findPage(null, request);
+  }
+
+  @Override
+  public KeysetPage<T> findPage(Specification<T> spec, KeysetPageRequest request) {
+    requireTimeEntity("키셋 페이지 조회");
+    KeysetCursor cursor = request.cursor() == null ? null : KeysetCursor.decode(request.cursor());
+    Sort.Direction direction = cursor == null ? request.direction() : cursor.direction();
+    boolean backward = cursor != null && cursor.backward();
+
+    List<T> rows = findKeyset(spec, cursor, direction.isAscending() != backward, request.size());
+    boolean more = rows.size() > request.size();
+    List<T> content = new ArrayList<>(more ? rows.subList(0, request.size()) : rows);
+    if (backward) {
+      Collections.reverse(content);
+    }
+    if (content.isEmpty()) {
+      return new KeysetPage<>(content, null, null);
+    }
+
+    boolean hasNext = backward || more;
+    boolean hasPrevious = backward ? more : cursor != null;
+    return new KeysetPage<>(
+        content,
+        hasNext ? cursor(content.getLast(), direction, false) : null,
+        hasPrevious ? cursor(content.getFirst(), direction, true) : null);
+  }
+
+  @Override
+  public Optional<EntityVersion> findLastModifiedById(IdT id) {
+    requireTimeEntity("수정 일시 조회");
+    CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+    CriteriaQuery<Tuple> query = builder.createTupleQuery();
+    Root<T> root = query.from(getDomainClass());
+    Path<LocalDateTime> updatedAt = root.get(UPDATED_AT);
+    if (versionAttribute == null) {
+      query.multiselect(updatedAt);
+    } else {
+      query.multiselect(updatedAt, root.get(versionAttribute));
+    }
+    query.where(builder.equal(root.get(idAttributeName()), id));
+
+    return entityManager
+        .createQuery(query)
+        .getResultStream()
+        .findFirst()
+        .map(
+            tuple ->
+                new EntityVersion(
+                    id,
+                    tuple.get(0, LocalDateTime.class),
+                    versionAttribute == null ? null : ((Number) tuple.get(1)).longValue()));
+  }
+
+  @Override
+  public Stream<T> streamAll(Specification<T> spec) {
+    CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+    CriteriaQuery<T> query = builder.createQuery(getDomainClass());
+    Root<T> root = query.from(getDomainClass());
+    if (spec != null) {
+      Predicate predicate = spec.toPredicate(root, query, builder);
+      if (predicate != null) {
+        query.where(predicate);
+      }
+    }
+    query.orderBy(builder.asc(root.get(idAttributeName())));
+
+    return entityManager
+        .createQuery(query)
+        .setHint(HibernateHints.HINT_FETCH_SIZE, properties.streamFetchSize())
+        .setHint(HibernateHints.HINT_READ_ONLY, true)
+        .setHint(HibernateHints.HINT_CACHE_MODE, CacheMode.IGNORE)
+        .getResultStream();
+  }
+
+  /**
+   * 키셋 조건으로 한 페이지보다 한 행 더 조회한다.
+   *
+   * <p>{@code (created_at, id) > (?, ?)} 조건을 {@code created_at >= ? AND (created_at > ? OR id >
+   * ?)}로 풀어 쓴다. 앞쪽 범위 조건이 인덱스 탐색 시작 위치를 정하므로 행 값 비교를 지원하지 않는 방식으로도 인덱스를 끝까지 읽지 않는다.
+   */
+  private List<T> findKeyset(
+      Specification<T> spec, KeysetCursor cursor, boolean ascending, int size) {
+    CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+    CriteriaQuery<T> query = builder.createQuery(getDomainClass());
+    Root<T> root = query.from(getDomainClass());
+    Path<LocalDateTime> createdAt = root.get(CREATED_AT);
+    Path<Comparable<Object>> id = root.get(idAttributeName());
+
+    List<Predicate> predicates = new ArrayList<>();
+    if (spec != null) {
+      Predicate predicate = spec.toPredicate(root, query, builder);
+      if (predicate != null) {
+        predicates.add(predicate);
+      }
+    }
+    if (cursor != null) {
+      Comparable<Object> cursorId = cursorId(cursor);
+      predicates.add(
+          ascending
+              ? builder.and(
+                  builder.greaterThanOrEqualTo(createdAt, cursor.createdAt()),
+                  builder.or(
+                      builder.greaterThan(createdAt, cursor.createdAt()),
+                      builder.greaterThan(id, cursorId)))
+              : builder.and(
+                  builder.lessThanOrEqualTo(createdAt, cursor.createdAt()),
+                  builder.or(
+                      builder.lessThan(createdAt, cursor.createdAt()),
+                      builder.lessThan(id, cursorId))));
+    }
+
+    query
+        .where(predicates.toArray(Predicate[]::new))
+        .orderBy(
+            ascending
+                ? List.of(builder.asc(createdAt), builder.asc(id))
+                : List.of(builder.desc(createdAt), builder.desc(id)));
+    return entityManager.createQuery(query).setMaxResults(size + 1).getResultList();
+  }
+
+  private String cursor(T entity, Sort.Direction direction, boolean backward) {
+    return new KeysetCursor(
+            direction,
+            backward,
+            ((AbstractTimeEntity) entity).getCreatedAt(),
+            String.valueOf(entityInformation.getId(entity)))
+        .encode();
+  }
+
+  @SuppressWarnings("unchecked")
+  private Comparable<Object> cursorId(KeysetCursor cursor) {
+    try {
+      return (Comparable<Object>)
+          DefaultConversionService.getSharedInstance()
+              .convert(cursor.id(), entityInformation.getIdType());
+    } catch (ConversionException e) {
+      throw new IllegalArgumentException("유효하지 않은 커서입니다: " + cursor.id(), e);
+    }
+  }
+
+  /**
+   * 감사 필드를 갱신하는 벌크 UPDATE를 청크 단위로 실행한다.
+   *
+   * <p>감사 일시는 감사 기능과 같은 {@link DateTimeProvider}에서 얻으므로 엔티티 저장 시 기록되는 값과 정밀도와 고정 여부가 같다.
+   * {@code @Version} 속성이 있는 엔티티는 갱신하는 행의 버전도 1 증가시켜, 같은 행을 먼저 읽어 둔 다른 트랜잭션이 이후에 변경을 덮어쓰지 못하고 낙관적
+   * 잠금 충돌로 실패하도록 한다. 실행 전에 영속성
+   * 컨텍스트를 flush하여 대기 중인 변경이 덮어써지지 않도록 하고, 각 청크 실행 후에는 영속성 컨텍스트에 있는 엔티티를 다시 읽어 데이터베이스와 상태를 맞춘다.
+   *
+   * <p>{@link BulkChangeListener}가 있으면 청크마다 갱신 대상 행을 먼저 잠가 읽고 그 행만 갱신한 뒤, 실제로 갱신한 식별자를 리스너에
+   * 전달한다.
+   */
+  private int updateAudited(BulkChange.Type type, List<?> ids) {
+    requireAuditEntity();
+    if (ids.isEmpty()) {
+      return 0;
+    }
+
+    LocalDateTime now =
+        dateTimeProvider.getNow().map(LocalDateTime::from).orElseGet(LocalDateTime::now);
+    String auditor = auditorAware.getCurrentAuditor().orElse(DEFAULT_AUDITOR);
+    String jpql = type == BulkChange.Type.SOFT_DELETE ? softDeleteQuery() : markUpdatedQuery();
+    int chunkSize = properties.bulkChunkSize();
+    int updated = 0;
+
+    entityManager.flush();
+    for (int from = 0; from < ids.size(); from += chunkSize) {
+      List<?> chunk = ids.subList(from, Math.min(from + chunkSize, ids.size()));
+      List<?> targets = bulkChangeListener == null ? chunk : lockTargets(type, chunk);
+      if (targets.isEmpty()) {
+        continue;
+      }
+      updated +=
+          entityManager
+              .createQuery(jpql)
+              .setParameter("ids", targets)
+              .setParameter("now", now)
+              .setParameter("auditor", auditor)
+              .executeUpdate();
+      refreshManagedEntities(targets);
+      if (bulkChangeListener != null) {
+        bulkChangeListener.onBulkChange(
+            new BulkChange(getDomainClass().getName(), type, targets, auditor, now));
+      }
+    }
+    return updated;
+  }
+
+  private List<Object> lockTargets(BulkChange.Type type, List<?> ids) {
+    CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+    CriteriaQuery<Object> query = builder.createQuery(Object.class);
+    Root<T> root = query.from(getDomainClass());
+    Path<Object> id = root.get(idAttributeName());
+
+    Predicate predicate = id.in(ids);
+    if (type == BulkChange.Type.SOFT_DELETE) {
+      predicate = builder.and(predicate, builder.isNull(root.get(DELETED_AT)));
+    }
+    query.select(id).where(predicate);
+    return entityManager
+        .createQuery(query)
+        .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+        .getResultList();
+  }
+
+  private List<Object> findIds(Specification<T> spec) {
+    CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+    CriteriaQuery<Object> query = builder.createQuery(Object.class);
+    Root<T> root = query.from(getDomainClass());
+    query.select(root.get(idAttributeName()));
+
+    Predicate predicate = spec.toPredicate(root, query, builder);
+    if (predicate != null) {
+      query.where(predicate);
+    }
+    return entityManager.createQuery(query).getResultList();
+  }
+
+  private void refreshManagedEntities(List<?> ids) {
+    SharedSessionContractImplementor session =
+        entityManager.unwrap(SharedSessionContractImplementor.class);
+    EntityPersister persister =
+        session.getFactory().getMappingMetamodel().getEntityDescriptor(getDomainClass());
+    PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+
+    for (Object id : ids) {
+      Object managed = persistenceContext.getEntity(session.generateEntityKey(id, persister));
+      if (managed != null) {
+        entityManager.refresh(managed);
+      }
+    }
+  }
+
+  private String softDeleteQuery() {
+    return "update "
+        + entityInformation.getEntityName()
+        + " e set e.deletedAt = :now, e.deletedBy = :auditor,"
+        + " e.updatedAt = :now, e.updatedBy = :auditor"
+        + incrementVersion()
+        + " where e."
+        + idAttributeName()
+        + " in :ids and e.deletedAt is null";
+  }
+
+  private String markUpdatedQuery() {
+    return "update "
+        + entityInformation.getEntityName()
+        + " e set e.updatedAt = :now, e.updatedBy = :auditor"
+        + incrementVersion()
+        + " where e."
+        + idAttributeName()
+        + " in :ids";
+  }
+
+  private String incrementVersion() {
+    return versionAttribute == null
+        ? ""
+        : ", e." + versionAttribute + " = e." + versionAttribute + " + 1";
+  }
+
+  private String idAttributeName() {
+    if (entityInformation.hasCompositeId() || entityInformation.getIdAttribute() == null) {
+      throw new UnsupportedOperationException(
+          "복합 식별자를 가진 엔티티는 벌크 연산을 지원하지 않습니다: " + entityInformation.getEntityName());
+    }
+    return entityInformation.getIdAttribute().getName();
+  }
+
+  private static String versionAttributeName(Metamodel metamodel, Class<?> domainClass) {
+    ManagedType<?> type = metamodel.managedType(domainClass);
+    if (!(type instanceof IdentifiableType<?> identifiable)
+        || !identifiable.hasVersionAttribute()) {
+      return null;
+    }
+    return identifiable.getSingularAttributes().stream()
+        .filter(SingularAttribute::isVersion)
+        .map(Attribute::getName)
+        .findFirst()
+        .orElse(null);
+  }
+
+  private static boolean isDeleted(Object entity) {
+    return ((AbstractAuditEntity) Hibernate.unproxy(entity)).isDeleted();
+  }
+
+  private boolean isSoftDeleteFiltered() {
+    return AbstractAuditEntity.class.isAssignableFrom(getDomainClass())
+        && entityManager
+                .unwrap(Session.class)
+                .getEnabledFilter(AbstractAuditEntity.SOFT_DELETE_FILTER)
+            != null;
+  }
+
+  private void requireTimeEntity(String operation) {
+    if (!AbstractTimeEntity.class.isAssignableFrom(getDomainClass())) {
+      throw new UnsupportedOperationException(
+          "AbstractTimeEntity를 상속한 엔티티만 "
+              + operation
+              + "를 지원합니다: "
+              + entityInformation.getEntityName());
+    }
+  }
+
+  private void requireAuditEntity() {
+    if (!AbstractAuditEntity.class.isAssignableFrom(getDomainClass())) {
+      throw new UnsupportedOperationException(
+          "AbstractAuditEntity를 상속한 엔티티만 벌크 감사 연산을 지원합니다: " + entityInformation.getEntityName());
+    }
+  }
+}
@@ -0,0 +1,132 @@
+package com.athenhub.projectinterface.global.infrastructure.persistence;
+
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.auditing.CurrentDateTimeProvider;
+import org.springframework.data.auditing.DateTimeProvider;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.data.jpa.repository.support.JpaEntityInformation;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactoryBean;
+import org.springframework.data.jpa.repository.support.JpaRepositoryImplementation;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.core.RepositoryInformation;
+import org.springframework.data.repository.core.RepositoryMetadata;
+import org.springframework.data.repository.core.support.RepositoryFactorySupport;
+
+/**
+ * {@link BaseJpaRepository}를 기본 구현체로 사용하는 리포지토리 팩토리 빈.
+ *
+ * <p>기본 구현체가 스프링 빈({@link AuditorAware}, {@link DateTimeProvider}, {@link BulkChangeListener},
+ * {@link PersistenceProperties})을 사용할 수 있도록 팩토리 빈에서 의존성을 주입받아 전달합니다.
+ *
+ * @param <R> 리포지토리 타입
+ * @param <T> 엔티티 타입
+ * @param <IdT> 식별자 타입
+ * @author 김형섭
+ * @since 1.0.0
+ */
+public class BaseJpaRepositoryFactoryBean<R extends Repository<T, IdT>, T, IdT>
+    extends JpaRepositoryFactoryBean<R, T, IdT> {
+  private AuditorAware<String> auditorAware;
+  private DateTimeProvider dateTimeProvider = CurrentDateTimeProvider.INSTANCE;
+  private BulkChangeListener bulkChangeListener;
+  private PersistenceProperties properties;
+
+  /**
+   * 리포지토리 팩토리 빈을 생성한다.
+   *
+   * @param repositoryInterface 리포지토리 인터페이스
+   */
+  public BaseJpaRepositoryFactoryBean(Class<? extends R> repositoryInterface) {
+    super(repositoryInterface);
+  }
+
+  /**
+   * 감사자 정보 제공자를 주입한다.
+   *
+   * @param auditorAware 감사자 정보 제공자
+   */
+  @Autowired
+  public void setAuditorAware(AuditorAware<String> auditorAware) {
+    this.auditorAware = auditorAware;
+  }
+
+  /**
+   * 감사 일시 제공자를 주입한다. 감사 기능과 같은 제공자를 사용하여 벌크 연산의 감사 일시가 엔티티 저장 시와 같은 규칙으로 기록되도록 한다.
+   *
+   * @param dateTimeProvider 감사 일시 제공자
+   */
+  @Autowired(required = false)
+  public void setDateTimeProvider(DateTimeProvider dateTimeProvider) {
+    this.dateTimeProvider = dateTimeProvider;
+  }
+
+  /**
+   * 벌크 변경 리스너를 주입한다. 벌크 감사 연산으로 갱신한 행을 변경 이력 등에 기록할 때 사용한다.
+   *
+   * @param bulkChangeListener 벌크 변경 리스너
+   */
+  @Autowired(required = false)
+  public void setBulkChangeListener(BulkChangeListener bulkChangeListener) {
+    this.bulkChangeListener = bulkChangeListener;
+  }
+
+  /**
+   * 영속성 설정을 주입한다.
+   *
+   * @param properties 영속성 설정
+   */
+  @Autowired
+  public void setPersistenceProperties(PersistenceProperties properties) {
+    this.properties = properties;
+  }
+
+  @Override
+  protected RepositoryFactorySupport createRepositoryFactory(EntityManager entityManager) {
+    return new BaseJpaRepositoryFactory(
+        entityManager, auditorAware, dateTimeProvider, bulkChangeListener, properties);
+  }
+
+  private static class BaseJpaRepositoryFactory extends JpaRepositoryFactory {
+    private final AuditorAware<String> auditorAware;
+    private final DateTimeProvider dateTimeProvider;
+    private final BulkChangeListener bulkChangeListener;
+    private final PersistenceProperties properties;
+
+    BaseJpaRepositoryFactory(
+        EntityManager entityManager,
+        AuditorAware<String> auditorAware,
+        DateTimeProvider dateTimeProvider,
+        BulkChangeListener bulkChangeListener,
+        PersistenceProperties properties) {
+      super(entityManager);
+      this.auditorAware = auditorAware;
+      this.dateTimeProvider = dateTimeProvider;
+      this.bulkChangeListener = bulkChangeListener;
+      this.properties = properties;
+    }
+
+    @Override
+    protected JpaRepositoryImplementation<?, ?> getTargetRepository(
+        RepositoryInformation information, EntityManager entityManager) {
+      return createRepository(getEntityInformation(information.getDomainType()), entityManager);
+    }
+
+    @Override
+    protected Class<?> getRepositoryBaseClass(RepositoryMetadata metadata) {
+      return BaseJpaRepository.class;
+    }
+
+    private <T> BaseJpaRepository<T, ?> createRepository(
+        JpaEntityInformation<T, ?> entityInformation, EntityManager entityManager) {
+      return new BaseJpaRepository<>(
+          entityInformation,
+          entityManager,
+          auditorAware,
+          dateTimeProvider,
+          bulkChangeListener,
+          properties);
+    }
+  }
+}
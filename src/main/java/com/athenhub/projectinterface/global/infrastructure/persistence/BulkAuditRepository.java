@@ -0,0 +1,60 @@
+package com.athenhub.projectinterface.global.infrastructure.persistence;
+
+import com.athenhub.projectinterface.global.domain.AbstractAuditEntity;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.repository.NoRepositoryBean;
+import org.springframework.data.repository.Repository;
+
+/**
+ * {@link AbstractAuditEntity} 하위 엔티티에 대한 벌크 감사 연산을 제공하는 리포지토리 조각(fragment).
+ *
+ * <p>엔티티를 하나씩 조회해 {@link AbstractAuditEntity#delete(String)}를 호출하는 대신, 청크 단위의 {@code UPDATE ...
+ * WHERE id IN (...)} 문으로 여러 행을 한 번에 갱신합니다. 감사자와 시각은 JPA Auditing과 동일하게 {@code AuditorAware}와 현재
+ * 시각으로 결정되며, 갱신 후에는 영속성 컨텍스트에 남아 있는 엔티티를 다시 읽어 상태를 맞춥니다. {@code @Version} 속성이 있는
+ * 엔티티는 갱신한 행의 낙관적 잠금 버전도 함께 증가시키므로, 같은 행을 먼저 읽어 둔 다른 트랜잭션의 변경이 벌크 갱신을 덮어쓰지 않습니다.
+ *
+ * <pre>{@code
+ * public interface MemberRepository
+ *     extends JpaRepository<Member, Long>, BulkAuditRepository<Member, Long> {}
+ * }</pre>
+ *
+ * @param <T> 엔티티 타입. {@link AbstractAuditEntity}를 상속해야 한다.
+ * @param <IdT> 식별자 타입
+ * @author 김형섭
+ * @since 1.0.0
+ */
+@NoRepositoryBean
+public interface BulkAuditRepository<T, IdT> extends Repository<T, IdT> {
+
+  /**
+   * 주어진 ID의 엔티티를 논리 삭제한다. 이미 삭제된 행은 갱신하지 않는다.
+   *
+   * @param ids 삭제할 엔티티 ID 목록
+   * @return 갱신된 행 수
+   */
+  int softDeleteAllById(Iterable<IdT> ids);
+
+  /**
+   * 조건에 해당하는 엔티티를 논리 삭제한다.
+   *
+   * @param spec 삭제 대상 조건
+   * @return 갱신된 행 수
+   */
+  int softDeleteAll(Specification<T> spec);
+
+  /**
+   * 주어진 ID의 엔티티에 수정자(updatedBy)와 수정 일시(updatedAt)를 다시 기록한다.
+   *
+   * @param ids 대상 엔티티 ID 목록
+   * @return 갱신된 행 수
+   */
+  int markUpdatedAllById(Iterable<IdT> ids);
+
+  /**
+   * 조건에 해당하는 엔티티에 수정자(updatedBy)와 수정 일시(updatedAt)를 다시 기록한다.
+   *
+   * @param spec 대상 조건
+   * @return 갱신된 행 수
+   */
+  int markUpdatedAll(Specification<T> spec);
+}
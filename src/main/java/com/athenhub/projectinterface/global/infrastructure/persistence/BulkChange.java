@@ -0,0 +1,44 @@
+package com.athenhub.projectinterface.global.infrastructure.persistence;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 영속성 컨텍스트를 거치지 않고 실행된 벌크 변경 한 건.
+ *
+ * @param entityType 엔티티 클래스 이름
+ * @param type 변경 종류
+ * @param ids 실제로 변경된 행의 식별자 목록
+ * @param changedBy 변경자
+ * @param changedAt 변경 일시
+ * @author 김형섭
+ * @since 1.0.0
+ */
+public record BulkChange(
+    String entityType, Type type, List<?> ids, String changedBy, LocalDateTime changedAt) {
+
+  /**
+   * 벌크 변경을 생성한다.
+   *
+   * @param entityType 엔티티 클래스 이름
+   * @param type 변경 종류
+   * @param ids 실제로 변경된 행의 식별자 목록
+   * @param changedBy 변경자
+   * @param changedAt 변경 일시
+   */
+  public BulkChange {
+    ids = List.copyOf(ids);
+  }
+
+  /** 벌크 변경 종류. */
+  public enum Type {
+    /** {@link BulkAuditRepository}의 논리 삭제. */
+    SOFT_DELETE,
+
+    /** {@link BulkAuditRepository}의 수정 일시 갱신. */
+    MARK_UPDATED,
+
+    /** 보존 기간이 지난 논리 삭제 행의 물리 삭제. */
+    PURGE
+  }
+}
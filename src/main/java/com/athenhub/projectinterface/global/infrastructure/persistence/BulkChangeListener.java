@@ -0,0 +1,21 @@
+package com.athenhub.projectinterface.global.infrastructure.persistence;
+
+/**
+ * 엔티티 리스너가 동작하지 않는 벌크 변경을 통지받는 리스너.
+ *
+ * <p>{@link BaseJpaRepository}의 벌크 감사 연산과 논리 삭제 행 정리 작업이 청크마다 변경한 행의 식별자로 호출한다. 변경을 실행한 트랜잭션
+ * 안에서 호출되므로, 같은 트랜잭션의 커넥션으로 기록하면 변경과 함께 커밋되거나 롤백된다. 스프링 빈으로 등록하면 자동으로 사용된다.
+ *
+ * @author 김형섭
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface BulkChangeListener {
+
+  /**
+   * 벌크 변경을 통지받는다.
+   *
+   * @param change 벌크 변경
+   */
+  void onBulkChange(BulkChange change);
+}
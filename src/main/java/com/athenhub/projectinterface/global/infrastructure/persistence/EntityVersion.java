@@ -0,0 +1,43 @@
+package com.athenhub.projectinterface.global.infrastructure.persistence;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * 엔티티 본문 없이 조회한 엔티티의 변경 시점 정보.
+ *
+ * <p>조건부 요청({@code If-None-Match}, {@code If-Modified-Since})을 검증할 때 엔티티를 읽고 직렬화하는 대신 이 값으로 {@code
+ * ETag}와 {@code Last-Modified}를 만든다.
+ *
+ * @param id 엔티티 식별자
+ * @param updatedAt 수정 일시
+ * @param version 낙관적 잠금 버전. {@code @Version} 속성이 없는 엔티티는 null
+ * @author 김형섭
+ * @since 1.0.0
+ */
+public record EntityVersion(Object id, LocalDateTime updatedAt, Long version) {
+  private static final LocalDateTime EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+  /**
+   * 엔티티 식별자, 버전, 수정 일시(µs)로 만든 약한(weak) ETag를 반환한다.
+   *
+   * <p>같은 엔티티라도 콘텐츠 협상에 따라 표현이 달라질 수 있으므로 약한 ETag를 사용한다. 버전이 없는 엔티티는 식별자와 수정 일시로만 만든다.
+   *
+   * @return {@code W/"<id>-<version>-<updatedAt>"} 또는 {@code W/"<id>-<updatedAt>"} 형식의 ETag
+   */
+  public String etag() {
+    long micros = ChronoUnit.MICROS.between(EPOCH, updatedAt);
+    String prefix = version == null ? id + "-" : id + "-" + version + "-";
+    return "W/\"" + prefix + Long.toHexString(micros) + "\"";
+  }
+
+  /**
+   * {@code Last-Modified} 헤더에 사용할 수정 일시를 반환한다.
+   *
+   * @return 시스템 시간대 기준 수정 일시(epoch ms)
+   */
+  public long lastModified() {
+    return updatedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+  }
+}
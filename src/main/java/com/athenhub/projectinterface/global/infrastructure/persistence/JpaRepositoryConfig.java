@@ -0,0 +1,22 @@
+package com.athenhub.projectinterface.global.infrastructure.persistence;
+
+import com.athenhub.projectinterface.ProjectInterfaceApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+/**
+ * Spring Data JPA 리포지토리 설정 클래스.
+ *
+ * <p>애플리케이션 패키지 전체의 리포지토리가 {@link BaseJpaRepository}를 기본 구현체로 사용하도록 {@link
+ * BaseJpaRepositoryFactoryBean}을 지정합니다.
+ *
+ * @author 김형섭
+ * @since 1.0.0
+ */
+@Configuration
+@EnableConfigurationProperties(PersistenceProperties.class)
+@EnableJpaRepositories(
+    basePackageClasses = ProjectInterfaceApplication.class,
+    repositoryFactoryBeanClass = BaseJpaRepositoryFactoryBean.class)
+public class JpaRepositoryConfig {}
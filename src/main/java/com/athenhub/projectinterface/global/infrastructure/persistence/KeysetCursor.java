@@ -0,0 +1,68 @@
+package com.athenhub.projectinterface.global.infrastructure.persistence;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import org.springframework.data.domain.Sort;
+
+/**
+ * 키셋 페이지의 기준 행 위치.
+ *
+ * <p>정렬 방향, 이동 방향, 기준 행의 {@code created_at}과 식별자를 URL-safe Base64 문자열로 인코딩한다. 클라이언트는 커서 내용을 해석하지 않고
+ * 그대로 돌려보내기만 하면 된다.
+ *
+ * @param direction 정렬 방향
+ * @param backward 기준 행 이전 페이지를 가리키면 true
+ * @param createdAt 기준 행의 생성 일시
+ * @param id 기준 행의 식별자 문자열
+ * @author 김형섭
+ * @since 1.0.0
+ */
+record KeysetCursor(
+    Sort.Direction direction, boolean backward, LocalDateTime createdAt, String id) {
+  private static final String SEPARATOR = "|";
+
+  String encode() {
+    String raw =
+        String.join(
+            SEPARATOR,
+            direction.isAscending() ? "A" : "D",
+            backward ? "P" : "N",
+            createdAt.toString(),
+            id);
+    return Base64.getUrlEncoder()
+        .withoutPadding()
+        .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  static KeysetCursor decode(String cursor) {
+    String[] parts;
+    try {
+      String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+      parts = raw.split("\\" + SEPARATOR, 4);
+    } catch (IllegalArgumentException e) {
+      throw invalid(cursor, e);
+    }
+    if (parts.length != 4
+        || !parts[0].matches("[AD]")
+        || !parts[1].matches("[NP]")
+        || parts[3].isEmpty()) {
+      throw invalid(cursor, null);
+    }
+
+    try {
+      return new KeysetCursor(
+          parts[0].equals("A") ? Sort.Direction.ASC : Sort.Direction.DESC,
+          parts[1].equals("P"),
+          LocalDateTime.parse(parts[2]),
+          parts[3]);
+    } catch (DateTimeParseException e) {
+      throw invalid(cursor, e);
+    }
+  }
+
+  private static IllegalArgumentException invalid(String cursor, Exception cause) {
+    return new IllegalArgumentException("유효하지 않은 커서입니다: " + cursor, cause);
+  }
+}
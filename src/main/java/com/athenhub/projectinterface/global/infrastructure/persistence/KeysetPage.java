@@ -0,0 +1,34 @@
+package com.athenhub.projectinterface.global.infrastructure.persistence;
+
+import java.util.List;
+
+/**
+ * 키셋 페이지 조회 결과.
+ *
+ * @param content 페이지 내용. 요청한 정렬 방향 순서이다.
+ * @param nextCursor 다음 페이지 커서. 다음 페이지가 없으면 {@code null}
+ * @param previousCursor 이전 페이지 커서. 이전 페이지가 없으면 {@code null}
+ * @param <T> 엔티티 타입
+ * @author 김형섭
+ * @since 1.0.0
+ */
+public record KeysetPage<T>(List<T> content, String nextCursor, String previousCursor) {
+
+  /**
+   * 다음 페이지가 있는지 반환한다.
+   *
+   * @return 다음 페이지가 있으면 true
+   */
+  public boolean hasNext() {
+    return nextCursor != null;
+  }
+
+  /**
+   * 이전 페이지가 있는지 반환한다.
+   *
+   * @return 이전 페이지가 있으면 true
+   */
+  public boolean hasPrevious() {
+    return previousCursor != null;
+  }
+}
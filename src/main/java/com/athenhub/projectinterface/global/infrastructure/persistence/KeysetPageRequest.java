@@ -0,0 +1,64 @@
+package com.athenhub.projectinterface.global.infrastructure.persistence;
+
+import org.springframework.data.domain.Sort;
+
+/**
+ * 키셋 페이지 요청.
+ *
+ * <p>커서가 있으면 정렬 방향은 커서에 기록된 방향을 따르며, {@code direction}은 첫 페이지를 조회할 때만 사용된다.
+ *
+ * @param cursor 이전 응답의 {@link KeysetPage#nextCursor()} 또는 {@link KeysetPage#previousCursor()}. 첫
+ *     페이지면 {@code null}
+ * @param size 페이지 크기
+ * @param direction {@code (created_at, id)} 정렬 방향
+ * @author 김형섭
+ * @since 1.0.0
+ */
+public record KeysetPageRequest(String cursor, int size, Sort.Direction direction) {
+
+  /**
+   * 키셋 페이지 요청을 생성한다.
+   *
+   * @throws IllegalArgumentException 페이지 크기가 1보다 작은 경우
+   */
+  public KeysetPageRequest {
+    if (size < 1) {
+      throw new IllegalArgumentException("페이지 크기는 1 이상이어야 합니다: " + size);
+    }
+    if (direction == null) {
+      direction = Sort.Direction.DESC;
+    }
+  }
+
+  /**
+   * 최신순 첫 페이지 요청을 생성한다.
+   *
+   * @param size 페이지 크기
+   * @return 페이지 요청
+   */
+  public static KeysetPageRequest first(int size) {
+    return new KeysetPageRequest(null, size, Sort.Direction.DESC);
+  }
+
+  /**
+   * 지정한 정렬 방향의 첫 페이지 요청을 생성한다.
+   *
+   * @param size 페이지 크기
+   * @param direction 정렬 방향
+   * @return 페이지 요청
+   */
+  public static KeysetPageRequest first(int size, Sort.Direction direction) {
+    return new KeysetPageRequest(null, size, direction);
+  }
+
+  /**
+   * 커서 위치의 페이지 요청을 생성한다.
+   *
+   * @param cursor 이전 응답의 커서. {@code null}이면 최신순 첫 페이지
+   * @param size 페이지 크기
+   * @return 페이지 요청
+   */
+  public static KeysetPageRequest of(String cursor, int size) {
+    return new KeysetPageRequest(cursor, size, Sort.Direction.DESC);
+  }
+}
@@ -0,0 +1,67 @@
+package com.athenhub.projectinterface.global.infrastructure.persistence;
+
+import com.athenhub.projectinterface.global.domain.AbstractTimeEntity;
+import com.athenhub.projectinterface.global.domain.SoftDeleteIndex;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.repository.NoRepositoryBean;
+import org.springframework.data.repository.Repository;
+
+/**
+ * {@link AbstractTimeEntity} 하위 엔티티를 {@code (created_at, id)} 기준 키셋 방식으로 페이지 조회하는 리포지토리
+ * 조각(fragment).
+ *
+ * <p>오프셋 페이지는 앞선 행을 모두 읽고 버리기 때문에 뒤쪽 페이지일수록 느려지지만, 키셋 페이지는 직전 페이지의 마지막 행 다음부터 인덱스를 읽으므로 페이지 깊이와
+ * 관계없이 비용이 일정합니다. 페이지 위치는 불투명한 커서 문자열로 주고받으며, 다음 페이지와 이전 페이지 양방향 이동을 지원합니다. {@code
+ * AbstractAuditEntity} 하위 엔티티는 논리 삭제 필터가 함께 적용됩니다.
+ *
+ * <p>조회 비용을 일정하게 유지하려면 {@link #INDEX_COLUMN_LIST} 복합 인덱스가 필요합니다.
+ *
+ * <pre>{@code
+ * @Entity
+ * @SoftDeleteIndex(name = "ix_member_keyset", columnList = KeysetRepository.INDEX_COLUMN_LIST)
+ * public class Member extends AbstractIdentifiableEntity { ... }
+ *
+ * public interface MemberRepository
+ *     extends JpaRepository<Member, UUID>, KeysetRepository<Member, UUID> {}
+ *
+ * KeysetPage<Member> page = memberRepository.findPage(KeysetPageRequest.first(20));
+ * KeysetPage<Member> next = memberRepository.findPage(KeysetPageRequest.of(page.nextCursor(), 20));
+ * }</pre>
+ *
+ * @param <T> 엔티티 타입. {@link AbstractTimeEntity}를 상속해야 한다.
+ * @param <IdT> 식별자 타입
+ * @author 김형섭
+ * @since 1.0.0
+ */
+@NoRepositoryBean
+public interface KeysetRepository<T, IdT> extends Repository<T, IdT> {
+
+  /**
+   * 키셋 페이지 조회에 필요한 복합 인덱스 컬럼 목록.
+   *
+   * <p>논리 삭제 엔티티는 {@link SoftDeleteIndex}로, 그 밖의 엔티티는 {@code @Table(indexes = ...)}로 선언한다. 식별자 컬럼
+   * 이름이 {@code id}가 아니면 직접 컬럼 목록을 작성한다.
+   */
+  String INDEX_COLUMN_LIST = "created_at, id";
+
+  /**
+   * 전체 엔티티를 키셋 방식으로 페이지 조회한다.
+   *
+   * @param request 페이지 요청
+   * @return 조회된 페이지
+   * @throws org.springframework.dao.InvalidDataAccessApiUsageException 커서가 올바르지 않은 경우
+   */
+  KeysetPage<T> findPage(KeysetPageRequest request);
+
+  /**
+   * 조건에 해당하는 엔티티를 키셋 방식으로 페이지 조회한다.
+   *
+   * <p>같은 커서로 이어서 조회할 때는 첫 페이지와 같은 조건을 사용해야 한다.
+   *
+   * @param spec 조회 조건
+   * @param request 페이지 요청
+   * @return 조회된 페이지
+   * @throws org.springframework.dao.InvalidDataAccessApiUsageException 커서가 올바르지 않은 경우
+   */
+  KeysetPage<T> findPage(Specification<T> spec, KeysetPageRequest request);
+}
@@ -0,0 +1,35 @@
+package com.athenhub.projectinterface.global.infrastructure.persistence;
+
+import com.athenhub.projectinterface.global.domain.AbstractTimeEntity;
+import java.util.Optional;
+import org.springframework.data.repository.NoRepositoryBean;
+import org.springframework.data.repository.Repository;
+
+/**
+ * {@link AbstractTimeEntity} 하위 엔티티의 수정 일시와 버전만 조회하는 리포지토리 조각(fragment).
+ *
+ * <p>엔티티 전체를 읽지 않고 기본 키 조회로 {@code updated_at}과 버전 컬럼만 가져오므로, 폴링 요청의 조건부 검증을 인덱스 조회 한
+ * 번으로 처리할 수 있습니다. {@code AbstractAuditEntity} 하위 엔티티는 논리 삭제 필터가 함께 적용됩니다. HTTP 응답에는 {@code
+ * ConditionalGet}을 사용합니다.
+ *
+ * <pre>{@code
+ * public interface MemberRepository
+ *     extends JpaRepository<Member, UUID>, LastModifiedRepository<Member, UUID> {}
+ * }</pre>
+ *
+ * @param <T> 엔티티 타입. {@link AbstractTimeEntity}를 상속해야 한다.
+ * @param <IdT> 식별자 타입
+ * @author 김형섭
+ * @since 1.0.0
+ */
+@NoRepositoryBean
+public interface LastModifiedRepository<T, IdT> extends Repository<T, IdT> {
+
+  /**
+   * 주어진 ID의 엔티티의 수정 일시와 버전을 조회한다.
+   *
+   * @param id 엔티티 ID
+   * @return 엔티티 변경 시점 정보. 엔티티가 없으면 빈 값
+   */
+  Optional<EntityVersion> findLastModifiedById(IdT id);
+}
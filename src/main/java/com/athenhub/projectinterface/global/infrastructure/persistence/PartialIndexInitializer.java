@@ -0,0 +1,168 @@
+package com.athenhub.projectinterface.global.infrastructure.persistence;
+
+import com.athenhub.projectinterface.global.domain.SoftDeleteIndex;
+import com.athenhub.projectinterface.global.domain.TombstoneRetention;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.metamodel.EntityType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.metamodel.MappingMetamodel;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@link SoftDeleteIndex}로 선언된 부분 인덱스를 생성하는 초기화 컴포넌트.
+ *
+ * <p>JPA 표준 {@code @Index}와 Hibernate 스키마 생성 기능은 {@code WHERE} 조건을 가진 인덱스를 지원하지 않으므로, 애플리케이션 기동이
+ * 완료된 뒤 엔티티 메타모델을 순회하며 {@code CREATE INDEX CONCURRENTLY IF NOT EXISTS ... WHERE deleted_at IS NULL}
+ * 문을 실행합니다. 이미 존재하는 인덱스는 건너뛰므로 여러 번 실행해도 안전합니다.
+ *
+ * <p>{@link TombstoneRetention}으로 선언된 엔티티에는 논리 삭제 행 정리 작업이 보존 기간이 지난 행을 찾을 수 있도록 {@code
+ * <table>_tombstone_idx ON <table> (deleted_at, id) WHERE deleted_at IS NOT NULL} 인덱스를 함께 생성합니다.
+ *
+ * <p>{@code RangePartitioned} 파티션 테이블의 부모 테이블에는 {@code CONCURRENTLY}를 사용할 수 없으므로 일반 {@code CREATE
+ * INDEX}로 생성하며, 유니크 인덱스는 {@code created_at}을 포함해야 합니다.
+ *
+ * <p>부분 인덱스는 PostgreSQL에서만 생성하며, {@code athenhub.persistence.index.auto-create=false}로 비활성화할 수
+ * 있습니다. 마이그레이션 도구로 스키마를 관리하는 경우에는 로그에 출력되는 DDL을 마이그레이션 스크립트로 옮겨 사용합니다.
+ *
+ * @author 김형섭
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(
+    prefix = "athenhub.persistence.index",
+    name = "auto-create",
+    havingValue = "true",
+    matchIfMissing = true)
+public class PartialIndexInitializer implements ApplicationRunner {
+  static final String SOFT_DELETE_CONDITION = "deleted_at IS NULL";
+  static final String TOMBSTONE_CONDITION = "deleted_at IS NOT NULL";
+
+  private final EntityManagerFactory entityManagerFactory;
+  private final JdbcTemplate jdbcTemplate;
+
+  @Override
+  public void run(ApplicationArguments args) {
+    if (!isPostgreSql()) {
+      log.debug("PostgreSQL이 아니므로 부분 인덱스 생성을 건너뜁니다.");
+      return;
+    }
+
+    MappingMetamodel metamodel =
+        entityManagerFactory.unwrap(SessionFactoryImplementor.class).getMappingMetamodel();
+
+    for (EntityType<?> entityType : entityManagerFactory.getMetamodel().getEntities()) {
+      Class<?> javaType = entityType.getJavaType();
+      SoftDeleteIndex[] indexes = javaType.getAnnotationsByType(SoftDeleteIndex.class);
+      boolean tombstone = javaType.isAnnotationPresent(TombstoneRetention.class);
+      if (indexes.length == 0 && !tombstone) {
+        continue;
+      }
+
+      AbstractEntityPersister persister = persister(metamodel.getEntityDescriptor(javaType));
+      String tableName = persister.getTableName();
+      boolean concurrently = !isPartitioned(tableName);
+      for (SoftDeleteIndex index : indexes) {
+        execute(createIndexSql(tableName, index, concurrently));
+      }
+      if (tombstone) {
+        execute(
+            createTombstoneIndexSql(
+                tableName, persister.getIdentifierColumnNames()[0], concurrently));
+      }
+    }
+  }
+
+  private void execute(String sql) {
+    log.info("부분 인덱스를 생성합니다: {}", sql);
+    jdbcTemplate.execute(sql);
+  }
+
+  /**
+   * 부분 인덱스 생성 DDL을 만든다.
+   *
+   * @param tableName 테이블 이름
+   * @param index 인덱스 정의
+   * @return {@code CREATE INDEX} 문
+   */
+  static String createIndexSql(String tableName, SoftDeleteIndex index) {
+    return createIndexSql(tableName, index, true);
+  }
+
+  /**
+   * 부분 인덱스 생성 DDL을 만든다.
+   *
+   * @param tableName 테이블 이름
+   * @param index 인덱스 정의
+   * @param concurrently {@code CONCURRENTLY} 사용 여부. 파티션 테이블의 부모 테이블에는 사용할 수 없다.
+   * @return {@code CREATE INDEX} 문
+   */
+  static String createIndexSql(String tableName, SoftDeleteIndex index, boolean concurrently) {
+    return "CREATE "
+        + (index.unique() ? "UNIQUE " : "")
+        + (concurrently ? "INDEX CONCURRENTLY" : "INDEX")
+        + " IF NOT EXISTS "
+        + index.name()
+        + " ON "
+        + tableName
+        + " ("
+        + index.columnList()
+        + ") WHERE "
+        + SOFT_DELETE_CONDITION;
+  }
+
+  /**
+   * 보존 기간이 지난 논리 삭제 행을 찾기 위한 부분 인덱스 생성 DDL을 만든다.
+   *
+   * @param tableName 테이블 이름
+   * @param idColumn 식별자 컬럼 이름
+   * @param concurrently {@code CONCURRENTLY} 사용 여부. 파티션 테이블의 부모 테이블에는 사용할 수 없다.
+   * @return {@code CREATE INDEX} 문
+   */
+  static String createTombstoneIndexSql(String tableName, String idColumn, boolean concurrently) {
+    return (concurrently ? "CREATE INDEX CONCURRENTLY" : "CREATE INDEX")
+        + " IF NOT EXISTS "
+        + tableName.substring(tableName.lastIndexOf('.') + 1)
+        + "_tombstone_idx ON "
+        + tableName
+        + " (deleted_at, "
+        + idColumn
+        + ") WHERE "
+        + TOMBSTONE_CONDITION;
+  }
+
+  private AbstractEntityPersister persister(EntityPersister persister) {
+    if (!(persister instanceof AbstractEntityPersister entityPersister)) {
+      throw new IllegalStateException("테이블 이름을 확인할 수 없는 엔티티입니다: " + persister.getEntityName());
+    }
+    return entityPersister;
+  }
+
+  private boolean isPartitioned(String tableName) {
+    return jdbcTemplate
+        .queryForList(
+            "SELECT relkind::text FROM pg_class WHERE oid = to_regclass(?)",
+            String.class,
+            tableName)
+        .contains("p");
+  }
+
+  private boolean isPostgreSql() {
+    Boolean postgreSql =
+        jdbcTemplate.execute(
+            (ConnectionCallback<Boolean>)
+                connection ->
+                    "PostgreSQL".equals(connection.getMetaData().getDatabaseProductName()));
+    return Boolean.TRUE.equals(postgreSql);
+  }
+}
@@ -0,0 +1,27 @@
+package com.athenhub.projectinterface.global.infrastructure.persistence;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 공통 영속성 계층 설정.
+ *
+ * <pre>
+ * athenhub:
+ *   persistence:
+ *     bulk-chunk-size: 1000
+ *     stream-fetch-size: 500
+ *     batch-write-size: 500
+ * </pre>
+ *
+ * @param bulkChunkSize 벌크 UPDATE 한 번에 포함할 최대 ID 개수
+ * @param streamFetchSize 스트리밍 조회 시 데이터베이스 커서에서 한 번에 가져올 행 수
+ * @param batchWriteSize 일괄 저장 시 플러시와 영속성 컨텍스트 초기화 단위이자 JDBC 배치 크기
+ * @author 김형섭
+ * @since 1.0.0
+ */
+@ConfigurationProperties(prefix = "athenhub.persistence")
+public record PersistenceProperties(
+    @DefaultValue("1000") int bulkChunkSize,
+    @DefaultValue("500") int streamFetchSize,
+    @DefaultValue("500") int batchWriteSize) {}
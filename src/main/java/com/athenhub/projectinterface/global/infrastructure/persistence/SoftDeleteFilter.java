@@ -0,0 +1,63 @@
+package com.athenhub.projectinterface.global.infrastructure.persistence;
+
+import com.athenhub.projectinterface.global.domain.AbstractAuditEntity;
+import jakarta.persistence.EntityManager;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Session;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 논리 삭제 필터({@value AbstractAuditEntity#SOFT_DELETE_FILTER})를 일시적으로 해제하는 컴포넌트.
+ *
+ * <p>{@link AbstractAuditEntity}를 상속한 엔티티는 기본적으로 삭제된 행이 조회되지 않습니다. 관리자 화면이나 복구 기능처럼 삭제된 행까지 조회해야 하는
+ * 경우에만 이 컴포넌트를 통해 명시적으로 필터를 해제합니다. 필터는 현재 트랜잭션의 세션에만 적용되며, 작업이 끝나면 원래 상태로 복원됩니다.
+ *
+ * <pre>{@code
+ * List<Member> members = softDeleteFilter.includingDeleted(() -> memberRepository.findAll());
+ * }</pre>
+ *
+ * @author 김형섭
+ * @since 1.0.0
+ */
+@Component
+@Transactional
+@RequiredArgsConstructor
+public class SoftDeleteFilter {
+  private final EntityManager entityManager;
+
+  /**
+   * 논리 삭제된 행을 포함하여 작업을 수행한다.
+   *
+   * @param work 수행할 작업
+   * @param <T> 작업 결과 타입
+   * @return 작업 결과
+   */
+  public <T> T includingDeleted(Supplier<T> work) {
+    Session session = entityManager.unwrap(Session.class);
+    boolean enabled = session.getEnabledFilter(AbstractAuditEntity.SOFT_DELETE_FILTER) != null;
+
+    session.disableFilter(AbstractAuditEntity.SOFT_DELETE_FILTER);
+    try {
+      return work.get();
+    } finally {
+      if (enabled) {
+        session.enableFilter(AbstractAuditEntity.SOFT_DELETE_FILTER);
+      }
+    }
+  }
+
+  /**
+   * 논리 삭제된 행을 포함하여 결과가 없는 작업을 수행한다.
+   *
+   * @param work 수행할 작업
+   */
+  public void includingDeleted(Runnable work) {
+    includingDeleted(
+        () -> {
+          work.run();
+          return null;
+        });
+  }
+}
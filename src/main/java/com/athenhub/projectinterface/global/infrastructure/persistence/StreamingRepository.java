@@ -0,0 +1,41 @@
+package com.athenhub.projectinterface.global.infrastructure.persistence;
+
+import java.util.stream.Stream;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.repository.NoRepositoryBean;
+import org.springframework.data.repository.Repository;
+
+/**
+ * 조회 결과를 목록으로 모으지 않고 데이터베이스 커서에서 한 행씩 읽는 리포지토리 조각(fragment).
+ *
+ * <p>{@code findAll()}은 결과 전체를 힙에 올리므로 대량 내보내기에서 메모리 부족을 일으킬 수 있습니다. 이 조각은 {@link
+ * PersistenceProperties#streamFetchSize()} 단위로 서버 측 커서에서 행을 가져오는 읽기 전용 스트림을 반환합니다. 엔티티는 2차 캐시를 거치지
+ * 않으며, 처리한 엔티티를 영속성 컨텍스트에서 분리(detach)하면 행 수와 관계없이 메모리 사용량이 일정하게 유지됩니다.
+ *
+ * <p>스트림은 트랜잭션 안에서 사용하고 반드시 닫아야 합니다. HTTP 응답으로 내보낼 때는 {@code StreamingExporter}를 사용합니다.
+ *
+ * <pre>{@code
+ * try (Stream<Member> members = memberRepository.streamAll(null)) {
+ *   members.forEach(member -> {
+ *     writer.write(member);
+ *     entityManager.detach(member);
+ *   });
+ * }
+ * }</pre>
+ *
+ * @param <T> 엔티티 타입
+ * @param <IdT> 식별자 타입
+ * @author 김형섭
+ * @since 1.0.0
+ */
+@NoRepositoryBean
+public interface StreamingRepository<T, IdT> extends Repository<T, IdT> {
+
+  /**
+   * 조건에 해당하는 엔티티를 식별자 순서로 스트리밍 조회한다.
+   *
+   * @param spec 조회 조건. {@code null}이면 전체
+   * @return 엔티티 스트림. 사용 후 닫아야 한다.
+   */
+  Stream<T> streamAll(Specification<T> spec);
+}
@@ -0,0 +1,75 @@
+package com.athenhub.projectinterface.global.infrastructure.persistence.batch;
+
+import com.athenhub.projectinterface.global.infrastructure.persistence.PersistenceProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import jakarta.persistence.EntityManager;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.auditing.DateTimeProvider;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * 일괄 저장 설정 클래스.
+ *
+ * <p>Hibernate가 플러시할 때 같은 테이블의 INSERT와 UPDATE를 모아 {@link PersistenceProperties#batchWriteSize()}
+ * 크기의 JDBC 배치로 보내도록 설정하고, {@link BatchWriter}를 등록한다. {@code @GeneratedValue} 식별자는 기본으로 할당 크기 50의
+ * pooled 최적화기를 사용하므로 배치 중에 시퀀스를 행마다 조회하지 않는다.
+ *
+ * @author 김형섭
+ * @since 1.0.0
+ */
+@Configuration
+@EnableConfigurationProperties(PersistenceProperties.class)
+public class BatchWriteConfig {
+
+  /**
+   * JDBC 배치와 INSERT/UPDATE 정렬을 설정한다.
+   *
+   * @param properties 영속성 계층 설정
+   * @return Hibernate 설정 커스터마이저
+   */
+  @Bean
+  public HibernatePropertiesCustomizer batchWriteHibernatePropertiesCustomizer(
+      PersistenceProperties properties) {
+    return hibernateProperties -> {
+      hibernateProperties.putIfAbsent(
+          AvailableSettings.STATEMENT_BATCH_SIZE, properties.batchWriteSize());
+      hibernateProperties.putIfAbsent(AvailableSettings.ORDER_INSERTS, true);
+      hibernateProperties.putIfAbsent(AvailableSettings.ORDER_UPDATES, true);
+    };
+  }
+
+  /**
+   * 일괄 저장기를 등록한다.
+   *
+   * @param entityManager 엔티티 매니저
+   * @param transactionManager 트랜잭션 매니저
+   * @param auditorAware 감사자 제공자
+   * @param dateTimeProvider 감사 일시 제공자
+   * @param meterRegistry 메트릭 레지스트리
+   * @param properties 영속성 계층 설정
+   * @return 일괄 저장기
+   */
+  @Bean
+  public BatchWriter batchWriter(
+      EntityManager entityManager,
+      PlatformTransactionManager transactionManager,
+      AuditorAware<String> auditorAware,
+      DateTimeProvider dateTimeProvider,
+      ObjectProvider<MeterRegistry> meterRegistry,
+      PersistenceProperties properties) {
+    return new BatchWriter(
+        entityManager,
+        transactionManager,
+        auditorAware,
+        dateTimeProvider,
+        meterRegistry.getIfAvailable(() -> Metrics.globalRegistry),
+        properties.batchWriteSize());
+  }
+}
@@ -0,0 +1,25 @@
+package com.athenhub.projectinterface.global.infrastructure.persistence.batch;
+
+import java.time.Duration;
+
+/**
+ * 일괄 저장 결과.
+ *
+ * @param rows 저장한 엔티티 수
+ * @param chunks 플러시한 청크 수
+ * @param elapsed 걸린 시간
+ * @author 김형섭
+ * @since 1.0.0
+ */
+public record BatchWriteResult(long rows, int chunks, Duration elapsed) {
+
+  /**
+   * 초당 저장한 엔티티 수를 반환한다.
+   *
+   * @return 초당 저장 건수
+   */
+  public double rowsPerSecond() {
+    long nanos = elapsed.toNanos();
+    return nanos == 0 ? 0 : rows * 1_000_000_000d / nanos;
+  }
+}
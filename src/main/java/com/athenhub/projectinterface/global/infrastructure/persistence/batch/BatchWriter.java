@@ -0,0 +1,161 @@
+package com.athenhub.projectinterface.global.infrastructure.persistence.batch;
+
+import com.athenhub.projectinterface.global.infrastructure.audit.AuditingContext;
+import com.athenhub.projectinterface.global.infrastructure.persistence.PersistenceProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.EntityManager;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.auditing.DateTimeProvider;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.data.jpa.repository.support.JpaEntityInformation;
+import org.springframework.data.jpa.repository.support.JpaEntityInformationSupport;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 많은 엔티티를 청크 단위로 저장하는 일괄 저장기.
+ *
+ * <p>반복문에서 {@code save()}를 호출하면 영속성 컨텍스트가 저장한 엔티티 수만큼 커지고, 매 엔티티마다 감사자와 현재 시각을 다시 조회한다. 일괄 저장기는
+ * {@link PersistenceProperties#batchWriteSize()}건마다 플러시하고 영속성 컨텍스트를 비우므로 메모리 사용량이 청크 크기에 묶이며, 같은
+ * 크기의 JDBC 배치로 INSERT를 보낸다. 감사자와 감사 일시는 청크마다 한 번 결정하여 {@link AuditingContext}로 고정하므로 같은 청크의 엔티티는 같은
+ * 감사 정보를 가진다.
+ *
+ * <p>새 엔티티는 {@code persist}, 이미 저장된 엔티티는 {@code merge}로 저장하며, 전체 작업은 하나의 트랜잭션(진행 중인 트랜잭션이 있으면 그
+ * 트랜잭션)에서 수행된다. 청크마다 영속성 컨텍스트를 비우므로 호출자가 같은 트랜잭션에서 조회한 엔티티도 준영속 상태가 된다. 식별자를 {@code IDENTITY}로 생성하는
+ * 엔티티는 Hibernate가 JDBC 배치를 사용하지 않는다.
+ *
+ * <p>다음 메트릭을 노출한다.
+ *
+ * <ul>
+ *   <li>{@code athenhub.batch.write.rows}: 저장한 엔티티 수 ({@code name} 태그). 증가율이 초당 저장 건수다.
+ *   <li>{@code athenhub.batch.write}: 일괄 저장 한 번에 걸린 시간 ({@code name} 태그)
+ * </ul>
+ *
+ * @author 김형섭
+ * @since 1.0.0
+ */
+@Slf4j
+public class BatchWriter {
+  private final EntityManager entityManager;
+  private final TransactionTemplate transactionTemplate;
+  private final AuditorAware<String> auditorAware;
+  private final DateTimeProvider dateTimeProvider;
+  private final MeterRegistry meterRegistry;
+  private final int chunkSize;
+  private final Map<Class<?>, JpaEntityInformation<?, ?>> entityInformation =
+      new ConcurrentHashMap<>();
+
+  /**
+   * 일괄 저장기를 생성한다.
+   *
+   * @param entityManager 엔티티 매니저
+   * @param transactionManager 트랜잭션 매니저
+   * @param auditorAware 감사자 제공자
+   * @param dateTimeProvider 감사 일시 제공자
+   * @param meterRegistry 메트릭 레지스트리
+   * @param chunkSize 플러시 단위
+   */
+  public BatchWriter(
+      EntityManager entityManager,
+      PlatformTransactionManager transactionManager,
+      AuditorAware<String> auditorAware,
+      DateTimeProvider dateTimeProvider,
+      MeterRegistry meterRegistry,
+      int chunkSize) {
+    if (chunkSize < 1) {
+      throw new IllegalArgumentException("chunkSize는 1 이상이어야 합니다: " + chunkSize);
+    }
+    this.entityManager = entityManager;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.auditorAware = auditorAware;
+    this.dateTimeProvider = dateTimeProvider;
+    this.meterRegistry = meterRegistry;
+    this.chunkSize = chunkSize;
+  }
+
+  /**
+   * 엔티티를 청크 단위로 저장한다. 스트림은 저장이 끝나면 닫는다.
+   *
+   * @param name 메트릭과 로그에 사용할 작업 이름
+   * @param entities 저장할 엔티티
+   * @return 저장 결과
+   */
+  public BatchWriteResult write(String name, Stream<?> entities) {
+    Counter rows =
+        Counter.builder("athenhub.batch.write.rows")
+            .description("일괄 저장한 엔티티 수")
+            .tag("name", name)
+            .register(meterRegistry);
+    Timer.Sample sample = Timer.start(meterRegistry);
+    long start = System.nanoTime();
+
+    BatchWriteResult result;
+    try (entities) {
+      result = transactionTemplate.execute(status -> writeChunks(entities.iterator(), rows, start));
+    } finally {
+      sample.stop(
+          Timer.builder("athenhub.batch.write")
+              .description("일괄 저장에 걸린 시간")
+              .tag("name", name)
+              .register(meterRegistry));
+    }
+
+    log.info(
+        "'{}' 일괄 저장: {}건, {}개 청크, {}ms ({}건/초)",
+        name,
+        result.rows(),
+        result.chunks(),
+        result.elapsed().toMillis(),
+        Math.round(result.rowsPerSecond()));
+    return result;
+  }
+
+  private BatchWriteResult writeChunks(Iterator<?> iterator, Counter rows, long start) {
+    long written = 0;
+    int chunks = 0;
+    while (iterator.hasNext()) {
+      int size = 0;
+      try (AuditingContext.Scope ignored = pinAuditing()) {
+        while (size < chunkSize && iterator.hasNext()) {
+          save(iterator.next());
+          size++;
+        }
+        entityManager.flush();
+      }
+      entityManager.clear();
+      written += size;
+      chunks++;
+      rows.increment(size);
+    }
+    return new BatchWriteResult(written, chunks, Duration.ofNanos(System.nanoTime() - start));
+  }
+
+  private AuditingContext.Scope pinAuditing() {
+    String auditor = auditorAware.getCurrentAuditor().orElse(null);
+    LocalDateTime now =
+        dateTimeProvider.getNow().map(LocalDateTime::from).orElseGet(LocalDateTime::now);
+    return AuditingContext.pin(auditor, now);
+  }
+
+  @SuppressWarnings("unchecked")
+  private void save(Object entity) {
+    JpaEntityInformation<Object, ?> information =
+        (JpaEntityInformation<Object, ?>)
+            entityInformation.computeIfAbsent(
+                entity.getClass(),
+                type -> JpaEntityInformationSupport.getEntityInformation(type, entityManager));
+    if (information.isNew(entity)) {
+      entityManager.persist(entity);
+    } else {
+      entityManager.merge(entity);
+    }
+  }
+}
@@ -0,0 +1,54 @@
+package com.athenhub.projectinterface.global.infrastructure.persistence.cache;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import java.net.URI;
+import java.util.Map;
+import java.util.OptionalLong;
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import javax.cache.spi.CachingProvider;
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.cache.jcache.internal.JCacheRegionFactory;
+import org.hibernate.cache.spi.RegionFactory;
+
+/**
+ * 캐시 영역을 크기와 유효 시간이 제한된 Caffeine 캐시로 생성하는 {@link JCacheRegionFactory}.
+ *
+ * <p>기본 구현은 설정 파일에 정의되지 않은 영역을 제한 없는 캐시로 만들기 때문에, 엔티티 영역과 쿼리 결과 영역에 {@link
+ * SecondLevelCacheProperties}의 최대 크기와 유효 시간을 적용한다. 갱신 시각 영역은 항목이 사라지면 오래된 쿼리 결과가 반환될 수 있으므로 제한을 두지
+ * 않는다. 모든 영역은 JCache 통계를 기록하여 메트릭으로 노출할 수 있도록 한다.
+ *
+ * <p>JCache 기본 캐시 매니저는 JVM 전체에서 공유되므로, 다른 설정으로 먼저 만들어진 같은 이름의 캐시를 재사용하지 않도록 세션 팩토리마다 별도의 캐시 매니저를
+ * 사용한다.
+ *
+ * @author 김형섭
+ * @since 1.0.0
+ */
+class CaffeineRegionFactory extends JCacheRegionFactory {
+  private static final String CACHE_MANAGER_URI_SCHEME = "hibernate";
+
+  private final SecondLevelCacheProperties properties;
+
+  CaffeineRegionFactory(SecondLevelCacheProperties properties) {
+    this.properties = properties;
+  }
+
+  @Override
+  protected CacheManager resolveCacheManager(
+      SessionFactoryOptions settings, Map<String, Object> configValues) {
+    CachingProvider provider = getCachingProvider(configValues);
+    return provider.getCacheManager(
+        URI.create(CACHE_MANAGER_URI_SCHEME + ":" + settings.getUuid()), getClassLoader(provider));
+  }
+
+  @Override
+  protected Cache<Object, Object> createCache(String regionName) {
+    CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+    configuration.setStatisticsEnabled(true);
+    if (!regionName.endsWith(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME)) {
+      configuration.setMaximumSize(OptionalLong.of(properties.maximumSize()));
+      configuration.setExpireAfterWrite(OptionalLong.of(properties.timeToLive().toNanos()));
+    }
+    return getCacheManager().createCache(regionName, configuration);
+  }
+}
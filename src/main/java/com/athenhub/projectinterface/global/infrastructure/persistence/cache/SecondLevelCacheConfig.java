@@ -0,0 +1,129 @@
+package com.athenhub.projectinterface.global.infrastructure.persistence.cache;
+
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.SharedCacheMode;
+import javax.cache.CacheManager;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.jcache.MissingCacheStrategy;
+import org.hibernate.cache.jcache.internal.JCacheRegionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Hibernate 2차 캐시와 쿼리 캐시 설정 클래스.
+ *
+ * <p>캐시 저장소로 프로세스 내 Caffeine(JCache)을 사용하며, 영역마다 {@link SecondLevelCacheProperties}의 최대 크기와 유효 시간이
+ * 적용된다. 공유 캐시 모드는 {@link SharedCacheMode#ENABLE_SELECTIVE}이므로 캐시할 엔티티만 명시적으로 지정한다. 자주 읽히고 드물게 수정되는
+ * 참조 데이터에만 사용한다.
+ *
+ * <pre>{@code
+ * @Entity
+ * @Cacheable
+ * @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+ * public class Category extends AbstractAuditEntity { ... }
+ *
+ * @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
+ * List<Category> findAllByParentId(UUID parentId);
+ * }</pre>
+ *
+ * <p>논리 삭제된 엔티티는 {@link SoftDeleteCacheEvictionListener}가 커밋 후 캐시에서 제거한다. 캐시 영역별 적중·실패·제거 횟수는
+ * {@code cache.gets}, {@code cache.puts}, {@code cache.evictions} 메트릭({@code
+ * cache.manager=hibernate})으로 노출된다.
+ *
+ * @author 김형섭
+ * @since 1.0.0
+ */
+@Configuration
+@EnableConfigurationProperties(SecondLevelCacheProperties.class)
+public class SecondLevelCacheConfig {
+  private static final String CACHE_MANAGER_TAG = "hibernate";
+
+  /**
+   * 2차 캐시와 쿼리 캐시를 활성화하는 Hibernate 설정을 등록한다.
+   *
+   * <p>Hibernate는 클래스패스에 캐시 구현이 하나뿐이면 설정하지 않아도 2차 캐시를 켜므로, 비활성화한 경우에도 명시적으로 끈다.
+   *
+   * @param properties 2차 캐시 설정
+   * @return Hibernate 설정 커스터마이저
+   */
+  @Bean
+  public HibernatePropertiesCustomizer secondLevelCacheHibernatePropertiesCustomizer(
+      SecondLevelCacheProperties properties) {
+    return hibernateProperties -> {
+      hibernateProperties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, properties.enabled());
+      hibernateProperties.put(AvailableSettings.USE_QUERY_CACHE, properties.enabled());
+      if (!properties.enabled()) {
+        return;
+      }
+      hibernateProperties.put(
+          AvailableSettings.CACHE_REGION_FACTORY, new CaffeineRegionFactory(properties));
+      hibernateProperties.put(
+          AvailableSettings.JAKARTA_SHARED_CACHE_MODE, SharedCacheMode.ENABLE_SELECTIVE);
+      hibernateProperties.put(
+          ConfigSettings.PROVIDER,
+          "com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider");
+      hibernateProperties.put(
+          ConfigSettings.MISSING_CACHE_STRATEGY,
+          MissingCacheStrategy.CREATE.getExternalRepresentation());
+    };
+  }
+
+  /**
+   * 논리 삭제된 엔티티를 캐시에서 제거하는 리스너를 등록한다.
+   *
+   * @param entityManagerFactory 엔티티 매니저 팩토리
+   * @return 등록된 리스너
+   */
+  @Bean
+  @ConditionalOnProperty(
+      prefix = "athenhub.persistence.cache",
+      name = "enabled",
+      havingValue = "true")
+  public SoftDeleteCacheEvictionListener softDeleteCacheEvictionListener(
+      EntityManagerFactory entityManagerFactory) {
+    SoftDeleteCacheEvictionListener listener = new SoftDeleteCacheEvictionListener();
+    entityManagerFactory
+        .unwrap(SessionFactoryImplementor.class)
+        .getServiceRegistry()
+        .requireService(EventListenerRegistry.class)
+        .appendListeners(EventType.POST_COMMIT_UPDATE, listener);
+    return listener;
+  }
+
+  /**
+   * 2차 캐시 영역별 JCache 통계를 메트릭으로 등록한다.
+   *
+   * @param entityManagerFactory 엔티티 매니저 팩토리
+   * @return 메트릭 바인더
+   */
+  @Bean
+  @ConditionalOnProperty(
+      prefix = "athenhub.persistence.cache",
+      name = "enabled",
+      havingValue = "true")
+  public MeterBinder secondLevelCacheMetrics(EntityManagerFactory entityManagerFactory) {
+    return registry -> {
+      if (!(entityManagerFactory
+              .unwrap(SessionFactoryImplementor.class)
+              .getCache()
+              .getRegionFactory()
+          instanceof JCacheRegionFactory regionFactory)) {
+        return;
+      }
+      CacheManager cacheManager = regionFactory.getCacheManager();
+      for (String cacheName : cacheManager.getCacheNames()) {
+        JCacheMetrics.monitor(
+            registry, cacheManager.getCache(cacheName), "cache.manager", CACHE_MANAGER_TAG);
+      }
+    };
+  }
+}
@@ -0,0 +1,29 @@
+package com.athenhub.projectinterface.global.infrastructure.persistence.cache;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Hibernate 2차 캐시 설정.
+ *
+ * <pre>
+ * athenhub:
+ *   persistence:
+ *     cache:
+ *       enabled: true
+ *       maximum-size: 10000
+ *       time-to-live: 10m
+ * </pre>
+ *
+ * @param enabled 2차 캐시와 쿼리 캐시 사용 여부. 기본값은 {@code false}이며 필요한 서비스에서만 켠다.
+ * @param maximumSize 캐시 영역 하나에 보관할 최대 항목 수
+ * @param timeToLive 항목을 기록한 뒤 캐시에서 제거하기까지의 시간
+ * @author 김형섭
+ * @since 1.0.0
+ */
+@ConfigurationProperties(prefix = "athenhub.persistence.cache")
+public record SecondLevelCacheProperties(
+    @DefaultValue("false") boolean enabled,
+    @DefaultValue("10000") long maximumSize,
+    @DefaultValue("10m") Duration timeToLive) {}
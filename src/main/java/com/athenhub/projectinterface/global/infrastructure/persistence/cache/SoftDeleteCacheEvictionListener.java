@@ -0,0 +1,39 @@
+package com.athenhub.projectinterface.global.infrastructure.persistence.cache;
+
+import com.athenhub.projectinterface.global.domain.AbstractAuditEntity;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+
+/**
+ * 논리 삭제된 엔티티를 2차 캐시에서 제거하는 리스너.
+ *
+ * <p>{@link AbstractAuditEntity#delete(String)}는 {@code deleted_at}을 기록하는 UPDATE이므로, 그대로 두면 삭제된 상태의
+ * 엔티티가 유효 시간이 끝날 때까지 캐시에 남는다. 트랜잭션이 커밋된 뒤 해당 항목을 캐시에서 제거하여 이후 조회가 데이터베이스와 논리 삭제 필터를 거치도록 한다. 쿼리 캐시는
+ * 테이블 갱신 시각으로 무효화되므로 별도로 제거하지 않는다.
+ *
+ * @author 김형섭
+ * @since 1.0.0
+ */
+public class SoftDeleteCacheEvictionListener implements PostCommitUpdateEventListener {
+
+  @Override
+  public void onPostUpdate(PostUpdateEvent event) {
+    if (event.getEntity() instanceof AbstractAuditEntity entity && entity.isDeleted()) {
+      event
+          .getSession()
+          .getFactory()
+          .getCache()
+          .evictEntityData(event.getPersister().getEntityName(), event.getId());
+    }
+  }
+
+  @Override
+  public void onPostUpdateCommitFailed(PostUpdateEvent event) {}
+
+  @Override
+  public boolean requiresPostCommitHandling(EntityPersister persister) {
+    return persister.canWriteToCache()
+        && AbstractAuditEntity.class.isAssignableFrom(persister.getMappedClass());
+  }
+}
@@ -0,0 +1,70 @@
+package com.athenhub.projectinterface.global.infrastructure.persistence.partition;
+
+import com.athenhub.projectinterface.global.domain.RangePartitioned;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.FixedDelayTask;
+
+/**
+ * 범위 파티션({@link RangePartitioned}) 관리 설정 클래스.
+ *
+ * <p>{@link PartitionMaintainer}가 기동 시 한 번, 이후 {@link PartitionProperties#maintenanceInterval()}
+ * 주기로 파티션을 점검한다.
+ *
+ * @author 김형섭
+ * @since 1.0.0
+ */
+@Configuration
+@EnableConfigurationProperties(PartitionProperties.class)
+@ConditionalOnProperty(
+    prefix = "athenhub.persistence.partition",
+    name = "enabled",
+    havingValue = "true",
+    matchIfMissing = true)
+public class PartitionConfig {
+
+  /**
+   * 파티션 관리 컴포넌트를 등록한다.
+   *
+   * @param entityManagerFactory 엔티티 매니저 팩토리
+   * @param jdbcTemplate JDBC 템플릿
+   * @param meterRegistry 메트릭 레지스트리
+   * @return 파티션 관리 컴포넌트
+   */
+  @Bean
+  public PartitionMaintainer partitionMaintainer(
+      EntityManagerFactory entityManagerFactory,
+      JdbcTemplate jdbcTemplate,
+      ObjectProvider<MeterRegistry> meterRegistry) {
+    return new PartitionMaintainer(
+        entityManagerFactory,
+        jdbcTemplate,
+        meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
+  }
+
+  /**
+   * 파티션 점검을 주기적으로 실행하도록 등록한다. 기동 시 점검은 {@link PartitionMaintainer#run}이 수행한다.
+   *
+   * @param maintainer 파티션 관리 컴포넌트
+   * @param properties 파티션 관리 설정
+   * @return 스케줄링 설정
+   */
+  @Bean
+  public SchedulingConfigurer partitionMaintenanceScheduling(
+      PartitionMaintainer maintainer, PartitionProperties properties) {
+    return registrar ->
+        registrar.addFixedDelayTask(
+            new FixedDelayTask(
+                maintainer::maintain,
+                properties.maintenanceInterval(),
+                properties.maintenanceInterval()));
+  }
+}
@@ -0,0 +1,521 @@
+package com.athenhub.projectinterface.global.infrastructure.persistence.partition;
+
+import com.athenhub.projectinterface.global.domain.AbstractTimeEntity;
+import com.athenhub.projectinterface.global.domain.RangePartitioned;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.metamodel.EntityType;
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.Ordered;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+/**
+ * {@link RangePartitioned}로 선언된 엔티티 테이블의 파티션을 관리하는 컴포넌트.
+ *
+ * <p>기동 시와 {@link PartitionProperties#maintenanceInterval()} 주기로 다음 작업을 수행한다.
+ *
+ * <ol>
+ *   <li>테이블이 일반 테이블이고 비어 있으면 {@code created_at} 범위 파티션 테이블로 다시 만든다. 스키마 자동 생성으로 만들어진
+ *       테이블을 위한 것으로, 보조 인덱스와 외래 키는 다시 만들고 유니크 인덱스와 제약 조건에는 파티션 키를 추가한다. 행이 있거나, 다른
+ *       테이블이 참조하거나, 그대로 옮길 수 없는 인덱스(식·부분 유니크 인덱스, 배제 제약 조건)가 있는 테이블은 경고만 남기고 건너뛴다. 운영
+ *       환경에서는 로그에 출력되는 DDL을 마이그레이션 스크립트로 옮겨 사용한다.
+ *   <li>현재 구간부터 {@link RangePartitioned#premake()}개 이후 구간까지 없는 파티션을 만든다.
+ *   <li>{@link RangePartitioned#retention()}보다 오래된 파티션을 부모 테이블에서 분리하고, 보관 스키마가 지정되어 있으면 그 스키마로 옮긴다.
+ *       분리한 테이블은 삭제하지 않는다.
+ * </ol>
+ *
+ * <p>PostgreSQL에서만 동작하며, 여러 인스턴스가 동시에 실행하지 않도록 세션 advisory lock을 잡은 인스턴스만 작업한다. 생성하거나 분리한 파티션 수는
+ * {@code athenhub.persistence.partition.created}와 {@code athenhub.persistence.partition.detached}
+ * 카운터({@code table})로 기록한다.
+ *
+ * @author 김형섭
+ * @since 1.0.0
+ */
+@Slf4j
+public class PartitionMaintainer implements ApplicationRunner, Ordered {
+  static final String PARTITION_KEY = "created_at";
+  private static final long LOCK_KEY = 0x6174_6865_6e70_6172L;
+  private static final DateTimeFormatter BOUND_FORMAT =
+      DateTimeFormatter.ofPattern("yyyy-MM-dd 00:00:00");
+
+  private final JdbcTemplate jdbcTemplate;
+  private final MeterRegistry meterRegistry;
+  private final Clock clock;
+  private final List<PartitionedTable> tables;
+
+  /**
+   * 파티션 관리 컴포넌트를 생성한다.
+   *
+   * @param entityManagerFactory 엔티티 매니저 팩토리
+   * @param jdbcTemplate JDBC 템플릿
+   * @param meterRegistry 메트릭 레지스트리
+   */
+  public PartitionMaintainer(
+      EntityManagerFactory entityManagerFactory,
+      JdbcTemplate jdbcTemplate,
+      MeterRegistry meterRegistry) {
+    this(entityManagerFactory, jdbcTemplate, meterRegistry, Clock.systemDefaultZone());
+  }
+
+  PartitionMaintainer(
+      EntityManagerFactory entityManagerFactory,
+      JdbcTemplate jdbcTemplate,
+      MeterRegistry meterRegistry,
+      Clock clock) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.meterRegistry = meterRegistry;
+    this.clock = clock;
+    this.tables = partitionedTables(entityManagerFactory);
+  }
+
+  /** 부분 인덱스 생성({@code PartialIndexInitializer})보다 먼저 파티션 테이블을 준비한다. */
+  @Override
+  public int getOrder() {
+    return Ordered.HIGHEST_PRECEDENCE;
+  }
+
+  @Override
+  public void run(ApplicationArguments args) {
+    maintain();
+  }
+
+  /** 파티션을 점검한다. 다른 인스턴스가 점검 중이면 아무 작업도 하지 않는다. */
+  public void maintain() {
+    if (tables.isEmpty()) {
+      return;
+    }
+    jdbcTemplate.execute(
+        (ConnectionCallback<Void>)
+            connection -> {
+              if (!"PostgreSQL".equals(connection.getMetaData().getDatabaseProductName())) {
+                log.debug("PostgreSQL이 아니므로 파티션 관리를 건너뜁니다.");
+                return null;
+              }
+              JdbcTemplate jdbc =
+                  new JdbcTemplate(new SingleConnectionDataSource(connection, true));
+              if (!Boolean.TRUE.equals(
+                  jdbc.queryForObject("SELECT pg_try_advisory_lock(?)", Boolean.class, LOCK_KEY))) {
+                log.debug("다른 인스턴스가 파티션을 점검하고 있습니다.");
+                return null;
+              }
+              try {
+                LocalDate today = LocalDate.now(clock);
+                for (PartitionedTable table : tables) {
+                  try {
+                    maintain(jdbc, connection, table, today);
+                  } catch (DataAccessException | SQLException e) {
+                    log.error("파티션 관리에 실패했습니다: {}", table.name(), e);
+                  }
+                }
+              } finally {
+                jdbc.queryForObject("SELECT pg_advisory_unlock(?)", Boolean.class, LOCK_KEY);
+              }
+              return null;
+            });
+  }
+
+  private void maintain(
+      JdbcTemplate jdbc, Connection connection, PartitionedTable table, LocalDate today)
+      throws SQLException {
+    if (!ensurePartitioned(jdbc, connection, table)) {
+      return;
+    }
+
+    RangePartitioned.Interval interval = table.spec().interval();
+    LocalDate current = periodStart(interval, today);
+    for (int i = 0; i <= table.spec().premake(); i++) {
+      createPartition(jdbc, table, plus(interval, current, i));
+    }
+    if (table.spec().retention() > 0) {
+      detachExpired(jdbc, table, plus(interval, current, -table.spec().retention()));
+    }
+  }
+
+  private boolean ensurePartitioned(
+      JdbcTemplate jdbc, Connection connection, PartitionedTable table) throws SQLException {
+    String kind =
+        jdbc
+            .queryForList(
+                "SELECT relkind::text FROM pg_class WHERE oid = to_regclass(?)",
+                String.class,
+                table.name())
+            .stream()
+            .findFirst()
+            .orElse(null);
+    if ("p".equals(kind)) {
+      return true;
+    }
+    if (kind == null) {
+      log.warn("파티션 테이블이 없습니다: {}", table.name());
+      return false;
+    }
+
+    Dependents dependents = dependents(jdbc, table.name());
+    List<String> ddl = convertToPartitionedSql(table.name(), table.keyColumns(), dependents);
+    if (!dependents.unsupported().isEmpty()) {
+      log.warn(
+          "옮길 수 없는 인덱스나 제약 조건이 있어 파티션 테이블로 바꾸지 않습니다. 마이그레이션으로 적용하세요: {} {}\n{}",
+          table.name(),
+          dependents.unsupported(),
+          String.join(";\n", ddl));
+      return false;
+    }
+    if (Boolean.TRUE.equals(
+            jdbc.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM pg_constraint WHERE confrelid = to_regclass(?))",
+                Boolean.class,
+                table.name()))
+        || Boolean.TRUE.equals(
+            jdbc.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM " + table.name() + ")", Boolean.class))) {
+      log.warn(
+          "행이 있거나 다른 테이블이 참조하는 테이블은 파티션 테이블로 바꾸지 않습니다. 마이그레이션으로 적용하세요: {}\n{}",
+          table.name(),
+          String.join(";\n", ddl));
+      return false;
+    }
+
+    log.info("파티션 테이블로 다시 만듭니다: {}\n{}", table.name(), String.join(";\n", ddl));
+    if (!dependents.uniqueKeys().isEmpty()) {
+      log.warn(
+          "유니크 제약에 {}을 추가했으므로 같은 값이라도 생성 일시가 다르면 중복을 막지 못합니다: {} {}",
+          PARTITION_KEY,
+          table.name(),
+          dependents.uniqueKeys().stream().map(UniqueKey::name).toList());
+    }
+    connection.setAutoCommit(false);
+    try {
+      ddl.forEach(jdbc::execute);
+      connection.commit();
+    } catch (DataAccessException | SQLException e) {
+      connection.rollback();
+      throw e;
+    } finally {
+      connection.setAutoCommit(true);
+    }
+    return true;
+  }
+
+  private void createPartition(JdbcTemplate jdbc, PartitionedTable table, LocalDate start) {
+    String partition = partitionName(table.name(), table.spec().interval(), start);
+    if (Boolean.TRUE.equals(
+        jdbc.queryForObject("SELECT to_regclass(?) IS NOT NULL", Boolean.class, partition))) {
+      return;
+    }
+
+    String sql =
+        createPartitionSql(
+            table.name(), partition, start, plus(table.spec().interval(), start, 1));
+    log.info("파티션을 생성합니다: {}", sql);
+    jdbc.execute(sql);
+    counter("athenhub.persistence.partition.created", "생성한 파티션 수", table).increment();
+  }
+
+  private void detachExpired(JdbcTemplate jdbc, PartitionedTable table, LocalDate cutoff) {
+    RangePartitioned.Interval interval = table.spec().interval();
+    String schema = schemaPrefix(table.name());
+    String prefix = table.name().substring(schema.length()) + "_p";
+    List<String> partitions =
+        jdbc.queryForList(
+            "SELECT c.relname FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid"
+                + " WHERE i.inhparent = to_regclass(?) ORDER BY c.relname",
+            String.class,
+            table.name());
+
+    for (String partition : partitions) {
+      LocalDate start = partitionStart(prefix, interval, partition);
+      if (start == null || plus(interval, start, 1).isAfter(cutoff)) {
+        continue;
+      }
+
+      String qualified = schema + partition;
+      log.info("보존 기간이 지난 파티션을 분리합니다: {}", qualified);
+      jdbc.execute("ALTER TABLE " + table.name() + " DETACH PARTITION " + qualified);
+      String archiveSchema = table.spec().archiveSchema();
+      if (!archiveSchema.isEmpty()) {
+        jdbc.execute("CREATE SCHEMA IF NOT EXISTS " + archiveSchema);
+        jdbc.execute("ALTER TABLE " + qualified + " SET SCHEMA " + archiveSchema);
+      }
+      counter("athenhub.persistence.partition.detached", "분리한 파티션 수", table).increment();
+    }
+  }
+
+  /**
+   * 테이블을 파티션 테이블로 바꿀 때 다시 만들어야 하는 인덱스와 제약 조건을 카탈로그에서 읽는다.
+   *
+   * <p>{@code LIKE ... INCLUDING INDEXES}는 파티션 키가 없는 기본 키와 유니크 인덱스까지 복사하여 실패하므로, 인덱스는 원본 테이블을 삭제한 뒤
+   * 따로 만든다.
+   */
+  private static Dependents dependents(JdbcTemplate jdbc, String tableName) {
+    List<String> indexes =
+        jdbc.queryForList(
+            "SELECT pg_get_indexdef(i.indexrelid) FROM pg_index i"
+                + " WHERE i.indrelid = to_regclass(?) AND NOT i.indisunique"
+                + " AND NOT EXISTS (SELECT 1 FROM pg_constraint c WHERE c.conindid = i.indexrelid)"
+                + " ORDER BY i.indexrelid",
+            String.class,
+            tableName);
+    List<String> unsupported = new ArrayList<>();
+    List<UniqueKey> uniqueKeys = new ArrayList<>();
+    jdbc.query(
+        "SELECT quote_ident(c.relname), con.oid IS NOT NULL AS is_constraint,"
+            + " i.indexprs IS NOT NULL OR i.indpred IS NOT NULL AS is_expression,"
+            + " ARRAY(SELECT quote_ident(a.attname)"
+            + " FROM unnest(i.indkey::int2[]) WITH ORDINALITY k(n, o)"
+            + " JOIN pg_attribute a ON a.attrelid = i.indrelid AND a.attnum = k.n ORDER BY k.o)"
+            + " FROM pg_index i JOIN pg_class c ON c.oid = i.indexrelid"
+            + " LEFT JOIN pg_constraint con ON con.conindid = i.indexrelid AND con.contype = 'u'"
+            + " WHERE i.indrelid = to_regclass(?) AND i.indisunique AND NOT i.indisprimary"
+            + " ORDER BY i.indexrelid",
+        rs -> {
+          if (rs.getBoolean(3)) {
+            unsupported.add(rs.getString(1));
+            return;
+          }
+          Array columns = rs.getArray(4);
+          uniqueKeys.add(
+              new UniqueKey(
+                  rs.getString(1), List.of((String[]) columns.getArray()), rs.getBoolean(2)));
+        },
+        tableName);
+    unsupported.addAll(
+        jdbc.queryForList(
+            "SELECT conname FROM pg_constraint WHERE conrelid = to_regclass(?) AND contype = 'x'",
+            String.class,
+            tableName));
+    List<ForeignKey> foreignKeys =
+        jdbc.query(
+            "SELECT quote_ident(conname), pg_get_constraintdef(oid) FROM pg_constraint"
+                + " WHERE conrelid = to_regclass(?) AND contype = 'f' ORDER BY oid",
+            (rs, rowNum) -> new ForeignKey(rs.getString(1), rs.getString(2)),
+            tableName);
+    return new Dependents(indexes, uniqueKeys, foreignKeys, unsupported);
+  }
+
+  /**
+   * 비어 있는 일반 테이블을 {@value #PARTITION_KEY} 범위 파티션 테이블로 다시 만드는 DDL을 만든다.
+   *
+   * <p>보조 인덱스와 외래 키는 원래 정의대로 다시 만들고, 유니크 인덱스와 유니크 제약 조건은 파티션 테이블의 제약에 따라 {@value
+   * #PARTITION_KEY}를 추가해 다시 만든다.
+   *
+   * @param tableName 테이블 이름
+   * @param keyColumns 기본 키 컬럼 목록
+   * @param dependents 다시 만들 인덱스와 제약 조건
+   * @return 한 트랜잭션으로 실행할 DDL 목록
+   */
+  static List<String> convertToPartitionedSql(
+      String tableName, List<String> keyColumns, Dependents dependents) {
+    String unpartitioned = tableName + "_unpartitioned";
+    List<String> ddl = new ArrayList<>();
+    ddl.add(
+        "ALTER TABLE "
+            + tableName
+            + " RENAME TO "
+            + unpartitioned.substring(schemaPrefix(unpartitioned).length()));
+    ddl.add(
+        "CREATE TABLE "
+            + tableName
+            + " (LIKE "
+            + unpartitioned
+            + " INCLUDING DEFAULTS INCLUDING CONSTRAINTS INCLUDING GENERATED INCLUDING IDENTITY)"
+            + " PARTITION BY RANGE ("
+            + PARTITION_KEY
+            + ")");
+    ddl.add("DROP TABLE " + unpartitioned);
+    ddl.add(
+        "ALTER TABLE "
+            + tableName
+            + " ADD PRIMARY KEY ("
+            + String.join(", ", withPartitionKey(keyColumns))
+            + ")");
+    ddl.addAll(dependents.indexes());
+    for (UniqueKey key : dependents.uniqueKeys()) {
+      String columns = String.join(", ", withPartitionKey(key.columns()));
+      if (key.constraint()) {
+        ddl.add(
+            "ALTER TABLE "
+                + tableName
+                + " ADD CONSTRAINT "
+                + key.name()
+                + " UNIQUE ("
+                + columns
+                + ")");
+      } else {
+        ddl.add("CREATE UNIQUE INDEX " + key.name() + " ON " + tableName + " (" + columns + ")");
+      }
+    }
+    for (ForeignKey key : dependents.foreignKeys()) {
+      ddl.add(
+          "ALTER TABLE " + tableName + " ADD CONSTRAINT " + key.name() + " " + key.definition());
+    }
+    return List.copyOf(ddl);
+  }
+
+  private static List<String> withPartitionKey(List<String> columns) {
+    List<String> result = new ArrayList<>(columns);
+    if (!result.contains(PARTITION_KEY)) {
+      result.add(PARTITION_KEY);
+    }
+    return result;
+  }
+
+  /**
+   * 파티션 생성 DDL을 만든다.
+   *
+   * @param tableName 부모 테이블 이름
+   * @param partition 파티션 이름
+   * @param start 구간 시작일 (포함)
+   * @param end 구간 종료일 (제외)
+   * @return {@code CREATE TABLE ... PARTITION OF} 문
+   */
+  static String createPartitionSql(
+      String tableName, String partition, LocalDate start, LocalDate end) {
+    return "CREATE TABLE IF NOT EXISTS "
+        + partition
+        + " PARTITION OF "
+        + tableName
+        + " FOR VALUES FROM ('"
+        + BOUND_FORMAT.format(start)
+        + "') TO ('"
+        + BOUND_FORMAT.format(end)
+        + "')";
+  }
+
+  /**
+   * 구간 시작일에 해당하는 파티션 이름을 만든다.
+   *
+   * @param tableName 부모 테이블 이름
+   * @param interval 파티션 구간
+   * @param start 구간 시작일
+   * @return {@code <table>_p<yyyyMM>} 또는 {@code <table>_p<yyyyMMdd>}
+   */
+  static String partitionName(
+      String tableName, RangePartitioned.Interval interval, LocalDate start) {
+    return tableName + "_p" + suffixFormat(interval).format(start);
+  }
+
+  private static LocalDate partitionStart(
+      String prefix, RangePartitioned.Interval interval, String partition) {
+    if (!partition.startsWith(prefix)) {
+      return null;
+    }
+    String suffix = partition.substring(prefix.length());
+    try {
+      return interval == RangePartitioned.Interval.MONTH
+          ? LocalDate.parse(suffix + "01", suffixFormat(RangePartitioned.Interval.DAY))
+          : LocalDate.parse(suffix, suffixFormat(interval));
+    } catch (DateTimeParseException e) {
+      return null;
+    }
+  }
+
+  private static DateTimeFormatter suffixFormat(RangePartitioned.Interval interval) {
+    return DateTimeFormatter.ofPattern(
+        interval == RangePartitioned.Interval.MONTH ? "yyyyMM" : "yyyyMMdd");
+  }
+
+  private static LocalDate periodStart(RangePartitioned.Interval interval, LocalDate date) {
+    return interval == RangePartitioned.Interval.MONTH ? date.withDayOfMonth(1) : date;
+  }
+
+  private static LocalDate plus(RangePartitioned.Interval interval, LocalDate start, int periods) {
+    return interval == RangePartitioned.Interval.MONTH
+        ? start.plusMonths(periods)
+        : start.plusDays(periods);
+  }
+
+  private static String schemaPrefix(String tableName) {
+    return tableName.substring(0, tableName.lastIndexOf('.') + 1);
+  }
+
+  private Counter counter(String name, String description, PartitionedTable table) {
+    return Counter.builder(name)
+        .description(description)
+        .tag("table", table.name())
+        .register(meterRegistry);
+  }
+
+  private static List<PartitionedTable> partitionedTables(
+      EntityManagerFactory entityManagerFactory) {
+    SessionFactoryImplementor sessionFactory =
+        entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+    List<PartitionedTable> tables = new ArrayList<>();
+    for (EntityType<?> entityType : entityManagerFactory.getMetamodel().getEntities()) {
+      Class<?> javaType = entityType.getJavaType();
+      RangePartitioned spec = javaType.getAnnotation(RangePartitioned.class);
+      if (spec == null) {
+        continue;
+      }
+      if (!AbstractTimeEntity.class.isAssignableFrom(javaType)
+          || spec.premake() < 0
+          || spec.retention() < 0) {
+        throw new IllegalStateException(
+            "AbstractTimeEntity를 상속하고 premake, retention이 0 이상이어야 합니다: " + javaType.getName());
+      }
+
+      EntityPersister persister =
+          sessionFactory.getMappingMetamodel().getEntityDescriptor(javaType);
+      if (!(persister instanceof AbstractEntityPersister entityPersister)) {
+        throw new IllegalStateException("테이블 이름을 확인할 수 없는 엔티티입니다: " + javaType.getName());
+      }
+      tables.add(
+          new PartitionedTable(
+              entityPersister.getTableName(),
+              Arrays.asList(entityPersister.getIdentifierColumnNames()),
+              spec));
+    }
+    return List.copyOf(tables);
+  }
+
+  private record PartitionedTable(String name, List<String> keyColumns, RangePartitioned spec) {}
+
+  /**
+   * 파티션 테이블로 바꿀 때 다시 만들어야 하는 인덱스와 제약 조건.
+   *
+   * @param indexes 유니크가 아닌 보조 인덱스의 생성 DDL
+   * @param uniqueKeys 기본 키가 아닌 유니크 인덱스와 유니크 제약 조건
+   * @param foreignKeys 다른 테이블을 참조하는 외래 키
+   * @param unsupported 그대로 옮길 수 없는 인덱스와 제약 조건의 이름
+   */
+  record Dependents(
+      List<String> indexes,
+      List<UniqueKey> uniqueKeys,
+      List<ForeignKey> foreignKeys,
+      List<String> unsupported) {}
+
+  /**
+   * 유니크 인덱스 또는 유니크 제약 조건.
+   *
+   * @param name 이름
+   * @param columns 컬럼 목록
+   * @param constraint 제약 조건이면 true, 인덱스면 false
+   */
+  record UniqueKey(String name, List<String> columns, boolean constraint) {}
+
+  /**
+   * 외래 키 제약 조건.
+   *
+   * @param name 이름
+   * @param definition {@code FOREIGN KEY (...) REFERENCES ...} 정의
+   */
+  record ForeignKey(String name, String definition) {}
+}
@@ -0,0 +1,25 @@
+package com.athenhub.projectinterface.global.infrastructure.persistence.partition;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 범위 파티션 관리 설정.
+ *
+ * <pre>
+ * athenhub:
+ *   persistence:
+ *     partition:
+ *       enabled: true
+ *       maintenance-interval: 1h
+ * </pre>
+ *
+ * @param enabled 파티션 관리 여부
+ * @param maintenanceInterval 파티션을 점검하는 주기. 직전 실행이 끝난 시점부터 계산한다.
+ * @author 김형섭
+ * @since 1.0.0
+ */
+@ConfigurationProperties(prefix = "athenhub.persistence.partition")
+public record PartitionProperties(
+    @DefaultValue("true") boolean enabled, @DefaultValue("1h") Duration maintenanceInterval) {}
@@ -0,0 +1,48 @@
+package com.athenhub.projectinterface.global.infrastructure.persistence.retry;
+
+import com.athenhub.projectinterface.global.annotation.OptimisticRetry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.ComposablePointcut;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
+
+/**
+ * 낙관적 잠금 재시도({@link OptimisticRetry}) 설정 클래스.
+ *
+ * <p>재시도 어드바이저는 트랜잭션 어드바이저(기본 순서 {@link Ordered#LOWEST_PRECEDENCE})보다 먼저 적용되도록 순서를 하나 앞에 두어, 시도마다
+ * 트랜잭션이 새로 시작되고 충돌한 트랜잭션은 롤백된 뒤에 다시 시도한다.
+ *
+ * @author 김형섭
+ * @since 1.0.0
+ */
+@Configuration(proxyBeanMethods = false)
+@Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+public class OptimisticRetryConfig {
+
+  /**
+   * {@link OptimisticRetry}가 붙은 메서드와 클래스에 재시도 인터셉터를 적용하는 어드바이저를 등록한다.
+   *
+   * @param meterRegistry 메트릭 레지스트리
+   * @return 어드바이저
+   */
+  @Bean
+  @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+  public static Advisor optimisticRetryAdvisor(ObjectProvider<MeterRegistry> meterRegistry) {
+    DefaultPointcutAdvisor advisor =
+        new DefaultPointcutAdvisor(
+            new ComposablePointcut(new AnnotationMatchingPointcut(OptimisticRetry.class, true))
+                .union(AnnotationMatchingPointcut.forMethodAnnotation(OptimisticRetry.class)),
+            new OptimisticRetryInterceptor(
+                () -> meterRegistry.getIfAvailable(() -> Metrics.globalRegistry)));
+    advisor.setOrder(Ordered.LOWEST_PRECEDENCE - 1);
+    return advisor;
+  }
+}
@@ -0,0 +1,136 @@
+package com.athenhub.projectinterface.global.infrastructure.persistence.retry;
+
+import com.athenhub.projectinterface.global.annotation.OptimisticRetry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.OptimisticLockException;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.hibernate.StaleStateException;
+import org.springframework.aop.ProxyMethodInvocation;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * {@link OptimisticRetry}가 붙은 메서드를 낙관적 잠금 충돌 시 다시 실행하는 인터셉터.
+ *
+ * <p>재시도 {@code n}회차 전에는 {@code [0, min(maxBackoff, backoff × 2^(n-1))]} 범위에서 임의로 고른 시간만큼 대기한다(full
+ * jitter). 충돌과 재시도 횟수는 메서드별로 다음 메트릭에 기록한다.
+ *
+ * <ul>
+ *   <li>{@code athenhub.optimistic.lock.conflicts}: 낙관적 잠금 충돌 횟수
+ *   <li>{@code athenhub.optimistic.lock.retries}: 재시도 횟수
+ *   <li>{@code athenhub.optimistic.lock.exhausted}: 최대 시도 횟수를 모두 사용하고 실패한 호출 수
+ * </ul>
+ *
+ * @author 김형섭
+ * @since 1.0.0
+ */
+@Slf4j
+class OptimisticRetryInterceptor implements MethodInterceptor {
+  private final Supplier<MeterRegistry> meterRegistry;
+  private final Map<Method, OptimisticRetry> annotations = new ConcurrentHashMap<>();
+
+  /**
+   * 인터셉터를 생성한다.
+   *
+   * @param meterRegistry 메트릭 레지스트리 공급자. 인터셉터는 빈 후처리 단계에서 만들어지므로 레지스트리는 처음 충돌할 때 조회한다.
+   */
+  OptimisticRetryInterceptor(Supplier<MeterRegistry> meterRegistry) {
+    this.meterRegistry = meterRegistry;
+  }
+
+  @Override
+  public Object invoke(MethodInvocation invocation) throws Throwable {
+    if (TransactionSynchronizationManager.isActualTransactionActive()
+        || !(invocation instanceof ProxyMethodInvocation proxyInvocation)) {
+      return invocation.proceed();
+    }
+
+    OptimisticRetry retry = annotation(invocation);
+    String method =
+        AopUtils.getTargetClass(invocation.getThis()).getSimpleName()
+            + "."
+            + invocation.getMethod().getName();
+    for (int attempt = 1; ; attempt++) {
+      try {
+        return proxyInvocation.invocableClone().proceed();
+      } catch (Throwable e) {
+        if (!isConflict(e)) {
+          throw e;
+        }
+        counter("athenhub.optimistic.lock.conflicts", "낙관적 잠금 충돌 횟수", method).increment();
+        if (attempt >= retry.maxAttempts()) {
+          counter("athenhub.optimistic.lock.exhausted", "재시도 후에도 충돌로 실패한 호출 수", method).increment();
+          log.warn("낙관적 잠금 충돌로 {}회 시도 후 실패했습니다: {}", attempt, method);
+          throw e;
+        }
+        counter("athenhub.optimistic.lock.retries", "낙관적 잠금 충돌로 인한 재시도 횟수", method).increment();
+        log.debug("낙관적 잠금 충돌로 다시 시도합니다 ({}/{}): {}", attempt + 1, retry.maxAttempts(), method);
+        if (!backoff(retry, attempt)) {
+          throw e;
+        }
+      }
+    }
+  }
+
+  private OptimisticRetry annotation(MethodInvocation invocation) {
+    return annotations.computeIfAbsent(
+        invocation.getMethod(),
+        method -> {
+          Class<?> targetClass = AopUtils.getTargetClass(invocation.getThis());
+          OptimisticRetry retry =
+              AnnotatedElementUtils.findMergedAnnotation(
+                  AopUtils.getMostSpecificMethod(method, targetClass), OptimisticRetry.class);
+          return retry != null
+              ? retry
+              : AnnotatedElementUtils.findMergedAnnotation(targetClass, OptimisticRetry.class);
+        });
+  }
+
+  private static boolean isConflict(Throwable e) {
+    for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+      if (cause instanceof OptimisticLockingFailureException
+          || cause instanceof OptimisticLockException
+          || cause instanceof StaleStateException) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * 재시도 전에 대기한다.
+   *
+   * @return 대기 중 인터럽트되었으면 {@code false}
+   */
+  private static boolean backoff(OptimisticRetry retry, int attempt) {
+    long cap =
+        Math.min(retry.maxBackoffMillis(), retry.backoffMillis() << Math.min(attempt - 1, 30));
+    if (cap <= 0) {
+      return true;
+    }
+    try {
+      Thread.sleep(ThreadLocalRandom.current().nextLong(cap + 1));
+      return true;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+
+  private Counter counter(String name, String description, String method) {
+    return Counter.builder(name)
+        .description(description)
+        .tag("method", method)
+        .register(meterRegistry.get());
+  }
+}
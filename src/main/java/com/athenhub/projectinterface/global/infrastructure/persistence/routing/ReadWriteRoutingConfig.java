@@ -0,0 +1,62 @@
+package com.athenhub.projectinterface.global.infrastructure.persistence.routing;
+
+import com.athenhub.projectinterface.global.infrastructure.concurrency.ConnectionLimitingDataSourcePostProcessor;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceUnwrapper;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 읽기/쓰기 데이터소스 라우팅 설정 클래스.
+ *
+ * <p>{@code athenhub.persistence.routing.enabled=true}이면 기본 데이터소스를 {@link
+ * ReadWriteRoutingDataSource}로 감싸 {@code @Transactional(readOnly = true)} 작업을 레플리카로 보낸다.
+ *
+ * @author 김형섭
+ * @since 1.0.0
+ * @see RoutingDataSourceProperties
+ */
+@Configuration
+@EnableConfigurationProperties(RoutingDataSourceProperties.class)
+@ConditionalOnProperty(
+    prefix = "athenhub.persistence.routing",
+    name = "enabled",
+    havingValue = "true")
+public class ReadWriteRoutingConfig {
+
+  /**
+   * 기본 데이터소스를 라우팅 데이터소스로 감싸는 후처리기를 등록한다.
+   *
+   * @param properties 라우팅 설정
+   * @param connectionLimiter 커넥션 제한 후처리기
+   * @return 데이터소스 후처리기
+   */
+  @Bean
+  public static ReadWriteRoutingDataSourcePostProcessor readWriteRoutingDataSourcePostProcessor(
+      ObjectProvider<RoutingDataSourceProperties> properties,
+      ObjectProvider<ConnectionLimitingDataSourcePostProcessor> connectionLimiter) {
+    return new ReadWriteRoutingDataSourcePostProcessor(properties, connectionLimiter);
+  }
+
+  /**
+   * 라우팅 결정, 커넥션 획득 대기 시간, 레플리카 상태를 메트릭으로 등록한다.
+   *
+   * @param dataSources 컨텍스트의 데이터소스 빈
+   * @return 메트릭 바인더
+   */
+  @Bean
+  public MeterBinder readWriteRoutingDataSourceMetrics(Map<String, DataSource> dataSources) {
+    return registry ->
+        dataSources.values().stream()
+            .map(
+                dataSource ->
+                    DataSourceUnwrapper.unwrap(dataSource, ReadWriteRoutingDataSource.class))
+            .filter(routing -> routing != null)
+            .forEach(routing -> routing.bindTo(registry));
+  }
+}
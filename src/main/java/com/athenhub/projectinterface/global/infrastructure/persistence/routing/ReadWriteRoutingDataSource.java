@@ -0,0 +1,179 @@
+package com.athenhub.projectinterface.global.infrastructure.persistence.routing;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.jdbc.DataSourceUnwrapper;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+/**
+ * 읽기 전용 트랜잭션을 레플리카로, 나머지를 프라이머리로 보내는 데이터소스.
+ *
+ * <p>{@link LazyConnectionDataSourceProxy}를 기반으로 하므로 트랜잭션을 시작해도 실제 커넥션은 첫 SQL을 실행할 때 얻는다. 그 시점에
+ * 트랜잭션이 {@code @Transactional(readOnly = true)}로 시작되어 커넥션이 읽기 전용으로 표시되어 있으면 레플리카에서, 아니면 프라이머리에서
+ * 커넥션을 얻는다. 따라서 DB에 접근하지 않는 트랜잭션은 풀 커넥션을 점유하지 않는다.
+ *
+ * <p>레플리카는 {@link #start()} 이후 주기적으로 상태를 확인하며, 정상 상태인 레플리카가 없으면 읽기도 프라이머리로 보낸다.
+ *
+ * <p>다음 메트릭을 노출한다.
+ *
+ * <ul>
+ *   <li>{@code athenhub.datasource.connection.acquire}: 커넥션 획득 대기 시간 ({@code route}, {@code target}
+ *       태그). 건수가 라우팅 결정 수다.
+ *   <li>{@code athenhub.datasource.replica.healthy}: 레플리카가 읽기 라우팅 대상인지 여부 ({@code replica} 태그)
+ * </ul>
+ *
+ * @author 김형섭
+ * @since 1.0.0
+ */
+@Slf4j
+public class ReadWriteRoutingDataSource extends LazyConnectionDataSourceProxy
+    implements MeterBinder, AutoCloseable {
+
+  private final DataSource primary;
+  private final ReplicaDataSource replicas;
+  private final RoutingMetrics metrics = new RoutingMetrics();
+  private final Duration healthCheckInterval;
+  private ScheduledExecutorService healthChecker;
+
+  /**
+   * 라우팅 데이터소스를 생성한다.
+   *
+   * @param primary 쓰기와 레플리카 장애 시 읽기를 처리할 데이터소스
+   * @param replicas 이름별 레플리카 데이터소스
+   * @param healthCheckInterval 레플리카 상태 확인 주기
+   * @param healthCheckTimeout 레플리카 커넥션 유효성 검사의 최대 대기 시간
+   */
+  public ReadWriteRoutingDataSource(
+      DataSource primary,
+      Map<String, DataSource> replicas,
+      Duration healthCheckInterval,
+      Duration healthCheckTimeout) {
+    if (replicas.isEmpty()) {
+      throw new IllegalArgumentException("레플리카가 하나 이상 필요합니다.");
+    }
+    this.primary = primary;
+    this.replicas = new ReplicaDataSource(replicas, primary, metrics, healthCheckTimeout);
+    this.healthCheckInterval = healthCheckInterval;
+    // 기본 autoCommit, 격리 수준 확인용 커넥션이 라우팅 결정으로 기록되지 않도록 미리 확인한다.
+    setTargetDataSource(primary);
+    checkDefaultConnectionProperties();
+    setTargetDataSource(new PrimaryDataSource(primary, metrics));
+    setReadOnlyDataSource(this.replicas);
+  }
+
+  /** 레플리카 상태 확인을 시작한다. */
+  public synchronized void start() {
+    if (healthChecker != null) {
+      return;
+    }
+    healthChecker =
+        Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("replica-health-check").daemon().factory());
+    healthChecker.scheduleWithFixedDelay(
+        this::checkHealth, 0, healthCheckInterval.toMillis(), TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * 레플리카 상태 확인을 중단하고 프라이머리와 레플리카 커넥션 풀을 닫는다.
+   *
+   * <p>데이터소스가 {@link AutoCloseable}이 아닌 래퍼이면 감싸고 있는 {@link HikariDataSource}를 찾아 닫는다.
+   */
+  @Override
+  public synchronized void close() {
+    if (healthChecker != null) {
+      healthChecker.shutdownNow();
+      healthChecker = null;
+    }
+    for (DataSource dataSource : dataSources()) {
+      AutoCloseable closeable =
+          dataSource instanceof AutoCloseable autoCloseable
+              ? autoCloseable
+              : DataSourceUnwrapper.unwrap(dataSource, HikariDataSource.class);
+      if (closeable == null) {
+        continue;
+      }
+      try {
+        closeable.close();
+      } catch (Exception e) {
+        log.warn("데이터소스를 닫는 중 오류가 발생했습니다.", e);
+      }
+    }
+  }
+
+  /** 레플리카와 프라이머리 데이터소스 목록. */
+  List<DataSource> dataSources() {
+    List<DataSource> dataSources = new ArrayList<>(replicas.dataSources());
+    dataSources.add(primary);
+    return dataSources;
+  }
+
+  /** 모든 레플리카의 상태를 즉시 확인한다. */
+  public void checkHealth() {
+    try {
+      replicas.checkHealth();
+    } catch (RuntimeException e) {
+      log.warn("레플리카 상태 확인 중 오류가 발생했습니다.", e);
+    }
+  }
+
+  /**
+   * 레플리카가 읽기 라우팅 대상인지 확인한다.
+   *
+   * @param name 레플리카 이름
+   * @return 정상 상태이면 {@code true}
+   */
+  public boolean isHealthy(String name) {
+    return replicas.isHealthy(name);
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    metrics.bindTo(registry);
+    for (String name : replicas.names()) {
+      Gauge.builder("athenhub.datasource.replica.healthy", this, ds -> ds.isHealthy(name) ? 1 : 0)
+          .description("레플리카가 읽기 라우팅 대상인지 여부")
+          .tag("replica", name)
+          .register(registry);
+    }
+  }
+
+  /** 프라이머리 커넥션 획득 시간을 기록하는 래퍼. */
+  private static final class PrimaryDataSource extends DelegatingDataSource {
+    private final RoutingMetrics metrics;
+
+    private PrimaryDataSource(DataSource target, RoutingMetrics metrics) {
+      super(target);
+      this.metrics = metrics;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+      long startNanos = System.nanoTime();
+      Connection connection = obtainTargetDataSource().getConnection();
+      metrics.record("write", ReplicaDataSource.PRIMARY, startNanos);
+      return connection;
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+      long startNanos = System.nanoTime();
+      Connection connection = obtainTargetDataSource().getConnection(username, password);
+      metrics.record("write", ReplicaDataSource.PRIMARY, startNanos);
+      return connection;
+    }
+  }
+}
@@ -0,0 +1,91 @@
+package com.athenhub.projectinterface.global.infrastructure.persistence.routing;
+
+import com.athenhub.projectinterface.global.infrastructure.concurrency.ConnectionLimitingDataSourcePostProcessor;
+import com.zaxxer.hikari.HikariDataSource;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.core.Ordered;
+
+/**
+ * 컨텍스트의 기본 데이터소스({@code dataSource} 빈)를 {@link ReadWriteRoutingDataSource}로 감싸는 후처리기.
+ *
+ * <p>레플리카마다 Hikari 커넥션 풀을 만들고, 가상 스레드 모드에서 {@link ConnectionLimitingDataSourcePostProcessor}가 등록되어
+ * 있으면 레플리카 풀에도 같은 동시 사용 제한을 적용한다. 커넥션 제한 후처리기보다 나중에 동작하므로 허가는 실제 커넥션을 얻을 때만 소비된다.
+ *
+ * @author 김형섭
+ * @since 1.0.0
+ */
+@Slf4j
+public class ReadWriteRoutingDataSourcePostProcessor implements BeanPostProcessor, Ordered {
+  static final String DATA_SOURCE_BEAN_NAME = "dataSource";
+
+  private final ObjectProvider<RoutingDataSourceProperties> properties;
+  private final ObjectProvider<ConnectionLimitingDataSourcePostProcessor> connectionLimiter;
+
+  /**
+   * 후처리기를 생성한다.
+   *
+   * @param properties 라우팅 설정 (후처리기 초기화 시점에는 조회하지 않는다)
+   * @param connectionLimiter 커넥션 제한 후처리기 (없을 수 있다)
+   */
+  public ReadWriteRoutingDataSourcePostProcessor(
+      ObjectProvider<RoutingDataSourceProperties> properties,
+      ObjectProvider<ConnectionLimitingDataSourcePostProcessor> connectionLimiter) {
+    this.properties = properties;
+    this.connectionLimiter = connectionLimiter;
+  }
+
+  @Override
+  public Object postProcessAfterInitialization(Object bean, String beanName) {
+    if (!DATA_SOURCE_BEAN_NAME.equals(beanName)
+        || !(bean instanceof DataSource primary)
+        || bean instanceof ReadWriteRoutingDataSource) {
+      return bean;
+    }
+
+    RoutingDataSourceProperties routing = properties.getObject();
+    if (routing.replicas().isEmpty()) {
+      log.warn("읽기/쓰기 라우팅이 켜져 있지만 레플리카가 없어 프라이머리만 사용합니다.");
+      return bean;
+    }
+
+    Map<String, DataSource> replicas = new LinkedHashMap<>();
+    routing.replicas().forEach((name, replica) -> replicas.put(name, replica(name, replica)));
+    log.info("읽기 전용 트랜잭션을 레플리카 {}로 라우팅합니다.", replicas.keySet());
+
+    ReadWriteRoutingDataSource dataSource =
+        new ReadWriteRoutingDataSource(
+            primary, replicas, routing.healthCheckInterval(), routing.healthCheckTimeout());
+    dataSource.start();
+    return dataSource;
+  }
+
+  @Override
+  public int getOrder() {
+    return Ordered.LOWEST_PRECEDENCE;
+  }
+
+  private DataSource replica(String name, RoutingDataSourceProperties.Replica replica) {
+    HikariDataSource dataSource =
+        DataSourceBuilder.create()
+            .type(HikariDataSource.class)
+            .url(replica.url())
+            .username(replica.username())
+            .password(replica.password())
+            .build();
+    dataSource.setPoolName("replica-" + name);
+    dataSource.setMaximumPoolSize(replica.maximumPoolSize());
+    dataSource.setConnectionTimeout(replica.connectionTimeout().toMillis());
+    dataSource.setReadOnly(true);
+
+    ConnectionLimitingDataSourcePostProcessor limiter = connectionLimiter.getIfAvailable();
+    return limiter != null
+        ? (DataSource) limiter.postProcessAfterInitialization(dataSource, "replica-" + name)
+        : dataSource;
+  }
+}
@@ -0,0 +1,159 @@
+package com.athenhub.projectinterface.global.infrastructure.persistence.routing;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+/**
+ * 정상 상태인 레플리카 중 하나에서 커넥션을 얻는 읽기 전용 데이터소스.
+ *
+ * <p>레플리카는 라운드로빈으로 고르며, 상태 확인에 실패했거나 커넥션 연결에 실패한 레플리카는 다음 상태 확인에서 회복될 때까지 후보에서 제외한다. 정상 상태인 레플리카가
+ * 없으면 프라이머리에서 커넥션을 얻는다.
+ *
+ * <p>커넥션 풀이 가득 차 대기 시간이 지난 경우({@code connectionTimeout} 이후 원인 없이 발생하는 {@link
+ * SQLTransientConnectionException})는 레플리카가 바쁜 것일 뿐이므로 제외하지 않고 다른 레플리카를 시도한다. 모든 정상 레플리카가 바쁘면 부하가
+ * 프라이머리로 옮겨 가지 않도록 프라이머리를 사용하지 않고 예외를 던진다.
+ *
+ * @author 김형섭
+ * @since 1.0.0
+ */
+@Slf4j
+final class ReplicaDataSource extends AbstractDataSource {
+  static final String PRIMARY = "primary";
+
+  private final List<Replica> replicas = new ArrayList<>();
+  private final DataSource primary;
+  private final RoutingMetrics metrics;
+  private final int validationTimeoutSeconds;
+  private final AtomicInteger next = new AtomicInteger();
+
+  ReplicaDataSource(
+      Map<String, DataSource> replicas,
+      DataSource primary,
+      RoutingMetrics metrics,
+      Duration validationTimeout) {
+    replicas.forEach((name, dataSource) -> this.replicas.add(new Replica(name, dataSource)));
+    this.primary = primary;
+    this.metrics = metrics;
+    this.validationTimeoutSeconds = (int) Math.max(1, validationTimeout.toSeconds());
+  }
+
+  @Override
+  public Connection getConnection() throws SQLException {
+    return getConnection(null, null);
+  }
+
+  @Override
+  public Connection getConnection(String username, String password) throws SQLException {
+    int size = replicas.size();
+    int start = Math.floorMod(next.getAndIncrement(), size);
+    SQLException saturated = null;
+    for (int i = 0; i < size; i++) {
+      Replica replica = replicas.get((start + i) % size);
+      if (!replica.healthy) {
+        continue;
+      }
+      long startNanos = System.nanoTime();
+      try {
+        Connection connection = connect(replica.dataSource, username, password);
+        metrics.record("read", replica.name, startNanos);
+        return connection;
+      } catch (SQLException e) {
+        if (isPoolWaitTimeout(e)) {
+          saturated = e;
+        } else {
+          replica.markUnhealthy(e);
+        }
+      }
+    }
+    if (saturated != null) {
+      throw saturated;
+    }
+
+    long startNanos = System.nanoTime();
+    Connection connection = connect(primary, username, password);
+    metrics.record("read", PRIMARY, startNanos);
+    return connection;
+  }
+
+  /** 모든 레플리카의 커넥션 유효성을 검사하여 상태를 갱신한다. */
+  void checkHealth() {
+    for (Replica replica : replicas) {
+      try (Connection connection = replica.dataSource.getConnection()) {
+        if (connection.isValid(validationTimeoutSeconds)) {
+          replica.markHealthy();
+        } else {
+          replica.markUnhealthy(null);
+        }
+      } catch (SQLException e) {
+        if (!isPoolWaitTimeout(e)) {
+          replica.markUnhealthy(e);
+        }
+      }
+    }
+  }
+
+  /**
+   * 커넥션 풀 대기 시간 초과인지 확인한다. HikariCP는 풀이 가득 차 대기 시간이 지나면 원인 없는 {@link
+   * SQLTransientConnectionException}을 던지고, 연결 실패로 커넥션을 만들지 못한 경우에는 마지막 연결 실패를 원인으로 담는다.
+   *
+   * @param e 커넥션 획득 중 발생한 예외
+   * @return 연결 실패 없이 풀 대기 시간만 초과했으면 true
+   */
+  static boolean isPoolWaitTimeout(SQLException e) {
+    return e instanceof SQLTransientConnectionException && e.getCause() == null;
+  }
+
+  List<String> names() {
+    return replicas.stream().map(replica -> replica.name).toList();
+  }
+
+  boolean isHealthy(String name) {
+    return replicas.stream().anyMatch(replica -> replica.name.equals(name) && replica.healthy);
+  }
+
+  List<DataSource> dataSources() {
+    return replicas.stream().map(replica -> replica.dataSource).toList();
+  }
+
+  private static Connection connect(DataSource dataSource, String username, String password)
+      throws SQLException {
+    return username == null
+        ? dataSource.getConnection()
+        : dataSource.getConnection(username, password);
+  }
+
+  /** 레플리카 하나와 그 상태. */
+  private static final class Replica {
+    private final String name;
+    private final DataSource dataSource;
+    private volatile boolean healthy = true;
+
+    private Replica(String name, DataSource dataSource) {
+      this.name = name;
+      this.dataSource = dataSource;
+    }
+
+    private void markHealthy() {
+      if (!healthy) {
+        healthy = true;
+        log.info("레플리카 '{}'가 회복되어 읽기 라우팅 대상에 다시 포함합니다.", name);
+      }
+    }
+
+    private void markUnhealthy(SQLException cause) {
+      if (healthy) {
+        healthy = false;
+        log.warn("레플리카 '{}'를 읽기 라우팅 대상에서 제외합니다.", name, cause);
+      }
+    }
+  }
+}
@@ -0,0 +1,56 @@
+package com.athenhub.projectinterface.global.infrastructure.persistence.routing;
+
+import java.time.Duration;
+import java.util.Map;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 읽기/쓰기 데이터소스 라우팅 설정.
+ *
+ * <pre>
+ * athenhub:
+ *   persistence:
+ *     routing:
+ *       enabled: true
+ *       health-check-interval: 5s
+ *       health-check-timeout: 1s
+ *       replicas:
+ *         replica-1:
+ *           url: jdbc:postgresql://replica-1:5432/app
+ *           username: app
+ *           password: secret
+ *           maximum-pool-size: 10
+ *           connection-timeout: 1s
+ * </pre>
+ *
+ * @param enabled 라우팅 사용 여부
+ * @param healthCheckInterval 레플리카 상태 확인 주기
+ * @param healthCheckTimeout 레플리카 상태 확인 시 커넥션 유효성 검사의 최대 대기 시간
+ * @param replicas 이름별 레플리카 접속 정보
+ * @author 김형섭
+ * @since 1.0.0
+ */
+@ConfigurationProperties(prefix = "athenhub.persistence.routing")
+public record RoutingDataSourceProperties(
+    @DefaultValue("false") boolean enabled,
+    @DefaultValue("5s") Duration healthCheckInterval,
+    @DefaultValue("1s") Duration healthCheckTimeout,
+    @DefaultValue Map<String, Replica> replicas) {
+
+  /**
+   * 레플리카 접속 정보.
+   *
+   * @param url JDBC URL
+   * @param username 사용자 이름
+   * @param password 비밀번호
+   * @param maximumPoolSize 커넥션 풀의 최대 크기
+   * @param connectionTimeout 풀에서 커넥션을 기다리는 최대 시간. 초과하면 다른 레플리카나 프라이머리로 넘어간다.
+   */
+  public record Replica(
+      String url,
+      String username,
+      String password,
+      @DefaultValue("10") int maximumPoolSize,
+      @DefaultValue("1s") Duration connectionTimeout) {}
+}
@@ -0,0 +1,45 @@
+package com.athenhub.projectinterface.global.infrastructure.persistence.routing;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 라우팅 결정과 커넥션 획득 대기 시간을 기록한다.
+ *
+ * <p>{@code athenhub.datasource.connection.acquire} 타이머에 {@code route}(read, write)와 {@code
+ * target}(커넥션을 내준 데이터소스 이름) 태그를 붙여 기록하므로, 타이머의 건수가 곧 라우팅 결정 수다. {@link #bindTo(MeterRegistry)} 호출
+ * 전에는 아무것도 기록하지 않는다.
+ *
+ * @author 김형섭
+ * @since 1.0.0
+ */
+final class RoutingMetrics {
+  static final String ACQUIRE = "athenhub.datasource.connection.acquire";
+
+  private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+  private volatile MeterRegistry registry;
+
+  void bindTo(MeterRegistry registry) {
+    this.registry = registry;
+  }
+
+  void record(String route, String target, long startNanos) {
+    MeterRegistry meterRegistry = registry;
+    if (meterRegistry == null) {
+      return;
+    }
+    timers
+        .computeIfAbsent(
+            route + ':' + target,
+            key ->
+                Timer.builder(ACQUIRE)
+                    .description("라우팅된 데이터소스에서 커넥션을 얻기까지 걸린 시간")
+                    .tag("route", route)
+                    .tag("target", target)
+                    .register(meterRegistry))
+        .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+  }
+}
@@ -0,0 +1,101 @@
+package com.athenhub.projectinterface.global.infrastructure.persistence.sql;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.ClassUtils;
+
+/**
+ * SQL 문 수 측정 설정 클래스.
+ *
+ * <p>다음 세 가지 방식으로 요청과 스팬이 실행하는 SQL 문 수를 드러낸다.
+ *
+ * <ul>
+ *   <li>{@link SqlStatementProperties#statisticsEnabled()}가 켜져 있으면 Hibernate
+ *       통계({@code hibernate.generate_statistics})를 수집해 {@code hibernate-micrometer}가 {@code
+ *       hibernate.*} 메트릭으로 노출하도록 한다.
+ *   <li>{@link SqlStatementCountFilter}로 요청별 SQL 문 수를 기록하고 임계값을 넘으면 경고한다.
+ *   <li>{@link SqlStatementObservationHandler}로 각 스팬에 {@value SqlStatementObservationHandler#KEY}
+ *       태그를 남긴다.
+ * </ul>
+ *
+ * <p>서비스가 설정한 {@code hibernate.generate_statistics} 값은 덮어쓰지 않으며, 서비스가 이미 {@code
+ * hibernate.session_factory.statement_inspector}를 설정했다면 {@link SqlStatementCounter}가 그 검사기를 감싸서 함께
+ * 실행한다.
+ *
+ * <p>테스트에서는 {@code @MaxSqlStatements}로 테스트 메서드가 실행하는 SQL 문 수의 상한을 검증할 수 있다.
+ *
+ * @author 김형섭
+ * @since 1.0.0
+ */
+@Configuration
+@EnableConfigurationProperties(SqlStatementProperties.class)
+public class SqlStatementConfig {
+
+  /**
+   * SQL 문 수를 세는 {@link SqlStatementCounter}와 Hibernate 통계 설정을 등록한다.
+   *
+   * @param properties SQL 문 수 측정 설정
+   * @return Hibernate 설정 커스터마이저
+   */
+  @Bean
+  public HibernatePropertiesCustomizer sqlStatementHibernatePropertiesCustomizer(
+      SqlStatementProperties properties) {
+    return hibernateProperties -> {
+      hibernateProperties.put(
+          AvailableSettings.STATEMENT_INSPECTOR,
+          sqlStatementCounter(hibernateProperties.get(AvailableSettings.STATEMENT_INSPECTOR)));
+      hibernateProperties.putIfAbsent(
+          AvailableSettings.GENERATE_STATISTICS, properties.statisticsEnabled());
+    };
+  }
+
+  private static SqlStatementCounter sqlStatementCounter(Object inspector) {
+    if (inspector == null) {
+      return new SqlStatementCounter();
+    }
+    if (inspector instanceof StatementInspector statementInspector) {
+      return new SqlStatementCounter(statementInspector);
+    }
+    Class<?> inspectorClass =
+        inspector instanceof Class<?> type
+            ? type
+            : ClassUtils.resolveClassName(
+                inspector.toString(), SqlStatementConfig.class.getClassLoader());
+    return new SqlStatementCounter(
+        (StatementInspector) BeanUtils.instantiateClass(inspectorClass));
+  }
+
+  /**
+   * 스팬별 SQL 문 수를 기록하는 관측 핸들러를 등록한다.
+   *
+   * @return 관측 핸들러
+   */
+  @Bean
+  public SqlStatementObservationHandler sqlStatementObservationHandler() {
+    return new SqlStatementObservationHandler();
+  }
+
+  /**
+   * 요청별 SQL 문 수를 측정하는 필터를 등록한다.
+   *
+   * @param meterRegistry 메트릭 레지스트리
+   * @param properties SQL 문 수 측정 설정
+   * @return 서블릿 필터
+   */
+  @Bean
+  @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+  public SqlStatementCountFilter sqlStatementCountFilter(
+      ObjectProvider<MeterRegistry> meterRegistry, SqlStatementProperties properties) {
+    return new SqlStatementCountFilter(
+        meterRegistry.getIfAvailable(() -> Metrics.globalRegistry), properties);
+  }
+}
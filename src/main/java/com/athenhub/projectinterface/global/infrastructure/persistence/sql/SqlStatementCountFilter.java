@@ -0,0 +1,74 @@
+package com.athenhub.projectinterface.global.infrastructure.persistence.sql;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * HTTP 요청 하나에서 실행된 SQL 문 수를 측정하는 필터.
+ *
+ * <p>요청 처리 전후의 {@link SqlStatementCounter} 값 차이를 {@code athenhub.sql.statements} 분포 메트릭({@code
+ * method}, {@code uri})으로 기록하고, {@link SqlStatementProperties#warnThreshold()}를 넘으면 N+1 조회를 의심할 수
+ * 있도록 경고 로그를 남긴다. 요청 스레드에서 실행된 SQL 문만 센다.
+ *
+ * @author 김형섭
+ * @since 1.0.0
+ */
+@Slf4j
+public class SqlStatementCountFilter extends OncePerRequestFilter {
+  private static final String UNKNOWN_URI = "UNKNOWN";
+
+  private final MeterRegistry meterRegistry;
+  private final int warnThreshold;
+
+  /**
+   * SQL 문 수 측정 필터를 생성한다.
+   *
+   * @param meterRegistry 메트릭 레지스트리
+   * @param properties SQL 문 수 측정 설정
+   */
+  public SqlStatementCountFilter(MeterRegistry meterRegistry, SqlStatementProperties properties) {
+    this.meterRegistry = meterRegistry;
+    this.warnThreshold = properties.warnThreshold();
+  }
+
+  @Override
+  protected void doFilterInternal(
+      HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+      throws ServletException, IOException {
+    long start = SqlStatementCounter.current();
+    try {
+      filterChain.doFilter(request, response);
+    } finally {
+      record(request, SqlStatementCounter.current() - start);
+    }
+  }
+
+  private void record(HttpServletRequest request, long count) {
+    Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+    String uri = pattern != null ? pattern.toString() : UNKNOWN_URI;
+
+    DistributionSummary.builder("athenhub.sql.statements")
+        .description("요청 하나에서 실행된 SQL 문 수")
+        .tag("method", request.getMethod())
+        .tag("uri", uri)
+        .register(meterRegistry)
+        .record(count);
+
+    if (warnThreshold > 0 && count > warnThreshold) {
+      log.warn(
+          "요청 하나에서 SQL 문 {}개가 실행되었습니다 (임계값 {}). N+1 조회 여부를 확인하세요: {} {}",
+          count,
+          warnThreshold,
+          request.getMethod(),
+          uri);
+    }
+  }
+}
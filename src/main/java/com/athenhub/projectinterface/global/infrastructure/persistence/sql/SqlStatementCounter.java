@@ -0,0 +1,49 @@
+package com.athenhub.projectinterface.global.infrastructure.persistence.sql;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * 스레드별로 실행된 SQL 문 수를 세는 {@link StatementInspector}.
+ *
+ * <p>Hibernate가 SQL 문을 준비할 때마다 현재 스레드의 누적 카운터를 1 증가시킨다. 카운터는 초기화하지 않고 계속 증가하므로, 구간의 SQL 문 수는 시작 시점과
+ * 종료 시점의 {@link #current()} 값의 차이로 구한다. JDBC 배치로 묶인 문은 한 번만 센다.
+ *
+ * <p>서비스가 이미 다른 {@link StatementInspector}를 설정한 경우 그 검사기에 SQL 문을 먼저 넘기고, 그 결과를 반환한다.
+ *
+ * @author 김형섭
+ * @since 1.0.0
+ */
+public final class SqlStatementCounter implements StatementInspector {
+  private static final ThreadLocal<long[]> COUNT = ThreadLocal.withInitial(() -> new long[1]);
+
+  private final StatementInspector delegate;
+
+  /** SQL 문 수만 세는 검사기를 생성한다. */
+  public SqlStatementCounter() {
+    this(sql -> sql);
+  }
+
+  /**
+   * SQL 문 수를 센 뒤 기존 검사기에 SQL 문을 넘기는 검사기를 생성한다.
+   *
+   * @param delegate 기존 SQL 문 검사기
+   */
+  public SqlStatementCounter(StatementInspector delegate) {
+    this.delegate = delegate;
+  }
+
+  /**
+   * 현재 스레드에서 지금까지 실행된 SQL 문 수를 반환한다.
+   *
+   * @return 누적 SQL 문 수
+   */
+  public static long current() {
+    return COUNT.get()[0];
+  }
+
+  @Override
+  public String inspect(String sql) {
+    COUNT.get()[0]++;
+    return delegate.inspect(sql);
+  }
+}
@@ -0,0 +1,47 @@
+package com.athenhub.projectinterface.global.infrastructure.persistence.sql;
+
+import io.micrometer.common.KeyValue;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationFilter;
+import io.micrometer.observation.ObservationHandler;
+
+/**
+ * 관측(Observation) 구간마다 실행된 SQL 문 수를 {@value #KEY} 태그로 기록하는 핸들러.
+ *
+ * <p>관측이 시작될 때 현재 스레드의 {@link SqlStatementCounter} 값을 저장하고, 종료될 때 {@link ObservationFilter}로 차이를
+ * high cardinality 키 값으로 추가한다. 필터는 핸들러의 종료 콜백보다 먼저 적용되므로 트레이싱 핸들러가 이 값을 스팬 태그로 기록한다. SQL 문이 실행되지
+ * 않았거나 다른 스레드에서 종료된 관측에는 태그를 남기지 않는다.
+ *
+ * @author 김형섭
+ * @since 1.0.0
+ */
+public class SqlStatementObservationHandler
+    implements ObservationHandler<Observation.Context>, ObservationFilter {
+  /** SQL 문 수 태그 이름. */
+  public static final String KEY = "db.statement.count";
+
+  @Override
+  public void onStart(Observation.Context context) {
+    context.put(Start.class, new Start(Thread.currentThread(), SqlStatementCounter.current()));
+  }
+
+  @Override
+  public Observation.Context map(Observation.Context context) {
+    Start start = context.get(Start.class);
+    if (start == null || start.thread() != Thread.currentThread()) {
+      return context;
+    }
+    long count = SqlStatementCounter.current() - start.count();
+    if (count > 0) {
+      context.addHighCardinalityKeyValue(KeyValue.of(KEY, String.valueOf(count)));
+    }
+    return context;
+  }
+
+  @Override
+  public boolean supportsContext(Observation.Context context) {
+    return true;
+  }
+
+  private record Start(Thread thread, long count) {}
+}
@@ -0,0 +1,25 @@
+package com.athenhub.projectinterface.global.infrastructure.persistence.sql;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * SQL 문 수 측정 설정.
+ *
+ * <pre>
+ * athenhub:
+ *   persistence:
+ *     sql:
+ *       statistics-enabled: true
+ *       warn-threshold: 20
+ * </pre>
+ *
+ * @param statisticsEnabled Hibernate 통계 수집 및 메트릭 노출 여부. 기본값은 {@code false}이며, {@code
+ *     hibernate.generate_statistics}를 직접 설정한 경우 그 값이 우선한다.
+ * @param warnThreshold 요청 하나에서 이 수를 넘는 SQL 문이 실행되면 경고 로그를 남긴다. 0 이하면 경고하지 않는다.
+ * @author 김형섭
+ * @since 1.0.0
+ */
+@ConfigurationProperties(prefix = "athenhub.persistence.sql")
+public record SqlStatementProperties(
+    @DefaultValue("false") boolean statisticsEnabled, @DefaultValue("20") int warnThreshold) {}
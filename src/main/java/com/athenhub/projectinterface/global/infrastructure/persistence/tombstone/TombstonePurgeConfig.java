@@ -0,0 +1,89 @@
+package com.athenhub.projectinterface.global.infrastructure.persistence.tombstone;
+
+import com.athenhub.projectinterface.global.domain.TombstoneRetention;
+import com.athenhub.projectinterface.global.infrastructure.persistence.BulkChangeListener;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.FixedDelayTask;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * 논리 삭제 행 정리({@link TombstoneRetention}) 설정 클래스.
+ *
+ * <p>{@link TombstonePurger}가 기동 후 {@link TombstonePurgeProperties#interval()}이 지난 시점부터 같은 주기로
+ * 보존 기간이 지난 행을 정리한다. 기동 직후에는 실행하지 않아 워밍업 중인 요청과 경쟁하지 않는다.
+ *
+ * @author 김형섭
+ * @since 1.0.0
+ */
+@Configuration
+@EnableConfigurationProperties(TombstonePurgeProperties.class)
+@ConditionalOnProperty(
+    prefix = "athenhub.persistence.tombstone",
+    name = "enabled",
+    havingValue = "true",
+    matchIfMissing = true)
+public class TombstonePurgeConfig {
+
+  /**
+   * 논리 삭제 행 정리 작업을 등록한다.
+   *
+   * @param entityManagerFactory 엔티티 매니저 팩토리
+   * @param jdbcTemplate JDBC 템플릿
+   * @param transactionManager 트랜잭션 매니저
+   * @param objectMapper JSON 매퍼 (없으면 기본 매퍼를 사용한다)
+   * @param bulkChangeListener 물리 삭제를 통지받을 리스너
+   * @param properties 논리 삭제 행 정리 설정
+   * @param meterRegistry 메트릭 레지스트리
+   * @return 정리 작업
+   */
+  @Bean
+  public TombstonePurger tombstonePurger(
+      EntityManagerFactory entityManagerFactory,
+      JdbcTemplate jdbcTemplate,
+      PlatformTransactionManager transactionManager,
+      ObjectProvider<ObjectMapper> objectMapper,
+      ObjectProvider<BulkChangeListener> bulkChangeListener,
+      TombstonePurgeProperties properties,
+      ObjectProvider<MeterRegistry> meterRegistry) {
+    return new TombstonePurger(
+        entityManagerFactory,
+        jdbcTemplate,
+        transactionManager,
+        objectMapper.getIfAvailable(
+            () ->
+                JsonMapper.builder()
+                    .findAndAddModules()
+                    .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                    .build()),
+        bulkChangeListener.getIfAvailable(),
+        properties,
+        meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
+  }
+
+  /**
+   * 정리 작업을 주기적으로 실행하도록 등록한다.
+   *
+   * @param purger 정리 작업
+   * @param properties 논리 삭제 행 정리 설정
+   * @return 스케줄링 설정
+   */
+  @Bean
+  public SchedulingConfigurer tombstonePurgeScheduling(
+      TombstonePurger purger, TombstonePurgeProperties properties) {
+    return registrar ->
+        registrar.addFixedDelayTask(
+            new FixedDelayTask(purger::purge, properties.interval(), properties.interval()));
+  }
+}
@@ -0,0 +1,36 @@
+package com.athenhub.projectinterface.global.infrastructure.persistence.tombstone;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 논리 삭제 행 정리 설정.
+ *
+ * <pre>
+ * athenhub:
+ *   persistence:
+ *     tombstone:
+ *       enabled: true
+ *       batch-size: 500
+ *       max-rows-per-second: 1000
+ *       interval: 10m
+ *       archive-directory: tombstone-archive
+ * </pre>
+ *
+ * @param enabled 논리 삭제 행 정리 여부
+ * @param batchSize 한 트랜잭션에서 보관하고 삭제할 최대 행 수
+ * @param maxRowsPerSecond 초당 삭제할 최대 행 수. 0 이하이면 제한하지 않는다.
+ * @param interval 정리 작업 주기. 직전 실행이 끝난 시점부터 계산한다.
+ * @param archiveDirectory {@code FILE} 보관 방식에서 파일을 기록할 디렉터리
+ * @author 김형섭
+ * @since 1.0.0
+ */
+@ConfigurationProperties(prefix = "athenhub.persistence.tombstone")
+public record TombstonePurgeProperties(
+    @DefaultValue("true") boolean enabled,
+    @DefaultValue("500") int batchSize,
+    @DefaultValue("1000") int maxRowsPerSecond,
+    @DefaultValue("10m") Duration interval,
+    @DefaultValue("tombstone-archive") Path archiveDirectory) {}
@@ -0,0 +1,481 @@
+package com.athenhub.projectinterface.global.infrastructure.persistence.tombstone;
+
+import com.athenhub.projectinterface.global.domain.AbstractAuditEntity;
+import com.athenhub.projectinterface.global.domain.TombstoneRetention;
+import com.athenhub.projectinterface.global.infrastructure.persistence.BulkChange;
+import com.athenhub.projectinterface.global.infrastructure.persistence.BulkChangeListener;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.metamodel.EntityType;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.sql.ResultSetMetaData;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * {@link TombstoneRetention}으로 선언된 엔티티의 논리 삭제 행을 보관한 뒤 물리 삭제하는 작업.
+ *
+ * <p>테이블마다 {@code deleted_at}이 보존 기간보다 오래된 행을 {@code (deleted_at, id)} 순서로 최대
+ * {@link TombstonePurgeProperties#batchSize()}건씩 {@code FOR UPDATE SKIP LOCKED}로 잠가 읽고, 보관 위치에 옮긴
+ * 뒤 원본 테이블에서 삭제한다. 배치 하나는 한 트랜잭션으로 처리되므로 도중에 프로세스가 종료되어도 커밋된 배치까지만 반영되고, 다음 실행은 남은 행부터 이어서
+ * 처리한다. 여러 인스턴스가 동시에 실행해도 같은 행을 처리하지 않는다.
+ *
+ * <p>행은 {@code PartialIndexInitializer}가 만드는 {@code (deleted_at, id) WHERE deleted_at IS NOT NULL}
+ * 부분 인덱스로 찾는다. {@code TABLE} 보관은 원본 테이블에 새로 추가된 컬럼을 보관 테이블에도 추가한 뒤 컬럼 이름을 지정해
+ * 옮기므로, 두 테이블의 컬럼 순서가 달라도 된다.
+ *
+ * <p>배치 사이에는 {@link TombstonePurgeProperties#maxRowsPerSecond()}를 넘지 않도록 대기하여 운영 트래픽과 경쟁하지 않는다.
+ * {@code FILE} 보관은 삭제를 커밋하기 전에 파일을 디스크에 동기화하므로 행이 유실되지 않지만, 커밋 직전에 종료되면 같은 행이 다시 기록될 수 있다.
+ *
+ * <p>JDBC로 직접 삭제하므로 엔티티 리스너는 동작하지 않으며, 배치마다 삭제한 행의 식별자를 같은 트랜잭션에서 {@link
+ * BulkChangeListener}에 전달한다. 다른 테이블이 외래 키로 참조하는 행은 삭제에 실패하며, 해당 테이블은 오류를 남기고 다음
+ * 실행에서 다시 시도한다.
+ *
+ * <p>다음 메트릭을 노출한다({@code table} 태그).
+ *
+ * <ul>
+ *   <li>{@code athenhub.persistence.tombstone.purged}: 물리 삭제한 행 수
+ *   <li>{@code athenhub.persistence.tombstone.backlog}: 보존 기간이 지났지만 아직 삭제하지 않은 행 수. 최대 {@value
+ *       #BACKLOG_LIMIT}건까지만 센다.
+ *   <li>{@code athenhub.persistence.tombstone.batch}: 배치 하나를 처리하는 데 걸린 시간
+ * </ul>
+ *
+ * @author 김형섭
+ * @since 1.0.0
+ */
+@Slf4j
+public class TombstonePurger {
+  static final String ARCHIVE_SUFFIX = "_archive";
+  static final int BACKLOG_LIMIT = 100_000;
+
+  /** PostgreSQL 드라이버가 시퀀스 기본값을 가진 컬럼에 보고하는 타입. 보관 테이블에는 시퀀스 없이 추가한다. */
+  private static final Map<String, String> SERIAL_TYPES =
+      Map.of("smallserial", "int2", "serial", "int4", "bigserial", "int8");
+
+  private final JdbcTemplate jdbcTemplate;
+  private final TransactionTemplate transactionTemplate;
+  private final ObjectMapper objectMapper;
+  private final BulkChangeListener bulkChangeListener;
+  private final MeterRegistry meterRegistry;
+  private final Clock clock;
+  private final int batchSize;
+  private final int maxRowsPerSecond;
+  private final Path archiveDirectory;
+  private final List<TombstoneTable> tables;
+
+  /**
+   * 정리 작업을 생성한다.
+   *
+   * @param entityManagerFactory 엔티티 매니저 팩토리
+   * @param jdbcTemplate JDBC 템플릿
+   * @param transactionManager 트랜잭션 매니저
+   * @param objectMapper {@code FILE} 보관에 사용할 JSON 매퍼
+   * @param bulkChangeListener 물리 삭제를 통지받을 리스너 (없으면 null)
+   * @param properties 논리 삭제 행 정리 설정
+   * @param meterRegistry 메트릭 레지스트리
+   */
+  public TombstonePurger(
+      EntityManagerFactory entityManagerFactory,
+      JdbcTemplate jdbcTemplate,
+      PlatformTransactionManager transactionManager,
+      ObjectMapper objectMapper,
+      BulkChangeListener bulkChangeListener,
+      TombstonePurgeProperties properties,
+      MeterRegistry meterRegistry) {
+    this(
+        entityManagerFactory,
+        jdbcTemplate,
+        transactionManager,
+        objectMapper,
+        bulkChangeListener,
+        properties,
+        meterRegistry,
+        Clock.systemDefaultZone());
+  }
+
+  TombstonePurger(
+      EntityManagerFactory entityManagerFactory,
+      JdbcTemplate jdbcTemplate,
+      PlatformTransactionManager transactionManager,
+      ObjectMapper objectMapper,
+      BulkChangeListener bulkChangeListener,
+      TombstonePurgeProperties properties,
+      MeterRegistry meterRegistry,
+      Clock clock) {
+    if (properties.batchSize() <= 0) {
+      throw new IllegalArgumentException("batchSize는 0보다 커야 합니다: " + properties.batchSize());
+    }
+    this.jdbcTemplate = jdbcTemplate;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.objectMapper = objectMapper;
+    this.bulkChangeListener = bulkChangeListener;
+    this.meterRegistry = meterRegistry;
+    this.clock = clock;
+    this.batchSize = properties.batchSize();
+    this.maxRowsPerSecond = properties.maxRowsPerSecond();
+    this.archiveDirectory = properties.archiveDirectory();
+    this.tables = tombstoneTables(entityManagerFactory);
+  }
+
+  /**
+   * 모든 대상 테이블에서 보존 기간이 지난 논리 삭제 행을 정리한다.
+   *
+   * @return 물리 삭제한 행 수
+   */
+  public int purge() {
+    int total = 0;
+    for (TombstoneTable table : tables) {
+      try {
+        total += purge(table);
+      } catch (DataAccessException | UncheckedIOException e) {
+        log.error("논리 삭제 행 정리에 실패했습니다: {}", table.name(), e);
+      }
+    }
+    return total;
+  }
+
+  private int purge(TombstoneTable table) {
+    Timestamp cutoff =
+        Timestamp.valueOf(LocalDateTime.now(clock).minusDays(table.spec().days()));
+    Long backlog =
+        jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM (SELECT 1 FROM "
+                + table.name()
+                + " WHERE deleted_at < ? FETCH FIRST ? ROWS ONLY) expired",
+            Long.class,
+            cutoff,
+            BACKLOG_LIMIT);
+    table.backlog().set(backlog == null ? 0 : backlog);
+    if (table.backlog().get() == 0) {
+      return 0;
+    }
+    List<String> columns =
+        table.spec().archive() == TombstoneRetention.Archive.TABLE
+            ? prepareArchiveTable(table.name())
+            : List.of();
+
+    int total = 0;
+    Tombstone cursor = null;
+    while (true) {
+      long started = System.nanoTime();
+      Tombstone after = cursor;
+      List<Tombstone> purged =
+          transactionTemplate.execute(status -> purgeBatch(table, columns, cutoff, after));
+      if (purged == null || purged.isEmpty()) {
+        break;
+      }
+
+      long elapsed = System.nanoTime() - started;
+      table.batches().record(elapsed, TimeUnit.NANOSECONDS);
+      table.purged().increment(purged.size());
+      table.backlog().updateAndGet(remaining -> Math.max(0, remaining - purged.size()));
+      total += purged.size();
+      cursor = purged.getLast();
+      if (purged.size() < batchSize || !throttle(purged.size(), elapsed)) {
+        break;
+      }
+    }
+    if (total > 0) {
+      log.info("논리 삭제 행 {}건을 정리했습니다: {}", total, table.name());
+    }
+    return total;
+  }
+
+  private List<Tombstone> purgeBatch(
+      TombstoneTable table, List<String> columns, Timestamp cutoff, Tombstone after) {
+    List<Tombstone> rows =
+        after == null
+            ? jdbcTemplate.query(selectSql(table, false), Tombstone.MAPPER, cutoff, batchSize)
+            : jdbcTemplate.query(
+                selectSql(table, true),
+                Tombstone.MAPPER,
+                cutoff,
+                after.deletedAt(),
+                after.deletedAt(),
+                after.id(),
+                batchSize);
+    if (rows.isEmpty()) {
+      return rows;
+    }
+
+    Object[] ids = rows.stream().map(Tombstone::id).toArray();
+    String where = " WHERE " + table.idColumn() + " IN (" + placeholders(ids.length) + ")";
+    switch (table.spec().archive()) {
+      case TABLE -> jdbcTemplate.update(archiveSql(table.name(), columns) + where, ids);
+      case FILE ->
+          archiveToFile(
+              table, jdbcTemplate.queryForList("SELECT * FROM " + table.name() + where, ids));
+      case NONE -> {}
+    }
+    jdbcTemplate.update("DELETE FROM " + table.name() + where, ids);
+    if (bulkChangeListener != null) {
+      bulkChangeListener.onBulkChange(
+          new BulkChange(
+              table.entityType(),
+              BulkChange.Type.PURGE,
+              List.of(ids),
+              null,
+              LocalDateTime.now(clock)));
+    }
+    return rows;
+  }
+
+  private void archiveToFile(TombstoneTable table, List<Map<String, Object>> rows) {
+    Path file = archiveDirectory.resolve(table.name() + ".jsonl");
+    try {
+      Files.createDirectories(archiveDirectory);
+      try (FileChannel channel =
+              FileChannel.open(
+                  file,
+                  StandardOpenOption.CREATE,
+                  StandardOpenOption.WRITE,
+                  StandardOpenOption.APPEND);
+          Writer writer = Channels.newWriter(channel, StandardCharsets.UTF_8)) {
+        for (Map<String, Object> row : rows) {
+          writer.write(objectMapper.writeValueAsString(archiveRow(row)));
+          writer.write('\n');
+        }
+        writer.flush();
+        channel.force(false);
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException("보관 파일에 기록하지 못했습니다: " + file, e);
+    }
+  }
+
+  private boolean throttle(int rows, long elapsedNanos) {
+    if (maxRowsPerSecond <= 0) {
+      return true;
+    }
+    long wait = TimeUnit.SECONDS.toNanos(rows) / maxRowsPerSecond - elapsedNanos;
+    if (wait <= 0) {
+      return true;
+    }
+    try {
+      TimeUnit.NANOSECONDS.sleep(wait);
+      return true;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+
+  /**
+   * 보관 테이블을 만들고 원본 테이블에만 있는 컬럼을 보관 테이블에 추가한다. 원본 테이블에서 삭제된 컬럼은 보관 테이블에 남겨 둔다.
+   *
+   * @param tableName 원본 테이블 이름
+   * @return 원본 테이블의 컬럼 목록
+   */
+  private List<String> prepareArchiveTable(String tableName) {
+    jdbcTemplate.execute(createArchiveTableSql(tableName));
+    Map<String, String> columns = columnTypes(tableName);
+    Map<String, String> archived = columnTypes(tableName + ARCHIVE_SUFFIX);
+    columns.forEach(
+        (column, type) -> {
+          if (!archived.containsKey(column)) {
+            log.info("보관 테이블에 컬럼을 추가합니다: {}{}.{}", tableName, ARCHIVE_SUFFIX, column);
+            jdbcTemplate.execute(addArchiveColumnSql(tableName, column, type));
+          }
+        });
+    return List.copyOf(columns.keySet());
+  }
+
+  /** 테이블의 컬럼 이름(소문자)과 타입 이름을 컬럼 순서대로 읽는다. */
+  private Map<String, String> columnTypes(String tableName) {
+    return jdbcTemplate.query(
+        "SELECT * FROM " + tableName + " WHERE 1 = 0",
+        rs -> {
+          ResultSetMetaData metaData = rs.getMetaData();
+          Map<String, String> columns = new LinkedHashMap<>();
+          for (int i = 1; i <= metaData.getColumnCount(); i++) {
+            columns.put(
+                metaData.getColumnName(i).toLowerCase(Locale.ROOT),
+                SERIAL_TYPES.getOrDefault(
+                    metaData.getColumnTypeName(i), metaData.getColumnTypeName(i)));
+          }
+          return columns;
+        });
+  }
+
+  /**
+   * 보관 테이블에 컬럼을 추가하는 DDL을 만든다.
+   *
+   * @param tableName 원본 테이블 이름
+   * @param column 컬럼 이름
+   * @param type 컬럼 타입 이름
+   * @return {@code ALTER TABLE ... ADD COLUMN} 문
+   */
+  static String addArchiveColumnSql(String tableName, String column, String type) {
+    return "ALTER TABLE " + tableName + ARCHIVE_SUFFIX + " ADD COLUMN " + column + " " + type;
+  }
+
+  /**
+   * 원본 테이블의 행을 컬럼 이름을 지정해 보관 테이블로 옮기는 문을 만든다. 조건절은 호출하는 쪽에서 붙인다.
+   *
+   * @param tableName 원본 테이블 이름
+   * @param columns 옮길 컬럼 목록
+   * @return {@code INSERT INTO ... SELECT} 문
+   */
+  static String archiveSql(String tableName, List<String> columns) {
+    String columnList = String.join(", ", columns);
+    return "INSERT INTO "
+        + tableName
+        + ARCHIVE_SUFFIX
+        + " ("
+        + columnList
+        + ") SELECT "
+        + columnList
+        + " FROM "
+        + tableName;
+  }
+
+  /**
+   * 보관 테이블 생성 DDL을 만든다. 원본 테이블과 같은 컬럼을 가지며 제약 조건과 인덱스는 복사하지 않는다.
+   *
+   * @param tableName 원본 테이블 이름
+   * @return {@code CREATE TABLE IF NOT EXISTS ... AS SELECT} 문
+   */
+  static String createArchiveTableSql(String tableName) {
+    return "CREATE TABLE IF NOT EXISTS "
+        + tableName
+        + ARCHIVE_SUFFIX
+        + " AS SELECT * FROM "
+        + tableName
+        + " WHERE 1 = 0";
+  }
+
+  /**
+   * 보존 기간이 지난 행을 {@code (deleted_at, id)} 순서로 잠가 읽는 조회문을 만든다.
+   *
+   * @param table 대상 테이블
+   * @param afterCursor 직전 배치의 마지막 행 이후부터 읽으면 true
+   * @return {@code SELECT ... FOR UPDATE SKIP LOCKED} 문
+   */
+  private static String selectSql(TombstoneTable table, boolean afterCursor) {
+    String id = table.idColumn();
+    return "SELECT "
+        + id
+        + ", deleted_at FROM "
+        + table.name()
+        + " WHERE deleted_at < ?"
+        + (afterCursor ? " AND (deleted_at > ? OR (deleted_at = ? AND " + id + " > ?))" : "")
+        + " ORDER BY deleted_at, "
+        + id
+        + " FETCH FIRST ? ROWS ONLY FOR UPDATE SKIP LOCKED";
+  }
+
+  private static String placeholders(int count) {
+    return String.join(", ", Collections.nCopies(count, "?"));
+  }
+
+  private static Map<String, Object> archiveRow(Map<String, Object> row) {
+    Map<String, Object> archived = new LinkedHashMap<>();
+    row.forEach(
+        (column, value) ->
+            archived.put(
+                column.toLowerCase(Locale.ROOT),
+                value instanceof Timestamp timestamp ? timestamp.toLocalDateTime() : value));
+    return archived;
+  }
+
+  private List<TombstoneTable> tombstoneTables(EntityManagerFactory entityManagerFactory) {
+    SessionFactoryImplementor sessionFactory =
+        entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+    List<TombstoneTable> result = new ArrayList<>();
+    for (EntityType<?> entityType : entityManagerFactory.getMetamodel().getEntities()) {
+      Class<?> javaType = entityType.getJavaType();
+      TombstoneRetention spec = javaType.getAnnotation(TombstoneRetention.class);
+      if (spec == null) {
+        continue;
+      }
+      if (!AbstractAuditEntity.class.isAssignableFrom(javaType) || spec.days() <= 0) {
+        throw new IllegalStateException(
+            "AbstractAuditEntity를 상속하고 days가 0보다 커야 합니다: " + javaType.getName());
+      }
+
+      EntityPersister persister =
+          sessionFactory.getMappingMetamodel().getEntityDescriptor(javaType);
+      if (!(persister instanceof AbstractEntityPersister entityPersister)
+          || entityPersister.getIdentifierColumnNames().length != 1) {
+        throw new IllegalStateException(
+            "단일 식별자 컬럼을 가진 엔티티만 정리할 수 있습니다: " + javaType.getName());
+      }
+      result.add(
+          table(
+              javaType.getName(),
+              entityPersister.getTableName(),
+              entityPersister.getIdentifierColumnNames()[0],
+              spec));
+    }
+    return List.copyOf(result);
+  }
+
+  private TombstoneTable table(
+      String entityType, String name, String idColumn, TombstoneRetention spec) {
+    AtomicLong backlog = new AtomicLong();
+    Gauge.builder("athenhub.persistence.tombstone.backlog", backlog, AtomicLong::get)
+        .description("보존 기간이 지났지만 아직 삭제하지 않은 논리 삭제 행 수")
+        .tag("table", name)
+        .register(meterRegistry);
+    return new TombstoneTable(
+        entityType,
+        name,
+        idColumn,
+        spec,
+        backlog,
+        Counter.builder("athenhub.persistence.tombstone.purged")
+            .description("물리 삭제한 논리 삭제 행 수")
+            .tag("table", name)
+            .register(meterRegistry),
+        Timer.builder("athenhub.persistence.tombstone.batch")
+            .description("논리 삭제 행 정리 배치 하나를 처리하는 데 걸린 시간")
+            .tag("table", name)
+            .register(meterRegistry));
+  }
+
+  /** 정리 대상 테이블. */
+  private record TombstoneTable(
+      String entityType,
+      String name,
+      String idColumn,
+      TombstoneRetention spec,
+      AtomicLong backlog,
+      Counter purged,
+      Timer batches) {}
+
+  /** 정리한 행의 키셋 위치. */
+  private record Tombstone(Object id, Timestamp deletedAt) {
+    private static final RowMapper<Tombstone> MAPPER =
+        (rs, rowNum) -> new Tombstone(rs.getObject(1), rs.getTimestamp(2));
+  }
+}
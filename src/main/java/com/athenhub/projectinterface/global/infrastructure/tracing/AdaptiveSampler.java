@@ -0,0 +1,58 @@
+package com.athenhub.projectinterface.global.infrastructure.tracing;
+
+import brave.sampler.RateLimitingSampler;
+import brave.sampler.Sampler;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 인스턴스당 초당 샘플링 수를 제한하는 Brave 헤드 샘플러.
+ *
+ * <p>새 트레이스마다 {@link RateLimitingSampler}로 초당 {@link
+ * TracingSamplingProperties#tracesPerSecond()}건까지만 샘플링한다. 고정 확률 샘플러와 달리 트래픽이 늘어도 보고하는 스팬 수가 일정하게
+ * 유지된다. 샘플링되지 않은 트레이스도 로컬에서는 기록되며, {@link TailSamplingSpanHandler}가 요청이 끝난 뒤 느리거나 실패한 트레이스를
+ * 골라 보고한다.
+ *
+ * <p>결정 결과는 {@code athenhub.tracing.sampling} 카운터({@code decision}: {@code sampled}, {@code
+ * deferred})로 기록한다.
+ *
+ * @author 김형섭
+ * @since 1.0.0
+ */
+public class AdaptiveSampler extends Sampler {
+  static final String METRIC = "athenhub.tracing.sampling";
+
+  private final Sampler delegate;
+  private final Counter sampled;
+  private final Counter deferred;
+
+  /**
+   * 샘플러를 생성한다.
+   *
+   * @param tracesPerSecond 초당 샘플링할 최대 트레이스 수. 0이면 미리 샘플링하지 않는다.
+   * @param meterRegistry 메트릭 레지스트리
+   */
+  public AdaptiveSampler(int tracesPerSecond, MeterRegistry meterRegistry) {
+    if (tracesPerSecond < 0) {
+      throw new IllegalArgumentException("tracesPerSecond는 0 이상이어야 합니다: " + tracesPerSecond);
+    }
+    this.delegate =
+        tracesPerSecond == 0 ? Sampler.NEVER_SAMPLE : RateLimitingSampler.create(tracesPerSecond);
+    this.sampled = decision(meterRegistry, "sampled");
+    this.deferred = decision(meterRegistry, "deferred");
+  }
+
+  @Override
+  public boolean isSampled(long traceId) {
+    boolean result = delegate.isSampled(traceId);
+    (result ? sampled : deferred).increment();
+    return result;
+  }
+
+  static Counter decision(MeterRegistry meterRegistry, String decision) {
+    return Counter.builder(METRIC)
+        .description("트레이스 샘플링 결정 수")
+        .tag("decision", decision)
+        .register(meterRegistry);
+  }
+}
@@ -0,0 +1,138 @@
+package com.athenhub.projectinterface.global.infrastructure.tracing;
+
+import brave.handler.MutableSpan;
+import brave.handler.SpanHandler;
+import brave.propagation.TraceContext;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import zipkin2.reporter.Reporter;
+
+/**
+ * 미리 샘플링되지 않은 트레이스 중 느리거나 실패한 트레이스를 요청이 끝난 뒤 보고하는 Brave 스팬 핸들러.
+ *
+ * <p>{@code Tracing.Builder#alwaysSampleLocal()}로 샘플링되지 않은 스팬도 로컬에서 기록하게 한 뒤, 끝난 스팬을 트레이스별로 최근 스팬
+ * 버퍼에 보관한다. 로컬 루트 스팬(서버 요청 스팬 등)이 끝나면 그 스팬이 오류로 끝났거나 {@link
+ * TracingSamplingProperties#slowThreshold()}보다 오래 걸린 경우 버퍼에 있던 같은 트레이스의 스팬과 함께 Zipkin 리포터로 보내고, 아니면
+ * 버린다. 미리 샘플링된 스팬은 기본 Zipkin 핸들러가 보고하므로 이 핸들러는 관여하지 않는다.
+ *
+ * <p>버퍼는 {@link TracingSamplingProperties#bufferSize()}개의 스팬까지만 보관하며, 넘치면 가장 오래된 트레이스를 버린다. 보고
+ * 여부는 이 인스턴스에서 결정되므로 하위 서비스의 스팬은 함께 보고되지 않으며, 로컬 루트가 끝난 뒤에 끝나는 비동기 스팬도 보고되지 않는다.
+ *
+ * <p>다음 메트릭을 노출한다.
+ *
+ * <ul>
+ *   <li>{@code athenhub.tracing.sampling}: 트레이스별 사후 결정 수({@code decision}: {@code error}, {@code
+ *       slow}, {@code dropped})
+ *   <li>{@code athenhub.tracing.sampling.buffer.size}: 버퍼에 보관 중인 스팬 수
+ *   <li>{@code athenhub.tracing.sampling.buffer.evicted}: 로컬 루트가 끝나기 전에 버퍼에서 밀려난 스팬 수
+ * </ul>
+ *
+ * @author 김형섭
+ * @since 1.0.0
+ */
+public class TailSamplingSpanHandler extends SpanHandler {
+  private final Reporter<MutableSpan> reporter;
+  private final long slowThresholdMicros;
+  private final int bufferSize;
+  private final Map<String, List<MutableSpan>> buffer = new LinkedHashMap<>();
+  private int bufferedSpans;
+  private final Counter error;
+  private final Counter slow;
+  private final Counter dropped;
+  private final Counter evicted;
+
+  /**
+   * 스팬 핸들러를 생성한다.
+   *
+   * @param reporter 보고할 스팬을 보낼 Zipkin 리포터
+   * @param slowThreshold 보고할 요청의 최소 소요 시간
+   * @param bufferSize 보관할 최대 스팬 수
+   * @param meterRegistry 메트릭 레지스트리
+   */
+  public TailSamplingSpanHandler(
+      Reporter<MutableSpan> reporter,
+      Duration slowThreshold,
+      int bufferSize,
+      MeterRegistry meterRegistry) {
+    if (bufferSize <= 0) {
+      throw new IllegalArgumentException("bufferSize는 0보다 커야 합니다: " + bufferSize);
+    }
+    this.reporter = reporter;
+    this.slowThresholdMicros = slowThreshold.toNanos() / 1_000;
+    this.bufferSize = bufferSize;
+    this.error = AdaptiveSampler.decision(meterRegistry, "error");
+    this.slow = AdaptiveSampler.decision(meterRegistry, "slow");
+    this.dropped = AdaptiveSampler.decision(meterRegistry, "dropped");
+    this.evicted =
+        Counter.builder(AdaptiveSampler.METRIC + ".buffer.evicted")
+            .description("로컬 루트 스팬이 끝나기 전에 버퍼에서 밀려난 스팬 수")
+            .register(meterRegistry);
+    Gauge.builder(AdaptiveSampler.METRIC + ".buffer.size", this, TailSamplingSpanHandler::size)
+        .description("사후 샘플링을 위해 보관 중인 스팬 수")
+        .register(meterRegistry);
+  }
+
+  @Override
+  public boolean end(TraceContext context, MutableSpan span, Cause cause) {
+    if (cause != Cause.FINISHED || Boolean.TRUE.equals(context.sampled())) {
+      return true;
+    }
+    if (!context.isLocalRoot()) {
+      buffer(context.traceIdString(), span);
+      return true;
+    }
+
+    List<MutableSpan> trace = remove(context.traceIdString());
+    Counter decision = decide(span);
+    decision.increment();
+    if (decision != dropped) {
+      trace.forEach(reporter::report);
+      reporter.report(span);
+    }
+    return true;
+  }
+
+  private Counter decide(MutableSpan span) {
+    if (span.error() != null
+        || span.tag("error") != null
+        || "SERVER_ERROR".equals(span.tag("outcome"))) {
+      return error;
+    }
+    if (span.finishTimestamp() - span.startTimestamp() >= slowThresholdMicros) {
+      return slow;
+    }
+    return dropped;
+  }
+
+  private synchronized void buffer(String traceId, MutableSpan span) {
+    Iterator<List<MutableSpan>> eldest = buffer.values().iterator();
+    while (bufferedSpans >= bufferSize && eldest.hasNext()) {
+      int size = eldest.next().size();
+      eldest.remove();
+      bufferedSpans -= size;
+      evicted.increment(size);
+    }
+    buffer.computeIfAbsent(traceId, key -> new ArrayList<>()).add(span);
+    bufferedSpans++;
+  }
+
+  private synchronized List<MutableSpan> remove(String traceId) {
+    List<MutableSpan> trace = buffer.remove(traceId);
+    if (trace == null) {
+      return List.of();
+    }
+    bufferedSpans -= trace.size();
+    return trace;
+  }
+
+  private synchronized int size() {
+    return bufferedSpans;
+  }
+}
@@ -0,0 +1,77 @@
+package com.athenhub.projectinterface.global.infrastructure.tracing;
+
+import brave.TracingCustomizer;
+import brave.handler.MutableSpan;
+import brave.sampler.Sampler;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import zipkin2.reporter.Reporter;
+
+/**
+ * 적응형 트레이스 샘플링 설정 클래스.
+ *
+ * <p>Spring Boot가 등록하는 고정 확률 샘플러 대신 {@link AdaptiveSampler}를 등록하여 초당 샘플링 수를 제한하고, 샘플링되지
+ * 않은 스팬도 로컬에서 기록하도록 {@code alwaysSampleLocal}을 켠 뒤 {@link TailSamplingSpanHandler}가 느리거나 실패한 트레이스를
+ * 보고하게 한다. 샘플링되지 않은 요청도 스팬을 기록하는 비용은 들지만, Zipkin으로 보내는 스팬 수는 제한된다.
+ *
+ * @author 김형섭
+ * @since 1.0.0
+ */
+@Configuration
+@EnableConfigurationProperties(TracingSamplingProperties.class)
+@ConditionalOnProperty(
+    prefix = "athenhub.tracing.sampling",
+    name = "enabled",
+    havingValue = "true",
+    matchIfMissing = true)
+public class TracingSamplingConfig {
+
+  /**
+   * 초당 샘플링 수를 제한하는 샘플러를 등록한다.
+   *
+   * @param properties 샘플링 설정
+   * @param meterRegistry 메트릭 레지스트리
+   * @return 샘플러
+   */
+  @Bean
+  public Sampler adaptiveSampler(
+      TracingSamplingProperties properties, ObjectProvider<MeterRegistry> meterRegistry) {
+    return new AdaptiveSampler(
+        properties.tracesPerSecond(), meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
+  }
+
+  /**
+   * 샘플링되지 않은 스팬도 로컬에서 기록하도록 설정한다.
+   *
+   * @return Brave 설정
+   */
+  @Bean
+  public TracingCustomizer alwaysSampleLocalTracingCustomizer() {
+    return builder -> builder.alwaysSampleLocal();
+  }
+
+  /**
+   * 느리거나 실패한 트레이스를 보고하는 스팬 핸들러를 등록한다. Zipkin 리포터가 없으면 사후 결정만 기록하고 보고하지 않는다.
+   *
+   * @param reporter Zipkin 리포터
+   * @param properties 샘플링 설정
+   * @param meterRegistry 메트릭 레지스트리
+   * @return 스팬 핸들러
+   */
+  @Bean
+  public TailSamplingSpanHandler tailSamplingSpanHandler(
+      ObjectProvider<Reporter<MutableSpan>> reporter,
+      TracingSamplingProperties properties,
+      ObjectProvider<MeterRegistry> meterRegistry) {
+    return new TailSamplingSpanHandler(
+        reporter.getIfAvailable(() -> span -> {}),
+        properties.slowThreshold(),
+        properties.bufferSize(),
+        meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
+  }
+}
@@ -0,0 +1,32 @@
+package com.athenhub.projectinterface.global.infrastructure.tracing;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 적응형 트레이스 샘플링 설정.
+ *
+ * <pre>
+ * athenhub:
+ *   tracing:
+ *     sampling:
+ *       enabled: true
+ *       traces-per-second: 10
+ *       slow-threshold: 500ms
+ *       buffer-size: 2000
+ * </pre>
+ *
+ * @param enabled 적응형 샘플링 사용 여부. false이면 {@code management.tracing.sampling.probability}를 사용한다.
+ * @param tracesPerSecond 인스턴스에서 초당 미리 샘플링할 최대 트레이스 수. 0이면 느리거나 실패한 트레이스만 보고한다.
+ * @param slowThreshold 이 시간보다 오래 걸린 요청은 미리 샘플링되지 않았어도 보고한다.
+ * @param bufferSize 요청이 끝날 때까지 보관할 최근 스팬 수의 상한. 넘치면 가장 오래된 트레이스부터 버린다.
+ * @author 김형섭
+ * @since 1.0.0
+ */
+@ConfigurationProperties(prefix = "athenhub.tracing.sampling")
+public record TracingSamplingProperties(
+    @DefaultValue("true") boolean enabled,
+    @DefaultValue("10") int tracesPerSecond,
+    @DefaultValue("500ms") Duration slowThreshold,
+    @DefaultValue("2000") int bufferSize) {}
@@ -0,0 +1,99 @@
+package com.athenhub.projectinterface.global.infrastructure.web;
+
+import com.athenhub.projectinterface.global.infrastructure.persistence.EntityVersion;
+import com.athenhub.projectinterface.global.infrastructure.persistence.LastModifiedRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import java.util.Optional;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.WebRequest;
+
+/**
+ * 엔티티의 수정 일시로 조건부 GET({@code If-None-Match}, {@code If-Modified-Since})을 처리하는 컴포넌트.
+ *
+ * <p>{@link LastModifiedRepository#findLastModifiedById(Object)}로 수정 일시와 버전만 읽어 {@code ETag}와
+ * {@code Last-Modified}를 만들고, 클라이언트가 가진 표현이 최신이면 엔티티를 읽거나 직렬화하지 않고 {@code 304 Not Modified}를 반환한다.
+ * 변경된 경우에만 응답 본문 공급자를 호출한다. 응답에는 {@code Cache-Control: no-cache}를 붙여 클라이언트가 캐시한 표현을 매번 검증 요청으로
+ * 재사용하도록 한다.
+ *
+ * <pre>{@code
+ * @GetMapping("/members/{id}")
+ * public ResponseEntity<MemberResponse> get(@PathVariable UUID id, WebRequest request) {
+ *   return conditionalGet.respond(
+ *       request, memberRepository, id, () -> memberQueryService.get(id));
+ * }
+ * }</pre>
+ *
+ * <p>엔티티가 없으면 검증 없이 응답 본문 공급자를 호출하므로, 조회 서비스가 던지는 예외가 그대로 응답을 결정한다. 검증 결과는 {@code
+ * athenhub.http.conditional} 카운터({@code result}: {@code not_modified}, {@code modified}, {@code
+ * missing})로 기록한다.
+ *
+ * @author 김형섭
+ * @since 1.0.0
+ */
+@Component
+public class ConditionalGet {
+  private static final String METRIC = "athenhub.http.conditional";
+
+  private final Counter notModified;
+  private final Counter modified;
+  private final Counter missing;
+
+  /**
+   * 조건부 GET 컴포넌트를 생성한다.
+   *
+   * @param meterRegistry 메트릭 레지스트리
+   */
+  public ConditionalGet(ObjectProvider<MeterRegistry> meterRegistry) {
+    MeterRegistry registry = meterRegistry.getIfAvailable(() -> Metrics.globalRegistry);
+    this.notModified = counter(registry, "not_modified");
+    this.modified = counter(registry, "modified");
+    this.missing = counter(registry, "missing");
+  }
+
+  /**
+   * 엔티티가 변경되지 않았으면 {@code 304}를, 변경되었으면 응답 본문과 함께 {@code 200}을 반환한다.
+   *
+   * @param request 현재 요청
+   * @param repository 엔티티 리포지토리
+   * @param id 엔티티 ID
+   * @param body 응답 본문 공급자. 엔티티가 변경된 경우에만 호출된다.
+   * @param <T> 응답 본문 타입
+   * @param <IdT> 식별자 타입
+   * @return 응답
+   */
+  public <T, IdT> ResponseEntity<T> respond(
+      WebRequest request,
+      LastModifiedRepository<?, IdT> repository,
+      IdT id,
+      Supplier<? extends T> body) {
+    Optional<EntityVersion> version = repository.findLastModifiedById(id);
+    if (version.isEmpty()) {
+      missing.increment();
+      return ResponseEntity.ok(body.get());
+    }
+
+    EntityVersion current = version.get();
+    if (request.checkNotModified(current.etag(), current.lastModified())) {
+      notModified.increment();
+      return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+          .cacheControl(CacheControl.noCache())
+          .build();
+    }
+    modified.increment();
+    return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(body.get());
+  }
+
+  private static Counter counter(MeterRegistry registry, String result) {
+    return Counter.builder(METRIC)
+        .description("엔티티 수정 일시 기반 조건부 GET 검증 결과")
+        .tag("result", result)
+        .register(registry);
+  }
+}
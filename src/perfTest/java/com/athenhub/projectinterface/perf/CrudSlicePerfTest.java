@@ -0,0 +1,150 @@
+package com.athenhub.projectinterface.perf;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.securityContext;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.athenhub.projectinterface.MockUser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+
+/**
+ * 샘플 CRUD 슬라이스에 동시 부하를 걸어 처리량과 지연 시간이 기준선 안에 있는지 확인하는 부하 테스트.
+ *
+ * <p>Config Server, Eureka 없이 H2로 애플리케이션 전체를 기동하고, {@link MockUser}로 만든 인증 정보를 모든 요청에 실어 MockMvc로
+ * 인증 필터부터 JPA까지의 요청 경로를 실행한다. 생성, 조회, 수정, 삭제를 각각 하나의 연산으로 측정하며, 측정 전에 같은 순서로 워밍업을 수행한다.
+ *
+ * @author 김형섭
+ * @since 1.0.0
+ */
+@SpringBootTest(
+    properties = {
+      "spring.cloud.config.enabled=false",
+      "spring.cloud.discovery.enabled=false",
+      "spring.cloud.refresh.enabled=false",
+      "eureka.client.enabled=false",
+      "spring.docker.compose.enabled=false",
+      "spring.datasource.url=jdbc:h2:mem:perf;DB_CLOSE_DELAY=-1",
+      "spring.datasource.username=sa",
+      "spring.jpa.hibernate.ddl-auto=create-drop",
+      "athenhub.persistence.index.auto-create=false",
+      "logging.level.root=warn",
+      "logging.level.com.athenhub.projectinterface.perf=info"
+    })
+@Slf4j
+@AutoConfigureMockMvc
+class CrudSlicePerfTest {
+  private final MockMvc mockMvc;
+  private final ObjectMapper objectMapper;
+
+  CrudSlicePerfTest(MockMvc mockMvc, ObjectMapper objectMapper) {
+    this.mockMvc = mockMvc;
+    this.objectMapper = objectMapper;
+  }
+
+  @Test
+  @MockUser(username = "perf")
+  void testCrudSliceStaysWithinBaseline() throws Exception {
+    PerfSettings settings = PerfSettings.fromSystemProperties();
+    RequestPostProcessor user = securityContext(SecurityContextHolder.getContext());
+
+    PerfReport report;
+    try (LoadGenerator generator = new LoadGenerator(settings.concurrency())) {
+      runCrud(generator, settings.warmupRequests(), user);
+      report =
+          new PerfReport(settings.concurrency(), runCrud(generator, settings.requests(), user));
+    }
+    report.write(settings.results());
+    log.info("부하 테스트 결과 ({})\n{}", settings.results(), report.toTable());
+
+    if (settings.updateBaseline()) {
+      report.write(settings.baseline());
+      log.info("기준선을 갱신했습니다: {}", settings.baseline());
+      return;
+    }
+    Optional<PerfReport> baseline = PerfReport.read(settings.baseline());
+    if (settings.requireBaseline()) {
+      assertThat(baseline).as("기준선이 없습니다: %s", settings.baseline()).isPresent();
+    }
+    assumeTrue(baseline.isPresent(), "기준선이 없어 비교를 건너뜁니다: " + settings.baseline());
+    assertThat(report.regressionsAgainst(baseline.get(), settings.tolerance()))
+        .as("기준선 대비 허용 오차 %.0f%%를 넘은 지표", settings.tolerance() * 100)
+        .isEmpty();
+  }
+
+  private List<OperationResult> runCrud(
+      LoadGenerator generator, int requests, RequestPostProcessor user) throws Exception {
+    long[] ids = new long[requests];
+    OperationResult create =
+        generator.run(
+            "create",
+            requests,
+            index -> {
+              String body =
+                  mockMvc
+                      .perform(
+                          post(SampleItemController.PATH)
+                              .with(user)
+                              .with(csrf())
+                              .contentType(MediaType.APPLICATION_JSON)
+                              .content(json(new SampleItemRequest("item-" + index, index))))
+                      .andExpect(status().isCreated())
+                      .andReturn()
+                      .getResponse()
+                      .getContentAsString();
+              ids[index] = objectMapper.readValue(body, SampleItemResponse.class).id();
+            });
+    OperationResult read =
+        generator.run(
+            "read",
+            requests,
+            index ->
+                mockMvc
+                    .perform(get(SampleItemController.PATH + "/" + ids[index]).with(user))
+                    .andExpect(status().isOk()));
+    OperationResult update =
+        generator.run(
+            "update",
+            requests,
+            index ->
+                mockMvc
+                    .perform(
+                        put(SampleItemController.PATH + "/" + ids[index])
+                            .with(user)
+                            .with(csrf())
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(json(new SampleItemRequest("changed-" + index, index + 1))))
+                    .andExpect(status().isOk()));
+    OperationResult remove =
+        generator.run(
+            "delete",
+            requests,
+            index ->
+                mockMvc
+                    .perform(
+                        delete(SampleItemController.PATH + "/" + ids[index])
+                            .with(user)
+                            .with(csrf()))
+                    .andExpect(status().isNoContent()));
+    return List.of(create, read, update, remove);
+  }
+
+  private String json(SampleItemRequest request) throws Exception {
+    return objectMapper.writeValueAsString(request);
+  }
+}
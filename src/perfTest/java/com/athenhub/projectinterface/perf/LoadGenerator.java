@@ -0,0 +1,144 @@
+package com.athenhub.projectinterface.perf;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 고정된 수의 스레드로 요청을 동시에 실행하고 지연 시간, 할당량, GC 시간을 측정하는 부하 생성기.
+ *
+ * <p>{@link #run(String, int, Request)}는 요청 번호 {@code 0..requests-1}을 작업 스레드에 나누어 실행하며, 요청마다 지연 시간과
+ * 실행 스레드의 힙 할당량({@code com.sun.management.ThreadMXBean})을 기록한다. 한 번의 실행이 하나의 연산(생성, 조회 등)을 나타내므로
+ * 처리량과 GC 시간은 그 연산만의 값이다. 요청이 하나라도 실패하면 남은 요청을 실행하지 않고 첫 번째 예외를 던진다.
+ *
+ * @author 김형섭
+ * @since 1.0.0
+ */
+public final class LoadGenerator implements AutoCloseable {
+  private static final com.sun.management.ThreadMXBean THREADS =
+      (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+  private final int concurrency;
+  private final ExecutorService executor;
+
+  /**
+   * 부하 생성기를 생성한다.
+   *
+   * @param concurrency 동시에 요청을 실행할 스레드 수
+   */
+  public LoadGenerator(int concurrency) {
+    if (concurrency <= 0) {
+      throw new IllegalArgumentException("concurrency는 0보다 커야 합니다: " + concurrency);
+    }
+    this.concurrency = concurrency;
+    this.executor = Executors.newFixedThreadPool(concurrency);
+  }
+
+  /**
+   * 요청을 동시에 실행하고 결과를 집계한다.
+   *
+   * @param name 연산 이름
+   * @param requests 실행할 요청 수
+   * @param request 요청 번호를 받아 요청 하나를 실행하는 함수
+   * @return 측정 결과
+   * @throws Exception 요청이 실패한 경우 첫 번째 예외
+   */
+  public OperationResult run(String name, int requests, Request request) throws Exception {
+    long[] latencies = new long[requests];
+    LongAdder allocatedBytes = new LongAdder();
+    AtomicInteger next = new AtomicInteger();
+    AtomicReference<Exception> failure = new AtomicReference<>();
+    CountDownLatch start = new CountDownLatch(1);
+
+    Future<?>[] workers = new Future<?>[concurrency];
+    for (int i = 0; i < concurrency; i++) {
+      workers[i] =
+          executor.submit(
+              () -> {
+                start.await();
+                long allocatedBefore = THREADS.getCurrentThreadAllocatedBytes();
+                int index;
+                while (failure.get() == null && (index = next.getAndIncrement()) < requests) {
+                  long started = System.nanoTime();
+                  try {
+                    request.execute(index);
+                  } catch (Exception | AssertionError e) {
+                    failure.compareAndSet(
+                        null, e instanceof Exception exception ? exception : new Exception(e));
+                    break;
+                  }
+                  latencies[index] = System.nanoTime() - started;
+                }
+                allocatedBytes.add(THREADS.getCurrentThreadAllocatedBytes() - allocatedBefore);
+                return null;
+              });
+    }
+
+    long gcBefore = gcMillis();
+    long started = System.nanoTime();
+    start.countDown();
+    for (Future<?> worker : workers) {
+      worker.get();
+    }
+    long elapsed = System.nanoTime() - started;
+    long gc = gcMillis() - gcBefore;
+    if (failure.get() != null) {
+      throw failure.get();
+    }
+
+    Arrays.sort(latencies);
+    double seconds = elapsed / (double) TimeUnit.SECONDS.toNanos(1);
+    return new OperationResult(
+        name,
+        requests,
+        requests / seconds,
+        micros(percentile(latencies, 0.50)),
+        micros(percentile(latencies, 0.99)),
+        micros(percentile(latencies, 0.999)),
+        allocatedBytes.sum() / requests,
+        (long) (allocatedBytes.sum() / seconds),
+        gc);
+  }
+
+  @Override
+  public void close() {
+    executor.shutdownNow();
+  }
+
+  private static long percentile(long[] sorted, double percentile) {
+    int index = (int) Math.ceil(percentile * sorted.length) - 1;
+    return sorted[Math.clamp(index, 0, sorted.length - 1)];
+  }
+
+  private static double micros(long nanos) {
+    return nanos / 1_000.0;
+  }
+
+  private static long gcMillis() {
+    return ManagementFactory.getGarbageCollectorMXBeans().stream()
+        .mapToLong(GarbageCollectorMXBean::getCollectionTime)
+        .filter(time -> time > 0)
+        .sum();
+  }
+
+  /** 요청 하나를 실행하는 함수. */
+  @FunctionalInterface
+  public interface Request {
+
+    /**
+     * 요청을 실행한다.
+     *
+     * @param index 요청 번호
+     * @throws Exception 요청이 실패한 경우
+     */
+    void execute(int index) throws Exception;
+  }
+}
@@ -0,0 +1,75 @@
+package com.athenhub.projectinterface.perf;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 연산 하나의 부하 테스트 결과.
+ *
+ * @param name 연산 이름
+ * @param requests 실행한 요청 수
+ * @param throughputPerSecond 초당 처리한 요청 수
+ * @param p50Micros 지연 시간 50번째 백분위수 (마이크로초)
+ * @param p99Micros 지연 시간 99번째 백분위수 (마이크로초)
+ * @param p999Micros 지연 시간 99.9번째 백분위수 (마이크로초)
+ * @param allocatedBytesPerRequest 요청 하나가 할당한 평균 힙 크기 (바이트)
+ * @param allocationBytesPerSecond 초당 힙 할당량 (바이트)
+ * @param gcMillis 측정 중 GC에 사용된 시간 (밀리초)
+ * @author 김형섭
+ * @since 1.0.0
+ */
+public record OperationResult(
+    String name,
+    int requests,
+    double throughputPerSecond,
+    double p50Micros,
+    double p99Micros,
+    double p999Micros,
+    long allocatedBytesPerRequest,
+    long allocationBytesPerSecond,
+    long gcMillis) {
+
+  /** p999를 비교하는 최소 요청 수. 이보다 적으면 p999가 꼬리 몇 건으로 정해져 실행마다 크게 달라진다. */
+  static final int P999_MIN_REQUESTS = 10_000;
+
+  /**
+   * 기준선과 비교하여 허용 오차를 넘은 지표를 찾는다.
+   *
+   * <p>처리량은 감소를, 지연 시간과 요청당 할당량은 증가를 회귀로 본다. 초당 할당량과 GC 시간은 처리량에 따라 달라지므로 비교하지 않는다.
+   * p999는 현재 결과와 기준선 모두 {@value #P999_MIN_REQUESTS}건 이상 측정했을 때만 비교한다.
+   *
+   * @param baseline 기준선 결과
+   * @param tolerance 허용 오차 (0.25이면 25%)
+   * @return 회귀 내용 목록. 회귀가 없으면 빈 목록.
+   */
+  public List<String> regressionsAgainst(OperationResult baseline, double tolerance) {
+    List<String> regressions = new ArrayList<>();
+    if (throughputPerSecond < baseline.throughputPerSecond() * (1 - tolerance)) {
+      regressions.add(
+          regression("throughputPerSecond", throughputPerSecond, baseline.throughputPerSecond()));
+    }
+    higher(regressions, "p50Micros", p50Micros, baseline.p50Micros(), tolerance);
+    higher(regressions, "p99Micros", p99Micros, baseline.p99Micros(), tolerance);
+    if (Math.min(requests, baseline.requests()) >= P999_MIN_REQUESTS) {
+      higher(regressions, "p999Micros", p999Micros, baseline.p999Micros(), tolerance);
+    }
+    higher(
+        regressions,
+        "allocatedBytesPerRequest",
+        allocatedBytesPerRequest,
+        baseline.allocatedBytesPerRequest(),
+        tolerance);
+    return regressions;
+  }
+
+  private void higher(
+      List<String> regressions, String metric, double current, double baseline, double tolerance) {
+    if (current > baseline * (1 + tolerance)) {
+      regressions.add(regression(metric, current, baseline));
+    }
+  }
+
+  private String regression(String metric, double current, double baseline) {
+    return String.format("%s.%s: %.1f (기준선 %.1f)", name, metric, current, baseline);
+  }
+}
@@ -0,0 +1,101 @@
+package com.athenhub.projectinterface.perf;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 부하 테스트 실행 결과. 기준선 파일과 결과 파일은 같은 JSON 형식을 사용한다.
+ *
+ * @param concurrency 동시에 요청을 실행한 스레드 수
+ * @param operations 연산별 결과
+ * @author 김형섭
+ * @since 1.0.0
+ */
+public record PerfReport(int concurrency, List<OperationResult> operations) {
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+  /**
+   * 파일에서 결과를 읽는다.
+   *
+   * @param file 결과 파일
+   * @return 읽은 결과. 파일이 없으면 빈 값.
+   * @throws IOException 파일을 읽지 못한 경우
+   */
+  public static Optional<PerfReport> read(Path file) throws IOException {
+    if (!Files.exists(file)) {
+      return Optional.empty();
+    }
+    return Optional.of(OBJECT_MAPPER.readValue(file.toFile(), PerfReport.class));
+  }
+
+  /**
+   * 결과를 파일에 기록한다.
+   *
+   * @param file 결과 파일
+   * @throws IOException 파일을 기록하지 못한 경우
+   */
+  public void write(Path file) throws IOException {
+    Files.createDirectories(file.toAbsolutePath().getParent());
+    OBJECT_MAPPER.writerWithDefaultPrettyPrinter().writeValue(file.toFile(), this);
+  }
+
+  /**
+   * 기준선과 비교하여 허용 오차를 넘은 지표를 찾는다. 기준선에 없는 연산은 비교하지 않는다.
+   *
+   * @param baseline 기준선
+   * @param tolerance 허용 오차 (0.25이면 25%)
+   * @return 회귀 내용 목록. 회귀가 없으면 빈 목록.
+   */
+  public List<String> regressionsAgainst(PerfReport baseline, double tolerance) {
+    List<String> regressions = new ArrayList<>();
+    for (OperationResult operation : operations) {
+      baseline.operations().stream()
+          .filter(expected -> expected.name().equals(operation.name()))
+          .findFirst()
+          .ifPresent(
+              expected -> regressions.addAll(operation.regressionsAgainst(expected, tolerance)));
+    }
+    return regressions;
+  }
+
+  /**
+   * 결과를 표 형식 문자열로 만든다.
+   *
+   * @return 표 형식 결과
+   */
+  public String toTable() {
+    StringBuilder table =
+        new StringBuilder(
+            String.format(
+                "%-8s %8s %12s %10s %10s %10s %12s %12s %8s%n",
+                "Op",
+                "Cnt",
+                "Ops/s",
+                "p50(us)",
+                "p99(us)",
+                "p999(us)",
+                "Alloc(B/op)",
+                "Alloc(MB/s)",
+                "GC(ms)"));
+    for (OperationResult operation : operations) {
+      table.append(
+          String.format(
+              "%-8s %8d %12.1f %10.1f %10.1f %10.1f %12d %12d %8d%n",
+              operation.name(),
+              operation.requests(),
+              operation.throughputPerSecond(),
+              operation.p50Micros(),
+              operation.p99Micros(),
+              operation.p999Micros(),
+              operation.allocatedBytesPerRequest(),
+              operation.allocationBytesPerSecond() / (1024 * 1024),
+              operation.gcMillis()));
+    }
+    return table.toString();
+  }
+}
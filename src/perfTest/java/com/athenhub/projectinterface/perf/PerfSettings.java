@@ -0,0 +1,45 @@
+package com.athenhub.projectinterface.perf;
+
+import java.nio.file.Path;
+
+/**
+ * 부하 테스트 설정. {@code perfTest} Gradle 태스크가 시스템 프로퍼티로 전달한다.
+ *
+ * @param concurrency 동시에 요청을 실행할 스레드 수
+ * @param requests 연산마다 측정할 요청 수
+ * @param warmupRequests 측정 전에 연산마다 실행할 요청 수
+ * @param tolerance 기준선 대비 허용 오차 (0.25이면 25%)
+ * @param updateBaseline 비교하지 않고 측정 결과로 기준선을 갱신하면 true
+ * @param requireBaseline 기준선 파일이 없을 때 비교를 건너뛰지 않고 실패하면 true
+ * @param baseline 기준선 파일
+ * @param results 결과 파일
+ * @author 김형섭
+ * @since 1.0.0
+ */
+public record PerfSettings(
+    int concurrency,
+    int requests,
+    int warmupRequests,
+    double tolerance,
+    boolean updateBaseline,
+    boolean requireBaseline,
+    Path baseline,
+    Path results) {
+
+  /**
+   * 시스템 프로퍼티에서 설정을 읽는다. 지정되지 않은 값은 기본값을 사용한다.
+   *
+   * @return 부하 테스트 설정
+   */
+  public static PerfSettings fromSystemProperties() {
+    return new PerfSettings(
+        Integer.getInteger("perf.concurrency", 8),
+        Integer.getInteger("perf.requests", 2000),
+        Integer.getInteger("perf.warmupRequests", 1000),
+        Double.parseDouble(System.getProperty("perf.tolerance", "0.25")),
+        Boolean.getBoolean("perf.updateBaseline"),
+        Boolean.getBoolean("perf.requireBaseline"),
+        Path.of(System.getProperty("perf.baseline", "config/perf/baseline.json")),
+        Path.of(System.getProperty("perf.results", "build/results/perf/results.json")));
+  }
+}
@@ -0,0 +1,48 @@
+package com.athenhub.projectinterface.perf;
+
+import com.athenhub.projectinterface.global.domain.AbstractAuditEntity;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 부하 테스트용 샘플 감사 엔티티.
+ *
+ * @author 김형섭
+ * @since 1.0.0
+ */
+@Getter
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SampleItem extends AbstractAuditEntity {
+  @Id @GeneratedValue private Long id;
+
+  private String name;
+
+  private int quantity;
+
+  /**
+   * 샘플 엔티티를 생성한다.
+   *
+   * @param name 이름
+   * @param quantity 수량
+   */
+  public SampleItem(String name, int quantity) {
+    this.name = name;
+    this.quantity = quantity;
+  }
+
+  /**
+   * 이름과 수량을 변경한다.
+   *
+   * @param name 이름
+   * @param quantity 수량
+   */
+  public void change(String name, int quantity) {
+    this.name = name;
+    this.quantity = quantity;
+  }
+}
@@ -0,0 +1,79 @@
+package com.athenhub.projectinterface.perf;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 부하 테스트 대상 샘플 CRUD API.
+ *
+ * <p>{@code perfTest} 소스 셋에만 존재하며, 인증·MVC·트랜잭션·JPA 감사로 이어지는 요청 경로 전체를 거친다.
+ *
+ * @author 김형섭
+ * @since 1.0.0
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping(SampleItemController.PATH)
+public class SampleItemController {
+  static final String PATH = "/perf/sample-items";
+
+  private final SampleItemService sampleItemService;
+
+  /**
+   * 샘플 엔티티를 저장한다.
+   *
+   * @param request 저장할 내용
+   * @return 저장된 엔티티
+   */
+  @PostMapping
+  @ResponseStatus(HttpStatus.CREATED)
+  public SampleItemResponse create(@RequestBody SampleItemRequest request) {
+    return sampleItemService.create(request);
+  }
+
+  /**
+   * 샘플 엔티티를 조회한다.
+   *
+   * @param id 식별자
+   * @return 조회된 엔티티
+   */
+  @GetMapping("/{id}")
+  public SampleItemResponse get(@PathVariable Long id) {
+    return sampleItemService.get(id);
+  }
+
+  /**
+   * 샘플 엔티티를 수정한다.
+   *
+   * @param id 식별자
+   * @param request 수정할 내용
+   * @return 수정된 엔티티
+   */
+  @PutMapping("/{id}")
+  public SampleItemResponse update(@PathVariable Long id, @RequestBody SampleItemRequest request) {
+    return sampleItemService.update(id, request);
+  }
+
+  /**
+   * 샘플 엔티티를 논리 삭제한다.
+   *
+   * @param id 식별자
+   * @param user 인증된 사용자
+   */
+  @DeleteMapping("/{id}")
+  @ResponseStatus(HttpStatus.NO_CONTENT)
+  public void delete(@PathVariable Long id, @AuthenticationPrincipal UserDetails user) {
+    sampleItemService.delete(id, user == null ? null : user.getUsername());
+  }
+}
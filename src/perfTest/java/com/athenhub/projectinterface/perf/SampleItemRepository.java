@@ -0,0 +1,11 @@
+package com.athenhub.projectinterface.perf;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+/**
+ * 부하 테스트용 샘플 엔티티 리포지토리.
+ *
+ * @author 김형섭
+ * @since 1.0.0
+ */
+public interface SampleItemRepository extends JpaRepository<SampleItem, Long> {}
@@ -0,0 +1,11 @@
+package com.athenhub.projectinterface.perf;
+
+/**
+ * 샘플 엔티티 저장·수정 요청.
+ *
+ * @param name 이름
+ * @param quantity 수량
+ * @author 김형섭
+ * @since 1.0.0
+ */
+public record SampleItemRequest(String name, int quantity) {}
@@ -0,0 +1,23 @@
+package com.athenhub.projectinterface.perf;
+
+import java.time.LocalDateTime;
+
+/**
+ * 샘플 엔티티 응답.
+ *
+ * @param id 식별자
+ * @param name 이름
+ * @param quantity 수량
+ * @param updatedBy 수정자 계정
+ * @param updatedAt 수정 일시
+ * @author 김형섭
+ * @since 1.0.0
+ */
+public record SampleItemResponse(
+    Long id, String name, int quantity, String updatedBy, LocalDateTime updatedAt) {
+
+  static SampleItemResponse from(SampleItem item) {
+    return new SampleItemResponse(
+        item.getId(), item.getName(), item.getQuantity(), item.getUpdatedBy(), item.getUpdatedAt());
+  }
+}
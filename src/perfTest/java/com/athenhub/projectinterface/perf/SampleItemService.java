@@ -0,0 +1,75 @@
+package com.athenhub.projectinterface.perf;
+
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 부하 테스트용 샘플 CRUD 서비스.
+ *
+ * <p>조회는 읽기 전용 트랜잭션으로, 변경은 쓰기 트랜잭션으로 처리하여 실제 서비스와 같은 트랜잭션 경로를 거치도록 한다.
+ *
+ * @author 김형섭
+ * @since 1.0.0
+ */
+@Service
+@RequiredArgsConstructor
+public class SampleItemService {
+  private final SampleItemRepository sampleItemRepository;
+
+  /**
+   * 샘플 엔티티를 저장한다.
+   *
+   * @param request 저장할 내용
+   * @return 저장된 엔티티
+   */
+  @Transactional
+  public SampleItemResponse create(SampleItemRequest request) {
+    return SampleItemResponse.from(
+        sampleItemRepository.save(new SampleItem(request.name(), request.quantity())));
+  }
+
+  /**
+   * 샘플 엔티티를 조회한다.
+   *
+   * @param id 식별자
+   * @return 조회된 엔티티
+   */
+  @Transactional(readOnly = true)
+  public SampleItemResponse get(Long id) {
+    return SampleItemResponse.from(find(id));
+  }
+
+  /**
+   * 샘플 엔티티를 수정한다.
+   *
+   * @param id 식별자
+   * @param request 수정할 내용
+   * @return 수정된 엔티티
+   */
+  @Transactional
+  public SampleItemResponse update(Long id, SampleItemRequest request) {
+    SampleItem item = find(id);
+    item.change(request.name(), request.quantity());
+    sampleItemRepository.flush();
+    return SampleItemResponse.from(item);
+  }
+
+  /**
+   * 샘플 엔티티를 논리 삭제한다.
+   *
+   * @param id 식별자
+   * @param deletedBy 삭제자 계정
+   */
+  @Transactional
+  public void delete(Long id, String deletedBy) {
+    find(id).delete(deletedBy);
+  }
+
+  private SampleItem find(Long id) {
+    return sampleItemRepository
+        .findById(id)
+        .orElseThrow(() -> new EntityNotFoundException("샘플 엔티티가 없습니다: " + id));
+  }
+}
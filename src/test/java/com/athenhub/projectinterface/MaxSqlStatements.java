@@ -0,0 +1,36 @@
+package com.athenhub.projectinterface;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+/**
+ * 테스트 메서드가 실행하는 SQL 문 수의 상한을 검증하는 애노테이션.
+ *
+ * <p>테스트 메서드 실행 전후의 {@code SqlStatementCounter} 값 차이가 {@link #value()}를 넘으면 테스트가 실패한다. MockMvc 요청과
+ * 서비스 호출처럼 테스트 스레드에서 실행되는 SQL 문만 세므로, 엔드포인트나 서비스 메서드의 N+1 조회 회귀를 잡는 데 사용한다. 테스트 컨텍스트에 {@code
+ * SqlStatementConfig}가 포함되어 있어야 한다.
+ *
+ * <p>사용 예:
+ *
+ * <pre>{@code
+ * @Test
+ * @MockUser(username = "master", roles = {"MASTER"})
+ * @MaxSqlStatements(2)
+ * void testFindOrders() throws Exception {
+ *     mockMvc.perform(get("/orders")).andExpect(status().isOk());
+ * }
+ * }</pre>
+ *
+ * @see MaxSqlStatementsExtension
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@ExtendWith(MaxSqlStatementsExtension.class)
+public @interface MaxSqlStatements {
+
+  /** 허용하는 최대 SQL 문 수. */
+  long value();
+}
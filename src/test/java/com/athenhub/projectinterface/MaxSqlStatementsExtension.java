@@ -0,0 +1,45 @@
+package com.athenhub.projectinterface;
+
+import com.athenhub.projectinterface.global.infrastructure.persistence.sql.SqlStatementCounter;
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.opentest4j.AssertionFailedError;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+
+/**
+ * {@link MaxSqlStatements} 애노테이션 기반으로 테스트 메서드의 SQL 문 수를 검증하는 JUnit 확장.
+ *
+ * <p>{@code @BeforeEach}에서 준비한 데이터의 SQL 문은 세지 않도록 테스트 메서드 본문 실행 직전과 직후의 카운터 값을 비교한다.
+ *
+ * @see MaxSqlStatements
+ */
+public class MaxSqlStatementsExtension
+    implements BeforeTestExecutionCallback, AfterTestExecutionCallback {
+  private static final ExtensionContext.Namespace NAMESPACE =
+      ExtensionContext.Namespace.create(MaxSqlStatementsExtension.class);
+
+  @Override
+  public void beforeTestExecution(ExtensionContext context) {
+    context.getStore(NAMESPACE).put(context.getUniqueId(), SqlStatementCounter.current());
+  }
+
+  @Override
+  public void afterTestExecution(ExtensionContext context) {
+    Long start = context.getStore(NAMESPACE).remove(context.getUniqueId(), Long.class);
+    MaxSqlStatements limit =
+        AnnotatedElementUtils.findMergedAnnotation(
+            context.getRequiredTestMethod(), MaxSqlStatements.class);
+    if (start == null || limit == null || context.getExecutionException().isPresent()) {
+      return;
+    }
+
+    long count = SqlStatementCounter.current() - start;
+    if (count > limit.value()) {
+      throw new AssertionFailedError(
+          "SQL 문이 " + count + "개 실행되었습니다. 허용된 최대 개수는 " + limit.value() + "개입니다.",
+          limit.value(),
+          count);
+    }
+  }
+}
@@ -0,0 +1,257 @@
+package com.athenhub.projectinterface;
+
+import static com.tngtech.archunit.lang.syntax.ArchRuleDefinition.fields;
+import static com.tngtech.archunit.lang.syntax.ArchRuleDefinition.methods;
+import static com.tngtech.archunit.lang.syntax.ArchRuleDefinition.noClasses;
+
+import com.athenhub.projectinterface.global.annotation.PerformanceRuleExemption;
+import com.athenhub.projectinterface.global.annotation.PerformanceRuleExemption.Rule;
+import com.athenhub.projectinterface.global.domain.AbstractTimeEntity;
+import com.tngtech.archunit.base.DescribedPredicate;
+import com.tngtech.archunit.core.domain.AccessTarget.MethodCallTarget;
+import com.tngtech.archunit.core.domain.JavaClass;
+import com.tngtech.archunit.core.domain.JavaClasses;
+import com.tngtech.archunit.core.domain.JavaField;
+import com.tngtech.archunit.core.domain.JavaMember;
+import com.tngtech.archunit.core.domain.JavaMethod;
+import com.tngtech.archunit.core.domain.JavaMethodCall;
+import com.tngtech.archunit.core.domain.JavaModifier;
+import com.tngtech.archunit.core.importer.ImportOption;
+import com.tngtech.archunit.junit.AnalyzeClasses;
+import com.tngtech.archunit.junit.ArchTest;
+import com.tngtech.archunit.lang.ArchCondition;
+import com.tngtech.archunit.lang.ConditionEvents;
+import com.tngtech.archunit.lang.SimpleConditionEvent;
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.ManyToMany;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+import jakarta.persistence.OneToOne;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Window;
+import org.springframework.data.repository.Repository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 성능 저하로 이어지는 코드 패턴을 검사한다.
+ *
+ * <p>의도된 위반은 클래스에 {@link PerformanceRuleExemption}을 선언하여 규칙별로 제외한다.
+ */
+@AnalyzeClasses(
+    packages = "com.athenhub.projectinterface",
+    importOptions = ImportOption.DoNotIncludeTests.class)
+class PerformanceRulesTest {
+
+  private static final List<String> REMOTE_CLIENT_TYPES =
+      List.of(
+          "org.springframework.web.client.RestTemplate",
+          "org.springframework.web.client.RestClient",
+          "org.springframework.web.reactive.function.client.WebClient");
+
+  private static final List<String> REMOTE_CLIENT_ANNOTATIONS =
+      List.of(
+          "org.springframework.cloud.openfeign.FeignClient",
+          "org.springframework.web.service.annotation.HttpExchange");
+
+  @ArchTest
+  public void entityAssociationsShouldBeLazy(JavaClasses classes) {
+    fields()
+        .that()
+        .areDeclaredInClassesThat()
+        .areAssignableTo(AbstractTimeEntity.class)
+        .and(notExempt(Rule.EAGER_FETCH))
+        .should(notBeEagerlyFetched())
+        .because(
+            "EAGER 연관관계는 엔티티를 조회할 때마다 연관 엔티티를 함께 읽어 N+1 조회와 불필요한 조인을 일으킵니다."
+                + " fetch = FetchType.LAZY로 선언하고 필요한 곳에서 fetch join이나 @EntityGraph를 사용하세요")
+        .allowEmptyShould(true)
+        .check(classes);
+  }
+
+  @ArchTest
+  public void repositoryFindAllShouldBeBounded(JavaClasses classes) {
+    noClasses()
+        .that(notExemptClass(Rule.UNBOUNDED_FIND_ALL))
+        .should()
+        .callMethodWhere(unboundedFindAll())
+        .because(
+            "Pageable 없는 findAll은 테이블 크기만큼 엔티티를 메모리에 올립니다."
+                + " Pageable이나 KeysetRepository로 페이지 단위로 조회하거나, 전체 순회가 필요하면"
+                + " StreamingRepository.streamAll을 사용하세요")
+        .allowEmptyShould(true)
+        .check(classes);
+  }
+
+  @ArchTest
+  public void queryMethodsShouldBeReadOnlyTransactional(JavaClasses classes) {
+    methods()
+        .that()
+        .areDeclaredInClassesThat()
+        .resideInAPackage("com.athenhub.projectinterface..application..")
+        .and()
+        .areDeclaredInClassesThat()
+        .areAnnotatedWith(Service.class)
+        .and()
+        .arePublic()
+        .and()
+        .haveNameMatching("(find|get|search|count|exists|list|read)([A-Z].*)?")
+        .and(notExempt(Rule.READ_ONLY_QUERY))
+        .should(beReadOnlyTransactional())
+        .because(
+            "조회 전용 트랜잭션은 더티 체킹과 플러시를 생략하고 읽기 전용 데이터소스로 라우팅될 수 있습니다."
+                + " 메서드나 클래스에 @Transactional(readOnly = true)를 선언하세요")
+        .allowEmptyShould(true)
+        .check(classes);
+  }
+
+  @ArchTest
+  public void transactionsShouldNotCallRemoteClients(JavaClasses classes) {
+    methods()
+        .that(areTransactional())
+        .and(notExempt(Rule.REMOTE_CALL_IN_TRANSACTION))
+        .should(notCallRemoteClients())
+        .because(
+            "트랜잭션 안에서 원격 호출을 하면 응답을 기다리는 동안 DB 커넥션과 락을 점유하여 커넥션 풀이 고갈됩니다."
+                + " 원격 호출은 트랜잭션 밖에서 수행하고 결과만 트랜잭션으로 반영하세요")
+        .allowEmptyShould(true)
+        .check(classes);
+  }
+
+  private static DescribedPredicate<JavaMember> notExempt(Rule rule) {
+    return DescribedPredicate.describe(
+        "are not declared in classes exempt from " + rule,
+        member -> !isExempt(member.getOwner(), rule));
+  }
+
+  private static DescribedPredicate<JavaClass> notExemptClass(Rule rule) {
+    return DescribedPredicate.describe(
+        "are not exempt from " + rule, javaClass -> !isExempt(javaClass, rule));
+  }
+
+  private static boolean isExempt(JavaClass javaClass, Rule rule) {
+    return javaClass
+        .tryGetAnnotationOfType(PerformanceRuleExemption.class)
+        .map(exemption -> Arrays.asList(exemption.value()).contains(rule))
+        .orElse(false);
+  }
+
+  private static ArchCondition<JavaField> notBeEagerlyFetched() {
+    return new ArchCondition<>("not be eagerly fetched") {
+      @Override
+      public void check(JavaField field, ConditionEvents events) {
+        Optional<FetchType> fetch =
+            field
+                .tryGetAnnotationOfType(ManyToOne.class)
+                .map(ManyToOne::fetch)
+                .or(() -> field.tryGetAnnotationOfType(OneToOne.class).map(OneToOne::fetch))
+                .or(() -> field.tryGetAnnotationOfType(OneToMany.class).map(OneToMany::fetch))
+                .or(() -> field.tryGetAnnotationOfType(ManyToMany.class).map(ManyToMany::fetch))
+                .or(
+                    () ->
+                        field
+                            .tryGetAnnotationOfType(ElementCollection.class)
+                            .map(ElementCollection::fetch));
+        if (fetch.orElse(FetchType.LAZY) == FetchType.EAGER) {
+          events.add(
+              SimpleConditionEvent.violated(
+                  field,
+                  field.getFullName()
+                      + " 연관관계가 EAGER로 로딩됩니다 (@ManyToOne, @OneToOne의 기본값은 EAGER입니다) in "
+                      + field.getSourceCodeLocation()));
+        }
+      }
+    };
+  }
+
+  private static DescribedPredicate<JavaMethodCall> unboundedFindAll() {
+    return DescribedPredicate.describe(
+        "a repository findAll method without Pageable",
+        call -> {
+          MethodCallTarget target = call.getTarget();
+          String name = target.getName();
+          if (!name.startsWith("findAll")
+              || name.startsWith("findAllById")
+              || !target.getOwner().isAssignableTo(Repository.class)) {
+            return false;
+          }
+          boolean bounded =
+              target.getRawParameterTypes().stream()
+                  .anyMatch(
+                      type ->
+                          type.isAssignableTo(Pageable.class)
+                              || type.isAssignableTo(Limit.class)
+                              || type.isAssignableTo(ScrollPosition.class));
+          JavaClass returnType = target.getRawReturnType();
+          return !bounded
+              && !returnType.isAssignableTo(Page.class)
+              && !returnType.isAssignableTo(Slice.class)
+              && !returnType.isAssignableTo(Window.class);
+        });
+  }
+
+  private static ArchCondition<JavaMethod> beReadOnlyTransactional() {
+    return new ArchCondition<>("be @Transactional(readOnly = true)") {
+      @Override
+      public void check(JavaMethod method, ConditionEvents events) {
+        Optional<Transactional> transactional =
+            method
+                .tryGetAnnotationOfType(Transactional.class)
+                .or(() -> method.getOwner().tryGetAnnotationOfType(Transactional.class));
+        if (!transactional.map(Transactional::readOnly).orElse(false)) {
+          events.add(
+              SimpleConditionEvent.violated(
+                  method,
+                  method.getFullName()
+                      + " 조회 메서드에 @Transactional(readOnly = true)가 없습니다 in "
+                      + method.getSourceCodeLocation()));
+        }
+      }
+    };
+  }
+
+  private static DescribedPredicate<JavaMethod> areTransactional() {
+    return DescribedPredicate.describe(
+        "are @Transactional",
+        method ->
+            method.isAnnotatedWith(Transactional.class)
+                || (method.getOwner().isAnnotatedWith(Transactional.class)
+                    && method.getModifiers().contains(JavaModifier.PUBLIC)));
+  }
+
+  private static ArchCondition<JavaMethod> notCallRemoteClients() {
+    return new ArchCondition<>("not call remote clients") {
+      @Override
+      public void check(JavaMethod method, ConditionEvents events) {
+        for (JavaMethodCall call : method.getMethodCallsFromSelf()) {
+          if (isRemoteClient(call.getTargetOwner())) {
+            events.add(
+                SimpleConditionEvent.violated(
+                    method,
+                    method.getFullName()
+                        + " 트랜잭션 안에서 원격 클라이언트 "
+                        + call.getTarget().getFullName()
+                        + "를 호출합니다 in "
+                        + call.getSourceCodeLocation()));
+          }
+        }
+      }
+    };
+  }
+
+  private static boolean isRemoteClient(JavaClass owner) {
+    return REMOTE_CLIENT_TYPES.stream().anyMatch(owner::isAssignableTo)
+        || REMOTE_CLIENT_ANNOTATIONS.stream().anyMatch(owner::isMetaAnnotatedWith)
+        || owner.getMethods().stream()
+            .anyMatch(
+                method -> REMOTE_CLIENT_ANNOTATIONS.stream().anyMatch(method::isMetaAnnotatedWith));
+  }
+}
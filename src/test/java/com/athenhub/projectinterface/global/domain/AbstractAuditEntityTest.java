@@ -47,6 +47,15 @@ class AbstractAuditEntityTest {
     assertThat(entity.getDeletedBy()).isEqualTo(USERNAME);
   }
 
+  @Test
+  void testIsDeleted() {
+    assertThat(entity.isDeleted()).isFalse();
+
+    entity.delete(USERNAME);
+
+    assertThat(entity.isDeleted()).isTrue();
+  }
+
   @Test
   void testDeleteWithoutAuthentication() {
     entity.delete(null);
@@ -0,0 +1,72 @@
+package com.athenhub.projectinterface.global.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class AbstractIdentifiableEntityTest {
+  private static final String USERNAME = "username";
+
+  @Test
+  void testIdAssignedOnCreation() {
+    AbstractIdentifiableEntity entity = TestEntity.create();
+
+    assertThat(entity.getId()).isNotNull();
+    assertThat(entity.getId().version()).isEqualTo(7);
+    assertThat(entity.isNew()).isTrue();
+  }
+
+  @Test
+  void testJpaConstructorDoesNotGenerateId() {
+    AbstractIdentifiableEntity entity = new TestEntity();
+
+    assertThat(entity.getId()).isNull();
+  }
+
+  @Test
+  void testMarkNotNew() {
+    AbstractIdentifiableEntity entity = TestEntity.create();
+
+    entity.markNotNew();
+
+    assertThat(entity.isNew()).isFalse();
+  }
+
+  @Test
+  void testEqualsIgnoresAuditFields() {
+    AbstractIdentifiableEntity entity = TestEntity.create();
+    AbstractIdentifiableEntity other = TestEntity.create();
+    other.createBy(USERNAME);
+
+    assertThat(entity).isNotEqualTo(other);
+    assertThat(entity).isEqualTo(entity);
+  }
+
+  @Test
+  void testHashCodeStableAcrossAuditChanges() {
+    AbstractIdentifiableEntity entity = TestEntity.create();
+    Set<AbstractIdentifiableEntity> entities = new HashSet<>();
+    entities.add(entity);
+
+    entity.createBy(USERNAME);
+    entity.updateBy(USERNAME);
+    entity.delete(USERNAME);
+
+    assertThat(entities).contains(entity);
+  }
+
+  private static class TestEntity extends AbstractIdentifiableEntity {
+    TestEntity() {}
+
+    private TestEntity(UUID id) {
+      super(id);
+    }
+
+    static TestEntity create() {
+      return new TestEntity(UuidV7Generator.generate());
+    }
+  }
+}
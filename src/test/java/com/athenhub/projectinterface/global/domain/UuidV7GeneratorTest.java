@@ -0,0 +1,51 @@
+package com.athenhub.projectinterface.global.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.Test;
+
+class UuidV7GeneratorTest {
+
+  @Test
+  void testVersionAndVariant() {
+    UUID uuid = UuidV7Generator.generate();
+
+    assertThat(uuid.version()).isEqualTo(7);
+    assertThat(uuid.variant()).isEqualTo(2);
+  }
+
+  @Test
+  void testTimestamp() {
+    long epochMillis = 1_760_000_000_000L;
+
+    UUID uuid = UuidV7Generator.generate(epochMillis);
+
+    assertThat(uuid.getMostSignificantBits() >>> 16).isEqualTo(epochMillis);
+  }
+
+  @Test
+  void testTimeOrdered() {
+    UUID earlier = UuidV7Generator.generate(1_760_000_000_000L);
+    UUID later = UuidV7Generator.generate(1_760_000_000_001L);
+
+    assertThat(earlier).isLessThan(later);
+  }
+
+  @Test
+  void testUniqueAcrossVirtualThreads() throws Exception {
+    Set<UUID> uuids = ConcurrentHashMap.newKeySet();
+
+    try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      for (int i = 0; i < 10_000; i++) {
+        executor.submit(() -> uuids.add(UuidV7Generator.generate()));
+      }
+    }
+
+    assertThat(uuids).hasSize(10_000);
+  }
+}
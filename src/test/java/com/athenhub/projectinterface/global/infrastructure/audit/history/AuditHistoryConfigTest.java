@@ -0,0 +1,186 @@
+package com.athenhub.projectinterface.global.infrastructure.audit.history;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.groups.Tuple.tuple;
+
+import com.athenhub.projectinterface.support.JpaTestConfig;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@DataJpaTest(properties = "athenhub.audit.history.enabled=true")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class AuditHistoryConfigTest {
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final EntityManager entityManager;
+  private final JdbcTemplate jdbcTemplate;
+  private final PlatformTransactionManager transactionManager;
+  private final TransactionTemplate transactionTemplate;
+  private final AuditedTestEntityRepository repository;
+
+  AuditHistoryConfigTest(
+      EntityManager entityManager,
+      JdbcTemplate jdbcTemplate,
+      PlatformTransactionManager transactionManager,
+      AuditedTestEntityRepository repository) {
+    this.entityManager = entityManager;
+    this.repository = repository;
+    this.jdbcTemplate = jdbcTemplate;
+    this.transactionManager = transactionManager;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+  }
+
+  @AfterEach
+  void tearDown() {
+    jdbcTemplate.update("DELETE FROM audit_outbox");
+    jdbcTemplate.update("DELETE FROM audit_history");
+    jdbcTemplate.update("UPDATE audited_test_entity SET parent_id = NULL");
+    jdbcTemplate.update("DELETE FROM audited_test_entity");
+  }
+
+  @Test
+  void testRecordsFieldChangesInOutbox() throws Exception {
+    Long id = transactionTemplate.execute(status -> persist(new AuditedTestEntity("a", 1)));
+    transactionTemplate.executeWithoutResult(
+        status -> entityManager.find(AuditedTestEntity.class, id).rename("b"));
+    transactionTemplate.executeWithoutResult(
+        status -> entityManager.find(AuditedTestEntity.class, id).delete("admin"));
+
+    List<Map<String, Object>> rows =
+        jdbcTemplate.queryForList("SELECT * FROM audit_outbox ORDER BY id");
+
+    assertThat(rows)
+        .extracting(row -> row.get("action"), row -> row.get("entity_id"))
+        .containsExactly(
+            tuple("INSERT", id.toString()),
+            tuple("UPDATE", id.toString()),
+            tuple("DELETE", id.toString()));
+    assertThat(rows.get(0).get("entity_type")).isEqualTo(AuditedTestEntity.class.getName());
+    assertThat(changes(rows.get(0)).get("name").get("after").asText()).isEqualTo("a");
+    assertThat(changes(rows.get(0)).has("createdBy")).isFalse();
+    assertThat(changes(rows.get(1)))
+        .isEqualTo(objectMapper.readTree("{\"name\":{\"before\":\"a\",\"after\":\"b\"}}"));
+    assertThat(changes(rows.get(2)).get("deletedBy").get("after").asText()).isEqualTo("admin");
+    assertThat(rows.get(2).get("changed_by")).isEqualTo("admin");
+  }
+
+  @Test
+  void testRecordsAssociationsByIdentifier() throws Exception {
+    Long parentId = transactionTemplate.execute(status -> persist(new AuditedTestEntity("p", 0)));
+    Long childId = transactionTemplate.execute(status -> persist(new AuditedTestEntity("c", 0)));
+    transactionTemplate.executeWithoutResult(
+        status ->
+            entityManager
+                .find(AuditedTestEntity.class, childId)
+                .attachTo(entityManager.getReference(AuditedTestEntity.class, parentId)));
+
+    Map<String, Object> update =
+        jdbcTemplate.queryForMap("SELECT * FROM audit_outbox WHERE action = 'UPDATE'");
+
+    assertThat(changes(update).get("parent").get("after").asLong()).isEqualTo(parentId);
+  }
+
+  @Test
+  void testDiscardsChangesOfRolledBackTransaction() {
+    transactionTemplate.executeWithoutResult(
+        status -> {
+          persist(new AuditedTestEntity("a", 1));
+          entityManager.flush();
+          status.setRollbackOnly();
+        });
+
+    assertThat(count("audit_outbox")).isZero();
+  }
+
+  @Test
+  void testRecordsBulkSoftDeleteForAffectedRows() throws Exception {
+    Long first = transactionTemplate.execute(status -> persist(new AuditedTestEntity("a", 1)));
+    Long second = transactionTemplate.execute(status -> persist(new AuditedTestEntity("b", 2)));
+    repository.softDeleteAllById(List.of(first));
+    jdbcTemplate.update("DELETE FROM audit_outbox");
+
+    assertThat(repository.softDeleteAllById(List.of(first, second))).isEqualTo(1);
+
+    Map<String, Object> row = jdbcTemplate.queryForMap("SELECT * FROM audit_outbox");
+    assertThat(row.get("action")).isEqualTo("DELETE");
+    assertThat(row.get("entity_id")).isEqualTo(second.toString());
+    assertThat(row.get("entity_type")).isEqualTo(AuditedTestEntity.class.getName());
+    assertThat(changes(row).get("deletedBy").get("after").asText())
+        .isEqualTo(row.get("changed_by"));
+  }
+
+  @Test
+  void testDiscardsBulkChangesOfRolledBackTransaction() {
+    Long id = transactionTemplate.execute(status -> persist(new AuditedTestEntity("a", 1)));
+    jdbcTemplate.update("DELETE FROM audit_outbox");
+
+    transactionTemplate.executeWithoutResult(
+        status -> {
+          repository.markUpdatedAllById(List.of(id));
+          status.setRollbackOnly();
+        });
+
+    assertThat(count("audit_outbox")).isZero();
+  }
+
+  @Test
+  void testRelayMovesOutboxToHistoryInBatches() {
+    transactionTemplate.executeWithoutResult(
+        status -> {
+          for (int i = 0; i < 5; i++) {
+            persist(new AuditedTestEntity("item-" + i, i));
+          }
+        });
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    AuditHistoryRelay relay =
+        new AuditHistoryRelay(
+            jdbcTemplate,
+            transactionManager,
+            new AuditHistoryProperties(true, 2, Duration.ofSeconds(1)),
+            meterRegistry);
+
+    assertThat(relay.relay()).isEqualTo(5);
+
+    assertThat(count("audit_outbox")).isZero();
+    assertThat(count("audit_history")).isEqualTo(5);
+    assertThat(
+            jdbcTemplate.queryForList(
+                "SELECT changes FROM audit_history ORDER BY id", String.class))
+        .allSatisfy(changes -> assertThat(changes).contains("item-"));
+    assertThat(meterRegistry.get("athenhub.audit.history.batch.size").summary().count())
+        .isEqualTo(3);
+    assertThat(meterRegistry.get("athenhub.audit.history.lag").timer().count()).isEqualTo(5);
+    assertThat(relay.relay()).isZero();
+  }
+
+  private Long persist(AuditedTestEntity entity) {
+    entityManager.persist(entity);
+    return entity.getId();
+  }
+
+  private JsonNode changes(Map<String, Object> row) throws Exception {
+    return objectMapper.readTree((String) row.get("changes"));
+  }
+
+  private long count(String table) {
+    return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Long.class);
+  }
+
+  @TestConfiguration
+  @Import(JpaTestConfig.class)
+  static class Config {}
+}
@@ -0,0 +1,38 @@
+package com.athenhub.projectinterface.global.infrastructure.audit.history;
+
+import com.athenhub.projectinterface.global.domain.AbstractAuditEntity;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+class AuditedTestEntity extends AbstractAuditEntity {
+  @Id @GeneratedValue private Long id;
+
+  private String name;
+
+  private int price;
+
+  @ManyToOne(fetch = FetchType.LAZY)
+  private AuditedTestEntity parent;
+
+  AuditedTestEntity(String name, int price) {
+    this.name = name;
+    this.price = price;
+  }
+
+  void rename(String name) {
+    this.name = name;
+  }
+
+  void attachTo(AuditedTestEntity parent) {
+    this.parent = parent;
+  }
+}
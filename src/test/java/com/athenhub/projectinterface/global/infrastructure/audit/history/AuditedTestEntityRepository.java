@@ -0,0 +1,8 @@
+package com.athenhub.projectinterface.global.infrastructure.audit.history;
+
+import com.athenhub.projectinterface.global.infrastructure.persistence.BulkAuditRepository;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+interface AuditedTestEntityRepository
+    extends JpaRepository<AuditedTestEntity, Long>,
+        BulkAuditRepository<AuditedTestEntity, Long> {}
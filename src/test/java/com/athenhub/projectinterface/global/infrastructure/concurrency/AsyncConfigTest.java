@@ -0,0 +1,67 @@
+package com.athenhub.projectinterface.global.infrastructure.concurrency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.athenhub.projectinterface.global.infrastructure.audit.AuditorAwareImpl;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+
+class AsyncConfigTest {
+
+  private final AuditorAwareImpl auditorAware = new AuditorAwareImpl();
+
+  @AfterEach
+  void tearDown() {
+    SecurityContextHolder.clearContext();
+  }
+
+  @Test
+  void testSecurityContextPropagatedToVirtualThread() {
+    User user = new User("tester", "", List.of(new SimpleGrantedAuthority("ROLE_USER")));
+    SecurityContextHolder.getContext()
+        .setAuthentication(
+            UsernamePasswordAuthenticationToken.authenticated(user, null, user.getAuthorities()));
+
+    SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor();
+    executor.setVirtualThreads(true);
+    executor.setTaskDecorator(new AsyncConfig().contextPropagatingTaskDecorator());
+
+    CompletableFuture<Optional<String>> auditor =
+        executor.submitCompletable(auditorAware::getCurrentAuditor);
+
+    assertThat(auditor.join()).contains("tester");
+  }
+
+  @Test
+  void testSecurityContextNotLeakedWithoutDecorator() {
+    User user = new User("tester", "", List.of(new SimpleGrantedAuthority("ROLE_USER")));
+    SecurityContextHolder.getContext()
+        .setAuthentication(
+            UsernamePasswordAuthenticationToken.authenticated(user, null, user.getAuthorities()));
+
+    SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor();
+    executor.setVirtualThreads(true);
+
+    assertThat(executor.submitCompletable(auditorAware::getCurrentAuditor).join())
+        .contains("SYSTEM");
+  }
+
+  @Test
+  void testAnonymousPrincipalFallsBackToSystem() {
+    SecurityContextHolder.getContext()
+        .setAuthentication(
+            new AnonymousAuthenticationToken(
+                "key", "anonymousUser", List.of(new SimpleGrantedAuthority("ROLE_ANONYMOUS"))));
+
+    assertThat(auditorAware.getCurrentAuditor()).contains("SYSTEM");
+  }
+}
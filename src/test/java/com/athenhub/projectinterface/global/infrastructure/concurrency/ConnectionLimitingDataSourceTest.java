@@ -0,0 +1,86 @@
+package com.athenhub.projectinterface.global.infrastructure.concurrency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.zaxxer.hikari.HikariDataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ConnectionLimitingDataSourceTest {
+
+  private DataSource target;
+  private ConnectionLimitingDataSource dataSource;
+
+  @BeforeEach
+  void setUp() throws SQLException {
+    target = mock(DataSource.class);
+    when(target.getConnection()).thenAnswer(invocation -> mock(Connection.class));
+    dataSource = new ConnectionLimitingDataSource(target, 1, Duration.ofMillis(50));
+  }
+
+  @Test
+  void testGetConnectionTimesOutWhenLimitReached() throws SQLException {
+    Connection connection = dataSource.getConnection();
+
+    assertThat(dataSource.getActiveConnections()).isEqualTo(1);
+    assertThatThrownBy(dataSource::getConnection)
+        .isInstanceOf(SQLTransientConnectionException.class);
+
+    connection.close();
+
+    assertThat(dataSource.getActiveConnections()).isZero();
+    assertThat(dataSource.getConnection()).isNotNull();
+  }
+
+  @Test
+  void testCloseReleasesPermitOnlyOnce() throws SQLException {
+    Connection connection = dataSource.getConnection();
+
+    connection.close();
+    connection.close();
+
+    assertThat(dataSource.getActiveConnections()).isZero();
+    dataSource.getConnection();
+    assertThatThrownBy(dataSource::getConnection)
+        .isInstanceOf(SQLTransientConnectionException.class);
+  }
+
+  @Test
+  void testPermitReleasedWhenTargetFails() throws SQLException {
+    when(target.getConnection()).thenThrow(new SQLException("down"));
+
+    assertThatThrownBy(dataSource::getConnection).hasMessage("down");
+    assertThat(dataSource.getActiveConnections()).isZero();
+  }
+
+  @Test
+  void testDelegatesToTargetConnection() throws SQLException {
+    Connection targetConnection = mock(Connection.class);
+    when(target.getConnection()).thenReturn(targetConnection);
+
+    Connection connection = dataSource.getConnection();
+    connection.setAutoCommit(false);
+    connection.close();
+
+    verify(targetConnection).setAutoCommit(false);
+    verify(targetConnection).close();
+  }
+
+  @Test
+  void testCloseClosesTargetDataSource() throws Exception {
+    HikariDataSource pool = mock(HikariDataSource.class);
+
+    new ConnectionLimitingDataSource(pool, 1, Duration.ofMillis(50)).close();
+
+    verify(pool).close();
+  }
+}
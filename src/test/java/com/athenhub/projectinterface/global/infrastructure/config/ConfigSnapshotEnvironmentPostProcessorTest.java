@@ -0,0 +1,94 @@
+package com.athenhub.projectinterface.global.infrastructure.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Path;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.ConfigurableEnvironment;
+
+class ConfigSnapshotEnvironmentPostProcessorTest {
+
+  @TempDir Path tempDir;
+
+  @Test
+  void testStartsFromSnapshot() {
+    Path location = tempDir.resolve("config.json");
+    new ConfigSnapshotStore(location)
+        .save(Map.of("spring.application.name", "from-snapshot", "snapshot.only", "value"));
+
+    try (ConfigurableApplicationContext context = run(location)) {
+      ConfigurableEnvironment environment = context.getEnvironment();
+
+      assertThat(environment.getProperty("spring.application.name")).isEqualTo("from-snapshot");
+      assertThat(environment.getProperty("snapshot.only")).isEqualTo("value");
+      assertThat(environment.getProperty("spring.cloud.config.enabled", Boolean.class)).isFalse();
+      assertThat(environment.getPropertySources().stream().map(source -> source.getName()))
+          .noneMatch(name -> name.startsWith(ConfigSnapshotRefresher.CONFIG_SERVER_PREFIX));
+    }
+  }
+
+  @Test
+  void testDisabledByDefault() {
+    Path location = tempDir.resolve("config.json");
+    new ConfigSnapshotStore(location).save(Map.of("snapshot.only", "value"));
+
+    try (ConfigurableApplicationContext context =
+        new SpringApplicationBuilder(EmptyConfig.class)
+            .web(WebApplicationType.NONE)
+            .properties(
+                "athenhub.config.snapshot.location=" + location,
+                "spring.cloud.config.discovery.enabled=false",
+                "spring.cloud.config.fail-fast=false")
+            .run()) {
+      assertThat(context.getEnvironment().getProperty("snapshot.only")).isNull();
+    }
+  }
+
+  @Test
+  void testSkipsSensitiveProperties() {
+    Path location = tempDir.resolve("config.json");
+    new ConfigSnapshotStore(location)
+        .save(
+            Map.of(
+                "plain",
+                "value",
+                "spring.datasource.password",
+                "s3cret",
+                "jwt.signing-key",
+                "k",
+                "api.token",
+                "{cipher}AQB3"));
+
+    assertThat(new ConfigSnapshotStore(location).load()).contains(Map.of("plain", "value"));
+  }
+
+  @Test
+  void testIgnoredWithoutSnapshot() {
+    try (ConfigurableApplicationContext context = run(tempDir.resolve("missing.json"))) {
+      ConfigurableEnvironment environment = context.getEnvironment();
+
+      assertThat(environment.getPropertySources().contains("configSnapshot")).isFalse();
+      assertThat(environment.getProperty("spring.application.name")).isEqualTo("project-interface");
+    }
+  }
+
+  private ConfigurableApplicationContext run(Path location) {
+    return new SpringApplicationBuilder(EmptyConfig.class)
+        .web(WebApplicationType.NONE)
+        .properties(
+            "athenhub.config.snapshot.enabled=true",
+            "athenhub.config.snapshot.location=" + location,
+            "spring.cloud.config.discovery.enabled=false",
+            "spring.cloud.config.fail-fast=false")
+        .run();
+  }
+
+  @Configuration(proxyBeanMethods = false)
+  static class EmptyConfig {}
+}
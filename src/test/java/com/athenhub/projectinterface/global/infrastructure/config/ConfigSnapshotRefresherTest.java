@@ -0,0 +1,174 @@
+package com.athenhub.projectinterface.global.infrastructure.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.cloud.client.discovery.DiscoveryClient;
+import org.springframework.cloud.context.environment.EnvironmentChangeEvent;
+import org.springframework.cloud.context.scope.refresh.RefreshScope;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.web.client.RestClient;
+
+class ConfigSnapshotRefresherTest {
+
+  @TempDir Path tempDir;
+
+  private HttpServer configServer;
+  private volatile String configServerResponse;
+  private volatile String requestedPath;
+  private GenericApplicationContext context;
+  private final List<EnvironmentChangeEvent> events = new ArrayList<>();
+
+  @BeforeEach
+  void setUp() throws IOException {
+    configServer = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+    configServer.createContext(
+        "/",
+        exchange -> {
+          requestedPath = exchange.getRequestURI().getPath();
+          byte[] body = configServerResponse.getBytes(StandardCharsets.UTF_8);
+          exchange.getResponseHeaders().add("Content-Type", "application/json");
+          exchange.sendResponseHeaders(200, body.length);
+          exchange.getResponseBody().write(body);
+          exchange.close();
+        });
+    configServer.start();
+
+    context = new GenericApplicationContext();
+    context.addApplicationListener(
+        (ApplicationListener<EnvironmentChangeEvent>) event -> events.add(event));
+    context
+        .getEnvironment()
+        .getPropertySources()
+        .addFirst(
+            new MapPropertySource(
+                "test",
+                Map.of(
+                    "spring.application.name",
+                    "sample",
+                    "spring.cloud.config.uri",
+                    "http://localhost:" + configServer.getAddress().getPort())));
+    context.refresh();
+  }
+
+  @AfterEach
+  void tearDown() {
+    context.close();
+    configServer.stop(0);
+  }
+
+  @Test
+  void testRefreshAppliesChangedProperties() {
+    Map<String, Object> snapshot = new HashMap<>(Map.of("greeting", "old", "removed", "value"));
+    context
+        .getEnvironment()
+        .getPropertySources()
+        .addLast(new MapPropertySource("configSnapshot", snapshot));
+    configServerResponse =
+        """
+        {"name":"sample","profiles":["default"],"label":null,"version":"v2","state":null,
+         "propertySources":[
+           {"name":"sample.yml","source":{"greeting":"new","db.password":"s3cret",
+             "api.client-secret":"{cipher}AQB3"}},
+           {"name":"application.yml","source":{"greeting":"ignored","added":"value"}}]}
+        """;
+    ConfigSnapshotStore store = new ConfigSnapshotStore(tempDir.resolve("config.json"));
+
+    assertThat(refresher(store).refresh())
+        .containsExactlyInAnyOrder(
+            "greeting", "removed", "added", "db.password", "api.client-secret");
+
+    assertThat(requestedPath).isEqualTo("/sample/default");
+    assertThat(context.getEnvironment().getProperty("greeting")).isEqualTo("new");
+    assertThat(context.getEnvironment().getProperty("removed")).isNull();
+    assertThat(events).hasSize(1);
+    assertThat(events.getFirst().getKeys()).contains("greeting", "removed", "added");
+    assertThat(context.getEnvironment().getProperty("db.password")).isEqualTo("s3cret");
+    assertThat(store.load()).contains(Map.of("greeting", "new", "added", "value"));
+  }
+
+  @Test
+  void testRemovesBootstrapOverridesWhenReady() {
+    context
+        .getEnvironment()
+        .getPropertySources()
+        .addFirst(
+            new MapPropertySource(
+                ConfigSnapshotEnvironmentPostProcessor.OVERRIDES_PROPERTY_SOURCE_NAME,
+                Map.of(ConfigSnapshotEnvironmentPostProcessor.CONFIG_ENABLED, false)));
+    context
+        .getEnvironment()
+        .getPropertySources()
+        .addLast(new MapPropertySource("configSnapshot", Map.of("greeting", "same")));
+    configServerResponse =
+        """
+        {"name":"sample","profiles":["default"],
+         "propertySources":[{"name":"sample.yml","source":{"greeting":"same"}}]}
+        """;
+
+    refresher(new ConfigSnapshotStore(tempDir.resolve("config.json"))).onApplicationReady();
+
+    assertThat(
+            context
+                .getEnvironment()
+                .getPropertySources()
+                .contains(ConfigSnapshotEnvironmentPostProcessor.OVERRIDES_PROPERTY_SOURCE_NAME))
+        .isFalse();
+    assertThat(context.getEnvironment().getProperty("spring.cloud.config.enabled")).isNull();
+  }
+
+  @Test
+  void testRefreshWithoutChangesDoesNotPublishEvent() {
+    context
+        .getEnvironment()
+        .getPropertySources()
+        .addLast(new MapPropertySource("configSnapshot", Map.of("greeting", "same")));
+    configServerResponse =
+        """
+        {"name":"sample","profiles":["default"],
+         "propertySources":[{"name":"sample.yml","source":{"greeting":"same"}}]}
+        """;
+
+    assertThat(refresher(new ConfigSnapshotStore(tempDir.resolve("config.json"))).refresh())
+        .isEmpty();
+    assertThat(events).isEmpty();
+  }
+
+  @Test
+  void testRefreshFailsWhenConfigServerUnavailable() {
+    configServer.stop(0);
+
+    assertThatThrownBy(
+            () -> refresher(new ConfigSnapshotStore(tempDir.resolve("c.json"))).refresh())
+        .isInstanceOf(RuntimeException.class);
+  }
+
+  private ConfigSnapshotRefresher refresher(ConfigSnapshotStore store) {
+    DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+    return new ConfigSnapshotRefresher(
+        context,
+        store,
+        new ConfigSnapshotProperties(
+            true, store.getLocation(), 1, Duration.ZERO, List.of("password", "secret")),
+        RestClient.builder(),
+        beanFactory.getBeanProvider(DiscoveryClient.class),
+        beanFactory.getBeanProvider(RefreshScope.class));
+  }
+}
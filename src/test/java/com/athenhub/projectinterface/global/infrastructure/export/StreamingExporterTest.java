@@ -0,0 +1,198 @@
+package com.athenhub.projectinterface.global.infrastructure.export;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.athenhub.projectinterface.support.JpaTestConfig;
+import com.athenhub.projectinterface.support.TestAuditEntity;
+import com.athenhub.projectinterface.support.TestAuditEntityRepository;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.context.request.async.StandardServletAsyncWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@DataJpaTest(properties = "athenhub.export.timeout=45m")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class StreamingExporterTest {
+  private final TestAuditEntityRepository repository;
+  private final StreamingExporter exporter;
+  private final MeterRegistry meterRegistry;
+
+  StreamingExporterTest(
+      TestAuditEntityRepository repository,
+      StreamingExporter exporter,
+      MeterRegistry meterRegistry) {
+    this.repository = repository;
+    this.exporter = exporter;
+    this.meterRegistry = meterRegistry;
+  }
+
+  @BeforeEach
+  void setUp() {
+    repository.saveAll(
+        List.of(new TestAuditEntity("a"), new TestAuditEntity("b"), new TestAuditEntity("c")));
+  }
+
+  @AfterEach
+  void tearDown() {
+    repository.deleteAllInBatch();
+    meterRegistry.clear();
+  }
+
+  @Test
+  void testExportsJsonLines() throws IOException {
+    ResponseEntity<StreamingResponseBody> response = export(ExportFormat.JSON_LINES);
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    response.getBody().writeTo(out);
+
+    assertThat(response.getHeaders().getFirst(HttpHeaders.CONTENT_DISPOSITION))
+        .isEqualTo("attachment; filename=\"rows.jsonl\"");
+    assertThat(out.toString(StandardCharsets.UTF_8).lines())
+        .containsExactly("{\"name\":\"a\"}", "{\"name\":\"b\"}", "{\"name\":\"c\"}");
+    assertThat(rows(ExportFormat.JSON_LINES)).isEqualTo(3);
+  }
+
+  @Test
+  void testExportsCsvWithHeader() throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    export(ExportFormat.CSV).getBody().writeTo(out);
+
+    assertThat(out.toString(StandardCharsets.UTF_8).lines()).containsExactly("name", "a", "b", "c");
+  }
+
+  @Test
+  void testStopsWhenClientDisconnects() throws IOException {
+    OutputStream disconnected =
+        new OutputStream() {
+          @Override
+          public void write(int b) throws IOException {
+            throw new IOException("Broken pipe");
+          }
+
+          @Override
+          public void write(byte[] b, int off, int len) throws IOException {
+            throw new IOException("Broken pipe");
+          }
+        };
+
+    export(ExportFormat.JSON_LINES).getBody().writeTo(disconnected);
+
+    assertThat(
+            meterRegistry
+                .get("athenhub.export")
+                .tags("name", "rows", "outcome", "aborted")
+                .timer()
+                .count())
+        .isEqualTo(1);
+  }
+
+  @Test
+  void testPropagatesSerializationFailure() {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    StreamingResponseBody body =
+        exporter
+            .export(
+                "rows",
+                ExportFormat.JSON_LINES,
+                BrokenRow.class,
+                () -> repository.streamAll(null),
+                entity -> new BrokenRow())
+            .getBody();
+
+    assertThatThrownBy(() -> body.writeTo(out)).isInstanceOf(JsonMappingException.class);
+    assertThat(
+            meterRegistry
+                .get("athenhub.export")
+                .tags("name", "rows", "outcome", "error")
+                .timer()
+                .count())
+        .isEqualTo(1);
+  }
+
+  @Test
+  void testAppliesExportTimeoutToExportRequestOnly() throws Exception {
+    MockHttpServletRequest request = new MockHttpServletRequest();
+    request.setAsyncSupported(true);
+    MockHttpServletRequest other = new MockHttpServletRequest();
+    other.setAsyncSupported(true);
+    RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    try {
+      export(ExportFormat.CSV);
+    } finally {
+      RequestContextHolder.resetRequestAttributes();
+    }
+
+    startAsync(request);
+    startAsync(other);
+
+    assertThat(request.getAsyncContext().getTimeout()).isEqualTo(45 * 60 * 1000);
+    assertThat(other.getAsyncContext().getTimeout()).isNotEqualTo(45 * 60 * 1000);
+  }
+
+  private void startAsync(MockHttpServletRequest request) throws Exception {
+    StandardServletAsyncWebRequest asyncRequest =
+        new StandardServletAsyncWebRequest(request, new MockHttpServletResponse());
+    new ExportTimeoutInterceptor().beforeConcurrentHandling(asyncRequest, () -> null);
+    asyncRequest.startAsync();
+  }
+
+  private ResponseEntity<StreamingResponseBody> export(ExportFormat format) {
+    return exporter.export("rows", format, Row.class, () -> repository.streamAll(null), Row::from);
+  }
+
+  private double rows(ExportFormat format) {
+    return meterRegistry
+        .get("athenhub.export.rows")
+        .tags("name", "rows", "format", format.getExtension())
+        .counter()
+        .count();
+  }
+
+  record Row(String name) {
+    static Row from(TestAuditEntity entity) {
+      return new Row(entity.getName());
+    }
+  }
+
+  static class BrokenRow {
+    public String getName() {
+      throw new IllegalStateException("broken");
+    }
+  }
+
+  @TestConfiguration
+  @Import({JpaTestConfig.class, ExportConfig.class, StreamingExporter.class})
+  static class Config {
+    @Bean
+    ObjectMapper objectMapper() {
+      return new ObjectMapper();
+    }
+
+    @Bean
+    SimpleMeterRegistry meterRegistry() {
+      return new SimpleMeterRegistry();
+    }
+  }
+}
@@ -0,0 +1,174 @@
+package com.athenhub.projectinterface.global.infrastructure.loadbalancer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.CompletionContext;
+import org.springframework.cloud.client.loadbalancer.DefaultRequest;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.client.loadbalancer.RequestDataContext;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.client.loadbalancer.ResponseData;
+import org.springframework.cloud.loadbalancer.support.ServiceInstanceListSuppliers;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.util.LinkedMultiValueMap;
+
+class LatencyAwareLoadBalancerTest {
+  private static final String SERVICE_ID = "sample-service";
+  private static final LatencyAwareLoadBalancerProperties PROPERTIES =
+      new LatencyAwareLoadBalancerProperties(
+          Duration.ofSeconds(10),
+          Duration.ofMillis(100),
+          Duration.ofSeconds(1),
+          Duration.ofSeconds(30));
+
+  private final AtomicLong clock = new AtomicLong(1);
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  @Test
+  void testPrefersFasterInstances() {
+    LatencyAwareLoadBalancer loadBalancer =
+        loadBalancer(instance("fast-1"), instance("fast-2"), instance("slow"));
+    Map<String, Duration> latencies =
+        Map.of(
+            "fast-1", Duration.ofMillis(10),
+            "fast-2", Duration.ofMillis(12),
+            "slow", Duration.ofMillis(300));
+
+    Map<String, Integer> counts = new HashMap<>();
+    for (int i = 0; i < 1_000; i++) {
+      String chosen = call(loadBalancer, latencies, HttpStatus.OK);
+      counts.merge(chosen, 1, Integer::sum);
+    }
+
+    assertThat(counts.getOrDefault("slow", 0)).isLessThan(50);
+    assertThat(counts).containsKeys("fast-1", "fast-2");
+  }
+
+  @Test
+  void testSpreadsInFlightRequests() {
+    LatencyAwareLoadBalancer loadBalancer = loadBalancer(instance("a"), instance("b"));
+
+    Map<String, Integer> counts = new HashMap<>();
+    for (int i = 0; i < 10; i++) {
+      Request<Object> request = new DefaultRequest<>(new RequestDataContext());
+      Response<ServiceInstance> response = loadBalancer.choose(request).block();
+      loadBalancer.onStartRequest(request, response);
+      counts.merge(response.getServer().getInstanceId(), 1, Integer::sum);
+    }
+
+    assertThat(counts).containsEntry("a", 5).containsEntry("b", 5);
+  }
+
+  @Test
+  void testBacksOffFailingInstance() {
+    LatencyAwareLoadBalancer loadBalancer = loadBalancer(instance("healthy"), instance("failing"));
+
+    String chosen;
+    do {
+      chosen =
+          call(
+              loadBalancer,
+              Map.of("healthy", Duration.ofMillis(200), "failing", Duration.ofMillis(1)),
+              HttpStatus.SERVICE_UNAVAILABLE);
+    } while (!chosen.equals("failing"));
+
+    Map<String, Duration> latencies =
+        Map.of("healthy", Duration.ofMillis(10), "failing", Duration.ofMillis(1));
+    for (int i = 0; i < 20; i++) {
+      assertThat(call(loadBalancer, latencies, HttpStatus.OK)).isEqualTo("healthy");
+    }
+    assertThat(backoff("failing")).isEqualTo(1);
+
+    clock.addAndGet(Duration.ofSeconds(1).toNanos());
+    assertThat(backoff("failing")).isZero();
+  }
+
+  @Test
+  void testFallsBackToAllInstancesWhenEveryInstanceBacksOff() {
+    LatencyAwareLoadBalancer loadBalancer = loadBalancer(instance("failing"));
+
+    call(loadBalancer, Map.of("failing", Duration.ofMillis(1)), HttpStatus.BAD_GATEWAY);
+
+    assertThat(call(loadBalancer, Map.of("failing", Duration.ofMillis(1)), HttpStatus.OK))
+        .isEqualTo("failing");
+  }
+
+  @Test
+  void testPublishesInstanceMetrics() {
+    LatencyAwareLoadBalancer loadBalancer = loadBalancer(instance("only"));
+
+    call(loadBalancer, Map.of("only", Duration.ofMillis(20)), HttpStatus.OK);
+
+    assertThat(
+            meterRegistry
+                .get("athenhub.loadbalancer.instance.latency")
+                .tags("service", SERVICE_ID, "instance", "only")
+                .gauge()
+                .value())
+        .isEqualTo(0.02);
+    assertThat(
+            meterRegistry
+                .get("athenhub.loadbalancer.instance.score")
+                .tag("instance", "only")
+                .gauge()
+                .value())
+        .isEqualTo(Duration.ofMillis(20).toNanos());
+    assertThat(
+            meterRegistry
+                .get("athenhub.loadbalancer.instance.inflight")
+                .tag("instance", "only")
+                .gauge()
+                .value())
+        .isZero();
+  }
+
+  private String call(
+      LatencyAwareLoadBalancer loadBalancer, Map<String, Duration> latencies, HttpStatus status) {
+    Request<Object> request = new DefaultRequest<>(new RequestDataContext());
+    Response<ServiceInstance> response = loadBalancer.choose(request).block();
+    String instanceId = response.getServer().getInstanceId();
+
+    loadBalancer.onStartRequest(request, response);
+    clock.addAndGet(latencies.get(instanceId).toNanos());
+    ResponseData responseData =
+        new ResponseData(
+            instanceId.equals("failing") ? status : HttpStatus.OK,
+            new HttpHeaders(),
+            new LinkedMultiValueMap<>(),
+            null);
+    loadBalancer.onComplete(
+        new CompletionContext<>(
+            CompletionContext.Status.SUCCESS, request, response, (Object) responseData));
+    return instanceId;
+  }
+
+  private double backoff(String instanceId) {
+    return meterRegistry
+        .get("athenhub.loadbalancer.instance.backoff")
+        .tag("instance", instanceId)
+        .gauge()
+        .value();
+  }
+
+  private LatencyAwareLoadBalancer loadBalancer(ServiceInstance... instances) {
+    return new LatencyAwareLoadBalancer(
+        ServiceInstanceListSuppliers.toProvider(SERVICE_ID, instances),
+        SERVICE_ID,
+        PROPERTIES,
+        meterRegistry,
+        clock::get);
+  }
+
+  private static ServiceInstance instance(String instanceId) {
+    return new DefaultServiceInstance(instanceId, SERVICE_ID, instanceId + ".local", 8080, false);
+  }
+}
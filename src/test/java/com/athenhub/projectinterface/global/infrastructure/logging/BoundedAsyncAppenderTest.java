@@ -0,0 +1,164 @@
+package com.athenhub.projectinterface.global.infrastructure.logging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.core.AppenderBase;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+
+class BoundedAsyncAppenderTest {
+  private final LoggerContext loggerContext = new LoggerContext();
+  private final Logger logger = loggerContext.getLogger(BoundedAsyncAppenderTest.class);
+  private final GatedAppender downstream = new GatedAppender();
+  private final BoundedAsyncAppender appender = new BoundedAsyncAppender();
+
+  @BeforeEach
+  void setUp() {
+    loggerContext.setMDCAdapter(MDC.getMDCAdapter());
+    downstream.setContext(loggerContext);
+    downstream.start();
+    appender.setContext(loggerContext);
+    appender.setName("ASYNC_LOKI");
+    appender.setQueueSize(2);
+    appender.setWarnQueueSize(2);
+    appender.addAppender(downstream);
+    appender.start();
+    loggerContext.getLogger(Logger.ROOT_LOGGER_NAME).addAppender(appender);
+  }
+
+  @AfterEach
+  void tearDown() {
+    downstream.release.countDown();
+    loggerContext.stop();
+  }
+
+  @Test
+  void testEvictsOldestInfoEventsWhenQueueIsFull() throws Exception {
+    appender.doAppend(event(Level.INFO, "blocker", 0));
+    assertThat(downstream.entered.await(5, TimeUnit.SECONDS)).isTrue();
+
+    appender.doAppend(event(Level.INFO, "a", 1));
+    appender.doAppend(event(Level.WARN, "b", 2));
+    appender.doAppend(event(Level.INFO, "c", 3));
+    appender.doAppend(event(Level.WARN, "d", 4));
+    appender.doAppend(event(Level.ERROR, "e", 5));
+    appender.doAppend(event(Level.INFO, "f", 6));
+    appender.doAppend(event(Level.INFO, "g", 7));
+
+    assertThat(appender.getQueuedCount()).isEqualTo(4);
+    downstream.release.countDown();
+    appender.stop();
+
+    assertThat(downstream.messages).containsExactly("blocker", "b", "d", "f", "g");
+    assertThat(appender.getEnqueuedCount()).isEqualTo(7);
+    assertThat(appender.getEvictedCount()).isEqualTo(2);
+    assertThat(appender.getRejectedCount()).isEqualTo(1);
+  }
+
+  @Test
+  void testDeliversQueuedEventsInTimestampOrder() throws Exception {
+    appender.doAppend(event(Level.INFO, "blocker", 0));
+    assertThat(downstream.entered.await(5, TimeUnit.SECONDS)).isTrue();
+
+    appender.doAppend(event(Level.WARN, "a", 1));
+    appender.doAppend(event(Level.INFO, "b", 2));
+    appender.doAppend(event(Level.ERROR, "c", 3));
+    appender.doAppend(event(Level.DEBUG, "d", 4));
+    downstream.release.countDown();
+    appender.stop();
+
+    assertThat(downstream.messages).containsExactly("blocker", "a", "b", "c", "d");
+  }
+
+  @Test
+  void testCapturesMdcOnCallingThread() throws Exception {
+    downstream.release.countDown();
+    MDC.put("traceId", "4bf92f3577b34da6");
+    try {
+      appender.doAppend(event(Level.INFO, "traced", 0));
+    } finally {
+      MDC.remove("traceId");
+    }
+    appender.stop();
+
+    assertThat(downstream.events).singleElement();
+    assertThat(downstream.events.getFirst().getMDCPropertyMap())
+        .containsEntry("traceId", "4bf92f3577b34da6");
+  }
+
+  @Test
+  void testExportsQueueAndDropMetrics() throws Exception {
+    LoggerRateLimitFilter filter = new LoggerRateLimitFilter(() -> 0L);
+    filter.setEventsPerSecond(1);
+    filter.start();
+    appender.addFilter(filter);
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    new LoggingPipelineMetrics(loggerContext).bindTo(meterRegistry);
+
+    downstream.release.countDown();
+    logger.info("first");
+    logger.info("second");
+    appender.stop();
+
+    assertThat(
+            meterRegistry
+                .get("athenhub.logging.queued")
+                .tag("appender", "ASYNC_LOKI")
+                .functionCounter()
+                .count())
+        .isEqualTo(1);
+    assertThat(
+            meterRegistry
+                .get("athenhub.logging.dropped")
+                .tags("appender", "ASYNC_LOKI", "reason", "rate_limited")
+                .functionCounter()
+                .count())
+        .isEqualTo(1);
+    assertThat(
+            meterRegistry
+                .get("athenhub.logging.dropped")
+                .tags("appender", "ASYNC_LOKI", "reason", "evicted")
+                .functionCounter()
+                .count())
+        .isZero();
+    assertThat(meterRegistry.get("athenhub.logging.queue.size").gauge().value()).isZero();
+  }
+
+  private ILoggingEvent event(Level level, String message, long timeStamp) {
+    LoggingEvent event = new LoggingEvent(Logger.FQCN, logger, level, message, null, null);
+    event.setTimeStamp(timeStamp);
+    return event;
+  }
+
+  /** 첫 이벤트에서 해제될 때까지 멈추는 어펜더. */
+  private static final class GatedAppender extends AppenderBase<ILoggingEvent> {
+    private final CountDownLatch entered = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final List<ILoggingEvent> events = new CopyOnWriteArrayList<>();
+    private final List<String> messages = new CopyOnWriteArrayList<>();
+
+    @Override
+    protected void append(ILoggingEvent event) {
+      entered.countDown();
+      try {
+        release.await();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      events.add(event);
+      messages.add(event.getFormattedMessage());
+    }
+  }
+}
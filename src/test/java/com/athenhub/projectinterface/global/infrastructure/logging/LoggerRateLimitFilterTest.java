@@ -0,0 +1,54 @@
+package com.athenhub.projectinterface.global.infrastructure.logging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.core.spi.FilterReply;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class LoggerRateLimitFilterTest {
+  private final LoggerContext loggerContext = new LoggerContext();
+  private final AtomicLong nanoTime = new AtomicLong();
+  private final LoggerRateLimitFilter filter = new LoggerRateLimitFilter(nanoTime::get);
+
+  @BeforeEach
+  void setUp() {
+    filter.setEventsPerSecond(2);
+    filter.start();
+  }
+
+  @Test
+  void testLimitsEventsPerLoggerWithinOneSecond() {
+    assertThat(decide("noisy", Level.INFO)).isEqualTo(FilterReply.NEUTRAL);
+    assertThat(decide("noisy", Level.DEBUG)).isEqualTo(FilterReply.NEUTRAL);
+    assertThat(decide("noisy", Level.INFO)).isEqualTo(FilterReply.DENY);
+    assertThat(decide("quiet", Level.INFO)).isEqualTo(FilterReply.NEUTRAL);
+
+    nanoTime.addAndGet(1_000_000_000L);
+    assertThat(decide("noisy", Level.INFO)).isEqualTo(FilterReply.NEUTRAL);
+    assertThat(filter.getDeniedCount()).isEqualTo(1);
+  }
+
+  @Test
+  void testDoesNotLimitEventsAboveMaxLevel() {
+    for (int i = 0; i < 5; i++) {
+      assertThat(decide("noisy", Level.WARN)).isEqualTo(FilterReply.NEUTRAL);
+    }
+
+    filter.setMaxLevel("WARN");
+    assertThat(decide("noisy", Level.WARN)).isEqualTo(FilterReply.NEUTRAL);
+    assertThat(decide("noisy", Level.WARN)).isEqualTo(FilterReply.NEUTRAL);
+    assertThat(decide("noisy", Level.WARN)).isEqualTo(FilterReply.DENY);
+    assertThat(decide("noisy", Level.ERROR)).isEqualTo(FilterReply.NEUTRAL);
+  }
+
+  private FilterReply decide(String loggerName, Level level) {
+    Logger logger = loggerContext.getLogger(loggerName);
+    return filter.decide(new LoggingEvent(Logger.FQCN, logger, level, "message", null, null));
+  }
+}
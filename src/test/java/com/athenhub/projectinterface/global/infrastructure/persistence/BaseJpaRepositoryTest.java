@@ -0,0 +1,213 @@
+package com.athenhub.projectinterface.global.infrastructure.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.athenhub.projectinterface.MockUser;
+import com.athenhub.projectinterface.global.infrastructure.audit.AuditingContext;
+import com.athenhub.projectinterface.support.JpaTestConfig;
+import com.athenhub.projectinterface.support.TestAuditEntity;
+import com.athenhub.projectinterface.support.TestAuditEntityRepository;
+import com.athenhub.projectinterface.support.TestVersionedEntity;
+import com.athenhub.projectinterface.support.TestVersionedEntityRepository;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.orm.jpa.JpaObjectRetrievalFailureException;
+
+@DataJpaTest
+class BaseJpaRepositoryTest {
+  private final TestAuditEntityRepository repository;
+  private final TestVersionedEntityRepository versionedRepository;
+  private final SoftDeleteFilter softDeleteFilter;
+
+  BaseJpaRepositoryTest(
+      TestAuditEntityRepository repository,
+      TestVersionedEntityRepository versionedRepository,
+      SoftDeleteFilter softDeleteFilter) {
+    this.repository = repository;
+    this.versionedRepository = versionedRepository;
+    this.softDeleteFilter = softDeleteFilter;
+  }
+
+  @Test
+  @MockUser(username = "cleaner")
+  void testSoftDeleteAllById() {
+    List<TestAuditEntity> entities =
+        repository.saveAllAndFlush(
+            List.of(new TestAuditEntity("a"), new TestAuditEntity("b"), new TestAuditEntity("c")));
+
+    int updated =
+        repository.softDeleteAllById(List.of(entities.get(0).getId(), entities.get(1).getId()));
+
+    assertThat(updated).isEqualTo(2);
+    assertThat(entities.get(0).isDeleted()).isTrue();
+    assertThat(entities.get(0).getDeletedBy()).isEqualTo("cleaner");
+    assertThat(entities.get(0).getUpdatedBy()).isEqualTo("cleaner");
+    assertThat(repository.findAll()).extracting(TestAuditEntity::getName).containsExactly("c");
+  }
+
+  @Test
+  @MockUser(username = "cleaner")
+  void testSoftDeleteAllBySpecification() {
+    repository.saveAllAndFlush(List.of(new TestAuditEntity("a"), new TestAuditEntity("b")));
+
+    Specification<TestAuditEntity> nameIsA =
+        (root, query, builder) -> builder.equal(root.get("name"), "a");
+    int updated = repository.softDeleteAll(nameIsA);
+
+    assertThat(updated).isEqualTo(1);
+    assertThat(repository.findAll()).extracting(TestAuditEntity::getName).containsExactly("b");
+  }
+
+  @Test
+  @MockUser(username = "editor")
+  void testMarkUpdatedAllById() {
+    TestAuditEntity entity = repository.saveAndFlush(new TestAuditEntity("a"));
+
+    int updated = repository.markUpdatedAllById(List.of(entity.getId()));
+
+    assertThat(updated).isEqualTo(1);
+    assertThat(entity.getUpdatedBy()).isEqualTo("editor");
+  }
+
+  @Test
+  @MockUser(username = "editor")
+  void testBulkUpdateIncrementsVersion() {
+    TestVersionedEntity entity = versionedRepository.saveAndFlush(new TestVersionedEntity("a"));
+    assertThat(entity.getVersion()).isZero();
+
+    versionedRepository.markUpdatedAllById(List.of(entity.getId()));
+    versionedRepository.softDeleteAllById(List.of(entity.getId()));
+
+    assertThat(entity.getVersion()).isEqualTo(2);
+  }
+
+  @Test
+  @MockUser(username = "cleaner")
+  void testLoadByIdHidesSoftDeletedRows() {
+    TestAuditEntity deleted = repository.saveAndFlush(new TestAuditEntity("deleted"));
+    TestAuditEntity live = repository.saveAndFlush(new TestAuditEntity("live"));
+    repository.softDeleteAllById(List.of(deleted.getId()));
+
+    assertThat(repository.findById(deleted.getId())).isEmpty();
+    assertThat(repository.existsById(deleted.getId())).isFalse();
+    assertThatThrownBy(() -> repository.getReferenceById(deleted.getId()))
+        .isInstanceOf(JpaObjectRetrievalFailureException.class);
+    assertThat(repository.findById(live.getId())).contains(live);
+    assertThat(repository.existsById(live.getId())).isTrue();
+    assertThat(softDeleteFilter.includingDeleted(() -> repository.findById(deleted.getId())))
+        .contains(deleted);
+  }
+
+  @Test
+  void testBulkUpdateUsesAuditingDateTimeProvider() {
+    TestAuditEntity entity = repository.saveAndFlush(new TestAuditEntity("a"));
+    LocalDateTime pinned = LocalDateTime.of(2030, 1, 2, 3, 4, 5, 123_456_000);
+
+    try (AuditingContext.Scope ignored = AuditingContext.pin("importer", pinned)) {
+      repository.softDeleteAllById(List.of(entity.getId()));
+    }
+
+    assertThat(entity.getDeletedAt()).isEqualTo(pinned);
+    assertThat(entity.getUpdatedAt()).isEqualTo(pinned);
+    assertThat(entity.getUpdatedBy()).isEqualTo("importer");
+  }
+
+  @Test
+  @MockUser(username = "cleaner")
+  void testFindLastModifiedById() {
+    TestAuditEntity entity = repository.saveAndFlush(new TestAuditEntity("a"));
+
+    assertThat(repository.findLastModifiedById(entity.getId()))
+        .contains(new EntityVersion(entity.getId(), entity.getUpdatedAt(), null));
+
+    repository.softDeleteAllById(List.of(entity.getId()));
+
+    assertThat(repository.findLastModifiedById(entity.getId())).isEmpty();
+  }
+
+  @Test
+  void testFindLastModifiedByIdIncludesVersion() {
+    TestVersionedEntity entity = versionedRepository.saveAndFlush(new TestVersionedEntity("a"));
+
+    assertThat(versionedRepository.findLastModifiedById(entity.getId()))
+        .contains(new EntityVersion(entity.getId(), entity.getUpdatedAt(), 0L));
+  }
+
+  @Test
+  void testFindPageForwardAndBackward() {
+    repository.saveAllAndFlush(
+        List.of(
+            new TestAuditEntity("a"),
+            new TestAuditEntity("b"),
+            new TestAuditEntity("c"),
+            new TestAuditEntity("d"),
+            new TestAuditEntity("e")));
+
+    KeysetPage<TestAuditEntity> first = repository.findPage(KeysetPageRequest.first(2));
+    KeysetPage<TestAuditEntity> second =
+        repository.findPage(KeysetPageRequest.of(first.nextCursor(), 2));
+    KeysetPage<TestAuditEntity> last =
+        repository.findPage(KeysetPageRequest.of(second.nextCursor(), 2));
+
+    assertThat(first.content()).extracting(TestAuditEntity::getName).containsExactly("e", "d");
+    assertThat(first.hasPrevious()).isFalse();
+    assertThat(second.content()).extracting(TestAuditEntity::getName).containsExactly("c", "b");
+    assertThat(last.content()).extracting(TestAuditEntity::getName).containsExactly("a");
+    assertThat(last.hasNext()).isFalse();
+
+    KeysetPage<TestAuditEntity> back =
+        repository.findPage(KeysetPageRequest.of(last.previousCursor(), 2));
+    KeysetPage<TestAuditEntity> backToFirst =
+        repository.findPage(KeysetPageRequest.of(back.previousCursor(), 2));
+
+    assertThat(back.content()).extracting(TestAuditEntity::getName).containsExactly("c", "b");
+    assertThat(back.hasNext()).isTrue();
+    assertThat(backToFirst.content())
+        .extracting(TestAuditEntity::getName)
+        .containsExactly("e", "d");
+    assertThat(backToFirst.hasPrevious()).isFalse();
+  }
+
+  @Test
+  @MockUser(username = "cleaner")
+  void testFindPageExcludesSoftDeletedRows() {
+    List<TestAuditEntity> entities =
+        repository.saveAllAndFlush(
+            List.of(
+                new TestAuditEntity("a"),
+                new TestAuditEntity("b"),
+                new TestAuditEntity("c"),
+                new TestAuditEntity("x")));
+    repository.softDeleteAllById(List.of(entities.get(1).getId()));
+
+    Specification<TestAuditEntity> notX =
+        (root, query, builder) -> builder.notEqual(root.get("name"), "x");
+    KeysetPage<TestAuditEntity> first =
+        repository.findPage(notX, KeysetPageRequest.first(1, Sort.Direction.ASC));
+    KeysetPage<TestAuditEntity> second =
+        repository.findPage(notX, KeysetPageRequest.of(first.nextCursor(), 1));
+
+    assertThat(first.content()).extracting(TestAuditEntity::getName).containsExactly("a");
+    assertThat(second.content()).extracting(TestAuditEntity::getName).containsExactly("c");
+    assertThat(second.hasNext()).isFalse();
+  }
+
+  @Test
+  void testFindPageRejectsInvalidCursor() {
+    assertThatThrownBy(() -> repository.findPage(KeysetPageRequest.of("not-a-cursor", 10)))
+        .isInstanceOf(InvalidDataAccessApiUsageException.class)
+        .hasRootCauseInstanceOf(IllegalArgumentException.class);
+  }
+
+  @TestConfiguration
+  @Import({JpaTestConfig.class, SoftDeleteFilter.class})
+  static class Config {}
+}
@@ -0,0 +1,41 @@
+package com.athenhub.projectinterface.global.infrastructure.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.athenhub.projectinterface.global.domain.SoftDeleteIndex;
+import org.junit.jupiter.api.Test;
+
+class PartialIndexInitializerTest {
+
+  @Test
+  void testCreateIndexSql() {
+    SoftDeleteIndex[] indexes = IndexedEntity.class.getAnnotationsByType(SoftDeleteIndex.class);
+
+    assertThat(PartialIndexInitializer.createIndexSql("member", indexes[0]))
+        .isEqualTo(
+            "CREATE INDEX CONCURRENTLY IF NOT EXISTS ix_member_name ON member (name)"
+                + " WHERE deleted_at IS NULL");
+  }
+
+  @Test
+  void testCreateUniqueIndexSql() {
+    SoftDeleteIndex[] indexes = IndexedEntity.class.getAnnotationsByType(SoftDeleteIndex.class);
+
+    assertThat(PartialIndexInitializer.createIndexSql("member", indexes[1]))
+        .isEqualTo(
+            "CREATE UNIQUE INDEX CONCURRENTLY IF NOT EXISTS ux_member_email ON member (email)"
+                + " WHERE deleted_at IS NULL");
+  }
+
+  @Test
+  void testCreateTombstoneIndexSql() {
+    assertThat(PartialIndexInitializer.createTombstoneIndexSql("app.member", "id", true))
+        .isEqualTo(
+            "CREATE INDEX CONCURRENTLY IF NOT EXISTS member_tombstone_idx ON app.member"
+                + " (deleted_at, id) WHERE deleted_at IS NOT NULL");
+  }
+
+  @SoftDeleteIndex(name = "ix_member_name", columnList = "name")
+  @SoftDeleteIndex(name = "ux_member_email", columnList = "email", unique = true)
+  private static class IndexedEntity {}
+}
@@ -0,0 +1,131 @@
+package com.athenhub.projectinterface.global.infrastructure.persistence.batch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.athenhub.projectinterface.support.JpaTestConfig;
+import com.athenhub.projectinterface.support.TestAuditEntity;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.hibernate.SessionFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.auditing.DateTimeProvider;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class BatchWriterTest {
+  private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+  private final EntityManager entityManager;
+  private final EntityManagerFactory entityManagerFactory;
+  private final PlatformTransactionManager transactionManager;
+  private final TransactionTemplate transactionTemplate;
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final AtomicInteger auditorLookups = new AtomicInteger();
+  private final AtomicInteger clockLookups = new AtomicInteger();
+  private final BatchWriter batchWriter;
+
+  BatchWriterTest(
+      EntityManager entityManager,
+      EntityManagerFactory entityManagerFactory,
+      PlatformTransactionManager transactionManager) {
+    this.entityManager = entityManager;
+    this.entityManagerFactory = entityManagerFactory;
+    this.transactionManager = transactionManager;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    AuditorAware<String> auditorAware =
+        () -> {
+          auditorLookups.incrementAndGet();
+          return Optional.of("importer");
+        };
+    DateTimeProvider dateTimeProvider =
+        () -> Optional.of(NOW.plusMinutes(clockLookups.incrementAndGet()));
+    this.batchWriter =
+        new BatchWriter(
+            entityManager, transactionManager, auditorAware, dateTimeProvider, meterRegistry, 10);
+  }
+
+  @AfterEach
+  void tearDown() {
+    transactionTemplate.executeWithoutResult(
+        status -> entityManager.createQuery("delete from TestAuditEntity").executeUpdate());
+  }
+
+  @Test
+  void testWritesInChunksWithAuditingResolvedOncePerChunk() {
+    BatchWriteResult result =
+        batchWriter.write(
+            "test", IntStream.range(0, 25).mapToObj(i -> new TestAuditEntity("item-" + i)));
+
+    assertThat(result.rows()).isEqualTo(25);
+    assertThat(result.chunks()).isEqualTo(3);
+    assertThat(result.rowsPerSecond()).isPositive();
+    assertThat(auditorLookups).hasValue(3);
+    assertThat(clockLookups).hasValue(3);
+
+    List<TestAuditEntity> saved = findAll();
+    assertThat(saved).hasSize(25).allMatch(entity -> entity.getCreatedBy().equals("importer"));
+    assertThat(saved)
+        .extracting(TestAuditEntity::getCreatedAt)
+        .containsOnly(NOW.plusMinutes(1), NOW.plusMinutes(2), NOW.plusMinutes(3));
+    assertThat(meterRegistry.get("athenhub.batch.write.rows").tag("name", "test").counter().count())
+        .isEqualTo(25);
+    assertThat(meterRegistry.get("athenhub.batch.write").tag("name", "test").timer().count())
+        .isEqualTo(1);
+  }
+
+  @Test
+  void testMergesExistingEntities() {
+    batchWriter.write("insert", Stream.of(new TestAuditEntity("before")));
+    TestAuditEntity existing = findAll().getFirst();
+    existing.rename("after");
+
+    batchWriter.write("update", Stream.of(existing));
+
+    assertThat(findAll())
+        .singleElement()
+        .satisfies(
+            entity -> {
+              assertThat(entity.getName()).isEqualTo("after");
+              assertThat(entity.getUpdatedAt()).isEqualTo(NOW.plusMinutes(2));
+            });
+  }
+
+  @Test
+  void testEnablesJdbcBatching() {
+    SessionFactoryImplementor sessionFactory =
+        entityManagerFactory.unwrap(SessionFactory.class).unwrap(SessionFactoryImplementor.class);
+
+    assertThat(sessionFactory.getSessionFactoryOptions().getJdbcBatchSize()).isEqualTo(500);
+    assertThat(sessionFactory.getSessionFactoryOptions().isOrderInsertsEnabled()).isTrue();
+    assertThat(sessionFactory.getSessionFactoryOptions().isOrderUpdatesEnabled()).isTrue();
+  }
+
+  private List<TestAuditEntity> findAll() {
+    return transactionTemplate.execute(
+        status ->
+            entityManager
+                .createQuery("select e from TestAuditEntity e order by e.id", TestAuditEntity.class)
+                .getResultList());
+  }
+
+  @TestConfiguration
+  @Import({JpaTestConfig.class, BatchWriteConfig.class})
+  static class Config {}
+}
@@ -0,0 +1,27 @@
+package com.athenhub.projectinterface.global.infrastructure.persistence.cache;
+
+import com.athenhub.projectinterface.global.domain.AbstractAuditEntity;
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+@Getter
+@Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+class CachedTestEntity extends AbstractAuditEntity {
+  @Id @GeneratedValue private Long id;
+
+  private String name;
+
+  CachedTestEntity(String name) {
+    this.name = name;
+  }
+}
@@ -0,0 +1,13 @@
+package com.athenhub.projectinterface.global.infrastructure.persistence.cache;
+
+import jakarta.persistence.QueryHint;
+import java.util.List;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
+
+interface CachedTestEntityRepository extends JpaRepository<CachedTestEntity, Long> {
+
+  @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
+  List<CachedTestEntity> findAllByName(String name);
+}
@@ -0,0 +1,147 @@
+package com.athenhub.projectinterface.global.infrastructure.persistence.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.athenhub.projectinterface.support.JpaTestConfig;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Policy;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import java.time.Duration;
+import javax.cache.CacheManager;
+import org.hibernate.cache.jcache.internal.JCacheRegionFactory;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@DataJpaTest(
+    properties = {
+      "athenhub.persistence.cache.enabled=true",
+      "spring.jpa.properties.hibernate.generate_statistics=true"
+    })
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SecondLevelCacheConfigTest {
+  private final CachedTestEntityRepository repository;
+  private final EntityManagerFactory entityManagerFactory;
+  private final TransactionTemplate transactionTemplate;
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  SecondLevelCacheConfigTest(
+      CachedTestEntityRepository repository,
+      EntityManagerFactory entityManagerFactory,
+      PlatformTransactionManager transactionManager,
+      @Qualifier("secondLevelCacheMetrics") MeterBinder secondLevelCacheMetrics) {
+    this.repository = repository;
+    this.entityManagerFactory = entityManagerFactory;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    secondLevelCacheMetrics.bindTo(meterRegistry);
+  }
+
+  @AfterEach
+  void tearDown() {
+    repository.deleteAllInBatch();
+    entityManagerFactory.getCache().evictAll();
+  }
+
+  @Test
+  void testCachesEntityById() {
+    Long id = repository.save(new CachedTestEntity("a")).getId();
+
+    transactionTemplate.executeWithoutResult(status -> repository.findById(id));
+    transactionTemplate.executeWithoutResult(status -> repository.findById(id));
+
+    assertThat(entityManagerFactory.getCache().contains(CachedTestEntity.class, id)).isTrue();
+    assertThat(
+            meterRegistry
+                .get("cache.gets")
+                .tags("cache", CachedTestEntity.class.getName(), "result", "hit")
+                .functionCounter()
+                .count())
+        .isGreaterThanOrEqualTo(2);
+  }
+
+  @Test
+  void testFindsCachedEntityByIdWithoutStatements() {
+    Long id = repository.save(new CachedTestEntity("a")).getId();
+    Statistics statistics = statistics();
+    statistics.clear();
+
+    transactionTemplate.executeWithoutResult(
+        status -> {
+          assertThat(repository.findById(id)).isPresent();
+          assertThat(repository.existsById(id)).isTrue();
+        });
+
+    assertThat(statistics.getPrepareStatementCount()).isZero();
+  }
+
+  @Test
+  void testEvictsSoftDeletedEntity() {
+    Long id = repository.save(new CachedTestEntity("a")).getId();
+    assertThat(entityManagerFactory.getCache().contains(CachedTestEntity.class, id)).isTrue();
+
+    transactionTemplate.executeWithoutResult(
+        status -> repository.findById(id).orElseThrow().delete("tester"));
+
+    assertThat(entityManagerFactory.getCache().contains(CachedTestEntity.class, id)).isFalse();
+  }
+
+  @Test
+  void testHidesSoftDeletedEntityFromCachedQuery() {
+    repository.save(new CachedTestEntity("b"));
+    Long id = repository.save(new CachedTestEntity("a")).getId();
+    assertThat(repository.findAllByName("a")).hasSize(1);
+    assertThat(repository.findAllByName("a")).hasSize(1);
+
+    transactionTemplate.executeWithoutResult(
+        status -> repository.findById(id).orElseThrow().delete("tester"));
+
+    assertThat(repository.findAllByName("a")).isEmpty();
+  }
+
+  @Test
+  void testBoundsCacheRegions() {
+    Policy<?, ?> entityRegion = policy(CachedTestEntity.class.getName());
+    Policy<?, ?> timestampsRegion =
+        policy(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME);
+
+    assertThat(entityRegion.eviction().orElseThrow().getMaximum()).isEqualTo(10_000);
+    assertThat(entityRegion.expireAfterWrite().orElseThrow().getExpiresAfter())
+        .isEqualTo(Duration.ofMinutes(10));
+    assertThat(timestampsRegion.eviction()).isEmpty();
+    assertThat(timestampsRegion.expireAfterWrite()).isEmpty();
+    assertThat(cacheManager().getURI().getScheme()).isEqualTo("hibernate");
+  }
+
+  private Policy<?, ?> policy(String regionName) {
+    return cacheManager().getCache(regionName).unwrap(Cache.class).policy();
+  }
+
+  private Statistics statistics() {
+    return entityManagerFactory.unwrap(SessionFactoryImplementor.class).getStatistics();
+  }
+
+  private CacheManager cacheManager() {
+    return ((JCacheRegionFactory)
+            entityManagerFactory
+                .unwrap(SessionFactoryImplementor.class)
+                .getCache()
+                .getRegionFactory())
+        .getCacheManager();
+  }
+
+  @TestConfiguration
+  @Import({JpaTestConfig.class, SecondLevelCacheConfig.class})
+  static class Config {}
+}
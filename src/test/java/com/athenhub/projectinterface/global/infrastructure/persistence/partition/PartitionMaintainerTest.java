@@ -0,0 +1,223 @@
+package com.athenhub.projectinterface.global.infrastructure.persistence.partition;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.athenhub.projectinterface.global.domain.RangePartitioned;
+import com.athenhub.projectinterface.global.infrastructure.audit.AuditingContext;
+import com.athenhub.projectinterface.support.JpaTestConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import java.io.IOException;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=create-drop")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class PartitionMaintainerTest {
+  private static final String TABLE = "partitioned_test_entity";
+
+  private final EntityManager entityManager;
+  private final EntityManagerFactory entityManagerFactory;
+  private final JdbcTemplate jdbcTemplate;
+  private final TransactionTemplate transactionTemplate;
+
+  PartitionMaintainerTest(
+      EntityManager entityManager,
+      EntityManagerFactory entityManagerFactory,
+      JdbcTemplate jdbcTemplate,
+      PlatformTransactionManager transactionManager) {
+    this.entityManager = entityManager;
+    this.entityManagerFactory = entityManagerFactory;
+    this.jdbcTemplate = jdbcTemplate;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+  }
+
+  @Test
+  void testConvertsTableAndPremakesPartitions() {
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    maintainer(LocalDate.of(2027, 1, 15), meterRegistry).maintain();
+
+    assertThat(
+            jdbcTemplate.queryForObject(
+                "SELECT relkind::text FROM pg_class WHERE oid = to_regclass(?)",
+                String.class,
+                TABLE))
+        .isEqualTo("p");
+    assertThat(attachedPartitions())
+        .contains(TABLE + "_p202701", TABLE + "_p202702", TABLE + "_p202703")
+        .doesNotContain(TABLE + "_p202704");
+    assertThat(
+            meterRegistry
+                .get("athenhub.persistence.partition.created")
+                .tag("table", TABLE)
+                .counter()
+                .count())
+        .isEqualTo(3);
+  }
+
+  @Test
+  void testRoutesRowsAndPrunesPartitionsForCreatedAtRange() {
+    maintainer(LocalDate.of(2025, 1, 15), new SimpleMeterRegistry()).maintain();
+
+    persist("january", LocalDateTime.of(2025, 1, 10, 9, 0));
+    persist("february", LocalDateTime.of(2025, 2, 10, 9, 0));
+
+    assertThat(
+            jdbcTemplate.queryForList(
+                "SELECT tableoid::regclass::text FROM " + TABLE + " WHERE name = 'february'",
+                String.class))
+        .containsExactly(TABLE + "_p202502");
+    String plan =
+        String.join(
+            "\n",
+            jdbcTemplate.queryForList(
+                "EXPLAIN SELECT * FROM "
+                    + TABLE
+                    + " WHERE created_at >= '2025-02-01' AND created_at < '2025-03-01'",
+                String.class));
+    assertThat(plan)
+        .contains(TABLE + "_p202502")
+        .doesNotContain(TABLE + "_p202501")
+        .doesNotContain(TABLE + "_p202503");
+  }
+
+  @Test
+  void testDetachesExpiredPartitionsIntoArchiveSchema() {
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    maintainer(LocalDate.of(2030, 1, 15), meterRegistry).maintain();
+
+    maintainer(LocalDate.of(2030, 3, 15), meterRegistry).maintain();
+
+    assertThat(attachedPartitions())
+        .contains(TABLE + "_p203002", TABLE + "_p203003", TABLE + "_p203005")
+        .doesNotContain(TABLE + "_p203001");
+    assertThat(
+            jdbcTemplate.queryForObject(
+                "SELECT to_regclass(?) IS NOT NULL",
+                Boolean.class,
+                "archive." + TABLE + "_p203001"))
+        .isTrue();
+    assertThat(
+            meterRegistry
+                .get("athenhub.persistence.partition.detached")
+                .tag("table", TABLE)
+                .counter()
+                .count())
+        .isGreaterThanOrEqualTo(1);
+  }
+
+  @Test
+  void testKeepsIndexesAndForeignKeysWhenConverting() {
+    maintainer(LocalDate.of(2026, 1, 15), new SimpleMeterRegistry()).maintain();
+
+    assertThat(
+            jdbcTemplate.queryForList(
+                "SELECT indexdef FROM pg_indexes WHERE tablename = ?", String.class, TABLE))
+        .anyMatch(def -> def.contains("idx_partitioned_test_entity_name") && def.endsWith("(name)"))
+        .anyMatch(def -> def.contains("UNIQUE") && def.endsWith("(code, created_at)"));
+    assertThat(
+            jdbcTemplate.queryForList(
+                "SELECT pg_get_constraintdef(oid) FROM pg_constraint"
+                    + " WHERE conrelid = to_regclass(?) AND contype = 'f'",
+                String.class,
+                TABLE))
+        .anyMatch(def -> def.contains("REFERENCES test_audit_entity(id)"));
+  }
+
+  @Test
+  void testConvertToPartitionedSql() {
+    PartitionMaintainer.Dependents dependents =
+        new PartitionMaintainer.Dependents(
+            List.of("CREATE INDEX event_name_idx ON public.event USING btree (name)"),
+            List.of(
+                new PartitionMaintainer.UniqueKey("event_code_key", List.of("code"), true),
+                new PartitionMaintainer.UniqueKey("event_slug_idx", List.of("slug"), false)),
+            List.of(
+                new PartitionMaintainer.ForeignKey(
+                    "event_owner_fk", "FOREIGN KEY (owner_id) REFERENCES owner(id)")),
+            List.of());
+
+    assertThat(PartitionMaintainer.convertToPartitionedSql("event", List.of("id"), dependents))
+        .containsExactly(
+            "ALTER TABLE event RENAME TO event_unpartitioned",
+            "CREATE TABLE event (LIKE event_unpartitioned INCLUDING DEFAULTS INCLUDING CONSTRAINTS"
+                + " INCLUDING GENERATED INCLUDING IDENTITY) PARTITION BY RANGE (created_at)",
+            "DROP TABLE event_unpartitioned",
+            "ALTER TABLE event ADD PRIMARY KEY (id, created_at)",
+            "CREATE INDEX event_name_idx ON public.event USING btree (name)",
+            "ALTER TABLE event ADD CONSTRAINT event_code_key UNIQUE (code, created_at)",
+            "CREATE UNIQUE INDEX event_slug_idx ON event (slug, created_at)",
+            "ALTER TABLE event ADD CONSTRAINT event_owner_fk"
+                + " FOREIGN KEY (owner_id) REFERENCES owner(id)");
+  }
+
+  @Test
+  void testCreatePartitionSql() {
+    String partition =
+        PartitionMaintainer.partitionName(
+            "app.event", RangePartitioned.Interval.DAY, LocalDate.of(2025, 1, 31));
+
+    assertThat(
+            PartitionMaintainer.createPartitionSql(
+                "app.event", partition, LocalDate.of(2025, 1, 31), LocalDate.of(2025, 2, 1)))
+        .isEqualTo(
+            "CREATE TABLE IF NOT EXISTS app.event_p20250131 PARTITION OF app.event"
+                + " FOR VALUES FROM ('2025-01-31 00:00:00') TO ('2025-02-01 00:00:00')");
+  }
+
+  private PartitionMaintainer maintainer(LocalDate today, SimpleMeterRegistry meterRegistry) {
+    Clock clock =
+        Clock.fixed(
+            today.atStartOfDay(ZoneId.systemDefault()).toInstant(), ZoneId.systemDefault());
+    return new PartitionMaintainer(entityManagerFactory, jdbcTemplate, meterRegistry, clock);
+  }
+
+  private void persist(String name, LocalDateTime createdAt) {
+    try (AuditingContext.Scope ignored = AuditingContext.pin("tester", createdAt)) {
+      transactionTemplate.executeWithoutResult(
+          status -> entityManager.persist(new PartitionedTestEntity(name)));
+    }
+  }
+
+  private List<String> attachedPartitions() {
+    return jdbcTemplate.queryForList(
+        "SELECT c.relname FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid"
+            + " WHERE i.inhparent = to_regclass(?)",
+        String.class,
+        TABLE);
+  }
+
+  @TestConfiguration
+  @Import(JpaTestConfig.class)
+  static class Config {
+
+    @Bean(destroyMethod = "close")
+    EmbeddedPostgres embeddedPostgres() throws IOException {
+      return EmbeddedPostgres.start();
+    }
+
+    @Bean
+    DataSource dataSource(EmbeddedPostgres embeddedPostgres) {
+      return embeddedPostgres.getPostgresDatabase();
+    }
+  }
+}
@@ -0,0 +1,38 @@
+package com.athenhub.projectinterface.global.infrastructure.persistence.partition;
+
+import com.athenhub.projectinterface.global.domain.AbstractAuditEntity;
+import com.athenhub.projectinterface.global.domain.RangePartitioned;
+import com.athenhub.projectinterface.support.TestAuditEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Entity
+@Table(indexes = @Index(name = "idx_partitioned_test_entity_name", columnList = "name"))
+@RangePartitioned(premake = 2, retention = 1, archiveSchema = "archive")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+class PartitionedTestEntity extends AbstractAuditEntity {
+  @Id @GeneratedValue private Long id;
+
+  private String name;
+
+  @Column(unique = true)
+  private String code;
+
+  @ManyToOne(fetch = FetchType.LAZY)
+  private TestAuditEntity owner;
+
+  PartitionedTestEntity(String name) {
+    this.name = name;
+    this.code = name;
+  }
+}
@@ -0,0 +1,153 @@
+package com.athenhub.projectinterface.global.infrastructure.persistence.retry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.athenhub.projectinterface.global.annotation.OptimisticRetry;
+import com.athenhub.projectinterface.support.JpaTestConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class OptimisticRetryConfigTest {
+  private final StockService stockService;
+  private final EntityManager entityManager;
+  private final SimpleMeterRegistry meterRegistry;
+  private final TransactionTemplate transactionTemplate;
+
+  private Long id;
+
+  OptimisticRetryConfigTest(
+      StockService stockService,
+      EntityManager entityManager,
+      SimpleMeterRegistry meterRegistry,
+      PlatformTransactionManager transactionManager) {
+    this.stockService = stockService;
+    this.entityManager = entityManager;
+    this.meterRegistry = meterRegistry;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+  }
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry.clear();
+    stockService.attempts().set(0);
+    StockTestEntity entity = new StockTestEntity(10);
+    transactionTemplate.executeWithoutResult(status -> entityManager.persist(entity));
+    id = entity.getId();
+  }
+
+  @Test
+  void testRetriesConflictInNewTransaction() {
+    stockService.decrease(id, 2);
+
+    assertThat(stockService.attempts()).hasValue(3);
+    assertThat(quantity()).isEqualTo(7);
+    assertThat(count("athenhub.optimistic.lock.conflicts")).isEqualTo(2);
+    assertThat(count("athenhub.optimistic.lock.retries")).isEqualTo(2);
+    assertThat(meterRegistry.find("athenhub.optimistic.lock.exhausted").counter()).isNull();
+  }
+
+  @Test
+  void testGivesUpAfterMaxAttempts() {
+    assertThatThrownBy(() -> stockService.decrease(id, 5))
+        .isInstanceOf(ObjectOptimisticLockingFailureException.class);
+
+    assertThat(stockService.attempts()).hasValue(3);
+    assertThat(quantity()).isEqualTo(7);
+    assertThat(count("athenhub.optimistic.lock.conflicts")).isEqualTo(3);
+    assertThat(count("athenhub.optimistic.lock.retries")).isEqualTo(2);
+    assertThat(count("athenhub.optimistic.lock.exhausted")).isEqualTo(1);
+  }
+
+  @Test
+  void testDoesNotRetryInsideExistingTransaction() {
+    assertThatThrownBy(
+            () -> transactionTemplate.executeWithoutResult(status -> stockService.decrease(id, 1)))
+        .isInstanceOf(ObjectOptimisticLockingFailureException.class);
+
+    assertThat(stockService.attempts()).hasValue(1);
+    assertThat(meterRegistry.find("athenhub.optimistic.lock.conflicts").counter()).isNull();
+  }
+
+  @Test
+  void testDoesNotRetryOtherFailures() {
+    assertThatThrownBy(() -> stockService.fail()).isInstanceOf(IllegalStateException.class);
+
+    assertThat(stockService.attempts()).hasValue(1);
+  }
+
+  private int quantity() {
+    return transactionTemplate.execute(
+        status -> entityManager.find(StockTestEntity.class, id).getQuantity());
+  }
+
+  private double count(String name) {
+    return meterRegistry.get(name).tag("method", "StockService.decrease").counter().count();
+  }
+
+  static class StockService {
+    private final AtomicInteger attempts = new AtomicInteger();
+    private final EntityManager entityManager;
+    private final TransactionTemplate requiresNew;
+
+    StockService(EntityManager entityManager, PlatformTransactionManager transactionManager) {
+      this.entityManager = entityManager;
+      this.requiresNew = new TransactionTemplate(transactionManager);
+      this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /** 처음 {@code concurrentWrites}번의 시도에서는 다른 트랜잭션이 먼저 같은 행을 수정한다. */
+    @Transactional
+    @OptimisticRetry(backoffMillis = 1)
+    public void decrease(Long id, int concurrentWrites) {
+      StockTestEntity entity = entityManager.find(StockTestEntity.class, id);
+      if (attempts.incrementAndGet() <= concurrentWrites) {
+        requiresNew.executeWithoutResult(
+            status -> entityManager.find(StockTestEntity.class, id).decrease());
+      }
+      entity.decrease();
+    }
+
+    public AtomicInteger attempts() {
+      return attempts;
+    }
+
+    @Transactional
+    @OptimisticRetry
+    public void fail() {
+      attempts.incrementAndGet();
+      throw new IllegalStateException("failed");
+    }
+  }
+
+  @TestConfiguration
+  @Import({JpaTestConfig.class, OptimisticRetryConfig.class})
+  static class Config {
+
+    @Bean
+    SimpleMeterRegistry meterRegistry() {
+      return new SimpleMeterRegistry();
+    }
+
+    @Bean
+    StockService stockService(
+        EntityManager entityManager, PlatformTransactionManager transactionManager) {
+      return new StockService(entityManager, transactionManager);
+    }
+  }
+}
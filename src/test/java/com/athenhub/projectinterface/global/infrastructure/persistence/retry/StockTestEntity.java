@@ -0,0 +1,26 @@
+package com.athenhub.projectinterface.global.infrastructure.persistence.retry;
+
+import com.athenhub.projectinterface.global.domain.AbstractVersionedEntity;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+class StockTestEntity extends AbstractVersionedEntity {
+  @Id @GeneratedValue private Long id;
+
+  private int quantity;
+
+  StockTestEntity(int quantity) {
+    this.quantity = quantity;
+  }
+
+  void decrease() {
+    this.quantity--;
+  }
+}
@@ -0,0 +1,127 @@
+package com.athenhub.projectinterface.global.infrastructure.persistence.routing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.athenhub.projectinterface.global.infrastructure.concurrency.AsyncConfig;
+import com.athenhub.projectinterface.global.infrastructure.concurrency.ConnectionLimitingDataSource;
+import com.athenhub.projectinterface.support.JpaTestConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.List;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.jdbc.DataSourceUnwrapper;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@DataJpaTest(
+    properties = {
+      "spring.datasource.url=jdbc:h2:mem:routing_primary;DB_CLOSE_DELAY=-1",
+      "athenhub.persistence.routing.enabled=true",
+      "athenhub.persistence.routing.health-check-interval=1h",
+      "athenhub.persistence.routing.replicas.replica-1.url="
+          + "jdbc:h2:mem:routing_replica;DB_CLOSE_DELAY=-1"
+    })
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ReadWriteRoutingConfigTest {
+  private final DataSource dataSource;
+  private final EntityManager entityManager;
+  private final PlatformTransactionManager transactionManager;
+  private final MeterBinder readWriteRoutingDataSourceMetrics;
+
+  ReadWriteRoutingConfigTest(
+      DataSource dataSource,
+      EntityManager entityManager,
+      PlatformTransactionManager transactionManager,
+      MeterBinder readWriteRoutingDataSourceMetrics) {
+    this.dataSource = dataSource;
+    this.entityManager = entityManager;
+    this.transactionManager = transactionManager;
+    this.readWriteRoutingDataSourceMetrics = readWriteRoutingDataSourceMetrics;
+  }
+
+  @Test
+  void testWrapsPrimaryDataSource() {
+    assertThat(dataSource).isInstanceOf(ReadWriteRoutingDataSource.class);
+  }
+
+  @Test
+  void testRoutesReadOnlyJpaTransactionsToReplica() {
+    TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+    readOnly.setReadOnly(true);
+    TransactionTemplate readWrite = new TransactionTemplate(transactionManager);
+
+    assertThat(database(readOnly)).isEqualToIgnoringCase("routing_replica");
+    assertThat(database(readWrite)).isEqualToIgnoringCase("routing_primary");
+  }
+
+  @Test
+  void testBindsReplicaMetrics() {
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    readWriteRoutingDataSourceMetrics.bindTo(meterRegistry);
+
+    assertThat(
+            meterRegistry
+                .get("athenhub.datasource.replica.healthy")
+                .tag("replica", "replica-1")
+                .gauge()
+                .value())
+        .isEqualTo(1);
+  }
+
+  @Test
+  void testClosesPoolsWithConnectionLimiterWhenContextCloses() {
+    List<DataSource> dataSources = new ArrayList<>();
+
+    new ApplicationContextRunner()
+        .withConfiguration(AutoConfigurations.of(DataSourceAutoConfiguration.class))
+        .withUserConfiguration(AsyncConfig.class, ReadWriteRoutingConfig.class)
+        .withPropertyValues(
+            "spring.threads.virtual.enabled=true",
+            "spring.datasource.url=jdbc:h2:mem:routing_close_primary",
+            "athenhub.persistence.routing.enabled=true",
+            "athenhub.persistence.routing.health-check-interval=1h",
+            "athenhub.persistence.routing.replicas.replica-1.url=jdbc:h2:mem:routing_close_replica")
+        .run(
+            context ->
+                dataSources.addAll(
+                    DataSourceUnwrapper.unwrap(
+                            context.getBean(DataSource.class), ReadWriteRoutingDataSource.class)
+                        .dataSources()));
+
+    assertThat(dataSources)
+        .hasSize(2)
+        .allSatisfy(
+            dataSource -> {
+              assertThat(dataSource).isInstanceOf(ConnectionLimitingDataSource.class);
+              assertThat(DataSourceUnwrapper.unwrap(dataSource, HikariDataSource.class).isClosed())
+                  .isTrue();
+            });
+  }
+
+  private String database(TransactionTemplate transactionTemplate) {
+    return transactionTemplate.execute(status -> currentDatabase());
+  }
+
+  private String currentDatabase() {
+    return (String) entityManager.createNativeQuery("select database()").getSingleResult();
+  }
+
+  @TestConfiguration
+  @Import({JpaTestConfig.class, ReadWriteRoutingConfig.class})
+  static class Config {}
+}
@@ -0,0 +1,143 @@
+package com.athenhub.projectinterface.global.infrastructure.persistence.routing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+class ReadWriteRoutingDataSourceTest {
+  private static final String PRIMARY_URL = "jdbc:h2:mem:rw_primary;DB_CLOSE_DELAY=-1";
+  private static final String REPLICA_URL = "jdbc:h2:mem:rw_replica;DB_CLOSE_DELAY=-1";
+
+  private final AtomicReference<SQLException> replicaFailure = new AtomicReference<>();
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private ReadWriteRoutingDataSource dataSource;
+  private JdbcTemplate jdbcTemplate;
+  private TransactionTemplate readOnly;
+  private TransactionTemplate readWrite;
+
+  @BeforeEach
+  void setUp() {
+    DataSource replica =
+        new DelegatingDataSource(new DriverManagerDataSource(REPLICA_URL)) {
+          @Override
+          public Connection getConnection() throws SQLException {
+            SQLException failure = replicaFailure.get();
+            if (failure != null) {
+              throw failure;
+            }
+            return super.getConnection();
+          }
+        };
+    dataSource =
+        new ReadWriteRoutingDataSource(
+            new DriverManagerDataSource(PRIMARY_URL),
+            Map.of("replica-1", replica),
+            Duration.ofHours(1),
+            Duration.ofSeconds(1));
+    dataSource.bindTo(meterRegistry);
+
+    DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+    jdbcTemplate = new JdbcTemplate(dataSource);
+    readOnly = new TransactionTemplate(transactionManager);
+    readOnly.setReadOnly(true);
+    readWrite = new TransactionTemplate(transactionManager);
+  }
+
+  @AfterEach
+  void tearDown() {
+    dataSource.close();
+  }
+
+  @Test
+  void testRoutesReadOnlyTransactionsToReplica() {
+    assertThat(database(readOnly)).isEqualToIgnoringCase("rw_replica");
+    assertThat(database(readWrite)).isEqualToIgnoringCase("rw_primary");
+
+    assertThat(acquisitions("read", "replica-1")).isEqualTo(1);
+    assertThat(acquisitions("write", "primary")).isEqualTo(1);
+  }
+
+  @Test
+  void testTransactionWithoutQueryDoesNotAcquireConnection() {
+    readOnly.executeWithoutResult(status -> {});
+    readWrite.executeWithoutResult(status -> {});
+
+    assertThat(meterRegistry.find(RoutingMetrics.ACQUIRE).timers()).isEmpty();
+  }
+
+  @Test
+  void testFallsBackToPrimaryWhileReplicaIsUnhealthy() {
+    replicaFailure.set(new SQLException("replica is down"));
+
+    assertThat(database(readOnly)).isEqualToIgnoringCase("rw_primary");
+    assertThat(dataSource.isHealthy("replica-1")).isFalse();
+    assertThat(meterRegistry.get("athenhub.datasource.replica.healthy").gauge().value()).isZero();
+    assertThat(acquisitions("read", "primary")).isEqualTo(1);
+
+    dataSource.checkHealth();
+    assertThat(database(readOnly)).isEqualToIgnoringCase("rw_primary");
+
+    replicaFailure.set(null);
+    dataSource.checkHealth();
+
+    assertThat(dataSource.isHealthy("replica-1")).isTrue();
+    assertThat(database(readOnly)).isEqualToIgnoringCase("rw_replica");
+  }
+
+  @Test
+  void testKeepsSaturatedReplicaAndDoesNotFallBackToPrimary() {
+    replicaFailure.set(
+        new SQLTransientConnectionException(
+            "replica - Connection is not available, request timed out after 30000ms."));
+
+    assertThatThrownBy(() -> database(readOnly)).isInstanceOf(DataAccessException.class);
+    dataSource.checkHealth();
+
+    assertThat(dataSource.isHealthy("replica-1")).isTrue();
+    assertThat(acquisitions("read", "primary")).isZero();
+  }
+
+  @Test
+  void testMarksReplicaDownWhenPoolCannotConnect() {
+    replicaFailure.set(
+        new SQLTransientConnectionException(
+            "replica - Connection is not available, request timed out after 30000ms.",
+            "08001",
+            new SQLException("Connection refused", "08001")));
+
+    assertThat(database(readOnly)).isEqualToIgnoringCase("rw_primary");
+    assertThat(dataSource.isHealthy("replica-1")).isFalse();
+  }
+
+  private String database(TransactionTemplate transactionTemplate) {
+    return transactionTemplate.execute(status -> currentDatabase());
+  }
+
+  private String currentDatabase() {
+    return jdbcTemplate.queryForObject("select database()", String.class);
+  }
+
+  private long acquisitions(String route, String target) {
+    Timer timer =
+        meterRegistry.find(RoutingMetrics.ACQUIRE).tags("route", route, "target", target).timer();
+    return timer == null ? 0 : timer.count();
+  }
+}
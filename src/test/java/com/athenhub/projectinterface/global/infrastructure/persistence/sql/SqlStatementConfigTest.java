@@ -0,0 +1,162 @@
+package com.athenhub.projectinterface.global.infrastructure.persistence.sql;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.athenhub.projectinterface.MaxSqlStatements;
+import com.athenhub.projectinterface.MockUser;
+import com.athenhub.projectinterface.support.JpaTestConfig;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.springframework.context.annotation.Import;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+@DataJpaTest(properties = "athenhub.persistence.sql.statistics-enabled=true")
+@ExtendWith(OutputCaptureExtension.class)
+class SqlStatementConfigTest {
+  private final EntityManager entityManager;
+  private final EntityManagerFactory entityManagerFactory;
+
+  SqlStatementConfigTest(EntityManager entityManager, EntityManagerFactory entityManagerFactory) {
+    this.entityManager = entityManager;
+    this.entityManagerFactory = entityManagerFactory;
+  }
+
+  @Test
+  void testCountsStatementsOnCurrentThread() {
+    long start = SqlStatementCounter.current();
+
+    runQueries(3);
+
+    assertThat(SqlStatementCounter.current() - start).isEqualTo(3);
+    assertThat(
+            entityManagerFactory.unwrap(SessionFactory.class).getStatistics().isStatisticsEnabled())
+        .isTrue();
+  }
+
+  @Test
+  void testKeepsConfiguredStatisticsAndChainsStatementInspector() {
+    List<String> inspected = new ArrayList<>();
+    StatementInspector inspector =
+        sql -> {
+          inspected.add(sql);
+          return sql + " /* inspected */";
+        };
+    Map<String, Object> hibernateProperties = new HashMap<>();
+    hibernateProperties.put(AvailableSettings.GENERATE_STATISTICS, true);
+    hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR, inspector);
+
+    new SqlStatementConfig()
+        .sqlStatementHibernatePropertiesCustomizer(new SqlStatementProperties(false, 20))
+        .customize(hibernateProperties);
+
+    assertThat(hibernateProperties).containsEntry(AvailableSettings.GENERATE_STATISTICS, true);
+    StatementInspector counter =
+        (StatementInspector) hibernateProperties.get(AvailableSettings.STATEMENT_INSPECTOR);
+    long start = SqlStatementCounter.current();
+    assertThat(counter.inspect("select 1")).isEqualTo("select 1 /* inspected */");
+    assertThat(SqlStatementCounter.current() - start).isEqualTo(1);
+    assertThat(inspected).containsExactly("select 1");
+  }
+
+  @Test
+  void testDisablesStatisticsByDefault() {
+    Map<String, Object> hibernateProperties = new HashMap<>();
+
+    new SqlStatementConfig()
+        .sqlStatementHibernatePropertiesCustomizer(new SqlStatementProperties(false, 20))
+        .customize(hibernateProperties);
+
+    assertThat(hibernateProperties)
+        .containsEntry(AvailableSettings.GENERATE_STATISTICS, false)
+        .hasEntrySatisfying(
+            AvailableSettings.STATEMENT_INSPECTOR,
+            inspector -> assertThat(inspector).isInstanceOf(SqlStatementCounter.class));
+  }
+
+  @Test
+  void testTagsObservationWithStatementCount() {
+    SqlStatementObservationHandler handler = new SqlStatementObservationHandler();
+    ObservationRegistry registry = ObservationRegistry.create();
+    registry.observationConfig().observationHandler(handler).observationFilter(handler);
+
+    Observation observation = Observation.start("test", registry);
+    runQueries(2);
+    observation.stop();
+
+    assertThat(
+            observation
+                .getContext()
+                .getHighCardinalityKeyValue(SqlStatementObservationHandler.KEY)
+                .getValue())
+        .isEqualTo("2");
+  }
+
+  @Test
+  void testFilterRecordsStatementsAndWarnsOverThreshold(CapturedOutput output) throws Exception {
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    SqlStatementCountFilter filter =
+        new SqlStatementCountFilter(meterRegistry, new SqlStatementProperties(true, 1));
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/items/1");
+    request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/items/{id}");
+
+    filter.doFilter(
+        request,
+        new MockHttpServletResponse(),
+        new MockFilterChain(
+            new HttpServlet() {
+              @Override
+              protected void service(HttpServletRequest req, HttpServletResponse resp) {
+                runQueries(2);
+              }
+            }));
+
+    DistributionSummary summary =
+        meterRegistry
+            .get("athenhub.sql.statements")
+            .tags("method", "GET", "uri", "/items/{id}")
+            .summary();
+    assertThat(summary.count()).isEqualTo(1);
+    assertThat(summary.totalAmount()).isEqualTo(2);
+    assertThat(output).contains("SQL 문 2개가 실행되었습니다");
+  }
+
+  @Test
+  @MockUser
+  @MaxSqlStatements(1)
+  void testMaxSqlStatements() {
+    runQueries(1);
+  }
+
+  private void runQueries(int count) {
+    for (int i = 0; i < count; i++) {
+      entityManager.createNativeQuery("select 1").getSingleResult();
+    }
+  }
+
+  @TestConfiguration
+  @Import({JpaTestConfig.class, SqlStatementConfig.class})
+  static class Config {}
+}
@@ -0,0 +1,24 @@
+package com.athenhub.projectinterface.global.infrastructure.persistence.tombstone;
+
+import com.athenhub.projectinterface.global.domain.AbstractAuditEntity;
+import com.athenhub.projectinterface.global.domain.TombstoneRetention;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Entity
+@TombstoneRetention(days = 30, archive = TombstoneRetention.Archive.FILE)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+class FileTombstoneTestEntity extends AbstractAuditEntity {
+  @Id @GeneratedValue private Long id;
+
+  private String name;
+
+  FileTombstoneTestEntity(String name) {
+    this.name = name;
+  }
+}
@@ -0,0 +1,206 @@
+package com.athenhub.projectinterface.global.infrastructure.persistence.tombstone;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.athenhub.projectinterface.support.JpaTestConfig;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TombstonePurgerTest {
+  private static final LocalDateTime NOW = LocalDateTime.of(2025, 6, 1, 0, 0);
+
+  private final ObjectMapper objectMapper =
+      JsonMapper.builder()
+          .findAndAddModules()
+          .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+          .build();
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final EntityManager entityManager;
+  private final EntityManagerFactory entityManagerFactory;
+  private final JdbcTemplate jdbcTemplate;
+  private final PlatformTransactionManager transactionManager;
+  private final TransactionTemplate transactionTemplate;
+
+  @TempDir private Path archiveDirectory;
+
+  TombstonePurgerTest(
+      EntityManager entityManager,
+      EntityManagerFactory entityManagerFactory,
+      JdbcTemplate jdbcTemplate,
+      PlatformTransactionManager transactionManager) {
+    this.entityManager = entityManager;
+    this.entityManagerFactory = entityManagerFactory;
+    this.jdbcTemplate = jdbcTemplate;
+    this.transactionManager = transactionManager;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+  }
+
+  @AfterEach
+  void tearDown() {
+    jdbcTemplate.update("DELETE FROM tombstone_test_entity");
+    jdbcTemplate.update("DELETE FROM file_tombstone_test_entity");
+    jdbcTemplate.execute(
+        "DROP TABLE IF EXISTS tombstone_test_entity" + TombstonePurger.ARCHIVE_SUFFIX);
+  }
+
+  @Test
+  void testArchivesExpiredTombstonesToTableInBatches() {
+    List<Long> expired =
+        List.of(
+            persist(new TombstoneTestEntity("a"), NOW.minusDays(40)),
+            persist(new TombstoneTestEntity("b"), NOW.minusDays(35)),
+            persist(new TombstoneTestEntity("c"), NOW.minusDays(31)));
+    Long recent = persist(new TombstoneTestEntity("d"), NOW.minusDays(10));
+    Long live = persist(new TombstoneTestEntity("e"), null);
+
+    int purged = purger(2).purge();
+
+    assertThat(purged).isEqualTo(3);
+    assertThat(ids("tombstone_test_entity")).containsExactlyInAnyOrder(recent, live);
+    assertThat(ids("tombstone_test_entity" + TombstonePurger.ARCHIVE_SUFFIX))
+        .containsExactlyInAnyOrderElementsOf(expired);
+    assertThat(
+            meterRegistry
+                .get("athenhub.persistence.tombstone.purged")
+                .tag("table", "tombstone_test_entity")
+                .counter()
+                .count())
+        .isEqualTo(3);
+    assertThat(
+            meterRegistry
+                .get("athenhub.persistence.tombstone.batch")
+                .tag("table", "tombstone_test_entity")
+                .timer()
+                .count())
+        .isEqualTo(2);
+    assertThat(
+            meterRegistry
+                .get("athenhub.persistence.tombstone.backlog")
+                .tag("table", "tombstone_test_entity")
+                .gauge()
+                .value())
+        .isZero();
+  }
+
+  @Test
+  void testPurgesEveryBatchUntilBacklogIsEmpty() {
+    persist(new TombstoneTestEntity("a"), NOW.minusDays(40));
+    persist(new TombstoneTestEntity("b"), NOW.minusDays(35));
+
+    assertThat(purger(1).purge()).isEqualTo(2);
+    assertThat(purger(1).purge()).isZero();
+    assertThat(ids("tombstone_test_entity" + TombstonePurger.ARCHIVE_SUFFIX)).hasSize(2);
+  }
+
+  @Test
+  void testArchivesExpiredTombstonesToFile() throws Exception {
+    Long expired = persist(new FileTombstoneTestEntity("archived"), NOW.minusDays(40));
+    persist(new FileTombstoneTestEntity("kept"), NOW.minusDays(10));
+
+    purger(10).purge();
+
+    List<String> lines =
+        Files.readAllLines(archiveDirectory.resolve("file_tombstone_test_entity.jsonl"));
+    assertThat(lines).singleElement();
+    assertThat(objectMapper.readTree(lines.getFirst()).get("id").asLong()).isEqualTo(expired);
+    assertThat(objectMapper.readTree(lines.getFirst()).get("name").asText()).isEqualTo("archived");
+    assertThat(ids("file_tombstone_test_entity")).doesNotContain(expired).hasSize(1);
+  }
+
+  @Test
+  void testArchivesByColumnNameAndAddsMissingColumns() {
+    jdbcTemplate.execute(
+        "CREATE TABLE tombstone_test_entity"
+            + TombstonePurger.ARCHIVE_SUFFIX
+            + " (name VARCHAR(255), id BIGINT)");
+    Long expired = persist(new TombstoneTestEntity("archived"), NOW.minusDays(40));
+
+    purger(10).purge();
+
+    assertThat(
+            jdbcTemplate.queryForMap(
+                "SELECT id, name, deleted_by FROM tombstone_test_entity"
+                    + TombstonePurger.ARCHIVE_SUFFIX))
+        .containsEntry("ID", expired)
+        .containsEntry("NAME", "archived")
+        .containsEntry("DELETED_BY", "admin");
+  }
+
+  @Test
+  void testArchiveSql() {
+    assertThat(TombstonePurger.archiveSql("member", List.of("id", "name")))
+        .isEqualTo("INSERT INTO member_archive (id, name) SELECT id, name FROM member");
+  }
+
+  @Test
+  void testCreateArchiveTableSql() {
+    assertThat(TombstonePurger.createArchiveTableSql("member"))
+        .isEqualTo(
+            "CREATE TABLE IF NOT EXISTS member_archive AS SELECT * FROM member WHERE 1 = 0");
+  }
+
+  private TombstonePurger purger(int batchSize) {
+    return new TombstonePurger(
+        entityManagerFactory,
+        jdbcTemplate,
+        transactionManager,
+        objectMapper,
+        null,
+        new TombstonePurgeProperties(true, batchSize, 0, Duration.ofMinutes(10), archiveDirectory),
+        meterRegistry,
+        Clock.fixed(NOW.atZone(ZoneId.systemDefault()).toInstant(), ZoneId.systemDefault()));
+  }
+
+  private Long persist(Object entity, LocalDateTime deletedAt) {
+    Long id =
+        transactionTemplate.execute(
+            status -> {
+              entityManager.persist(entity);
+              return (Long) entityManagerFactory.getPersistenceUnitUtil().getIdentifier(entity);
+            });
+    if (deletedAt != null) {
+      String table =
+          entity instanceof TombstoneTestEntity
+              ? "tombstone_test_entity"
+              : "file_tombstone_test_entity";
+      jdbcTemplate.update(
+          "UPDATE " + table + " SET deleted_at = ?, deleted_by = 'admin' WHERE id = ?",
+          Timestamp.valueOf(deletedAt),
+          id);
+    }
+    return id;
+  }
+
+  private List<Long> ids(String table) {
+    return jdbcTemplate.queryForList("SELECT id FROM " + table, Long.class);
+  }
+
+  @TestConfiguration
+  @Import(JpaTestConfig.class)
+  static class Config {}
+}
@@ -0,0 +1,157 @@
+package com.athenhub.projectinterface.global.infrastructure.tracing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import brave.Span;
+import brave.Tracer;
+import brave.Tracing;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.autoconfigure.tracing.BraveAutoConfiguration;
+import org.springframework.boot.actuate.autoconfigure.tracing.zipkin.ZipkinAutoConfiguration;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import zipkin2.reporter.AsyncReporter;
+
+class TracingSamplingConfigTest {
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final List<String> reportedSpans = new CopyOnWriteArrayList<>();
+  private HttpServer zipkin;
+  private ApplicationContextRunner contextRunner;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    zipkin = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+    zipkin.createContext(
+        "/api/v2/spans",
+        exchange -> {
+          for (JsonNode span : objectMapper.readTree(exchange.getRequestBody().readAllBytes())) {
+            reportedSpans.add(span.get("name").asText());
+          }
+          exchange.sendResponseHeaders(202, -1);
+          exchange.close();
+        });
+    zipkin.start();
+
+    contextRunner =
+        new ApplicationContextRunner()
+            .withConfiguration(
+                AutoConfigurations.of(BraveAutoConfiguration.class, ZipkinAutoConfiguration.class))
+            .withUserConfiguration(TracingSamplingConfig.class)
+            .withBean(MeterRegistry.class, SimpleMeterRegistry::new)
+            .withPropertyValues(
+                "management.zipkin.tracing.endpoint=http://localhost:"
+                    + zipkin.getAddress().getPort()
+                    + "/api/v2/spans",
+                "athenhub.tracing.sampling.traces-per-second=0",
+                "athenhub.tracing.sampling.slow-threshold=1s");
+  }
+
+  @AfterEach
+  void tearDown() {
+    zipkin.stop(0);
+  }
+
+  @Test
+  void testReportsOnlySlowAndFailedTracesWhenNotSampled() {
+    contextRunner.run(
+        context -> {
+          Tracer tracer = context.getBean(Tracing.class).tracer();
+
+          Span fast = tracer.newTrace().name("fast").start(1_000_000L);
+          tracer.newChild(fast.context()).name("fast-child").start(1_000_000L).finish(1_100_000L);
+          fast.finish(1_200_000L);
+
+          Span slow = tracer.newTrace().name("slow").start(1_000_000L);
+          tracer.newChild(slow.context()).name("slow-child").start(1_000_000L).finish(2_900_000L);
+          slow.finish(3_000_000L);
+
+          Span failed = tracer.newTrace().name("failed").start(1_000_000L);
+          failed.error(new IllegalStateException("boom")).finish(1_100_000L);
+
+          context.getBean(AsyncReporter.class).flush();
+
+          assertThat(reportedSpans).containsExactlyInAnyOrder("slow-child", "slow", "failed");
+          MeterRegistry meterRegistry = context.getBean(MeterRegistry.class);
+          assertThat(decisions(meterRegistry, "deferred")).isEqualTo(3);
+          assertThat(decisions(meterRegistry, "dropped")).isEqualTo(1);
+          assertThat(decisions(meterRegistry, "slow")).isEqualTo(1);
+          assertThat(decisions(meterRegistry, "error")).isEqualTo(1);
+          assertThat(meterRegistry.get("athenhub.tracing.sampling.buffer.size").gauge().value())
+              .isZero();
+        });
+  }
+
+  @Test
+  void testBacksOffWhenDisabled() {
+    contextRunner
+        .withPropertyValues("athenhub.tracing.sampling.enabled=false")
+        .run(
+            context -> {
+              assertThat(context).doesNotHaveBean(TailSamplingSpanHandler.class);
+              assertThat(context).doesNotHaveBean(AdaptiveSampler.class);
+            });
+  }
+
+  @Test
+  void testCapsSampledTracesPerSecond() {
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    AdaptiveSampler sampler = new AdaptiveSampler(5, meterRegistry);
+
+    long sampled = IntStream.range(0, 100).filter(traceId -> sampler.isSampled(traceId)).count();
+
+    // 측정 중 초 경계를 넘으면 다음 초의 한도만큼 더 샘플링될 수 있다.
+    assertThat(sampled).isBetween(5L, 10L);
+    assertThat(decisions(meterRegistry, "sampled")).isEqualTo(sampled);
+    assertThat(decisions(meterRegistry, "deferred")).isEqualTo(100 - sampled);
+  }
+
+  @Test
+  void testEvictsOldestTraceWhenBufferIsFull() {
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    List<String> reported = new CopyOnWriteArrayList<>();
+    TailSamplingSpanHandler handler =
+        new TailSamplingSpanHandler(
+            span -> reported.add(span.name()), Duration.ofSeconds(1), 2, meterRegistry);
+
+    try (Tracing tracing =
+        Tracing.newBuilder()
+            .sampler(new AdaptiveSampler(0, meterRegistry))
+            .alwaysSampleLocal()
+            .addSpanHandler(handler)
+            .build()) {
+      Tracer tracer = tracing.tracer();
+      Span first = tracer.newTrace().name("first").start();
+      Span second = tracer.newTrace().name("second").start();
+      tracer.newChild(first.context()).name("first-a").start().finish();
+      tracer.newChild(first.context()).name("first-b").start().finish();
+      tracer.newChild(second.context()).name("second-a").start().finish();
+      first.error(new IllegalStateException("boom")).finish();
+      second.error(new IllegalStateException("boom")).finish();
+    }
+
+    assertThat(reported).containsExactly("first", "second-a", "second");
+    assertThat(meterRegistry.get("athenhub.tracing.sampling.buffer.evicted").counter().count())
+        .isEqualTo(2);
+  }
+
+  private double decisions(MeterRegistry meterRegistry, String decision) {
+    return meterRegistry
+        .get("athenhub.tracing.sampling")
+        .tag("decision", decision)
+        .counter()
+        .count();
+  }
+}
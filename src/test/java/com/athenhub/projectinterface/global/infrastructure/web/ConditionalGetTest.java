@@ -0,0 +1,111 @@
+package com.athenhub.projectinterface.global.infrastructure.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.athenhub.projectinterface.global.infrastructure.persistence.EntityVersion;
+import com.athenhub.projectinterface.global.infrastructure.persistence.LastModifiedRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+class ConditionalGetTest {
+  private static final EntityVersion VERSION =
+      new EntityVersion(1L, LocalDateTime.of(2025, 1, 2, 3, 4, 5, 678_901_000), 3L);
+  private static final LastModifiedRepository<Object, Long> REPOSITORY =
+      id -> id.equals(1L) ? Optional.of(VERSION) : Optional.empty();
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final ConditionalGet conditionalGet = conditionalGet();
+  private final AtomicInteger loads = new AtomicInteger();
+  private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+  @Test
+  void testReturnsBodyWithValidators() {
+    ResponseEntity<String> result = get(new MockHttpServletRequest("GET", "/items/1"), 1L);
+
+    assertThat(result.getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(result.getBody()).isEqualTo("item-1");
+    assertThat(result.getHeaders().getCacheControl()).isEqualTo("no-cache");
+    assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo(VERSION.etag());
+    assertThat(response.getDateHeader(HttpHeaders.LAST_MODIFIED))
+        .isEqualTo(VERSION.lastModified() / 1000 * 1000);
+    assertThat(count("modified")).isEqualTo(1);
+  }
+
+  @Test
+  void testReturnsNotModifiedWithoutLoadingBodyWhenEtagMatches() {
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/items/1");
+    request.addHeader(HttpHeaders.IF_NONE_MATCH, VERSION.etag());
+
+    ResponseEntity<String> result = get(request, 1L);
+
+    assertThat(result.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+    assertThat(result.getBody()).isNull();
+    assertThat(loads).hasValue(0);
+    assertThat(count("not_modified")).isEqualTo(1);
+  }
+
+  @Test
+  void testReturnsNotModifiedWhenNotModifiedSince() {
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/items/1");
+    request.addHeader(HttpHeaders.IF_MODIFIED_SINCE, VERSION.lastModified() + 1000);
+
+    ResponseEntity<String> result = get(request, 1L);
+
+    assertThat(result.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+    assertThat(loads).hasValue(0);
+  }
+
+  @Test
+  void testReturnsBodyWhenEtagDiffers() {
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/items/1");
+    request.addHeader(
+        HttpHeaders.IF_NONE_MATCH,
+        new EntityVersion(1L, VERSION.updatedAt(), VERSION.version() - 1).etag());
+
+    ResponseEntity<String> result = get(request, 1L);
+
+    assertThat(result.getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(loads).hasValue(1);
+  }
+
+  @Test
+  void testLoadsBodyWhenEntityIsMissing() {
+    ResponseEntity<String> result = get(new MockHttpServletRequest("GET", "/items/2"), 2L);
+
+    assertThat(result.getBody()).isEqualTo("item-2");
+    assertThat(response.getHeader(HttpHeaders.ETAG)).isNull();
+    assertThat(count("missing")).isEqualTo(1);
+  }
+
+  private ResponseEntity<String> get(MockHttpServletRequest request, Long id) {
+    return conditionalGet.respond(
+        new ServletWebRequest(request, response),
+        REPOSITORY,
+        id,
+        () -> {
+          loads.incrementAndGet();
+          return "item-" + id;
+        });
+  }
+
+  private double count(String result) {
+    return meterRegistry.get("athenhub.http.conditional").tag("result", result).counter().count();
+  }
+
+  private ConditionalGet conditionalGet() {
+    DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+    beanFactory.registerSingleton("meterRegistry", meterRegistry);
+    return new ConditionalGet(beanFactory.getBeanProvider(MeterRegistry.class));
+  }
+}
@@ -0,0 +1,23 @@
+package com.athenhub.projectinterface.support;
+
+import com.athenhub.projectinterface.global.infrastructure.audit.AuditorAwareImpl;
+import com.athenhub.projectinterface.global.infrastructure.persistence.JpaRepositoryConfig;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Import;
+
+/**
+ * {@code @DataJpaTest}에서 공통 리포지토리 구현체와 JPA Auditing을 사용하기 위한 테스트 설정.
+ *
+ * <p>테스트 클래스에 {@code @Import(JpaTestConfig.class)}로 추가하고, 검증할 설정 클래스는 함께 가져온다.
+ *
+ * <pre>{@code
+ * @DataJpaTest
+ * @Import({JpaTestConfig.class, BatchWriteConfig.class})
+ * class BatchWriterTest {}
+ * }</pre>
+ */
+@TestConfiguration
+@Import(JpaRepositoryConfig.class)
+@ComponentScan(basePackageClasses = AuditorAwareImpl.class)
+public class JpaTestConfig {}
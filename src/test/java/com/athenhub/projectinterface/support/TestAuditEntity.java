@@ -0,0 +1,32 @@
+package com.athenhub.projectinterface.support;
+
+import com.athenhub.projectinterface.global.domain.AbstractAuditEntity;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 영속성 테스트에서 공통으로 사용하는 감사 엔티티.
+ *
+ * <p>특정 매핑(보존 기간, 파티션, 캐시 등)을 검증하지 않는 테스트는 별도 엔티티를 만들지 않고 이 엔티티와 {@link
+ * TestAuditEntityRepository}를 사용한다.
+ */
+@Getter
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class TestAuditEntity extends AbstractAuditEntity {
+  @Id @GeneratedValue private Long id;
+
+  private String name;
+
+  public TestAuditEntity(String name) {
+    this.name = name;
+  }
+
+  public void rename(String name) {
+    this.name = name;
+  }
+}
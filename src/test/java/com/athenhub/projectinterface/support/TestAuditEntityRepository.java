@@ -0,0 +1,15 @@
+package com.athenhub.projectinterface.support;
+
+import com.athenhub.projectinterface.global.infrastructure.persistence.BulkAuditRepository;
+import com.athenhub.projectinterface.global.infrastructure.persistence.KeysetRepository;
+import com.athenhub.projectinterface.global.infrastructure.persistence.LastModifiedRepository;
+import com.athenhub.projectinterface.global.infrastructure.persistence.StreamingRepository;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+/** {@link TestAuditEntity} 리포지토리. 공통 리포지토리 조각을 모두 상속한다. */
+public interface TestAuditEntityRepository
+    extends JpaRepository<TestAuditEntity, Long>,
+        BulkAuditRepository<TestAuditEntity, Long>,
+        KeysetRepository<TestAuditEntity, Long>,
+        LastModifiedRepository<TestAuditEntity, Long>,
+        StreamingRepository<TestAuditEntity, Long> {}
@@ -0,0 +1,23 @@
+package com.athenhub.projectinterface.support;
+
+import com.athenhub.projectinterface.global.domain.AbstractVersionedEntity;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/** 낙관적 잠금 버전을 가진 {@link TestAuditEntity}. */
+@Getter
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class TestVersionedEntity extends AbstractVersionedEntity {
+  @Id @GeneratedValue private Long id;
+
+  private String name;
+
+  public TestVersionedEntity(String name) {
+    this.name = name;
+  }
+}
@@ -0,0 +1,11 @@
+package com.athenhub.projectinterface.support;
+
+import com.athenhub.projectinterface.global.infrastructure.persistence.BulkAuditRepository;
+import com.athenhub.projectinterface.global.infrastructure.persistence.LastModifiedRepository;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+/** {@link TestVersionedEntity} 리포지토리. */
+public interface TestVersionedEntityRepository
+    extends JpaRepository<TestVersionedEntity, Long>,
+        BulkAuditRepository<TestVersionedEntity, Long>,
+        LastModifiedRepository<TestVersionedEntity, Long> {}